@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks;
+
+import com.ververica.cdc.common.data.RecordData;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.common.types.DataTypes;
+import com.ververica.cdc.connectors.values.source.ValuesDataSourceHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic schemas and events shared by the benchmarks. The events are generated by {@link
+ * ValuesDataSourceHelper#syntheticSplit}, so the benchmarks run offline and every fork sees the
+ * same data.
+ */
+public class BenchmarkData {
+
+    /** The number of distinct records each benchmark cycles through. */
+    public static final int RECORD_COUNT = 1024;
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {}
+
+    /** The types the non-key columns of a synthetic table are drawn from. */
+    public enum TypeMix {
+        /** Strings of different lengths only, like a table of a document store. */
+        STRING(DataTypes.VARCHAR(255), DataTypes.STRING(), DataTypes.CHAR(32)),
+
+        /** Integers, floating points and decimals only, like a fact table. */
+        NUMERIC(
+                DataTypes.INT(),
+                DataTypes.BIGINT(),
+                DataTypes.DOUBLE(),
+                DataTypes.DECIMAL(10, 2),
+                DataTypes.SMALLINT(),
+                DataTypes.FLOAT()),
+
+        /** The types of a typical business table. */
+        MIXED(
+                DataTypes.VARCHAR(255),
+                DataTypes.INT(),
+                DataTypes.BIGINT(),
+                DataTypes.DECIMAL(10, 2),
+                DataTypes.TIMESTAMP(3),
+                DataTypes.BOOLEAN(),
+                DataTypes.STRING(),
+                DataTypes.DATE(),
+                DataTypes.DOUBLE(),
+                DataTypes.TIMESTAMP_LTZ(3));
+
+        private final DataType[] types;
+
+        TypeMix(DataType... types) {
+            this.types = types;
+        }
+    }
+
+    /** Returns the synthetic table with the given index. */
+    public static TableId tableId(int index) {
+        return TableId.tableId(
+                ValuesDataSourceHelper.TABLE_1.getNamespace(),
+                ValuesDataSourceHelper.TABLE_1.getSchemaName(),
+                "table" + index);
+    }
+
+    /**
+     * Creates the schema of a table with {@code width} columns. The first {@code keyColumns}
+     * columns form the primary key, the first of which is a BIGINT, the other columns cycle
+     * through the types of the mix.
+     */
+    public static Schema createSchema(TypeMix typeMix, int width, int keyColumns) {
+        Schema.Builder builder =
+                Schema.newBuilder().physicalColumn("id", DataTypes.BIGINT().notNull());
+        for (int i = 1; i < width; i++) {
+            DataType type = typeMix.types[(i - 1) % typeMix.types.length];
+            builder.physicalColumn("col" + i, i < keyColumns ? type.notNull() : type);
+        }
+        List<String> primaryKeys = new ArrayList<>();
+        primaryKeys.add("id");
+        for (int i = 1; i < keyColumns; i++) {
+            primaryKeys.add("col" + i);
+        }
+        return builder.primaryKey(primaryKeys).build();
+    }
+
+    /**
+     * Creates {@link #RECORD_COUNT} data change events of the table, the {@link
+     * com.ververica.cdc.common.event.CreateTableEvent} of the table is not included.
+     */
+    public static DataChangeEvent[] createEvents(TableId tableId, Schema schema) {
+        List<Event> split =
+                ValuesDataSourceHelper.syntheticSplit(
+                        tableId, schema, RECORD_COUNT, SEED + tableId.hashCode());
+        DataChangeEvent[] events = new DataChangeEvent[split.size() - 1];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = (DataChangeEvent) split.get(i + 1);
+        }
+        return events;
+    }
+
+    /** Returns the field values of the records after the changes, as internal data structures. */
+    public static Object[][] createFields(Schema schema, DataChangeEvent[] events) {
+        List<DataType> types = schema.getColumnDataTypes();
+        RecordData.FieldGetter[] fieldGetters = new RecordData.FieldGetter[types.size()];
+        for (int i = 0; i < fieldGetters.length; i++) {
+            fieldGetters[i] = RecordData.createFieldGetter(types.get(i), i);
+        }
+        Object[][] fields = new Object[events.length][];
+        for (int i = 0; i < events.length; i++) {
+            fields[i] = new Object[fieldGetters.length];
+            for (int j = 0; j < fieldGetters.length; j++) {
+                fields[i][j] = fieldGetters[j].getFieldOrNull(events[i].after());
+            }
+        }
+        return fields;
+    }
+}
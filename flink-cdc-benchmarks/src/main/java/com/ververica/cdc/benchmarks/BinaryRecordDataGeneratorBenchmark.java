@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks;
+
+import com.ververica.cdc.benchmarks.BenchmarkData.TypeMix;
+import com.ververica.cdc.common.data.binary.BinaryRecordData;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark of building {@link BinaryRecordData} with {@link BinaryRecordDataGenerator}. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class BinaryRecordDataGeneratorBenchmark {
+
+    @Param({"8", "32", "128"})
+    private int width;
+
+    @Param({"STRING", "NUMERIC", "MIXED"})
+    private TypeMix typeMix;
+
+    private BinaryRecordDataGenerator generator;
+    private Object[][] fields;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Schema schema = BenchmarkData.createSchema(typeMix, width, 1);
+        DataChangeEvent[] events = BenchmarkData.createEvents(BenchmarkData.tableId(0), schema);
+        generator =
+                new BinaryRecordDataGenerator(schema.getColumnDataTypes().toArray(new DataType[0]));
+        fields = BenchmarkData.createFields(schema, events);
+    }
+
+    @Benchmark
+    public BinaryRecordData generate() {
+        Object[] rowFields = fields[next];
+        next = (next + 1) % fields.length;
+        return generator.generate(rowFields);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks;
+
+import com.ververica.cdc.benchmarks.BenchmarkData.TypeMix;
+import com.ververica.cdc.common.event.CreateTableEvent;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.connectors.doris.sink.DorisEventSerializer;
+import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark of {@link DorisEventSerializer}, which serializes the rows to JSON for Stream Load. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class DorisEventSerializerBenchmark {
+
+    @Param({"8", "32", "128"})
+    private int width;
+
+    @Param({"STRING", "NUMERIC", "MIXED"})
+    private TypeMix typeMix;
+
+    private DorisEventSerializer serializer;
+    private DataChangeEvent[] events;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        TableId tableId = BenchmarkData.tableId(0);
+        Schema schema = BenchmarkData.createSchema(typeMix, width, 1);
+        serializer = new DorisEventSerializer(ZoneId.of("UTC"));
+        serializer.serialize(new CreateTableEvent(tableId, schema));
+        events = BenchmarkData.createEvents(tableId, schema);
+    }
+
+    @Benchmark
+    public DorisRecord serialize() throws IOException {
+        DataChangeEvent event = events[next];
+        next = (next + 1) % events.length;
+        return serializer.serialize(event);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks;
+
+import com.starrocks.connector.flink.table.data.StarRocksRowData;
+import com.ververica.cdc.benchmarks.BenchmarkData.TypeMix;
+import com.ververica.cdc.common.event.CreateTableEvent;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.connectors.starrocks.sink.EventRecordSerializationSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link EventRecordSerializationSchema}, which serializes the rows to JSON for the
+ * StarRocks sink.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class EventRecordSerializationSchemaBenchmark {
+
+    @Param({"8", "32", "128"})
+    private int width;
+
+    @Param({"STRING", "NUMERIC", "MIXED"})
+    private TypeMix typeMix;
+
+    private EventRecordSerializationSchema serializationSchema;
+    private DataChangeEvent[] events;
+    private int next;
+
+    @Setup
+    public void setup() {
+        TableId tableId = BenchmarkData.tableId(0);
+        Schema schema = BenchmarkData.createSchema(typeMix, width, 1);
+        serializationSchema = new EventRecordSerializationSchema(ZoneId.of("UTC"));
+        // the contexts are not used by the serialization schema
+        serializationSchema.open(null, null);
+        serializationSchema.serialize(new CreateTableEvent(tableId, schema));
+        events = BenchmarkData.createEvents(tableId, schema);
+    }
+
+    @Benchmark
+    public StarRocksRowData serialize() {
+        DataChangeEvent event = events[next];
+        next = (next + 1) % events.length;
+        return serializationSchema.serialize(event);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import com.ververica.cdc.benchmarks.BenchmarkData.TypeMix;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.runtime.serializer.event.EventSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link EventSerializer}, which serializes the events exchanged between the
+ * operators of a pipeline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class EventSerializerBenchmark {
+
+    @Param({"8", "32", "128"})
+    private int width;
+
+    @Param({"STRING", "NUMERIC", "MIXED"})
+    private TypeMix typeMix;
+
+    private final EventSerializer serializer = EventSerializer.INSTANCE;
+    private final DataOutputSerializer output = new DataOutputSerializer(4096);
+    private final DataInputDeserializer input = new DataInputDeserializer();
+
+    private DataChangeEvent[] events;
+    private byte[][] serializedEvents;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        Schema schema = BenchmarkData.createSchema(typeMix, width, 1);
+        events = BenchmarkData.createEvents(BenchmarkData.tableId(0), schema);
+        serializedEvents = new byte[events.length][];
+        for (int i = 0; i < events.length; i++) {
+            output.clear();
+            serializer.serialize(events[i], output);
+            serializedEvents[i] = output.getCopyOfBuffer();
+        }
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        DataChangeEvent event = events[next];
+        next = (next + 1) % events.length;
+        output.clear();
+        serializer.serialize(event, output);
+        return output.length();
+    }
+
+    @Benchmark
+    public Event deserialize() throws IOException {
+        byte[] bytes = serializedEvents[next];
+        next = (next + 1) % serializedEvents.length;
+        input.setBuffer(bytes);
+        return serializer.deserialize(input);
+    }
+
+    @Benchmark
+    public Event copy() {
+        DataChangeEvent event = events[next];
+        next = (next + 1) % events.length;
+        return serializer.copy(event);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks;
+
+import com.ververica.cdc.benchmarks.BenchmarkData.TypeMix;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.function.HashFunction;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+import com.ververica.cdc.runtime.partitioning.PrePartitionOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the default {@link HashFunction} the {@link PrePartitionOperator} partitions the
+ * data change events with.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class HashFunctionBenchmark {
+
+    private static final int WIDTH = 32;
+
+    @Param({"1", "3"})
+    private int keyColumns;
+
+    @Param({"STRING", "NUMERIC", "MIXED"})
+    private TypeMix typeMix;
+
+    private HashFunction<DataChangeEvent> hashFunction;
+    private DataChangeEvent[] events;
+    private int next;
+
+    @Setup
+    public void setup() {
+        TableId tableId = BenchmarkData.tableId(0);
+        Schema schema = BenchmarkData.createSchema(typeMix, WIDTH, keyColumns);
+        hashFunction =
+                new DefaultDataChangeEventHashFunctionProvider().getHashFunction(tableId, schema);
+        events = BenchmarkData.createEvents(tableId, schema);
+    }
+
+    @Benchmark
+    public int hashcode() {
+        DataChangeEvent event = events[next];
+        next = (next + 1) % events.length;
+        return hashFunction.hashcode(event);
+    }
+}
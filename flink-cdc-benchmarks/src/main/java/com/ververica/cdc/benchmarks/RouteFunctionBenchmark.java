@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.benchmarks;
+
+import org.apache.flink.configuration.Configuration;
+
+import com.ververica.cdc.benchmarks.BenchmarkData.TypeMix;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.event.OperationType;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.runtime.operators.route.RouteFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link RouteFunction} with many routing rules, the events are spread over {@code
+ * tables} source tables, one of which is routed by each rule.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class RouteFunctionBenchmark {
+
+    private static final int WIDTH = 8;
+
+    /** The kind of the table patterns of the routing rules. */
+    public enum RouteKind {
+        /** Every rule names a single table. */
+        LITERAL,
+        /** Every rule matches its table with a regular expression. */
+        REGEX
+    }
+
+    @Param({"10", "1000"})
+    private int tables;
+
+    @Param({"LITERAL", "REGEX"})
+    private RouteKind routeKind;
+
+    private RouteFunction routeFunction;
+    private Event[] events;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        RouteFunction.Builder builder = RouteFunction.newBuilder();
+        TableId[] tableIds = new TableId[tables];
+        for (int i = 0; i < tables; i++) {
+            tableIds[i] = BenchmarkData.tableId(i);
+            String pattern =
+                    routeKind == RouteKind.LITERAL
+                            ? tableIds[i].identifier()
+                            : tableIds[i].getNamespace()
+                                    + "."
+                                    + tableIds[i].getSchemaName()
+                                    + ".table"
+                                    + i
+                                    + "(_[0-9]+)?";
+            builder.addRoute(
+                    pattern,
+                    TableId.tableId(tableIds[i].getNamespace(), "sink_schema", "sink" + (i % 10)));
+        }
+        routeFunction = builder.build();
+        routeFunction.open(new Configuration());
+
+        // spreads the events of a single synthetic table over all the tables
+        Schema schema = BenchmarkData.createSchema(TypeMix.MIXED, WIDTH, 1);
+        DataChangeEvent[] baseEvents = BenchmarkData.createEvents(tableIds[0], schema);
+        events = new Event[baseEvents.length];
+        for (int i = 0; i < events.length; i++) {
+            TableId tableId = tableIds[i % tables];
+            DataChangeEvent event = baseEvents[i];
+            events[i] =
+                    event.op() == OperationType.INSERT
+                            ? DataChangeEvent.insertEvent(tableId, event.after())
+                            : DataChangeEvent.updateEvent(tableId, event.before(), event.after());
+        }
+    }
+
+    @Benchmark
+    public Event map() throws Exception {
+        Event event = events[next];
+        next = (next + 1) % events.length;
+        return routeFunction.map(event);
+    }
+}
@@ -26,6 +26,7 @@ import com.ververica.cdc.composer.definition.PipelineDef;
 import com.ververica.cdc.composer.definition.RouteDef;
 import com.ververica.cdc.composer.definition.SinkDef;
 import com.ververica.cdc.composer.definition.SourceDef;
+import com.ververica.cdc.composer.definition.TransformDef;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -42,6 +43,7 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
     private static final String SOURCE_KEY = "source";
     private static final String SINK_KEY = "sink";
     private static final String ROUTE_KEY = "route";
+    private static final String TRANSFORM_KEY = "transform";
     private static final String PIPELINE_KEY = "pipeline";
 
     // Source / sink keys
@@ -53,6 +55,12 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
     private static final String ROUTE_SINK_TABLE_KEY = "sink-table";
     private static final String ROUTE_DESCRIPTION_KEY = "description";
 
+    // Transform keys
+    private static final String TRANSFORM_SOURCE_TABLE_KEY = "source-table";
+    private static final String TRANSFORM_PROJECTION_KEY = "projection";
+    private static final String TRANSFORM_FILTER_KEY = "filter";
+    private static final String TRANSFORM_DESCRIPTION_KEY = "description";
+
     private final ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
 
     /** Parse the specified pipeline definition file. */
@@ -82,6 +90,14 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
         Optional.ofNullable(root.get(ROUTE_KEY))
                 .ifPresent(node -> node.forEach(route -> routeDefs.add(toRouteDef(route))));
 
+        // Transforms are optional
+        List<TransformDef> transformDefs = new ArrayList<>();
+        Optional.ofNullable(root.get(TRANSFORM_KEY))
+                .ifPresent(
+                        node ->
+                                node.forEach(
+                                        transform -> transformDefs.add(toTransformDef(transform))));
+
         // Pipeline configs are optional
         Configuration userPipelineConfig = toPipelineConfig(root.get(PIPELINE_KEY));
 
@@ -90,7 +106,7 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
         pipelineConfig.addAll(globalPipelineConfig);
         pipelineConfig.addAll(userPipelineConfig);
 
-        return new PipelineDef(sourceDef, sinkDef, routeDefs, null, pipelineConfig);
+        return new PipelineDef(sourceDef, sinkDef, routeDefs, transformDefs, pipelineConfig);
     }
 
     private SourceDef toSourceDef(JsonNode sourceNode) {
@@ -147,6 +163,28 @@ public class YamlPipelineDefinitionParser implements PipelineDefinitionParser {
         return new RouteDef(sourceTable, sinkTable, description);
     }
 
+    private TransformDef toTransformDef(JsonNode transformNode) {
+        String sourceTable =
+                checkNotNull(
+                                transformNode.get(TRANSFORM_SOURCE_TABLE_KEY),
+                                "Missing required field \"%s\" in transform configuration",
+                                TRANSFORM_SOURCE_TABLE_KEY)
+                        .asText();
+        String projection =
+                Optional.ofNullable(transformNode.get(TRANSFORM_PROJECTION_KEY))
+                        .map(JsonNode::asText)
+                        .orElse(null);
+        String filter =
+                Optional.ofNullable(transformNode.get(TRANSFORM_FILTER_KEY))
+                        .map(JsonNode::asText)
+                        .orElse(null);
+        String description =
+                Optional.ofNullable(transformNode.get(TRANSFORM_DESCRIPTION_KEY))
+                        .map(JsonNode::asText)
+                        .orElse(null);
+        return new TransformDef(sourceTable, projection, filter, description);
+    }
+
     private Configuration toPipelineConfig(JsonNode pipelineConfigNode) {
         if (pipelineConfigNode == null || pipelineConfigNode.isNull()) {
             return new Configuration();
@@ -24,6 +24,7 @@ import com.ververica.cdc.composer.definition.PipelineDef;
 import com.ververica.cdc.composer.definition.RouteDef;
 import com.ververica.cdc.composer.definition.SinkDef;
 import com.ververica.cdc.composer.definition.SourceDef;
+import com.ververica.cdc.composer.definition.TransformDef;
 import org.junit.jupiter.api.Test;
 
 import java.net.URL;
@@ -177,7 +178,17 @@ class YamlPipelineDefinitionParserTest {
                                     "mydb.default.web_order",
                                     "odsdb.default.ods_web_order",
                                     "sync table to with given prefix ods_")),
-                    null,
+                    Arrays.asList(
+                            new TransformDef(
+                                    "mydb.app_order_.*",
+                                    "id, order_id, product_name AS name",
+                                    "id > 10 AND order_id > 100",
+                                    "project fields from source table"),
+                            new TransformDef(
+                                    "mydb.web_order_.*",
+                                    "*",
+                                    "order_id > 10 AND product_name IS NOT NULL",
+                                    "filter rows of source table")),
                     Configuration.fromMap(
                             ImmutableMap.<String, String>builder()
                                     .put("name", "source-database-sync-pipe")
@@ -221,7 +232,17 @@ class YamlPipelineDefinitionParserTest {
                                     "mydb.default.web_order",
                                     "odsdb.default.ods_web_order",
                                     "sync table to with given prefix ods_")),
-                    null,
+                    Arrays.asList(
+                            new TransformDef(
+                                    "mydb.app_order_.*",
+                                    "id, order_id, product_name AS name",
+                                    "id > 10 AND order_id > 100",
+                                    "project fields from source table"),
+                            new TransformDef(
+                                    "mydb.web_order_.*",
+                                    "*",
+                                    "order_id > 10 AND product_name IS NOT NULL",
+                                    "filter rows of source table")),
                     Configuration.fromMap(
                             ImmutableMap.<String, String>builder()
                                     .put("name", "source-database-sync-pipe")
@@ -255,7 +276,7 @@ class YamlPipelineDefinitionParserTest {
                     Collections.singletonList(
                             new RouteDef(
                                     "mydb.default.app_order_.*", "odsdb.default.app_order", null)),
-                    null,
+                    Collections.emptyList(),
                     Configuration.fromMap(
                             ImmutableMap.<String, String>builder()
                                     .put("parallelism", "4")
@@ -266,6 +287,6 @@ class YamlPipelineDefinitionParserTest {
                     new SourceDef("mysql", null, new Configuration()),
                     new SinkDef("kafka", null, new Configuration()),
                     Collections.emptyList(),
-                    null,
+                    Collections.emptyList(),
                     new Configuration());
 }
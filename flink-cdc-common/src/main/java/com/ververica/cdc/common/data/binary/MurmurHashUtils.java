@@ -24,7 +24,7 @@ import static org.apache.flink.core.memory.MemoryUtils.UNSAFE;
 
 /** Murmur Hash. This is inspired by Guava's Murmur3_32HashFunction. */
 @Internal
-final class MurmurHashUtils {
+public final class MurmurHashUtils {
 
     private static final int C1 = 0xcc9e2d51;
     private static final int C2 = 0x1b873593;
@@ -82,6 +82,31 @@ final class MurmurHashUtils {
         return hashBytes(segment, offset, lengthInBytes, DEFAULT_SEED);
     }
 
+    /**
+     * Hash an int value with the given seed.
+     *
+     * @param value the int value
+     * @param seed the seed, e.g. the hash of the preceding values
+     * @return hash code
+     */
+    public static int hashInt(int value, int seed) {
+        int h1 = mixH1(seed, mixK1(value));
+        return fmix(h1, 4);
+    }
+
+    /**
+     * Hash a long value with the given seed.
+     *
+     * @param value the long value
+     * @param seed the seed, e.g. the hash of the preceding values
+     * @return hash code
+     */
+    public static int hashLong(long value, int seed) {
+        int h1 = mixH1(seed, mixK1((int) value));
+        h1 = mixH1(h1, mixK1((int) (value >>> 32)));
+        return fmix(h1, 8);
+    }
+
     private static int hashUnsafeBytesByWords(
             Object base, long offset, int lengthInBytes, int seed) {
         int h1 = hashUnsafeBytesByInt(base, offset, lengthInBytes, seed);
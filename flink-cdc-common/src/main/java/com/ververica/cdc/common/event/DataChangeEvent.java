@@ -27,6 +27,9 @@ import java.util.Objects;
 /**
  * Class {@code DataChangeEvent} represents the data change events of external systems, such as
  * INSERT, UPDATE, DELETE and so on.
+ *
+ * <p>A {@link DataChangeEvent} is immutable once created: its records and meta map must not be
+ * modified afterwards, so the event can be shared between operators without being copied.
  */
 @PublicEvolving
 public class DataChangeEvent implements ChangeEvent, Serializable {
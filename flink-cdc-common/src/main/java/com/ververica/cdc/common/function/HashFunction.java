@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.common.function;
+
+import com.ververica.cdc.common.annotation.PublicEvolving;
+
+/**
+ * Function computing the hash code of events, which decides the downstream partition the events
+ * are sent to. Events that must keep their order, e.g. the changes of the same primary key, must
+ * have the same hash code.
+ *
+ * @param <T> type of the events
+ */
+@PublicEvolving
+public interface HashFunction<T> {
+
+    /** Returns the non-negative hash code of the given event. */
+    int hashcode(T event);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.common.function;
+
+import com.ververica.cdc.common.annotation.PublicEvolving;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Schema;
+
+import java.io.Serializable;
+
+/**
+ * Provider of {@link HashFunction}, which creates a hash function for each table and recreates it
+ * when the schema of the table changes.
+ *
+ * @param <T> type of the events
+ */
+@PublicEvolving
+public interface HashFunctionProvider<T> extends Serializable {
+
+    /** Creates a {@link HashFunction} for the events of the table with the given schema. */
+    HashFunction<T> getHashFunction(TableId tableId, Schema schema);
+}
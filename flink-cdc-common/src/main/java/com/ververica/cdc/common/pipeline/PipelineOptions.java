@@ -22,6 +22,8 @@ import com.ververica.cdc.common.configuration.ConfigOptions;
 import com.ververica.cdc.common.configuration.description.Description;
 import com.ververica.cdc.common.configuration.description.ListElement;
 
+import java.time.Duration;
+
 import static com.ververica.cdc.common.configuration.description.TextElement.text;
 
 /** Predefined pipeline configuration options. */
@@ -57,6 +59,35 @@ public class PipelineOptions {
                                                             "EXCEPTION: Throw an exception to terminate the sync pipeline.")))
                                     .build());
 
+    public static final ConfigOption<Duration> PIPELINE_SCHEMA_CHANGE_COALESCING_WINDOW =
+            ConfigOptions.key("schema.change.coalescing.window")
+                    .durationType()
+                    .defaultValue(Duration.ZERO)
+                    .withDescription(
+                            "The time to wait for more schema changes of a table before evolving them. "
+                                    + "Consecutive compatible schema changes of a table are coalesced into one flush "
+                                    + "and one schema change to the sink. Zero means no waiting.");
+
+    public static final ConfigOption<PartitioningStrategy> PIPELINE_PARTITIONING_STRATEGY =
+            ConfigOptions.key("partitioning.strategy")
+                    .enumType(PartitioningStrategy.class)
+                    .defaultValue(PartitioningStrategy.PRIMARY_KEY)
+                    .withDescription(
+                            Description.builder()
+                                    .text(
+                                            "Strategy for partitioning data change events to the sink subtasks. "
+                                                    + "The changes of the same primary key are always kept in order. ")
+                                    .linebreak()
+                                    .add(
+                                            ListElement.list(
+                                                    text(
+                                                            "PRIMARY_KEY: Hash the events by table ID and primary keys."),
+                                                    text(
+                                                            "SINK_BUCKET: Hash the events by the columns the sink buckets its tables by."),
+                                                    text(
+                                                            "BALANCED: Hash the events by table ID and primary keys, and spread the events of tables without primary keys by all the columns.")))
+                                    .build());
+
     public static final ConfigOption<String> PIPELINE_LOCAL_TIME_ZONE =
             ConfigOptions.key("local-time-zone")
                     .stringType()
@@ -84,5 +115,12 @@ public class PipelineOptions {
                     .withDescription(
                             "The unique ID for schema operator. This ID will be used for inter-operator communications and must be unique across operators.");
 
+    public static final ConfigOption<String> PIPELINE_TRANSFORM_OPERATOR_UID =
+            ConfigOptions.key("transform.operator.uid")
+                    .stringType()
+                    .defaultValue("$$_transform_operator_$$")
+                    .withDescription(
+                            "The unique ID for transform operator. This ID will be used to restore the state of the operator and must be unique across operators.");
+
     private PipelineOptions() {}
 }
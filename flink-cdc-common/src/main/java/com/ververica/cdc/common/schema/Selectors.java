@@ -20,16 +20,30 @@ import com.ververica.cdc.common.event.TableId;
 import com.ververica.cdc.common.utils.Predicates;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
-/** Selectors for filtering tables. */
+/**
+ * Selectors for filtering tables.
+ *
+ * <p>The selectors whose patterns contain no regular expression syntax are matched by hash lookups
+ * of the table identifiers, only the others are evaluated as regular expressions.
+ */
 public class Selectors {
 
+    /** The characters which make a pattern a regular expression rather than a literal name. */
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{},";
+
     private List<Selector> selectors;
 
+    // the literal selectors, keyed by the ASCII lower case identifiers they match
+    private Set<String> literalTableNames;
+    private Set<TableId> literalSchemaTables;
+    private Set<TableId> literalNamespaceTables;
+
     private Selectors() {}
 
     /**
@@ -72,6 +86,9 @@ public class Selectors {
 
     /** Match the {@link TableId} against the {@link Selector}s. * */
     public boolean isMatch(TableId tableId) {
+        if (isLiteralMatch(tableId)) {
+            return true;
+        }
         for (Selector selector : selectors) {
             if (selector.isMatch(tableId)) {
                 return true;
@@ -80,10 +97,61 @@ public class Selectors {
         return false;
     }
 
+    /** Matches the {@link TableId} against the literal selectors, following {@link Selector}. */
+    private boolean isLiteralMatch(TableId tableId) {
+        String namespace = tableId.getNamespace();
+        String schemaName = tableId.getSchemaName();
+        String tableName = toLowerCase(tableId.getTableName());
+
+        if (namespace == null || namespace.isEmpty()) {
+            if (schemaName == null || schemaName.isEmpty()) {
+                return literalTableNames.contains(tableName);
+            }
+            return !literalSchemaTables.isEmpty()
+                    && literalSchemaTables.contains(
+                            TableId.tableId(toLowerCase(schemaName), tableName));
+        }
+        return schemaName != null
+                && !literalNamespaceTables.isEmpty()
+                && literalNamespaceTables.contains(
+                        TableId.tableId(
+                                toLowerCase(namespace), toLowerCase(schemaName), tableName));
+    }
+
+    private static boolean isLiteral(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (REGEX_META_CHARS.indexOf(pattern.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts the ASCII letters to lower case, which is consistent with the case-insensitive
+     * matching of the regular expressions created by {@link Predicates#includes(String)}.
+     */
+    private static String toLowerCase(String name) {
+        char[] chars = null;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (chars == null) {
+                    chars = name.toCharArray();
+                }
+                chars[i] = (char) (c + ('a' - 'A'));
+            }
+        }
+        return chars == null ? name : new String(chars);
+    }
+
     /** Builder for {@link Selectors}. */
     public static class SelectorsBuilder {
 
         private List<Selector> selectors;
+        private final Set<String> literalTableNames = new HashSet<>();
+        private final Set<TableId> literalSchemaTables = new HashSet<>();
+        private final Set<TableId> literalNamespaceTables = new HashSet<>();
 
         public SelectorsBuilder includeTables(String tableInclusions) {
 
@@ -100,6 +168,10 @@ public class Selectors {
                 Set<String> tableIdSet =
                         Predicates.setOf(
                                 tableSplit, Predicates.RegExSplitterByDot::split, (str) -> str);
+                if (tableIdSet.stream().allMatch(Selectors::isLiteral)) {
+                    addLiteralSelector(tableIdSet.toArray(new String[0]), tableInclusions);
+                    continue;
+                }
                 Iterator<String> iterator = tableIdSet.iterator();
                 if (tableIdSet.size() == 1) {
                     selectors.add(new Selector(null, null, iterator.next()));
@@ -116,9 +188,30 @@ public class Selectors {
             return this;
         }
 
+        private void addLiteralSelector(String[] names, String tableInclusions) {
+            for (int i = 0; i < names.length; i++) {
+                names[i] = toLowerCase(names[i]);
+            }
+            if (names.length == 1) {
+                literalTableNames.add(names[0]);
+            } else if (names.length == 2) {
+                literalTableNames.add(names[1]);
+                literalSchemaTables.add(TableId.tableId(names[0], names[1]));
+            } else if (names.length == 3) {
+                literalTableNames.add(names[2]);
+                literalNamespaceTables.add(TableId.tableId(names[0], names[1], names[2]));
+            } else {
+                throw new IllegalArgumentException(
+                        "Invalid table inclusion pattern: " + tableInclusions);
+            }
+        }
+
         public Selectors build() {
             Selectors selectors = new Selectors();
             selectors.selectors = this.selectors;
+            selectors.literalTableNames = this.literalTableNames;
+            selectors.literalSchemaTables = this.literalSchemaTables;
+            selectors.literalNamespaceTables = this.literalNamespaceTables;
             return selectors;
         }
     }
@@ -17,6 +17,9 @@
 package com.ververica.cdc.common.sink;
 
 import com.ververica.cdc.common.annotation.PublicEvolving;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.function.HashFunctionProvider;
+import com.ververica.cdc.common.pipeline.PartitioningStrategy;
 
 /**
  * {@code DataSink} is used to write change data to external system and apply metadata changes to
@@ -30,4 +33,13 @@ public interface DataSink {
 
     /** Get the {@link MetadataApplier} for applying metadata changes to external systems. */
     MetadataApplier getMetadataApplier();
+
+    /**
+     * Get the {@link HashFunctionProvider} for partitioning {@link DataChangeEvent}s in the way the
+     * external system buckets its tables. It is used by the {@link
+     * PartitioningStrategy#SINK_BUCKET} partitioning strategy.
+     */
+    default HashFunctionProvider<DataChangeEvent> getDataChangeEventHashFunctionProvider() {
+        return new DefaultDataChangeEventHashFunctionProvider();
+    }
 }
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.common.sink;
+
+import com.ververica.cdc.common.annotation.PublicEvolving;
+import com.ververica.cdc.common.data.DecimalData;
+import com.ververica.cdc.common.data.LocalZonedTimestampData;
+import com.ververica.cdc.common.data.RecordData;
+import com.ververica.cdc.common.data.TimestampData;
+import com.ververica.cdc.common.data.binary.BinaryFormat;
+import com.ververica.cdc.common.data.binary.BinaryRecordData;
+import com.ververica.cdc.common.data.binary.BinarySegmentUtils;
+import com.ververica.cdc.common.data.binary.MurmurHashUtils;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.function.HashFunction;
+import com.ververica.cdc.common.function.HashFunctionProvider;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.common.types.DataTypeChecks;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The default {@link HashFunctionProvider} for {@link DataChangeEvent}, which hashes the events by
+ * their table ID and primary keys. Sinks could extend it to hash the events by the columns their
+ * tables are bucketed by.
+ */
+@PublicEvolving
+public class DefaultDataChangeEventHashFunctionProvider
+        implements HashFunctionProvider<DataChangeEvent> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public HashFunction<DataChangeEvent> getHashFunction(TableId tableId, Schema schema) {
+        return new DataChangeEventHashFunction(tableId, schema, getHashColumns(schema));
+    }
+
+    /**
+     * Returns the columns to hash the events of the table with. The changes of the same values of
+     * these columns are kept in order.
+     */
+    protected List<String> getHashColumns(Schema schema) {
+        return schema.primaryKeys();
+    }
+
+    /**
+     * Hash function computing the hash code of {@link DataChangeEvent} by its table ID and hash
+     * columns. The hash columns of {@link BinaryRecordData} are hashed directly on their binary
+     * representation, seeded by the precomputed hash of the table ID, so no object is allocated
+     * per record.
+     *
+     * <p>If the hash columns are not the primary keys, the values of them may be changed by
+     * updates, so the updates are hashed by the row before the change, which is the row the
+     * previous change of the same row is hashed by.
+     */
+    public static class DataChangeEventHashFunction implements HashFunction<DataChangeEvent> {
+
+        private static final int HASH_BOOLEAN = 0;
+        private static final int HASH_BYTE = 1;
+        private static final int HASH_SHORT = 2;
+        private static final int HASH_INT = 3;
+        private static final int HASH_LONG = 4;
+        private static final int HASH_FLOAT = 5;
+        private static final int HASH_DOUBLE = 6;
+        private static final int HASH_TIMESTAMP = 7;
+        private static final int HASH_VARIABLE_LENGTH = 8;
+        private static final int HASH_OBJECT = 9;
+
+        private final int tableIdHash;
+        private final int[] hashColumnPositions;
+        private final int[] hashKinds;
+        private final RecordData.FieldGetter[] hashColumnGetters;
+        private final boolean hashUpdatesByBefore;
+
+        public DataChangeEventHashFunction(
+                TableId tableId, Schema schema, List<String> hashColumns) {
+            tableIdHash = tableId.hashCode();
+            hashColumnPositions = getColumnPositions(schema, hashColumns);
+            hashKinds = new int[hashColumnPositions.length];
+            hashColumnGetters = new RecordData.FieldGetter[hashColumnPositions.length];
+            for (int i = 0; i < hashColumnPositions.length; i++) {
+                DataType type = schema.getColumns().get(hashColumnPositions[i]).getType();
+                hashKinds[i] = getHashKind(type);
+                hashColumnGetters[i] = RecordData.createFieldGetter(type, hashColumnPositions[i]);
+            }
+            hashUpdatesByBefore = !hashColumns.equals(schema.primaryKeys());
+        }
+
+        @Override
+        public int hashcode(DataChangeEvent event) {
+            RecordData data = hashByBefore(event) ? event.before() : event.after();
+            int hash =
+                    data instanceof BinaryRecordData
+                            ? hashBinaryRecord((BinaryRecordData) data)
+                            : hashRecord(data);
+            return hash & 0x7FFFFFFF;
+        }
+
+        private boolean hashByBefore(DataChangeEvent event) {
+            switch (event.op()) {
+                case DELETE:
+                    return true;
+                case UPDATE:
+                case REPLACE:
+                    return hashUpdatesByBefore && event.before() != null;
+                default:
+                    return false;
+            }
+        }
+
+        private int hashBinaryRecord(BinaryRecordData data) {
+            int hash = tableIdHash;
+            for (int i = 0; i < hashColumnPositions.length; i++) {
+                int pos = hashColumnPositions[i];
+                if (data.isNullAt(pos)) {
+                    hash = MurmurHashUtils.hashInt(0, hash);
+                    continue;
+                }
+                switch (hashKinds[i]) {
+                    case HASH_BOOLEAN:
+                        hash = MurmurHashUtils.hashInt(data.getBoolean(pos) ? 1 : 0, hash);
+                        break;
+                    case HASH_BYTE:
+                        hash = MurmurHashUtils.hashInt(data.getByte(pos), hash);
+                        break;
+                    case HASH_SHORT:
+                        hash = MurmurHashUtils.hashInt(data.getShort(pos), hash);
+                        break;
+                    case HASH_INT:
+                        hash = MurmurHashUtils.hashInt(data.getInt(pos), hash);
+                        break;
+                    case HASH_LONG:
+                        hash = MurmurHashUtils.hashLong(data.getLong(pos), hash);
+                        break;
+                    case HASH_FLOAT:
+                        hash =
+                                MurmurHashUtils.hashInt(
+                                        Float.floatToIntBits(data.getFloat(pos)), hash);
+                        break;
+                    case HASH_DOUBLE:
+                        hash =
+                                MurmurHashUtils.hashLong(
+                                        Double.doubleToLongBits(data.getDouble(pos)), hash);
+                        break;
+                    case HASH_TIMESTAMP:
+                        hash = hashTimestamp(data, pos, hash);
+                        break;
+                    case HASH_VARIABLE_LENGTH:
+                        hash = hashVariableLengthField(data, pos, hash);
+                        break;
+                    default:
+                        hash =
+                                MurmurHashUtils.hashInt(
+                                        Objects.hashCode(hashColumnGetters[i].getFieldOrNull(data)),
+                                        hash);
+                }
+            }
+            return hash;
+        }
+
+        private int hashRecord(RecordData data) {
+            int hash = tableIdHash;
+            for (RecordData.FieldGetter hashColumnGetter : hashColumnGetters) {
+                hash =
+                        MurmurHashUtils.hashInt(
+                                Objects.hashCode(hashColumnGetter.getFieldOrNull(data)), hash);
+            }
+            return hash;
+        }
+
+        /** Hashes the millisecond in variable-length part and the nanosecond in offset. */
+        private static int hashTimestamp(BinaryRecordData data, int pos, int hash) {
+            long offsetAndNanoOfMilli = data.getLong(pos);
+            long millisecond =
+                    BinarySegmentUtils.getLong(
+                            data.getSegments(),
+                            data.getOffset() + (int) (offsetAndNanoOfMilli >> 32));
+            hash = MurmurHashUtils.hashLong(millisecond, hash);
+            return MurmurHashUtils.hashInt((int) offsetAndNanoOfMilli, hash);
+        }
+
+        /**
+         * Hashes the bytes of a variable-length field, the offset of which depends on the other
+         * fields, so only the bytes are hashed.
+         */
+        private static int hashVariableLengthField(BinaryRecordData data, int pos, int hash) {
+            long offsetAndSize = data.getLong(pos);
+            if ((offsetAndSize & BinaryFormat.HIGHEST_FIRST_BIT) != 0) {
+                // the data is small enough to be stored in the fixed-length part
+                return MurmurHashUtils.hashLong(offsetAndSize, hash);
+            }
+            int bytesHash =
+                    BinarySegmentUtils.hash(
+                            data.getSegments(),
+                            data.getOffset() + (int) (offsetAndSize >> 32),
+                            (int) offsetAndSize);
+            return MurmurHashUtils.hashInt(bytesHash, hash);
+        }
+
+        private static int getHashKind(DataType type) {
+            switch (type.getTypeRoot()) {
+                case BOOLEAN:
+                    return HASH_BOOLEAN;
+                case TINYINT:
+                    return HASH_BYTE;
+                case SMALLINT:
+                    return HASH_SHORT;
+                case INTEGER:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                    return HASH_INT;
+                case BIGINT:
+                    return HASH_LONG;
+                case FLOAT:
+                    return HASH_FLOAT;
+                case DOUBLE:
+                    return HASH_DOUBLE;
+                case DECIMAL:
+                    return DecimalData.isCompact(DataTypeChecks.getPrecision(type))
+                            ? HASH_LONG
+                            : HASH_VARIABLE_LENGTH;
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    return TimestampData.isCompact(DataTypeChecks.getPrecision(type))
+                            ? HASH_LONG
+                            : HASH_TIMESTAMP;
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                    return LocalZonedTimestampData.isCompact(DataTypeChecks.getPrecision(type))
+                            ? HASH_LONG
+                            : HASH_TIMESTAMP;
+                case CHAR:
+                case VARCHAR:
+                case BINARY:
+                case VARBINARY:
+                case TIMESTAMP_WITH_TIME_ZONE:
+                case ROW:
+                    // zoned timestamps are written as strings in binary records
+                    return HASH_VARIABLE_LENGTH;
+                default:
+                    return HASH_OBJECT;
+            }
+        }
+
+        private static int[] getColumnPositions(Schema schema, List<String> columns) {
+            return columns.stream()
+                    .mapToInt(
+                            column -> {
+                                int i = 0;
+                                while (i < schema.getColumnCount()
+                                        && !schema.getColumns().get(i).getName().equals(column)) {
+                                    ++i;
+                                }
+                                if (i >= schema.getColumnCount()) {
+                                    throw new IllegalStateException(
+                                            String.format(
+                                                    "Unable to find column \"%s\" which is defined as hash column",
+                                                    column));
+                                }
+                                return i;
+                            })
+                    .toArray();
+        }
+    }
+}
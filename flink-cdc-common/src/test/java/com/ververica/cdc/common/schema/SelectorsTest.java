@@ -107,6 +107,38 @@ class SelectorsTest {
         assertNotAllowed(selectors, null, "sc1A", "A1");
     }
 
+    @Test
+    public void testLiteralTableSelector() {
+        Selectors selectors =
+                new Selectors.SelectorsBuilder()
+                        .includeTables("db.sc1.orders,sc2.Users,items,db.sc3.B[0-1]+")
+                        .build();
+
+        // nameSpace, schemaName, tableName
+        assertAllowed(selectors, "db", "sc1", "orders");
+        assertAllowed(selectors, "DB", "SC1", "Orders");
+        assertAllowed(selectors, "db", "sc3", "B1");
+        assertNotAllowed(selectors, "db", "sc1", "orders1");
+        assertNotAllowed(selectors, "db", "sc2", "orders");
+        assertNotAllowed(selectors, "db2", "sc1", "orders");
+        assertNotAllowed(selectors, "db", "sc2", "users");
+        assertNotAllowed(selectors, "db", "sc1", "items");
+
+        // schemaName, tableName
+        assertAllowed(selectors, null, "sc2", "users");
+        assertAllowed(selectors, null, "SC2", "USERS");
+        assertNotAllowed(selectors, null, "sc1", "orders");
+        assertNotAllowed(selectors, null, "sc2", "items");
+
+        // tableName
+        assertAllowed(selectors, null, null, "orders");
+        assertAllowed(selectors, null, null, "Users");
+        assertAllowed(selectors, null, null, "ITEMS");
+        assertAllowed(selectors, null, null, "B0");
+        assertNotAllowed(selectors, null, null, "item");
+        assertNotAllowed(selectors, null, null, "B2");
+    }
+
     protected void assertAllowed(
             Selectors filter, String nameSpace, String schemaName, String tableName) {
 
@@ -16,9 +16,91 @@
 
 package com.ververica.cdc.composer.definition;
 
+import javax.annotation.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+
 /**
- * Definition of transformation.
+ * Definition of a transformation.
+ *
+ * <p>A transformation definition contains:
  *
- * <p>Transformation will be implemented later, therefore we left the class blank.
+ * <ul>
+ *   <li>sourceTable: a regex pattern for matching input table IDs. Required for the definition.
+ *   <li>projection: a comma-separated list of the kept columns, which are column names with
+ *       optional aliases like "name AS user_name", or "*" for all the columns. Optional for the
+ *       definition, all the columns are kept by default.
+ *   <li>filter: a boolean expression over the columns like "id > 10 AND name IS NOT NULL", only
+ *       the matched rows are kept. Optional for the definition.
+ *   <li>description: description for the transformation. Optional for the definition.
+ * </ul>
  */
-public class TransformDef {}
+public class TransformDef {
+    private final String sourceTable;
+    @Nullable private final String projection;
+    @Nullable private final String filter;
+    @Nullable private final String description;
+
+    public TransformDef(
+            String sourceTable,
+            @Nullable String projection,
+            @Nullable String filter,
+            @Nullable String description) {
+        this.sourceTable = sourceTable;
+        this.projection = projection;
+        this.filter = filter;
+        this.description = description;
+    }
+
+    public String getSourceTable() {
+        return sourceTable;
+    }
+
+    public Optional<String> getProjection() {
+        return Optional.ofNullable(projection);
+    }
+
+    public Optional<String> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
+    public Optional<String> getDescription() {
+        return Optional.ofNullable(description);
+    }
+
+    @Override
+    public String toString() {
+        return "TransformDef{"
+                + "sourceTable="
+                + sourceTable
+                + ", projection="
+                + projection
+                + ", filter="
+                + filter
+                + ", description='"
+                + description
+                + '\''
+                + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TransformDef that = (TransformDef) o;
+        return Objects.equals(sourceTable, that.sourceTable)
+                && Objects.equals(projection, that.projection)
+                && Objects.equals(filter, that.filter)
+                && Objects.equals(description, that.description);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sourceTable, projection, filter, description);
+    }
+}
@@ -37,6 +37,7 @@ import com.ververica.cdc.composer.flink.translator.DataSourceTranslator;
 import com.ververica.cdc.composer.flink.translator.PartitioningTranslator;
 import com.ververica.cdc.composer.flink.translator.RouteTranslator;
 import com.ververica.cdc.composer.flink.translator.SchemaOperatorTranslator;
+import com.ververica.cdc.composer.flink.translator.TransformTranslator;
 import com.ververica.cdc.composer.utils.FactoryDiscoveryUtils;
 import com.ververica.cdc.runtime.serializer.event.EventSerializer;
 
@@ -100,6 +101,14 @@ public class FlinkPipelineComposer implements PipelineComposer {
         DataStream<Event> stream =
                 sourceTranslator.translate(pipelineDef.getSource(), env, pipelineDef.getConfig());
 
+        // Transform, before routing as the transforms are defined on the source tables
+        TransformTranslator transformTranslator =
+                new TransformTranslator(
+                        pipelineDef
+                                .getConfig()
+                                .get(PipelineOptions.PIPELINE_TRANSFORM_OPERATOR_UID));
+        stream = transformTranslator.translate(stream, pipelineDef.getTransforms());
+
         // Route
         RouteTranslator routeTranslator = new RouteTranslator();
         stream = routeTranslator.translate(stream, pipelineDef.getRoute());
@@ -113,7 +122,10 @@ public class FlinkPipelineComposer implements PipelineComposer {
                         pipelineDef
                                 .getConfig()
                                 .get(PipelineOptions.PIPELINE_SCHEMA_CHANGE_BEHAVIOR),
-                        pipelineDef.getConfig().get(PipelineOptions.PIPELINE_SCHEMA_OPERATOR_UID));
+                        pipelineDef.getConfig().get(PipelineOptions.PIPELINE_SCHEMA_OPERATOR_UID),
+                        pipelineDef
+                                .getConfig()
+                                .get(PipelineOptions.PIPELINE_SCHEMA_CHANGE_COALESCING_WINDOW));
         stream =
                 schemaOperatorTranslator.translate(
                         stream, parallelism, dataSink.getMetadataApplier());
@@ -124,7 +136,12 @@ public class FlinkPipelineComposer implements PipelineComposer {
         PartitioningTranslator partitioningTranslator = new PartitioningTranslator();
         stream =
                 partitioningTranslator.translate(
-                        stream, parallelism, parallelism, schemaOperatorIDGenerator.generate());
+                        stream,
+                        parallelism,
+                        parallelism,
+                        schemaOperatorIDGenerator.generate(),
+                        pipelineDef.getConfig().get(PipelineOptions.PIPELINE_PARTITIONING_STRATEGY),
+                        dataSink);
 
         // Sink
         DataSinkTranslator sinkTranslator = new DataSinkTranslator();
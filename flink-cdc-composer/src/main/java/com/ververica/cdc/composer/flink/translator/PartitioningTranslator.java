@@ -20,7 +20,13 @@ import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.streaming.api.datastream.DataStream;
 
 import com.ververica.cdc.common.annotation.Internal;
+import com.ververica.cdc.common.event.DataChangeEvent;
 import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.function.HashFunctionProvider;
+import com.ververica.cdc.common.pipeline.PartitioningStrategy;
+import com.ververica.cdc.common.sink.DataSink;
+import com.ververica.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+import com.ververica.cdc.runtime.partitioning.BalancedDataChangeEventHashFunctionProvider;
 import com.ververica.cdc.runtime.partitioning.EventPartitioner;
 import com.ververica.cdc.runtime.partitioning.PartitioningEventKeySelector;
 import com.ververica.cdc.runtime.partitioning.PostPartitionProcessor;
@@ -36,14 +42,34 @@ public class PartitioningTranslator {
             DataStream<Event> input,
             int upstreamParallelism,
             int downstreamParallelism,
-            OperatorID schemaOperatorID) {
+            OperatorID schemaOperatorID,
+            PartitioningStrategy partitioningStrategy,
+            DataSink dataSink) {
         return input.transform(
                         "PrePartition",
                         new PartitioningEventTypeInfo(),
-                        new PrePartitionOperator(schemaOperatorID, downstreamParallelism))
+                        new PrePartitionOperator(
+                                schemaOperatorID,
+                                downstreamParallelism,
+                                getHashFunctionProvider(partitioningStrategy, dataSink)))
                 .setParallelism(upstreamParallelism)
                 .partitionCustom(new EventPartitioner(), new PartitioningEventKeySelector())
                 .map(new PostPartitionProcessor(), new EventTypeInfo())
                 .name("PostPartition");
     }
+
+    private HashFunctionProvider<DataChangeEvent> getHashFunctionProvider(
+            PartitioningStrategy partitioningStrategy, DataSink dataSink) {
+        switch (partitioningStrategy) {
+            case PRIMARY_KEY:
+                return new DefaultDataChangeEventHashFunctionProvider();
+            case SINK_BUCKET:
+                return dataSink.getDataChangeEventHashFunctionProvider();
+            case BALANCED:
+                return new BalancedDataChangeEventHashFunctionProvider();
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported partitioning strategy: " + partitioningStrategy);
+        }
+    }
 }
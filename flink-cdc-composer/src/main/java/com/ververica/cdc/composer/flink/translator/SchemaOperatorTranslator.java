@@ -27,6 +27,8 @@ import com.ververica.cdc.common.sink.MetadataApplier;
 import com.ververica.cdc.runtime.operators.schema.SchemaOperatorFactory;
 import com.ververica.cdc.runtime.typeutils.EventTypeInfo;
 
+import java.time.Duration;
+
 /**
  * Translator for building {@link com.ververica.cdc.runtime.operators.schema.SchemaOperator} into
  * DataStream.
@@ -35,11 +37,15 @@ import com.ververica.cdc.runtime.typeutils.EventTypeInfo;
 public class SchemaOperatorTranslator {
     private final SchemaChangeBehavior schemaChangeBehavior;
     private final String schemaOperatorUid;
+    private final Duration schemaChangeCoalescingWindow;
 
     public SchemaOperatorTranslator(
-            SchemaChangeBehavior schemaChangeBehavior, String schemaOperatorUid) {
+            SchemaChangeBehavior schemaChangeBehavior,
+            String schemaOperatorUid,
+            Duration schemaChangeCoalescingWindow) {
         this.schemaChangeBehavior = schemaChangeBehavior;
         this.schemaOperatorUid = schemaOperatorUid;
+        this.schemaChangeCoalescingWindow = schemaChangeCoalescingWindow;
     }
 
     public DataStream<Event> translate(
@@ -68,7 +74,7 @@ public class SchemaOperatorTranslator {
                 input.transform(
                         "SchemaOperator",
                         new EventTypeInfo(),
-                        new SchemaOperatorFactory(metadataApplier));
+                        new SchemaOperatorFactory(metadataApplier, schemaChangeCoalescingWindow));
         stream.uid(schemaOperatorUid).setParallelism(parallelism);
         return stream;
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.composer.flink.translator;
+
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+
+import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.composer.definition.TransformDef;
+import com.ververica.cdc.runtime.operators.transform.TransformOperator;
+import com.ververica.cdc.runtime.typeutils.EventTypeInfo;
+
+import java.util.List;
+
+/** Translator for transformation. */
+public class TransformTranslator {
+    private final String transformOperatorUid;
+
+    public TransformTranslator(String transformOperatorUid) {
+        this.transformOperatorUid = transformOperatorUid;
+    }
+
+    public DataStream<Event> translate(DataStream<Event> input, List<TransformDef> transforms) {
+        if (transforms == null || transforms.isEmpty()) {
+            return input;
+        }
+        TransformOperator.Builder transformOperatorBuilder = TransformOperator.newBuilder();
+        for (TransformDef transform : transforms) {
+            transformOperatorBuilder.addTransform(
+                    transform.getSourceTable(),
+                    transform.getProjection().orElse(null),
+                    transform.getFilter().orElse(null));
+        }
+        SingleOutputStreamOperator<Event> stream =
+                input.transform("Transform", new EventTypeInfo(), transformOperatorBuilder.build());
+        stream.uid(transformOperatorUid);
+        return stream;
+    }
+}
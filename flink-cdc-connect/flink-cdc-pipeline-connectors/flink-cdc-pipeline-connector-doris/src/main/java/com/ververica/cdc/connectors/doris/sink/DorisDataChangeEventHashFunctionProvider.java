@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.doris.sink;
+
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+
+import java.util.List;
+
+/**
+ * Hash function provider which partitions {@link DataChangeEvent}s by the distribution keys of the
+ * Doris tables created by {@link DorisMetadataApplier}, so the events of tables without primary
+ * keys are also spread across subtasks.
+ */
+public class DorisDataChangeEventHashFunctionProvider
+        extends DefaultDataChangeEventHashFunctionProvider {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected List<String> getHashColumns(Schema schema) {
+        return DorisMetadataApplier.buildDistributeKeys(schema);
+    }
+}
@@ -17,6 +17,8 @@
 package com.ververica.cdc.connectors.doris.sink;
 
 import com.ververica.cdc.common.configuration.Configuration;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.function.HashFunctionProvider;
 import com.ververica.cdc.common.sink.DataSink;
 import com.ververica.cdc.common.sink.EventSinkProvider;
 import com.ververica.cdc.common.sink.FlinkSinkProvider;
@@ -75,4 +77,9 @@ public class DorisDataSink implements DataSink, Serializable {
     public MetadataApplier getMetadataApplier() {
         return new DorisMetadataApplier(dorisOptions, configuration);
     }
+
+    @Override
+    public HashFunctionProvider<DataChangeEvent> getDataChangeEventHashFunctionProvider() {
+        return new DorisDataChangeEventHashFunctionProvider();
+    }
 }
@@ -16,7 +16,9 @@
 
 package com.ververica.cdc.connectors.doris.sink;
 
-import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonEncoding;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.ververica.cdc.common.data.RecordData;
@@ -26,29 +28,41 @@ import com.ververica.cdc.common.event.Event;
 import com.ververica.cdc.common.event.OperationType;
 import com.ververica.cdc.common.event.SchemaChangeEvent;
 import com.ververica.cdc.common.event.TableId;
-import com.ververica.cdc.common.schema.Column;
 import com.ververica.cdc.common.schema.Schema;
 import com.ververica.cdc.common.utils.Preconditions;
 import com.ververica.cdc.common.utils.SchemaUtils;
+import org.apache.doris.flink.sink.writer.LoadConstants;
 import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
 import org.apache.doris.flink.sink.writer.serializer.DorisRecordSerializer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
-import static org.apache.doris.flink.sink.util.DeleteOperation.addDeleteSign;
-
-/** A serializer for Event to DorisRecord. */
+/**
+ * A serializer for Event to DorisRecord.
+ *
+ * <p>Rows are written as JSON straight into a reusable buffer with a streaming generator, using
+ * {@link DorisRowConverter.JsonRecordWriter}s precomputed for the table schemas.
+ */
 public class DorisEventSerializer implements DorisRecordSerializer<Event> {
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final SerializedString DELETE_SIGN =
+            new SerializedString(LoadConstants.DORIS_DELETE_SIGN);
+
     private ObjectMapper objectMapper = new ObjectMapper();
     private Map<TableId, Schema> schemaMaps = new HashMap<>();
 
+    /** Writers of the tables, which are created lazily and dropped on schema changes. */
+    private transient Map<TableId, DorisRowConverter.JsonRecordWriter> recordWriters;
+
+    private transient ByteArrayOutputStream outputBuffer;
+    private transient JsonGenerator jsonGenerator;
+
     /** Format DATE type data. */
     public static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("yyyy-MM-dd");
 
@@ -70,6 +84,9 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
         } else if (event instanceof SchemaChangeEvent) {
             SchemaChangeEvent schemaChangeEvent = (SchemaChangeEvent) event;
             TableId tableId = schemaChangeEvent.tableId();
+            if (recordWriters != null) {
+                recordWriters.remove(tableId);
+            }
             if (event instanceof CreateTableEvent) {
                 schemaMaps.put(tableId, ((CreateTableEvent) event).getSchema());
             } else {
@@ -85,22 +102,23 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
         return null;
     }
 
-    private DorisRecord applyDataChangeEvent(DataChangeEvent event) throws JsonProcessingException {
+    private DorisRecord applyDataChangeEvent(DataChangeEvent event) throws IOException {
         TableId tableId = event.tableId();
         Schema schema = schemaMaps.get(tableId);
         Preconditions.checkNotNull(schema, event.tableId() + " is not existed");
-        Map<String, Object> valueMap;
+        RecordData recordData;
+        boolean delete;
         OperationType op = event.op();
         switch (op) {
             case INSERT:
             case UPDATE:
             case REPLACE:
-                valueMap = serializerRecord(event.after(), schema);
-                addDeleteSign(valueMap, false);
+                recordData = event.after();
+                delete = false;
                 break;
             case DELETE:
-                valueMap = serializerRecord(event.before(), schema);
-                addDeleteSign(valueMap, true);
+                recordData = event.before();
+                delete = true;
                 break;
             default:
                 throw new UnsupportedOperationException("Unsupport Operation " + op);
@@ -109,24 +127,41 @@ public class DorisEventSerializer implements DorisRecordSerializer<Event> {
         return DorisRecord.of(
                 tableId.getSchemaName(),
                 tableId.getTableName(),
-                objectMapper.writeValueAsString(valueMap).getBytes(StandardCharsets.UTF_8));
+                serializeRecord(getRecordWriter(tableId, schema), recordData, delete));
     }
 
-    /** serializer RecordData to Doris Value. */
-    public Map<String, Object> serializerRecord(RecordData recordData, Schema schema) {
-        List<Column> columns = schema.getColumns();
-        Map<String, Object> record = new HashMap<>();
-        Preconditions.checkState(
-                columns.size() == recordData.getArity(),
-                "Column size does not match the data size");
-
-        for (int i = 0; i < recordData.getArity(); i++) {
-            DorisRowConverter.SerializationConverter converter =
-                    DorisRowConverter.createNullableExternalConverter(
-                            columns.get(i).getType(), pipelineZoneId);
-            Object field = converter.serialize(i, recordData);
-            record.put(columns.get(i).getName(), field);
+    private DorisRowConverter.JsonRecordWriter getRecordWriter(TableId tableId, Schema schema) {
+        if (recordWriters == null) {
+            recordWriters = new HashMap<>();
+        }
+        return recordWriters.computeIfAbsent(
+                tableId, id -> new DorisRowConverter.JsonRecordWriter(schema, pipelineZoneId));
+    }
+
+    /** serializer RecordData to the JSON bytes of Doris row. */
+    private byte[] serializeRecord(
+            DorisRowConverter.JsonRecordWriter recordWriter, RecordData recordData, boolean delete)
+            throws IOException {
+        if (jsonGenerator == null) {
+            outputBuffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            jsonGenerator =
+                    objectMapper.getFactory().createGenerator(outputBuffer, JsonEncoding.UTF8);
+            // Every row is written as a separate root value
+            jsonGenerator.setRootValueSeparator(null);
+        }
+        outputBuffer.reset();
+        try {
+            jsonGenerator.writeStartObject();
+            recordWriter.write(jsonGenerator, recordData);
+            jsonGenerator.writeFieldName(DELETE_SIGN);
+            jsonGenerator.writeString(delete ? "1" : "0");
+            jsonGenerator.writeEndObject();
+            jsonGenerator.flush();
+        } catch (IOException | RuntimeException e) {
+            // The generator may be left in the middle of a row
+            jsonGenerator = null;
+            throw e;
         }
-        return record;
+        return outputBuffer.toByteArray();
     }
 }
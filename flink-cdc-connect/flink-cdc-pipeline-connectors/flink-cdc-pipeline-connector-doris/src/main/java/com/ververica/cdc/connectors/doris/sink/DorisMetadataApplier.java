@@ -135,7 +135,7 @@ public class DorisMetadataApplier implements MetadataApplier {
         return fieldSchemaMap;
     }
 
-    private List<String> buildDistributeKeys(Schema schema) {
+    static List<String> buildDistributeKeys(Schema schema) {
         if (!CollectionUtil.isNullOrEmpty(schema.primaryKeys())) {
             return schema.primaryKeys();
         }
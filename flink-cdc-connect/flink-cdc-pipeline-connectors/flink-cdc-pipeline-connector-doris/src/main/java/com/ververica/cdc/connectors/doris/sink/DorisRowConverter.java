@@ -16,6 +16,8 @@
 
 package com.ververica.cdc.connectors.doris.sink;
 
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.io.SerializedString;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.ververica.cdc.common.data.ArrayData;
@@ -23,12 +25,15 @@ import com.ververica.cdc.common.data.GenericArrayData;
 import com.ververica.cdc.common.data.GenericMapData;
 import com.ververica.cdc.common.data.MapData;
 import com.ververica.cdc.common.data.RecordData;
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.schema.Schema;
 import com.ververica.cdc.common.types.DataField;
 import com.ververica.cdc.common.types.DataType;
 import com.ververica.cdc.common.types.DataTypeChecks;
 import com.ververica.cdc.common.types.DecimalType;
 import com.ververica.cdc.common.types.RowType;
 import com.ververica.cdc.common.types.ZonedTimestampType;
+import com.ververica.cdc.common.utils.Preconditions;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -55,6 +60,115 @@ public class DorisRowConverter implements Serializable {
         Object serialize(int index, RecordData field);
     }
 
+    /** Runtime writer to write a field of {@link RecordData} as a JSON value of doris field. */
+    @FunctionalInterface
+    interface JsonFieldWriter extends Serializable {
+        void write(JsonGenerator generator, int index, RecordData val) throws IOException;
+    }
+
+    /**
+     * Writer to write {@link RecordData} of a table schema as the JSON fields of a doris row. The
+     * field names and writers are created once for the schema.
+     */
+    static class JsonRecordWriter implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final SerializedString[] fieldNames;
+        private final JsonFieldWriter[] fieldWriters;
+
+        JsonRecordWriter(Schema schema, ZoneId pipelineZoneId) {
+            List<Column> columns = schema.getColumns();
+            this.fieldNames = new SerializedString[columns.size()];
+            this.fieldWriters = new JsonFieldWriter[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                fieldNames[i] = new SerializedString(columns.get(i).getName());
+                fieldWriters[i] =
+                        createNullableJsonFieldWriter(columns.get(i).getType(), pipelineZoneId);
+            }
+        }
+
+        void write(JsonGenerator generator, RecordData recordData) throws IOException {
+            Preconditions.checkState(
+                    fieldWriters.length == recordData.getArity(),
+                    "Column size does not match the data size");
+            for (int i = 0; i < fieldWriters.length; i++) {
+                generator.writeFieldName(fieldNames[i]);
+                fieldWriters[i].write(generator, i, recordData);
+            }
+        }
+    }
+
+    static JsonFieldWriter createNullableJsonFieldWriter(DataType type, ZoneId pipelineZoneId) {
+        final JsonFieldWriter fieldWriter = createJsonFieldWriter(type, pipelineZoneId);
+        return (generator, index, val) -> {
+            if (val.isNullAt(index)) {
+                generator.writeNull();
+            } else {
+                fieldWriter.write(generator, index, val);
+            }
+        };
+    }
+
+    /**
+     * Creates the writer producing the same JSON value as serializing the result of {@link
+     * #createExternalConverter} with Jackson, but without the intermediate objects for the common
+     * types.
+     */
+    static JsonFieldWriter createJsonFieldWriter(DataType type, ZoneId pipelineZoneId) {
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return (generator, index, val) -> {
+                    byte[] bytes = val.getString(index).toBytes();
+                    generator.writeUTF8String(bytes, 0, bytes.length);
+                };
+            case BOOLEAN:
+                return (generator, index, val) -> generator.writeBoolean(val.getBoolean(index));
+            case BINARY:
+            case VARBINARY:
+                return (generator, index, val) -> generator.writeBinary(val.getBinary(index));
+            case DECIMAL:
+                final int decimalPrecision = ((DecimalType) type).getPrecision();
+                final int decimalScale = ((DecimalType) type).getScale();
+                return (generator, index, val) ->
+                        generator.writeNumber(
+                                val.getDecimal(index, decimalPrecision, decimalScale)
+                                        .toBigDecimal());
+            case TINYINT:
+                return (generator, index, val) -> generator.writeNumber(val.getByte(index));
+            case SMALLINT:
+                return (generator, index, val) -> generator.writeNumber(val.getShort(index));
+            case INTEGER:
+                return (generator, index, val) -> generator.writeNumber(val.getInt(index));
+            case BIGINT:
+                return (generator, index, val) -> generator.writeNumber(val.getLong(index));
+            case FLOAT:
+                return (generator, index, val) -> generator.writeNumber(val.getFloat(index));
+            case DOUBLE:
+                return (generator, index, val) -> generator.writeNumber(val.getDouble(index));
+            case DATE:
+                return (generator, index, val) ->
+                        generator.writeString(LocalDate.ofEpochDay(val.getInt(index)).toString());
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final SerializationConverter converter =
+                        createExternalConverter(type, pipelineZoneId);
+                return (generator, index, val) ->
+                        generator.writeString((String) converter.serialize(index, val));
+            case TIMESTAMP_WITH_TIME_ZONE:
+                final int zonedP = ((ZonedTimestampType) type).getPrecision();
+                // Jackson writes java.sql.Timestamp as epoch milliseconds
+                return (generator, index, val) ->
+                        generator.writeNumber(
+                                val.getTimestamp(index, zonedP).toTimestamp().getTime());
+            default:
+                final SerializationConverter objectConverter =
+                        createExternalConverter(type, pipelineZoneId);
+                return (generator, index, val) ->
+                        objectMapper.writeValue(generator, objectConverter.serialize(index, val));
+        }
+    }
+
     static SerializationConverter createNullableExternalConverter(
             DataType type, ZoneId pipelineZoneId) {
         return wrapIntoNullableExternalConverter(createExternalConverter(type, pipelineZoneId));
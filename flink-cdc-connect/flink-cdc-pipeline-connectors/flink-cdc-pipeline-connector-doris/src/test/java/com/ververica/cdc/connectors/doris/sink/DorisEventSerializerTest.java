@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.doris.sink;
+
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.ververica.cdc.common.data.DecimalData;
+import com.ververica.cdc.common.data.TimestampData;
+import com.ververica.cdc.common.data.binary.BinaryStringData;
+import com.ververica.cdc.common.event.AddColumnEvent;
+import com.ververica.cdc.common.event.CreateTableEvent;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataTypes;
+import com.ververica.cdc.common.types.RowType;
+import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.apache.doris.flink.sink.writer.serializer.DorisRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** A test for {@link DorisEventSerializer}. */
+public class DorisEventSerializerTest {
+
+    private static final TableId TABLE_ID = TableId.tableId("doris_database", "doris_table");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void testSerializeDataChangeEvents() throws Exception {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("price", DataTypes.DECIMAL(10, 2))
+                        .physicalColumn("created", DataTypes.TIMESTAMP())
+                        .physicalColumn("birthday", DataTypes.DATE())
+                        .primaryKey("id")
+                        .build();
+        DorisEventSerializer serializer = new DorisEventSerializer(ZoneId.of("UTC"));
+        Assert.assertNull(serializer.serialize(new CreateTableEvent(TABLE_ID, schema)));
+
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator((RowType) schema.toRowDataType());
+        Object[] fields =
+                new Object[] {
+                    1,
+                    BinaryStringData.fromString("\"quoted\"\tname"),
+                    DecimalData.fromBigDecimal(new BigDecimal("12.30"), 10, 2),
+                    TimestampData.fromLocalDateTime(LocalDateTime.of(2021, 1, 1, 8, 0, 0)),
+                    (int) LocalDate.of(2021, 1, 1).toEpochDay()
+                };
+        DorisRecord insert =
+                serializer.serialize(
+                        DataChangeEvent.insertEvent(TABLE_ID, generator.generate(fields)));
+        Assert.assertEquals("doris_database", insert.getDatabase());
+        Assert.assertEquals("doris_table", insert.getTable());
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 1);
+        expected.put("name", "\"quoted\"\tname");
+        expected.put("price", 12.3);
+        expected.put("created", "2021-01-01 08:00:00");
+        expected.put("birthday", "2021-01-01");
+        expected.put("__DORIS_DELETE_SIGN__", "0");
+        Assert.assertEquals(expected, readRow(insert));
+
+        fields[1] = null;
+        DorisRecord delete =
+                serializer.serialize(
+                        DataChangeEvent.deleteEvent(TABLE_ID, generator.generate(fields)));
+        expected.put("name", null);
+        expected.put("__DORIS_DELETE_SIGN__", "1");
+        Assert.assertEquals(expected, readRow(delete));
+
+        // The writer of the table is rebuilt for the new schema
+        serializer.serialize(
+                new AddColumnEvent(
+                        TABLE_ID,
+                        Collections.singletonList(
+                                new AddColumnEvent.ColumnWithPosition(
+                                        Column.physicalColumn("flag", DataTypes.BOOLEAN())))));
+        BinaryRecordDataGenerator newGenerator =
+                new BinaryRecordDataGenerator(
+                        RowType.of(
+                                DataTypes.INT(),
+                                DataTypes.STRING(),
+                                DataTypes.DECIMAL(10, 2),
+                                DataTypes.TIMESTAMP(),
+                                DataTypes.DATE(),
+                                DataTypes.BOOLEAN()));
+        DorisRecord insertWithNewColumn =
+                serializer.serialize(
+                        DataChangeEvent.insertEvent(
+                                TABLE_ID,
+                                newGenerator.generate(
+                                        new Object[] {
+                                            fields[0], null, fields[2], fields[3], fields[4], true
+                                        })));
+        expected.put("flag", true);
+        expected.put("__DORIS_DELETE_SIGN__", "0");
+        Assert.assertEquals(expected, readRow(insertWithNewColumn));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readRow(DorisRecord record) throws Exception {
+        return OBJECT_MAPPER.readValue(record.getRow(), Map.class);
+    }
+}
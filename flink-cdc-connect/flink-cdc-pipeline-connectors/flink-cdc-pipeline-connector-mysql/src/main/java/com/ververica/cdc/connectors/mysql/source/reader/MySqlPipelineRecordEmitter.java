@@ -27,6 +27,7 @@ import com.ververica.cdc.connectors.mysql.schema.MySqlFieldDefinition;
 import com.ververica.cdc.connectors.mysql.schema.MySqlTableDefinition;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
 import com.ververica.cdc.connectors.mysql.source.metrics.MySqlSourceReaderMetrics;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplitState;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplitState;
 import com.ververica.cdc.connectors.mysql.table.StartupMode;
 import com.ververica.cdc.connectors.mysql.utils.MySqlTypeUtils;
@@ -37,6 +38,7 @@ import io.debezium.relational.Column;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges.TableChange;
 import io.debezium.text.ParsingException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.connect.source.SourceRecord;
@@ -64,6 +66,7 @@ public class MySqlPipelineRecordEmitter extends MySqlRecordEmitter<Event> {
 
     // Used when startup mode is initial
     private Set<TableId> alreadySendCreateTableTables;
+    private MySqlBinlogSplitState alreadySendCreateTableBinlogSplitState;
 
     // Used when startup mode is not initial
     private boolean alreadySendCreateTableForBinlogSplit = false;
@@ -111,14 +114,37 @@ public class MySqlPipelineRecordEmitter extends MySqlRecordEmitter<Event> {
                 }
             }
         } else if (splitState.isBinlogSplitState()
-                && !alreadySendCreateTableForBinlogSplit
-                && !sourceConfig.getStartupOptions().startupMode.equals(StartupMode.INITIAL)) {
+                && sourceConfig.getStartupOptions().startupMode.equals(StartupMode.INITIAL)) {
+            // The snapshot splits of a table may be read by another subtask, so the binlog split
+            // sends the schemas of its tables again, a new split state is created whenever the
+            // split is added to the reader, e.g. after restoring or adding new tables
+            if (splitState != alreadySendCreateTableBinlogSplitState) {
+                sendCreateTableEvents(splitState.asBinlogSplitState(), output);
+                alreadySendCreateTableBinlogSplitState = splitState.asBinlogSplitState();
+            }
+        } else if (splitState.isBinlogSplitState() && !alreadySendCreateTableForBinlogSplit) {
             createTableEventCache.forEach(output::collect);
             alreadySendCreateTableForBinlogSplit = true;
         }
         super.processElement(element, output, splitState);
     }
 
+    private void sendCreateTableEvents(
+            MySqlBinlogSplitState binlogSplitState, SourceOutput<Event> output) {
+        // The schemas kept in the binlog split are the ones at the binlog position being read
+        for (TableChange tableChange : binlogSplitState.getTableSchemas().values()) {
+            TableId tableId = tableChange.getId();
+            if (binlogSplitState.isTableInShard(tableId)
+                    && sourceConfig.getTableFilters().dataCollectionFilter().isIncluded(tableId)) {
+                output.collect(
+                        new CreateTableEvent(
+                                com.ververica.cdc.common.event.TableId.tableId(
+                                        tableId.catalog(), tableId.table()),
+                                toSchema(tableChange.getTable())));
+            }
+        }
+    }
+
     private void sendCreateTableEvent(
             JdbcConnection jdbc, TableId tableId, SourceOutput<Event> output) {
         Schema schema = getSchema(jdbc, tableId);
@@ -192,8 +218,10 @@ public class MySqlPipelineRecordEmitter extends MySqlRecordEmitter<Event> {
     }
 
     private Schema parseDDL(String ddlStatement, TableId tableId) {
-        Table table = parseDdl(ddlStatement, tableId);
+        return toSchema(parseDdl(ddlStatement, tableId));
+    }
 
+    private Schema toSchema(Table table) {
         List<Column> columns = table.columns();
         Schema.Builder tableBuilder = Schema.newBuilder();
         for (int i = 0; i < columns.size(); i++) {
@@ -312,8 +312,9 @@ public class MySqlFullTypesITCase extends MySqlSourceTestBase {
         expectedSnapshot[44] = BinaryStringData.fromString("{\"key1\":\"value1\"}");
         Object[] expectedStreamRecord = expectedSnapshot;
 
-        List<Event> streamResults = fetchResults(iterator, 1);
-        RecordData streamRecord = ((DataChangeEvent) streamResults.get(0)).after();
+        // skip CreateTableEvent sent by the binlog split
+        List<Event> streamResults = fetchResults(iterator, 2);
+        RecordData streamRecord = ((DataChangeEvent) streamResults.get(1)).after();
         assertThat(recordFields(streamRecord, COMMON_TYPES)).isEqualTo(expectedStreamRecord);
     }
 
@@ -343,8 +344,9 @@ public class MySqlFullTypesITCase extends MySqlSourceTestBase {
             statement.execute("UPDATE time_types SET time_6_c = null WHERE id = 1;");
         }
 
-        List<Event> streamResults = fetchResults(iterator, 1);
-        RecordData streamRecord = ((DataChangeEvent) streamResults.get(0)).after();
+        // skip CreateTableEvent sent by the binlog split
+        List<Event> streamResults = fetchResults(iterator, 2);
+        RecordData streamRecord = ((DataChangeEvent) streamResults.get(1)).after();
         assertThat(recordFields(streamRecord, recordType)).isEqualTo(expectedStreamRecord);
     }
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.reader;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
+import org.apache.flink.runtime.metrics.groups.UnregisteredMetricGroups;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.common.event.CreateTableEvent;
+import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataTypes;
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import com.ververica.cdc.connectors.mysql.source.metrics.MySqlSourceReaderMetrics;
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplitState;
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import com.ververica.cdc.connectors.mysql.table.StartupOptions;
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import io.debezium.config.Configuration;
+import io.debezium.connector.mysql.MySqlConnectorConfig;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.heartbeat.HeartbeatFactory;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges;
+import io.debezium.schema.TopicSelector;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.debezium.config.CommonConnectorConfig.TRANSACTION_TOPIC;
+import static io.debezium.connector.mysql.MySqlConnectorConfig.SERVER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link MySqlPipelineRecordEmitter}. */
+public class MySqlPipelineRecordEmitterTest {
+
+    private static final TableId CUSTOMERS = new TableId("test_db", null, "customers");
+    private static final TableId ORDERS = new TableId("test_db", null, "orders");
+
+    @Test
+    public void testSendCreateTableEventsForBinlogSplit() throws Exception {
+        // The emitter of a subtask which reads the binlog split, but no snapshot split of the table
+        MySqlPipelineRecordEmitter recordEmitter = createRecordEmitter();
+        Map<TableId, TableChanges.TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(CUSTOMERS, createTableChange(CUSTOMERS));
+        // The schema of a table which is not captured is not sent
+        tableSchemas.put(ORDERS, createTableChange(ORDERS));
+        MySqlBinlogSplitState splitState = createBinlogSplitState(tableSchemas);
+
+        CreateTableEvent expected =
+                new CreateTableEvent(
+                        com.ververica.cdc.common.event.TableId.tableId("test_db", "customers"),
+                        Schema.newBuilder()
+                                .physicalColumn("id", DataTypes.INT().notNull())
+                                .physicalColumn("name", DataTypes.VARCHAR(255))
+                                .primaryKey("id")
+                                .build());
+        assertThat(emitHeartbeat(recordEmitter, splitState)).containsExactly(expected);
+
+        // The schemas are only sent once for the split
+        assertThat(emitHeartbeat(recordEmitter, splitState)).isEmpty();
+
+        // The schemas are sent again when the split is added to the reader again
+        assertThat(emitHeartbeat(recordEmitter, createBinlogSplitState(tableSchemas)))
+                .containsExactly(expected);
+    }
+
+    private static List<Event> emitHeartbeat(
+            MySqlPipelineRecordEmitter recordEmitter, MySqlBinlogSplitState splitState)
+            throws Exception {
+        Configuration dezConf =
+                JdbcConfiguration.create()
+                        .with(Heartbeat.HEARTBEAT_INTERVAL, 100)
+                        .with(TRANSACTION_TOPIC, "fake-topic")
+                        .with(SERVER_NAME, "mysql_binlog_source")
+                        .build();
+        MySqlConnectorConfig mySqlConfig = new MySqlConnectorConfig(dezConf);
+        HeartbeatFactory<TableId> heartbeatFactory =
+                new HeartbeatFactory<>(
+                        mySqlConfig,
+                        TopicSelector.defaultSelector(
+                                mySqlConfig, (id, prefix, delimiter) -> "fake-topic"),
+                        SchemaNameAdjuster.create());
+        Heartbeat heartbeat = heartbeatFactory.createHeartbeat();
+        List<SourceRecord> heartbeatRecords = new ArrayList<>();
+        heartbeat.forcedBeat(
+                Collections.emptyMap(),
+                BinlogOffset.ofBinlogFilePosition("fake-file", 15213L).getOffset(),
+                heartbeatRecords::add);
+        heartbeat.close();
+
+        TestingReaderOutput<Event> output = new TestingReaderOutput<>();
+        for (SourceRecord heartbeatRecord : heartbeatRecords) {
+            recordEmitter.emitRecord(
+                    SourceRecords.fromSingleRecord(heartbeatRecord), output, splitState);
+        }
+        return output.getEmittedRecords();
+    }
+
+    private static MySqlPipelineRecordEmitter createRecordEmitter() {
+        MySqlSourceConfig sourceConfig =
+                new MySqlSourceConfigFactory()
+                        .startupOptions(StartupOptions.initial())
+                        .databaseList("test_db")
+                        .tableList("test_db.customers")
+                        .hostname("localhost")
+                        .username("user")
+                        .password("password")
+                        .createConfig(0);
+        return new MySqlPipelineRecordEmitter(
+                new DebeziumDeserializationSchema<Event>() {
+                    @Override
+                    public void deserialize(SourceRecord record, Collector<Event> out) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public TypeInformation<Event> getProducedType() {
+                        return TypeInformation.of(Event.class);
+                    }
+                },
+                new MySqlSourceReaderMetrics(
+                        UnregisteredMetricGroups.createUnregisteredOperatorMetricGroup()),
+                sourceConfig);
+    }
+
+    private static MySqlBinlogSplitState createBinlogSplitState(
+            Map<TableId, TableChanges.TableChange> tableSchemas) {
+        return new MySqlBinlogSplitState(
+                new MySqlBinlogSplit(
+                        "binlog-split",
+                        BinlogOffset.ofEarliest(),
+                        BinlogOffset.ofNonStopping(),
+                        Collections.emptyList(),
+                        new HashMap<>(tableSchemas),
+                        0));
+    }
+
+    private static TableChanges.TableChange createTableChange(TableId tableId) {
+        Table table =
+                Table.editor()
+                        .tableId(tableId)
+                        .addColumn(
+                                Column.editor()
+                                        .name("id")
+                                        .type("INT")
+                                        .jdbcType(Types.INTEGER)
+                                        .optional(false)
+                                        .create())
+                        .addColumn(
+                                Column.editor()
+                                        .name("name")
+                                        .type("VARCHAR")
+                                        .jdbcType(Types.VARCHAR)
+                                        .length(255)
+                                        .optional(true)
+                                        .create())
+                        .setPrimaryKeyNames("id")
+                        .create();
+        return new TableChanges.TableChange(TableChanges.TableChangeType.CREATE, table);
+    }
+}
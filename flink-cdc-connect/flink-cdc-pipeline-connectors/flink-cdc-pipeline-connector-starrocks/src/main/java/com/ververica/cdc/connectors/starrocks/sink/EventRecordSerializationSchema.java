@@ -22,26 +22,24 @@ import com.starrocks.connector.flink.table.data.DefaultStarRocksRowData;
 import com.starrocks.connector.flink.table.data.StarRocksRowData;
 import com.starrocks.connector.flink.table.sink.v2.RecordSerializationSchema;
 import com.starrocks.connector.flink.table.sink.v2.StarRocksSinkContext;
-import com.starrocks.connector.flink.tools.JsonWrapper;
 import com.ververica.cdc.common.data.RecordData;
 import com.ververica.cdc.common.event.CreateTableEvent;
 import com.ververica.cdc.common.event.DataChangeEvent;
 import com.ververica.cdc.common.event.Event;
 import com.ververica.cdc.common.event.SchemaChangeEvent;
 import com.ververica.cdc.common.event.TableId;
-import com.ververica.cdc.common.schema.Column;
 import com.ververica.cdc.common.schema.Schema;
 import com.ververica.cdc.common.utils.Preconditions;
 import com.ververica.cdc.common.utils.SchemaUtils;
 
 import java.time.ZoneId;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
-import static com.ververica.cdc.connectors.starrocks.sink.StarRocksUtils.createFieldGetter;
-
-/** Serializer for the input {@link Event}. It will serialize a row to a json string. */
+/**
+ * Serializer for the input {@link Event}. It will serialize a row to a json string with the {@link
+ * JsonRecordWriter} of its table.
+ */
 public class EventRecordSerializationSchema implements RecordSerializationSchema<Event> {
 
     private static final long serialVersionUID = 1L;
@@ -55,7 +53,7 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
     private transient Map<TableId, TableInfo> tableInfoMap;
 
     private transient DefaultStarRocksRowData reusableRowData;
-    private transient JsonWrapper jsonWrapper;
+    private transient JsonRecordWriter.Utf8Buffer reusableBuffer;
 
     public EventRecordSerializationSchema(ZoneId zoneId) {
         this.zoneId = zoneId;
@@ -66,7 +64,7 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
             SerializationSchema.InitializationContext context, StarRocksSinkContext sinkContext) {
         this.tableInfoMap = new HashMap<>();
         this.reusableRowData = new DefaultStarRocksRowData();
-        this.jsonWrapper = new JsonWrapper();
+        this.reusableBuffer = new JsonRecordWriter.Utf8Buffer(1024);
     }
 
     @Override
@@ -95,11 +93,7 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
         }
         TableInfo tableInfo = new TableInfo();
         tableInfo.schema = newSchema;
-        tableInfo.fieldGetters = new RecordData.FieldGetter[newSchema.getColumnCount()];
-        for (int i = 0; i < newSchema.getColumnCount(); i++) {
-            tableInfo.fieldGetters[i] =
-                    createFieldGetter(newSchema.getColumns().get(i).getType(), i, zoneId);
-        }
+        tableInfo.recordWriter = new JsonRecordWriter(newSchema, zoneId);
         tableInfoMap.put(tableId, tableInfo);
     }
 
@@ -127,14 +121,7 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
     }
 
     private String serializeRecord(TableInfo tableInfo, RecordData record, boolean isDelete) {
-        List<Column> columns = tableInfo.schema.getColumns();
-        Preconditions.checkArgument(columns.size() == record.getArity());
-        Map<String, Object> rowMap = new HashMap<>(record.getArity() + 1);
-        for (int i = 0; i < record.getArity(); i++) {
-            rowMap.put(columns.get(i).getName(), tableInfo.fieldGetters[i].getFieldOrNull(record));
-        }
-        rowMap.put("__op", isDelete ? 1 : 0);
-        return jsonWrapper.toJSONString(rowMap);
+        return tableInfo.recordWriter.write(record, isDelete, reusableBuffer);
     }
 
     @Override
@@ -143,6 +130,6 @@ public class EventRecordSerializationSchema implements RecordSerializationSchema
     /** Table information. */
     private static class TableInfo {
         Schema schema;
-        RecordData.FieldGetter[] fieldGetters;
+        JsonRecordWriter recordWriter;
     }
 }
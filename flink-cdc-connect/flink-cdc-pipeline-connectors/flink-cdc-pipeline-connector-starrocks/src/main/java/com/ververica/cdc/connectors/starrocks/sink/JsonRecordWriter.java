@@ -0,0 +1,412 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.starrocks.sink;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+
+import com.ververica.cdc.common.data.DecimalData;
+import com.ververica.cdc.common.data.RecordData;
+import com.ververica.cdc.common.data.StringData;
+import com.ververica.cdc.common.data.binary.BinaryStringData;
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.common.utils.Preconditions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.ververica.cdc.common.types.DataTypeChecks.getPrecision;
+import static com.ververica.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * Writes the records of a table as the JSON rows of StarRocks Stream Load, with the {@code __op}
+ * column telling an upsert from a delete.
+ *
+ * <p>The writer is created for each schema of the table. The escaped UTF-8 bytes of the column
+ * names and a writer of each column are prepared then, so a record is written field by field into
+ * a reused {@link Utf8Buffer} without boxing the fields or building a map of them.
+ */
+public class JsonRecordWriter {
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.UTF_8);
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /** The powers of ten up to the max scale of a compact decimal. */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /** The escaped names of the columns, prefixed by the separator from the previous field. */
+    private final byte[][] fieldNames;
+
+    private final FieldWriter[] fieldWriters;
+    private final byte[] upsertSuffix;
+    private final byte[] deleteSuffix;
+
+    public JsonRecordWriter(Schema schema, ZoneId zoneId) {
+        List<Column> columns = schema.getColumns();
+        this.fieldNames = new byte[columns.size()][];
+        this.fieldWriters = new FieldWriter[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            fieldNames[i] = encodeFieldName(column.getName(), i == 0);
+            fieldWriters[i] = createFieldWriter(column.getType(), zoneId);
+        }
+        byte[] opName = encodeFieldName("__op", columns.isEmpty());
+        this.upsertSuffix = Arrays.copyOf(opName, opName.length + 2);
+        upsertSuffix[opName.length] = '0';
+        upsertSuffix[opName.length + 1] = '}';
+        this.deleteSuffix = upsertSuffix.clone();
+        deleteSuffix[opName.length] = '1';
+    }
+
+    /** Writes the record as a JSON object into the buffer and returns it as a string. */
+    public String write(RecordData record, boolean isDelete, Utf8Buffer buffer) {
+        Preconditions.checkArgument(fieldWriters.length == record.getArity());
+        buffer.reset();
+        buffer.write((byte) '{');
+        for (int i = 0; i < fieldWriters.length; i++) {
+            buffer.write(fieldNames[i]);
+            if (record.isNullAt(i)) {
+                buffer.write(NULL);
+            } else {
+                fieldWriters[i].write(record, i, buffer);
+            }
+        }
+        buffer.write(isDelete ? deleteSuffix : upsertSuffix);
+        return buffer.toString();
+    }
+
+    private static byte[] encodeFieldName(String name, boolean isFirst) {
+        Utf8Buffer buffer = new Utf8Buffer(name.length() + 4);
+        if (!isFirst) {
+            buffer.write((byte) ',');
+        }
+        buffer.writeQuoted(name.getBytes(StandardCharsets.UTF_8));
+        buffer.write((byte) ':');
+        return buffer.toByteArray();
+    }
+
+    /** Writes the non-null field at the given position of a record. */
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(RecordData record, int pos, Utf8Buffer buffer);
+    }
+
+    private static FieldWriter createFieldWriter(DataType fieldType, ZoneId zoneId) {
+        // ordered by type root definition
+        switch (fieldType.getTypeRoot()) {
+            case BOOLEAN:
+                return (record, pos, buffer) -> buffer.write(record.getBoolean(pos) ? TRUE : FALSE);
+            case TINYINT:
+                return (record, pos, buffer) -> buffer.writeLong(record.getByte(pos));
+            case SMALLINT:
+                return (record, pos, buffer) -> buffer.writeLong(record.getShort(pos));
+            case INTEGER:
+                return (record, pos, buffer) -> buffer.writeLong(record.getInt(pos));
+            case BIGINT:
+                return (record, pos, buffer) -> buffer.writeLong(record.getLong(pos));
+            case FLOAT:
+                return (record, pos, buffer) -> buffer.writeDouble(record.getFloat(pos), true);
+            case DOUBLE:
+                return (record, pos, buffer) -> buffer.writeDouble(record.getDouble(pos), false);
+            case DECIMAL:
+                final int decimalPrecision = getPrecision(fieldType);
+                final int decimalScale = getScale(fieldType);
+                return (record, pos, buffer) ->
+                        buffer.writeDecimal(
+                                record.getDecimal(pos, decimalPrecision, decimalScale));
+            case CHAR:
+            case VARCHAR:
+                return (record, pos, buffer) -> buffer.writeQuoted(record.getString(pos));
+            case DATE:
+                return (record, pos, buffer) -> {
+                    buffer.write((byte) '"');
+                    buffer.writeDate(record.getInt(pos));
+                    buffer.write((byte) '"');
+                };
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                final int timestampPrecision = getPrecision(fieldType);
+                return (record, pos, buffer) ->
+                        buffer.writeQuotedDateTime(
+                                record.getTimestamp(pos, timestampPrecision).getMillisecond());
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                final int localZonedPrecision = getPrecision(fieldType);
+                final ZoneRules zoneRules = zoneId.getRules();
+                if (zoneRules.isFixedOffset()) {
+                    final long offsetMillis =
+                            zoneRules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+                    return (record, pos, buffer) ->
+                            buffer.writeQuotedDateTime(
+                                    record.getLocalZonedTimestampData(pos, localZonedPrecision)
+                                                    .getEpochMillisecond()
+                                            + offsetMillis);
+                }
+                return (record, pos, buffer) -> {
+                    long epochMillis =
+                            record.getLocalZonedTimestampData(pos, localZonedPrecision)
+                                    .getEpochMillisecond();
+                    long offsetMillis =
+                            zoneRules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds()
+                                    * 1000L;
+                    buffer.writeQuotedDateTime(epochMillis + offsetMillis);
+                };
+            default:
+                throw new UnsupportedOperationException(
+                        "Don't support data type " + fieldType.getTypeRoot());
+        }
+    }
+
+    /**
+     * A growable buffer of UTF-8 bytes, which is reused for all the records written by the {@link
+     * JsonRecordWriter}s of a serialization schema.
+     */
+    public static class Utf8Buffer {
+
+        private static final byte[] HEX_DIGITS =
+                "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+        private static final byte[] LONG_MIN_VALUE =
+                Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.UTF_8);
+
+        private byte[] bytes;
+        private int size;
+
+        public Utf8Buffer(int initialCapacity) {
+            this.bytes = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        public void reset() {
+            size = 0;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, 0, size, StandardCharsets.UTF_8);
+        }
+
+        void write(byte b) {
+            ensureCapacity(1);
+            bytes[size++] = b;
+        }
+
+        void write(byte[] src) {
+            ensureCapacity(src.length);
+            System.arraycopy(src, 0, bytes, size, src.length);
+            size += src.length;
+        }
+
+        void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                write(LONG_MIN_VALUE);
+                return;
+            }
+            // at most 19 digits and the sign
+            ensureCapacity(20);
+            if (value < 0) {
+                bytes[size++] = '-';
+                value = -value;
+            }
+            int digits = 1;
+            for (long v = value / 10; v > 0; v /= 10) {
+                digits++;
+            }
+            size += digits;
+            int pos = size;
+            do {
+                bytes[--pos] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+        }
+
+        /** Writes the number, or null if it is NaN or infinite as they are not valid in JSON. */
+        void writeDouble(double value, boolean isFloat) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                write(NULL);
+            } else if (isFloat) {
+                writeAscii(Float.toString((float) value));
+            } else {
+                writeAscii(Double.toString(value));
+            }
+        }
+
+        void writeDecimal(DecimalData decimal) {
+            if (!decimal.isCompact()) {
+                writeAscii(decimal.toBigDecimal().toPlainString());
+                return;
+            }
+            long unscaled = decimal.toUnscaledLong();
+            int scale = decimal.scale();
+            if (scale == 0) {
+                writeLong(unscaled);
+                return;
+            }
+            if (unscaled < 0) {
+                write((byte) '-');
+                unscaled = -unscaled;
+            }
+            long factor = POWERS_OF_TEN[scale];
+            writeLong(unscaled / factor);
+            write((byte) '.');
+            writePadded(unscaled % factor, scale);
+        }
+
+        void writeQuoted(StringData string) {
+            if (string instanceof BinaryStringData) {
+                BinaryStringData binaryString = (BinaryStringData) string;
+                MemorySegment[] segments = binaryString.getSegments();
+                if (segments.length == 1) {
+                    writeQuoted(
+                            segments[0], binaryString.getOffset(), binaryString.getSizeInBytes());
+                    return;
+                }
+            }
+            writeQuoted(string.toBytes());
+        }
+
+        void writeQuoted(byte[] utf8) {
+            writeQuoted(MemorySegmentFactory.wrap(utf8), 0, utf8.length);
+        }
+
+        /**
+         * Writes the UTF-8 bytes as a JSON string. Only ASCII characters are escaped, the bytes of
+         * a multi-byte character are never below 0x80, so they are copied as they are.
+         */
+        private void writeQuoted(MemorySegment segment, int offset, int length) {
+            ensureCapacity(length + 2);
+            bytes[size++] = '"';
+            for (int i = 0; i < length; i++) {
+                byte b = segment.get(offset + i);
+                if ((b >= 0x20 || b < 0) && b != '"' && b != '\\') {
+                    bytes[size++] = b;
+                    continue;
+                }
+                // the escaped sequence takes at most 6 bytes, and the closing quote 1 byte
+                ensureCapacity(length - i + 7);
+                bytes[size++] = '\\';
+                switch (b) {
+                    case '"':
+                    case '\\':
+                        bytes[size++] = b;
+                        break;
+                    case '\n':
+                        bytes[size++] = 'n';
+                        break;
+                    case '\r':
+                        bytes[size++] = 'r';
+                        break;
+                    case '\t':
+                        bytes[size++] = 't';
+                        break;
+                    case '\b':
+                        bytes[size++] = 'b';
+                        break;
+                    case '\f':
+                        bytes[size++] = 'f';
+                        break;
+                    default:
+                        bytes[size++] = 'u';
+                        bytes[size++] = '0';
+                        bytes[size++] = '0';
+                        bytes[size++] = HEX_DIGITS[b >> 4];
+                        bytes[size++] = HEX_DIGITS[b & 0xF];
+                }
+            }
+            write((byte) '"');
+        }
+
+        /** Writes the date of the days since epoch in the format of yyyy-MM-dd. */
+        void writeDate(long epochDay) {
+            // the civil-from-days algorithm of the proleptic Gregorian calendar
+            long z = epochDay + 719468;
+            long era = Math.floorDiv(z, 146097);
+            long dayOfEra = z - era * 146097;
+            long yearOfEra =
+                    (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            long shiftedMonth = (5 * dayOfYear + 2) / 153;
+            long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+            long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+            long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+            if (year >= 0 && year <= 9999) {
+                writePadded(year, 4);
+            } else {
+                writeLong(year);
+            }
+            write((byte) '-');
+            writePadded(month, 2);
+            write((byte) '-');
+            writePadded(day, 2);
+        }
+
+        /** Writes the local date time of the millis since epoch as yyyy-MM-dd HH:mm:ss. */
+        void writeQuotedDateTime(long localMillis) {
+            long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+            long secondOfDay = Math.floorMod(localMillis, MILLIS_PER_DAY) / 1000;
+            write((byte) '"');
+            writeDate(epochDay);
+            write((byte) ' ');
+            writePadded(secondOfDay / 3600, 2);
+            write((byte) ':');
+            writePadded(secondOfDay / 60 % 60, 2);
+            write((byte) ':');
+            writePadded(secondOfDay % 60, 2);
+            write((byte) '"');
+        }
+
+        private void writePadded(long value, int width) {
+            ensureCapacity(width);
+            for (int pos = size + width - 1; pos >= size; pos--) {
+                bytes[pos] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            size += width;
+        }
+
+        private void writeAscii(String value) {
+            int length = value.length();
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                bytes[size++] = (byte) value.charAt(i);
+            }
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververical.cdc.connectors.starrocks.sink;
+
+import com.ververica.cdc.common.data.DecimalData;
+import com.ververica.cdc.common.data.LocalZonedTimestampData;
+import com.ververica.cdc.common.data.TimestampData;
+import com.ververica.cdc.common.data.binary.BinaryStringData;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.common.types.DataTypes;
+import com.ververica.cdc.connectors.starrocks.sink.JsonRecordWriter;
+import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.assertEquals;
+
+/** Tests for {@link JsonRecordWriter}. */
+public class JsonRecordWriterTest {
+
+    private final JsonRecordWriter.Utf8Buffer buffer = new JsonRecordWriter.Utf8Buffer(4);
+
+    @Test
+    public void testWriteNumbersAndNulls() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.BIGINT().notNull())
+                        .physicalColumn("tiny", DataTypes.TINYINT())
+                        .physicalColumn("small", DataTypes.SMALLINT())
+                        .physicalColumn("int", DataTypes.INT())
+                        .physicalColumn("float", DataTypes.FLOAT())
+                        .physicalColumn("double", DataTypes.DOUBLE())
+                        .physicalColumn("flag", DataTypes.BOOLEAN())
+                        .physicalColumn("price", DataTypes.DECIMAL(10, 3))
+                        .physicalColumn("amount", DataTypes.DECIMAL(30, 2))
+                        .primaryKey("id")
+                        .build();
+        JsonRecordWriter writer = new JsonRecordWriter(schema, ZoneId.of("UTC"));
+
+        assertEquals(
+                "{\"id\":-9223372036854775808,\"tiny\":-8,\"small\":300,\"int\":0,"
+                        + "\"float\":3.4,\"double\":-1.0E-5,\"flag\":true,\"price\":-0.005,"
+                        + "\"amount\":12345678901234567890.12,\"__op\":0}",
+                write(
+                        writer,
+                        schema,
+                        false,
+                        Long.MIN_VALUE,
+                        (byte) -8,
+                        (short) 300,
+                        0,
+                        3.4f,
+                        -0.00001d,
+                        true,
+                        DecimalData.fromBigDecimal(new BigDecimal("-0.005"), 10, 3),
+                        DecimalData.fromBigDecimal(
+                                new BigDecimal("12345678901234567890.12"), 30, 2)));
+        assertEquals(
+                "{\"id\":42,\"tiny\":null,\"small\":null,\"int\":null,\"float\":null,"
+                        + "\"double\":null,\"flag\":null,\"price\":1234567.890,\"amount\":null,"
+                        + "\"__op\":1}",
+                write(
+                        writer,
+                        schema,
+                        true,
+                        42L,
+                        null,
+                        null,
+                        null,
+                        Float.NaN,
+                        null,
+                        null,
+                        DecimalData.fromBigDecimal(new BigDecimal("1234567.89"), 10, 3),
+                        null));
+    }
+
+    @Test
+    public void testWriteEscapedStrings() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT().notNull())
+                        .physicalColumn("na\"me", DataTypes.STRING())
+                        .physicalColumn("code", DataTypes.CHAR(4))
+                        .primaryKey("id")
+                        .build();
+        JsonRecordWriter writer = new JsonRecordWriter(schema, ZoneId.of("UTC"));
+
+        assertEquals(
+                "{\"id\":1,\"na\\\"me\":\"a\\\"b\\\\c\\nd\\te\\u0001 \u4E2D\uD83D\uDE00\","
+                        + "\"code\":\"x\",\"__op\":0}",
+                write(
+                        writer,
+                        schema,
+                        false,
+                        1,
+                        BinaryStringData.fromString("a\"b\\c\nd\te\u0001 \u4E2D\uD83D\uDE00"),
+                        BinaryStringData.fromString("x")));
+    }
+
+    @Test
+    public void testWriteDatesAndTimestamps() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("date", DataTypes.DATE())
+                        .physicalColumn("ts", DataTypes.TIMESTAMP(6))
+                        .physicalColumn("ltz", DataTypes.TIMESTAMP_LTZ(3))
+                        .build();
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 3, 26, 2, 30, 15, 123_456_000);
+        Object[] fields =
+                new Object[] {
+                    (int) LocalDate.of(1969, 12, 31).toEpochDay(),
+                    TimestampData.fromLocalDateTime(localDateTime),
+                    LocalZonedTimestampData.fromInstant(
+                            localDateTime.toInstant(ZoneOffset.UTC))
+                };
+
+        assertEquals(
+                "{\"date\":\"1969-12-31\",\"ts\":\"2023-03-26 02:30:15\","
+                        + "\"ltz\":\"2023-03-26 10:30:15\",\"__op\":0}",
+                write(
+                        new JsonRecordWriter(schema, ZoneId.of("+08:00")),
+                        schema,
+                        false,
+                        fields));
+        // daylight saving time starts at 2023-03-26 01:00:00 UTC in Europe
+        assertEquals(
+                "{\"date\":\"1969-12-31\",\"ts\":\"2023-03-26 02:30:15\","
+                        + "\"ltz\":\"2023-03-26 04:30:15\",\"__op\":0}",
+                write(
+                        new JsonRecordWriter(schema, ZoneId.of("Europe/Berlin")),
+                        schema,
+                        false,
+                        fields));
+    }
+
+    private String write(
+            JsonRecordWriter writer, Schema schema, boolean isDelete, Object... fields) {
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(
+                        schema.getColumnDataTypes().toArray(new DataType[0]));
+        return writer.write(generator.generate(fields), isDelete, buffer);
+    }
+}
@@ -16,6 +16,10 @@
 
 package com.ververica.cdc.connectors.values.source;
 
+import com.ververica.cdc.common.data.DecimalData;
+import com.ververica.cdc.common.data.LocalZonedTimestampData;
+import com.ververica.cdc.common.data.TimestampData;
+import com.ververica.cdc.common.data.binary.BinaryRecordData;
 import com.ververica.cdc.common.data.binary.BinaryStringData;
 import com.ververica.cdc.common.event.AddColumnEvent;
 import com.ververica.cdc.common.event.CreateTableEvent;
@@ -27,15 +31,19 @@ import com.ververica.cdc.common.event.SchemaChangeEvent;
 import com.ververica.cdc.common.event.TableId;
 import com.ververica.cdc.common.schema.Column;
 import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.common.types.DataTypeChecks;
 import com.ververica.cdc.common.types.DataTypes;
 import com.ververica.cdc.common.types.RowType;
 import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * A helper class for {@link ValuesDataSource} to build events of each split.
@@ -60,6 +68,9 @@ public class ValuesDataSourceHelper {
     public static final TableId TABLE_2 =
             TableId.tableId("default_namespace", "default_schema", "table2");
 
+    /** The base of the synthetic timestamps, 2023-01-01T00:00:00Z. */
+    private static final long SYNTHETIC_EPOCH_MILLIS = 1_672_531_200_000L;
+
     /**
      * create events of {@link DataChangeEvent} and {@link SchemaChangeEvent} for {@link
      * ValuesDataSource}.
@@ -488,4 +499,81 @@ public class ValuesDataSourceHelper {
 
         return eventOfSplits;
     }
+
+    /**
+     * Creates a split of synthetic events of the table, which starts with the {@link
+     * CreateTableEvent} of the schema and is followed by {@code recordCount} data change events.
+     * Every fourth event updates the row inserted before it, the others are inserts. The values are
+     * drawn from a {@link Random} with the given seed, so the same arguments always create the same
+     * events.
+     */
+    public static List<Event> syntheticSplit(
+            TableId tableId, Schema schema, int recordCount, long seed) {
+        List<Event> split = new ArrayList<>(recordCount + 1);
+        split.add(new CreateTableEvent(tableId, schema));
+
+        List<DataType> types = schema.getColumnDataTypes();
+        BinaryRecordDataGenerator generator =
+                new BinaryRecordDataGenerator(types.toArray(new DataType[0]));
+        Random random = new Random(seed);
+        BinaryRecordData lastRecord = null;
+        for (int i = 0; i < recordCount; i++) {
+            Object[] fields = new Object[types.size()];
+            for (int j = 0; j < fields.length; j++) {
+                fields[j] = syntheticValue(types.get(j), random);
+            }
+            BinaryRecordData record = generator.generate(fields);
+            if (i % 4 == 3) {
+                split.add(DataChangeEvent.updateEvent(tableId, lastRecord, record));
+            } else {
+                split.add(DataChangeEvent.insertEvent(tableId, record));
+            }
+            lastRecord = record;
+        }
+        return split;
+    }
+
+    private static Object syntheticValue(DataType type, Random random) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return random.nextBoolean();
+            case TINYINT:
+                return (byte) random.nextInt();
+            case SMALLINT:
+                return (short) random.nextInt();
+            case INTEGER:
+                return random.nextInt();
+            case DATE:
+                // days since epoch, between 1970 and 2024
+                return random.nextInt(20_000);
+            case BIGINT:
+                return random.nextLong();
+            case FLOAT:
+                return random.nextFloat();
+            case DOUBLE:
+                return random.nextDouble();
+            case DECIMAL:
+                int scale = DataTypeChecks.getScale(type);
+                return DecimalData.fromBigDecimal(
+                        BigDecimal.valueOf(random.nextInt(1_000_000), scale),
+                        DataTypeChecks.getPrecision(type),
+                        scale);
+            case CHAR:
+            case VARCHAR:
+                int length = Math.min(8 + random.nextInt(24), DataTypeChecks.getLength(type));
+                char[] chars = new char[length];
+                for (int i = 0; i < length; i++) {
+                    chars[i] = (char) ('a' + random.nextInt(26));
+                }
+                return BinaryStringData.fromString(new String(chars));
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return TimestampData.fromMillis(SYNTHETIC_EPOCH_MILLIS + random.nextInt());
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return LocalZonedTimestampData.fromEpochMillis(
+                        SYNTHETIC_EPOCH_MILLIS + random.nextInt());
+            default:
+                throw new IllegalArgumentException(
+                        "Synthetic values of type " + type + " are not supported.");
+        }
+    }
 }
@@ -35,6 +35,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
     protected final boolean includeSchemaChanges;
     protected final boolean closeIdleReaders;
     protected final boolean skipSnapshotBackfill;
+    protected final int chunkFetchConcurrency;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -51,6 +52,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
             boolean includeSchemaChanges,
             boolean closeIdleReaders,
             boolean skipSnapshotBackfill,
+            int chunkFetchConcurrency,
             Properties dbzProperties,
             Configuration dbzConfiguration) {
         this.startupOptions = startupOptions;
@@ -61,6 +63,7 @@ public abstract class BaseSourceConfig implements SourceConfig {
         this.includeSchemaChanges = includeSchemaChanges;
         this.closeIdleReaders = closeIdleReaders;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
         this.dbzProperties = dbzProperties;
         this.dbzConfiguration = dbzConfiguration;
     }
@@ -110,4 +113,9 @@ public abstract class BaseSourceConfig implements SourceConfig {
     public boolean isSkipSnapshotBackfill() {
         return skipSnapshotBackfill;
     }
+
+    @Override
+    public int getChunkFetchConcurrency() {
+        return chunkFetchConcurrency;
+    }
 }
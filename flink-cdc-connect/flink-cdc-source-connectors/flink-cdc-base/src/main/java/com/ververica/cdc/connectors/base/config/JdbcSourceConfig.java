@@ -69,7 +69,8 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             int connectMaxRetries,
             int connectionPoolSize,
             String chunkKeyColumn,
-            boolean skipSnapshotBackfill) {
+            boolean skipSnapshotBackfill,
+            int chunkFetchConcurrency) {
         super(
                 startupOptions,
                 splitSize,
@@ -79,6 +80,7 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
                 includeSchemaChanges,
                 closeIdleReaders,
                 skipSnapshotBackfill,
+                chunkFetchConcurrency,
                 dbzProperties,
                 dbzConfiguration);
         this.driverClassName = driverClassName;
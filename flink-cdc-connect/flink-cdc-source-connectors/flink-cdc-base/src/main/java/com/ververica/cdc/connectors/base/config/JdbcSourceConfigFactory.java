@@ -57,6 +57,8 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
     protected String chunkKeyColumn;
     protected boolean skipSnapshotBackfill =
             JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue();
+    protected int chunkFetchConcurrency =
+            JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue();
 
     /** Integer port number of the database server. */
     public JdbcSourceConfigFactory hostname(String hostname) {
@@ -241,6 +243,16 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
         this.skipSnapshotBackfill = skipSnapshotBackfill;
     }
 
+    /**
+     * The number of snapshot chunks fetched concurrently by each source reader, each concurrent
+     * fetch uses its own database connection. The fetched chunks are emitted in the order they
+     * were assigned to the reader.
+     */
+    public JdbcSourceConfigFactory chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
+        return this;
+    }
+
     @Override
     public abstract JdbcSourceConfig create(int subtask);
 }
@@ -71,6 +71,16 @@ public interface DataSourceDialect<C extends SourceConfig>
     /** The task context used for fetch task to fetch data from external systems. */
     FetchTask.Context createFetchTaskContext(SourceSplitBase sourceSplitBase, C sourceConfig);
 
+    /**
+     * The task context used by one of the snapshot split fetchers which run concurrently in a
+     * reader. The dialects which hold resources named after the subtask in a fetch task context
+     * should make them distinct by the index of the fetcher.
+     */
+    default FetchTask.Context createFetchTaskContext(
+            SourceSplitBase sourceSplitBase, C sourceConfig, int fetcherIndex) {
+        return createFetchTaskContext(sourceSplitBase, sourceConfig);
+    }
+
     /**
      * We have an empty default implementation here because most dialects do not have to implement
      * the method.
@@ -129,4 +129,12 @@ public class SourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to skip backfill in snapshot reading phase. If backfill is skipped, changes on captured tables during snapshot phase will be consumed later in binlog reading phase instead of being merged into the snapshot.WARNING: Skipping backfill might lead to data inconsistency because some binlog events happened within the snapshot phase might be replayed (only at-least-once semantic is promised). For example updating an already updated value in snapshot, or deleting an already deleted entry in snapshot. These replayed binlog events should be handled specially.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.fetch-concurrency")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot chunks (splits) fetched concurrently by each source reader. Every concurrent fetch uses its own database connection, and the fetched chunks are still emitted one by one in the order they were assigned to the reader. Increasing it speeds up the snapshot phase when the database has spare capacity, at the cost of more connections and buffering up to that number of chunks in memory.");
 }
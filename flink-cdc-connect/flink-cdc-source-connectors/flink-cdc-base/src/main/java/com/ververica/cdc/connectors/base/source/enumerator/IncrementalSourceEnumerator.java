@@ -45,7 +45,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeSet;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -62,8 +62,10 @@ public class IncrementalSourceEnumerator
     private final SourceConfig sourceConfig;
     private final SplitAssigner splitAssigner;
 
-    // using TreeSet to prefer assigning stream split to task-0 for easier debug
-    private final TreeSet<Integer> readersAwaitingSplit;
+    // using TreeMap to prefer assigning stream split to task-0 for easier debug, the values are
+    // the numbers of requested splits, as a reader fetching snapshot splits concurrently requests
+    // several of them
+    private final TreeMap<Integer, Integer> readersAwaitingSplit;
     private List<List<FinishedSnapshotSplitInfo>> finishedSnapshotSplitMeta;
 
     public IncrementalSourceEnumerator(
@@ -73,7 +75,7 @@ public class IncrementalSourceEnumerator
         this.context = context;
         this.sourceConfig = sourceConfig;
         this.splitAssigner = splitAssigner;
-        this.readersAwaitingSplit = new TreeSet<>();
+        this.readersAwaitingSplit = new TreeMap<>();
     }
 
     @Override
@@ -93,7 +95,7 @@ public class IncrementalSourceEnumerator
             return;
         }
 
-        readersAwaitingSplit.add(subtaskId);
+        readersAwaitingSplit.merge(subtaskId, 1, Integer::sum);
         assignSplits();
     }
 
@@ -152,10 +154,12 @@ public class IncrementalSourceEnumerator
     // ------------------------------------------------------------------------------------------
 
     private void assignSplits() {
-        final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
+        final Iterator<Map.Entry<Integer, Integer>> awaitingReader =
+                readersAwaitingSplit.entrySet().iterator();
 
         while (awaitingReader.hasNext()) {
-            int nextAwaiting = awaitingReader.next();
+            Map.Entry<Integer, Integer> nextAwaitingRequests = awaitingReader.next();
+            int nextAwaiting = nextAwaitingRequests.getKey();
             // if the reader that requested another split has failed in the meantime, remove
             // it from the list of waiting readers
             if (!context.registeredReaders().containsKey(nextAwaiting)) {
@@ -171,13 +175,23 @@ public class IncrementalSourceEnumerator
                 continue;
             }
 
-            Optional<SourceSplitBase> split = splitAssigner.getNext();
-            if (split.isPresent()) {
+            int requestedSplits = nextAwaitingRequests.getValue();
+            while (requestedSplits > 0) {
+                Optional<SourceSplitBase> split = splitAssigner.getNext();
+                if (!split.isPresent()) {
+                    break;
+                }
                 final SourceSplitBase sourceSplit = split.get();
                 context.assignSplit(sourceSplit, nextAwaiting);
-                awaitingReader.remove();
+                // the reader only reads the stream split once it's assigned
+                requestedSplits = sourceSplit.isStreamSplit() ? 0 : requestedSplits - 1;
                 LOG.info("Assign split {} to subtask {}", sourceSplit, nextAwaiting);
+            }
+
+            if (requestedSplits == 0) {
+                awaitingReader.remove();
             } else {
+                nextAwaitingRequests.setValue(requestedSplits);
                 // there is no available splits by now, skip assigning
                 break;
             }
@@ -23,6 +23,7 @@ import org.apache.flink.util.FlinkRuntimeException;
 import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.ververica.cdc.connectors.base.source.meta.split.FinishedSnapshotSplitInfo;
+import com.ververica.cdc.debezium.utils.SplitBoundarySerializer;
 import io.debezium.relational.TableId;
 
 import java.io.IOException;
@@ -30,7 +31,6 @@ import java.io.Serializable;
 import java.util.Map;
 
 import static com.ververica.cdc.connectors.base.utils.SerializerUtils.serializedStringToObject;
-import static com.ververica.cdc.connectors.base.utils.SerializerUtils.serializedStringToRow;
 
 /** read {@link Offset} from input stream and write {@link Offset} to output stream. */
 public interface OffsetDeserializerSerializer extends Serializable {
@@ -48,6 +48,7 @@ public interface OffsetDeserializerSerializer extends Serializable {
             case 2:
             case 3:
             case 4:
+            case 5:
                 return readOffsetPosition(in);
             default:
                 throw new IOException("Unknown version: " + offsetVersion);
@@ -85,8 +86,8 @@ public interface OffsetDeserializerSerializer extends Serializable {
             final DataInputDeserializer in = new DataInputDeserializer(serialized);
             String tableIdStr = in.readUTF();
             String splitId = in.readUTF();
-            Object[] splitStart = serializedStringToRow(in.readUTF());
-            Object[] splitEnd = serializedStringToRow(in.readUTF());
+            Object[] splitStart = SplitBoundarySerializer.readSplitBoundary(in);
+            Object[] splitEnd = SplitBoundarySerializer.readSplitBoundary(in);
             OffsetFactory offsetFactory = (OffsetFactory) serializedStringToObject(in.readUTF());
             Offset highWatermark = readOffsetPosition(in);
             boolean useCatalogBeforeSchema = true;
@@ -23,6 +23,7 @@ import com.ververica.cdc.connectors.base.source.meta.offset.Offset;
 import com.ververica.cdc.connectors.base.source.meta.offset.OffsetDeserializerSerializer;
 import com.ververica.cdc.connectors.base.source.meta.offset.OffsetFactory;
 import com.ververica.cdc.connectors.base.utils.SerializerUtils;
+import com.ververica.cdc.debezium.utils.SplitBoundarySerializer;
 import io.debezium.relational.TableId;
 
 import java.io.IOException;
@@ -139,8 +140,8 @@ public class FinishedSnapshotSplitInfo implements OffsetDeserializerSerializer {
     public byte[] serialize(final DataOutputSerializer out) throws IOException {
         out.writeUTF(this.getTableId().toString());
         out.writeUTF(this.getSplitId());
-        out.writeUTF(SerializerUtils.rowToSerializedString(this.getSplitStart()));
-        out.writeUTF(SerializerUtils.rowToSerializedString(this.getSplitEnd()));
+        SplitBoundarySerializer.writeSplitBoundary(this.getSplitStart(), out);
+        SplitBoundarySerializer.writeSplitBoundary(this.getSplitEnd(), out);
         out.writeUTF(SerializerUtils.rowToSerializedString(this.offsetFactory));
         writeOffsetPosition(this.getHighWatermark(), out);
         boolean useCatalogBeforeSchema =
@@ -27,6 +27,7 @@ import com.ververica.cdc.connectors.base.source.meta.offset.OffsetDeserializerSe
 import com.ververica.cdc.connectors.base.source.meta.offset.OffsetFactory;
 import com.ververica.cdc.connectors.base.utils.SerializerUtils;
 import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import com.ververica.cdc.debezium.utils.SplitBoundarySerializer;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
 import io.debezium.document.DocumentWriter;
@@ -44,7 +45,7 @@ import java.util.Map;
 public abstract class SourceSplitSerializer
         implements SimpleVersionedSerializer<SourceSplitBase>, OffsetDeserializerSerializer {
 
-    private static final int VERSION = 4;
+    private static final int VERSION = 5;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -76,9 +77,9 @@ public abstract class SourceSplitSerializer
 
             final Object[] splitStart = snapshotSplit.getSplitStart();
             final Object[] splitEnd = snapshotSplit.getSplitEnd();
-            // rowToSerializedString deals null case
-            out.writeUTF(SerializerUtils.rowToSerializedString(splitStart));
-            out.writeUTF(SerializerUtils.rowToSerializedString(splitEnd));
+            // writeSplitBoundary deals null case
+            SplitBoundarySerializer.writeSplitBoundary(splitStart, out);
+            SplitBoundarySerializer.writeSplitBoundary(splitEnd, out);
             writeOffsetPosition(snapshotSplit.getHighWatermark(), out);
             writeTableSchemas(snapshotSplit.getTableSchemas(), out);
             final byte[] result = out.getCopyOfBuffer();
@@ -118,6 +119,7 @@ public abstract class SourceSplitSerializer
             case 2:
             case 3:
             case 4:
+            case 5:
                 return deserializeSplit(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -136,8 +138,8 @@ public abstract class SourceSplitSerializer
             TableId tableId = TableId.parse(in.readUTF(), useCatalogBeforeSchema);
             String splitId = in.readUTF();
             RowType splitKeyType = (RowType) LogicalTypeParser.parse(in.readUTF());
-            Object[] splitBoundaryStart = SerializerUtils.serializedStringToRow(in.readUTF());
-            Object[] splitBoundaryEnd = SerializerUtils.serializedStringToRow(in.readUTF());
+            Object[] splitBoundaryStart = readSplitBoundary(version, in);
+            Object[] splitBoundaryEnd = readSplitBoundary(version, in);
             Offset highWatermark = readOffsetPosition(version, in);
             Map<TableId, TableChange> tableSchemas = readTableSchemas(version, in);
 
@@ -210,6 +212,7 @@ public abstract class SourceSplitSerializer
                 case 2:
                 case 3:
                 case 4:
+                case 5:
                     final int len = in.readInt();
                     final byte[] bytes = new byte[len];
                     in.read(bytes);
@@ -242,8 +245,8 @@ public abstract class SourceSplitSerializer
         for (int i = 0; i < size; i++) {
             String tableIdStr = in.readUTF();
             String splitId = in.readUTF();
-            Object[] splitStart = SerializerUtils.serializedStringToRow(in.readUTF());
-            Object[] splitEnd = SerializerUtils.serializedStringToRow(in.readUTF());
+            Object[] splitStart = readSplitBoundary(version, in);
+            Object[] splitEnd = readSplitBoundary(version, in);
             OffsetFactory offsetFactory =
                     (OffsetFactory) SerializerUtils.serializedStringToObject(in.readUTF());
             Offset highWatermark = readOffsetPosition(version, in);
@@ -259,4 +262,13 @@ public abstract class SourceSplitSerializer
         }
         return finishedSplitsInfo;
     }
+
+    private static Object[] readSplitBoundary(int version, DataInputDeserializer in)
+            throws IOException {
+        if (version >= 5) {
+            return SplitBoundarySerializer.readSplitBoundary(in);
+        }
+        // the split boundaries were written as hex strings of Java serialization before version 5
+        return SerializerUtils.serializedStringToRow(in.readUTF());
+    }
 }
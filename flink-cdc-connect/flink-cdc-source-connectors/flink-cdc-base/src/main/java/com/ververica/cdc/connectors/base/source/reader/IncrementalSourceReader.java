@@ -105,7 +105,11 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
     @Override
     public void start() {
         if (getNumberOfCurrentlyAssignedSplits() == 0) {
-            context.sendSplitRequest();
+            // one request per snapshot split fetched concurrently by the split reader, each of
+            // them is renewed when its split is finished
+            for (int i = 0; i < sourceConfig.getChunkFetchConcurrency(); i++) {
+                context.sendSplitRequest();
+            }
         }
     }
 
@@ -20,6 +20,9 @@ import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import com.ververica.cdc.common.annotation.Experimental;
 import com.ververica.cdc.common.annotation.VisibleForTesting;
@@ -44,8 +47,20 @@ import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-/** Basic class read {@link SourceSplitBase} and return {@link SourceRecord}. */
+/**
+ * Basic class read {@link SourceSplitBase} and return {@link SourceRecord}.
+ *
+ * <p>If the chunk fetch concurrency of the source is greater than 1, up to that number of snapshot
+ * splits are fetched at the same time, each by its own {@link IncrementalSourceScanFetcher} with a
+ * separate task context and connection. The records of the snapshot splits are still emitted one
+ * split after another in the order the splits were added to the reader, so the watermark and
+ * backfill semantics of each split are kept.
+ */
 @Experimental
 public class IncrementalSourceSplitReader<C extends SourceConfig>
         implements SplitReader<SourceRecords, SourceSplitBase> {
@@ -61,6 +76,13 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
 
     private final SnapshotPhaseHooks snapshotHooks;
 
+    private final int chunkFetchConcurrency;
+    // the snapshot splits being fetched concurrently, in the order of emitting
+    private final Queue<SnapshotSplitFetch> snapshotSplitFetches;
+    private final Queue<IncrementalSourceScanFetcher> idleScanFetchers;
+    private int scanFetcherCount;
+    @Nullable private ExecutorService snapshotFetchExecutor;
+
     public IncrementalSourceSplitReader(
             int subtaskId,
             DataSourceDialect<C> dataSourceDialect,
@@ -71,10 +93,16 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
         this.snapshotHooks = snapshotHooks;
+        this.chunkFetchConcurrency = sourceConfig.getChunkFetchConcurrency();
+        this.snapshotSplitFetches = new ArrayDeque<>();
+        this.idleScanFetchers = new ArrayDeque<>();
     }
 
     @Override
     public RecordsWithSplitIds<SourceRecords> fetch() throws IOException {
+        if (isFetchingSnapshotSplitsConcurrently()) {
+            return fetchSnapshotSplitsConcurrently();
+        }
         checkSplitOrStartNext();
         Iterator<SourceRecords> dataIt = null;
         try {
@@ -111,6 +139,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             currentFetcher.close();
             currentSplitId = null;
         }
+        closeConcurrentScanFetchers();
     }
 
     protected void checkSplitOrStartNext() throws IOException {
@@ -140,6 +169,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
                     LOG.info("It's turn to read stream split, close current snapshot fetcher.");
                     currentFetcher.close();
                 }
+                closeConcurrentScanFetchers();
                 final FetchTask.Context taskContext =
                         dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
                 currentFetcher = new IncrementalSourceStreamFetcher(taskContext, subtaskId);
@@ -160,4 +190,137 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
         currentSplitId = null;
         return finishedRecords;
     }
+
+    // --------------------------------------------------------------------------------------------
+    // Concurrent snapshot split fetching
+    // --------------------------------------------------------------------------------------------
+
+    private boolean isFetchingSnapshotSplitsConcurrently() {
+        if (chunkFetchConcurrency <= 1
+                || currentFetcher instanceof IncrementalSourceStreamFetcher) {
+            return false;
+        }
+        SourceSplitBase nextSplit = splits.peek();
+        return !snapshotSplitFetches.isEmpty()
+                || (nextSplit != null && nextSplit.isSnapshotSplit());
+    }
+
+    private ChangeEventRecords fetchSnapshotSplitsConcurrently() throws IOException {
+        submitSnapshotSplitFetches();
+        SnapshotSplitFetch headFetch = snapshotSplitFetches.peek();
+        Iterator<SourceRecords> dataIt = null;
+        if (!headFetch.emitted) {
+            dataIt = headFetch.awaitRecords();
+            headFetch.emitted = true;
+        }
+        if (dataIt != null) {
+            return ChangeEventRecords.forRecords(headFetch.splitId, dataIt);
+        }
+        // the records of the split have been emitted, finish it and fetch the next split
+        snapshotSplitFetches.poll();
+        idleScanFetchers.add(headFetch.fetcher);
+        submitSnapshotSplitFetches();
+        return ChangeEventRecords.forFinishedSplit(headFetch.splitId);
+    }
+
+    private void submitSnapshotSplitFetches() {
+        while (snapshotSplitFetches.size() < chunkFetchConcurrency
+                && splits.peek() != null
+                && splits.peek().isSnapshotSplit()) {
+            SourceSplitBase nextSplit = splits.poll();
+            IncrementalSourceScanFetcher fetcher = idleScanFetchers.poll();
+            if (fetcher == null) {
+                FetchTask.Context taskContext =
+                        dataSourceDialect.createFetchTaskContext(
+                                nextSplit, sourceConfig, scanFetcherCount++);
+                fetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+            }
+            FetchTask<SourceSplitBase> fetchTask = dataSourceDialect.createFetchTask(nextSplit);
+            ((AbstractScanFetchTask) fetchTask).setSnapshotPhaseHooks(snapshotHooks);
+            fetcher.submitTask(fetchTask);
+
+            // normalize the records of the split in the background, as the fetch task blocks
+            // once its queue is full
+            final IncrementalSourceScanFetcher splitFetcher = fetcher;
+            final String splitId = nextSplit.splitId();
+            CompletableFuture<Iterator<SourceRecords>> records =
+                    CompletableFuture.supplyAsync(
+                            () -> pollSnapshotSplitRecords(splitFetcher, splitId),
+                            getSnapshotFetchExecutor());
+            snapshotSplitFetches.add(new SnapshotSplitFetch(splitId, fetcher, records));
+        }
+    }
+
+    private static Iterator<SourceRecords> pollSnapshotSplitRecords(
+            IncrementalSourceScanFetcher fetcher, String splitId) {
+        try {
+            return fetcher.pollSplitRecords();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlinkRuntimeException(
+                    String.format("Interrupted while fetching snapshot split %s.", splitId), e);
+        }
+    }
+
+    private ExecutorService getSnapshotFetchExecutor() {
+        if (snapshotFetchExecutor == null) {
+            snapshotFetchExecutor =
+                    Executors.newFixedThreadPool(
+                            chunkFetchConcurrency,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("snapshot-split-fetcher-" + subtaskId + "-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+        return snapshotFetchExecutor;
+    }
+
+    private void closeConcurrentScanFetchers() {
+        if (snapshotFetchExecutor != null) {
+            // interrupt the fetches which are still waiting for records
+            snapshotFetchExecutor.shutdownNow();
+            snapshotFetchExecutor = null;
+        }
+        for (SnapshotSplitFetch fetch : snapshotSplitFetches) {
+            fetch.fetcher.close();
+        }
+        snapshotSplitFetches.clear();
+        for (IncrementalSourceScanFetcher fetcher : idleScanFetchers) {
+            fetcher.close();
+        }
+        idleScanFetchers.clear();
+    }
+
+    /** A snapshot split which is fetched concurrently with other snapshot splits. */
+    private static class SnapshotSplitFetch {
+
+        private final String splitId;
+        private final IncrementalSourceScanFetcher fetcher;
+        private final CompletableFuture<Iterator<SourceRecords>> records;
+        private boolean emitted;
+
+        private SnapshotSplitFetch(
+                String splitId,
+                IncrementalSourceScanFetcher fetcher,
+                CompletableFuture<Iterator<SourceRecords>> records) {
+            this.splitId = splitId;
+            this.fetcher = fetcher;
+            this.records = records;
+        }
+
+        @Nullable
+        private Iterator<SourceRecords> awaitRecords() throws IOException {
+            try {
+                return records.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+    }
 }
@@ -28,6 +28,8 @@ import io.debezium.relational.Tables;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
+import javax.annotation.Nullable;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +66,18 @@ public interface FetchTask<Split> {
 
         boolean isRecordBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd);
 
+        /**
+         * Returns the split key of the data change record, which is compared with the split
+         * boundaries like {@link
+         * com.ververica.cdc.connectors.base.utils.SourceRecordUtils#splitKeyRangeContains}.
+         * Returns null if the split key can't be compared in that way, then {@link
+         * #isRecordBetween} is checked for every snapshot split of the table.
+         */
+        @Nullable
+        default Object[] getSplitKey(SourceRecord record) {
+            return null;
+        }
+
         void rewriteOutputBuffer(Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord);
 
         List<SourceRecord> formatMessageTimestamp(Collection<SourceRecord> snapshotRecords);
@@ -25,6 +25,7 @@ import com.ververica.cdc.connectors.base.source.meta.split.FinishedSnapshotSplit
 import com.ververica.cdc.connectors.base.source.meta.split.SourceRecords;
 import com.ververica.cdc.connectors.base.source.meta.split.SourceSplitBase;
 import com.ververica.cdc.connectors.base.source.meta.split.StreamSplit;
+import com.ververica.cdc.connectors.base.utils.SplitKeyRangeIndex;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.relational.TableId;
@@ -62,6 +63,8 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
     private FetchTask<SourceSplitBase> streamFetchTask;
     private StreamSplit currentStreamSplit;
     private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    // tableId -> the index of finished splits, built when the table receives the first record
+    private final Map<TableId, SplitKeyRangeIndex<FinishedSnapshotSplitInfo>> splitIndexes;
     // tableId -> the max splitHighWatermark
     private Map<TableId, Offset> maxSplitHighWatermarkMap;
 
@@ -74,6 +77,7 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.currentTaskRunning = true;
         this.pureStreamPhaseTables = new HashSet<>();
+        this.splitIndexes = new HashMap<>();
     }
 
     @Override
@@ -179,6 +183,14 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
             }
             // only the table who captured snapshot splits need to filter
             if (finishedSplitsInfo.containsKey(tableId)) {
+                Object[] splitKey = taskContext.getSplitKey(sourceRecord);
+                if (splitKey != null) {
+                    FinishedSnapshotSplitInfo splitInfo =
+                            splitIndexes
+                                    .computeIfAbsent(tableId, this::createSplitIndex)
+                                    .findSplit(splitKey);
+                    return splitInfo != null && position.isAfter(splitInfo.getHighWatermark());
+                }
                 for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
                     if (taskContext.isRecordBetween(
                                     sourceRecord,
@@ -197,6 +209,13 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         return true;
     }
 
+    private SplitKeyRangeIndex<FinishedSnapshotSplitInfo> createSplitIndex(TableId tableId) {
+        return new SplitKeyRangeIndex<>(
+                finishedSplitsInfo.get(tableId),
+                FinishedSnapshotSplitInfo::getSplitStart,
+                FinishedSnapshotSplitInfo::getSplitEnd);
+    }
+
     private boolean hasEnterPureStreamPhase(TableId tableId, Offset position) {
         if (pureStreamPhaseTables.contains(tableId)) {
             return true;
@@ -242,6 +261,7 @@ public class IncrementalSourceStreamFetcher implements Fetcher<SourceRecords, So
         this.finishedSplitsInfo = splitsInfoMap;
         this.maxSplitHighWatermarkMap = tableIdOffsetPositionMap;
         this.pureStreamPhaseTables.clear();
+        this.splitIndexes.clear();
     }
 
     public void stopReadTask() throws Exception {
@@ -69,9 +69,13 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
 
     @Override
     public boolean isRecordBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+        return SourceRecordUtils.splitKeyRangeContains(getSplitKey(record), splitStart, splitEnd);
+    }
+
+    @Override
+    public Object[] getSplitKey(SourceRecord record) {
         RowType splitKeyType = getSplitType(getDatabaseSchema().tableFor(this.getTableId(record)));
-        Object[] key = SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
-        return SourceRecordUtils.splitKeyRangeContains(key, splitStart, splitEnd);
+        return SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
     }
 
     @Override
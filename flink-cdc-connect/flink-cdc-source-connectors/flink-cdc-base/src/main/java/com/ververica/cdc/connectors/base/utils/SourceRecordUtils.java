@@ -169,7 +169,7 @@ public class SourceRecordUtils {
     }
 
     @SuppressWarnings("unchecked")
-    private static int compareObjects(Object o1, Object o2) {
+    public static int compareObjects(Object o1, Object o2) {
         if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
             return ((Comparable) o1).compareTo(o2);
         } else if (isNumericObject(o1) && isNumericObject(o2)) {
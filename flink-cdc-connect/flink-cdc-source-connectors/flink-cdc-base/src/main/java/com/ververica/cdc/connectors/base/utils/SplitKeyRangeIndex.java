@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.base.utils;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.ververica.cdc.connectors.base.utils.SourceRecordUtils.splitKeyRangeContains;
+
+/**
+ * An index over the finished snapshot splits of one table, which resolves the split containing a
+ * given split key by a binary search over the split boundaries.
+ *
+ * <p>The snapshot splits of a table never overlap, so the only split that may contain a key is
+ * the one with the greatest split start that is not after the key.
+ *
+ * @param <T> the type of the finished snapshot split info, which differs between the connectors
+ */
+public class SplitKeyRangeIndex<T> {
+
+    private final List<T> sortedSplits;
+    private final Function<T, Object[]> splitStartGetter;
+    private final Function<T, Object[]> splitEndGetter;
+
+    public SplitKeyRangeIndex(
+            List<T> finishedSplitInfos,
+            Function<T, Object[]> splitStartGetter,
+            Function<T, Object[]> splitEndGetter) {
+        this.sortedSplits = new ArrayList<>(finishedSplitInfos);
+        this.splitStartGetter = splitStartGetter;
+        this.splitEndGetter = splitEndGetter;
+        sortedSplits.sort(
+                (s1, s2) ->
+                        compareSplitStart(splitStartGetter.apply(s1), splitStartGetter.apply(s2)));
+    }
+
+    /** Returns the finished snapshot split that contains the given split key, or null if none. */
+    @Nullable
+    public T findSplit(Object[] splitKey) {
+        int low = 0;
+        int high = sortedSplits.size() - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Object[] splitStart = splitStartGetter.apply(sortedSplits.get(mid));
+            if (splitStart == null || compareSplitKey(splitKey, splitStart) >= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return null;
+        }
+        T splitInfo = sortedSplits.get(candidate);
+        Object[] splitStart = splitStartGetter.apply(splitInfo);
+        Object[] splitEnd = splitEndGetter.apply(splitInfo);
+        return splitKeyRangeContains(splitKey, splitStart, splitEnd) ? splitInfo : null;
+    }
+
+    public int size() {
+        return sortedSplits.size();
+    }
+
+    private static int compareSplitStart(Object[] start1, Object[] start2) {
+        // the first split starts from null which means the minimum value
+        if (start1 == null || start2 == null) {
+            return start1 == null ? (start2 == null ? 0 : -1) : 1;
+        }
+        return compareSplitKey(start1, start2);
+    }
+
+    private static int compareSplitKey(Object[] key1, Object[] key2) {
+        for (int i = 0; i < key1.length && i < key2.length; i++) {
+            int res = SourceRecordUtils.compareObjects(key1[i], key2[i]);
+            if (res != 0) {
+                return res;
+            }
+        }
+        return Integer.compare(key1.length, key2.length);
+    }
+}
@@ -18,6 +18,7 @@ package com.ververica.cdc.connectors.base.source.meta.split;
 
 import org.apache.flink.table.types.logical.BigIntType;
 import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.VarCharType;
 
 import com.ververica.cdc.connectors.base.source.meta.offset.Offset;
 import com.ververica.cdc.connectors.base.source.meta.offset.OffsetFactory;
@@ -25,10 +26,13 @@ import io.debezium.relational.TableId;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /** Tests for {@link SourceSplitSerializer}. */
@@ -48,43 +52,7 @@ public class SourceSplitSerializerTest {
                         null,
                         new HashMap<>());
 
-        SourceSplitSerializer sourceSplitSerializer =
-                new SourceSplitSerializer() {
-                    @Override
-                    public OffsetFactory getOffsetFactory() {
-                        return new OffsetFactory() {
-                            @Override
-                            public Offset newOffset(Map<String, String> offset) {
-                                return null;
-                            }
-
-                            @Override
-                            public Offset newOffset(String filename, Long position) {
-                                return null;
-                            }
-
-                            @Override
-                            public Offset newOffset(Long position) {
-                                return null;
-                            }
-
-                            @Override
-                            public Offset createTimestampOffset(long timestampMillis) {
-                                return null;
-                            }
-
-                            @Override
-                            public Offset createInitialOffset() {
-                                return null;
-                            }
-
-                            @Override
-                            public Offset createNoStoppingOffset() {
-                                return null;
-                            }
-                        };
-                    }
-                };
+        SourceSplitSerializer sourceSplitSerializer = createSourceSplitSerializer();
 
         SnapshotSplit snapshotSplitAfter =
                 (SnapshotSplit)
@@ -94,4 +62,69 @@ public class SourceSplitSerializerTest {
 
         assertEquals(snapshotSplitBefore.getTableId(), snapshotSplitAfter.getTableId());
     }
+
+    @Test
+    public void testSnapshotSplitBoundariesSerializeAndDeserialize() throws IOException {
+        SnapshotSplit snapshotSplitBefore =
+                new SnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        new RowType(
+                                Arrays.asList(
+                                        new RowType.RowField("id", new BigIntType()),
+                                        new RowType.RowField("name", new VarCharType()))),
+                        new Object[] {100L, "a"},
+                        new Object[] {new BigDecimal("200.50"), null},
+                        null,
+                        new HashMap<>());
+
+        SourceSplitSerializer sourceSplitSerializer = createSourceSplitSerializer();
+        SnapshotSplit snapshotSplitAfter =
+                (SnapshotSplit)
+                        sourceSplitSerializer.deserialize(
+                                sourceSplitSerializer.getVersion(),
+                                sourceSplitSerializer.serialize(snapshotSplitBefore));
+
+        assertArrayEquals(snapshotSplitBefore.getSplitStart(), snapshotSplitAfter.getSplitStart());
+        assertArrayEquals(snapshotSplitBefore.getSplitEnd(), snapshotSplitAfter.getSplitEnd());
+    }
+
+    private static SourceSplitSerializer createSourceSplitSerializer() {
+        return new SourceSplitSerializer() {
+            @Override
+            public OffsetFactory getOffsetFactory() {
+                return new OffsetFactory() {
+                    @Override
+                    public Offset newOffset(Map<String, String> offset) {
+                        return null;
+                    }
+
+                    @Override
+                    public Offset newOffset(String filename, Long position) {
+                        return null;
+                    }
+
+                    @Override
+                    public Offset newOffset(Long position) {
+                        return null;
+                    }
+
+                    @Override
+                    public Offset createTimestampOffset(long timestampMillis) {
+                        return null;
+                    }
+
+                    @Override
+                    public Offset createInitialOffset() {
+                        return null;
+                    }
+
+                    @Override
+                    public Offset createNoStoppingOffset() {
+                        return null;
+                    }
+                };
+            }
+        };
+    }
 }
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.base.source.reader;
+
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.base.config.SourceConfig;
+import com.ververica.cdc.connectors.base.dialect.DataSourceDialect;
+import com.ververica.cdc.connectors.base.experimental.offset.BinlogOffset;
+import com.ververica.cdc.connectors.base.options.StartupOptions;
+import com.ververica.cdc.connectors.base.source.assigner.splitter.ChunkSplitter;
+import com.ververica.cdc.connectors.base.source.meta.offset.Offset;
+import com.ververica.cdc.connectors.base.source.meta.split.SnapshotSplit;
+import com.ververica.cdc.connectors.base.source.meta.split.SourceRecords;
+import com.ververica.cdc.connectors.base.source.meta.split.SourceSplitBase;
+import com.ververica.cdc.connectors.base.source.meta.split.StreamSplit;
+import com.ververica.cdc.connectors.base.source.meta.wartermark.WatermarkEvent;
+import com.ververica.cdc.connectors.base.source.meta.wartermark.WatermarkKind;
+import com.ververica.cdc.connectors.base.source.reader.external.AbstractScanFetchTask;
+import com.ververica.cdc.connectors.base.source.reader.external.FetchTask;
+import com.ververica.cdc.connectors.base.source.utils.hooks.SnapshotPhaseHooks;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.TableChanges;
+import io.debezium.util.LoggingContext;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for the concurrent snapshot split fetching of {@link IncrementalSourceSplitReader}. */
+public class IncrementalSourceSplitReaderTest {
+
+    private static final TableId TABLE_ID = new TableId("test_db", null, "test_table");
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().field("id", Schema.INT64_SCHEMA).build();
+    private static final long TIMEOUT_SECONDS = 30L;
+    private static final int RECORDS_PER_SPLIT = 3;
+
+    @Test
+    public void testEmitSnapshotSplitsInOrder() throws Exception {
+        TestDialect dialect = new TestDialect();
+        // split-0 and split-2 can't finish reading until the splits after them have been read,
+        // which only happens if the splits are read concurrently
+        TestScanFetchTask split1 = dialect.addTask(createSplit(1), null);
+        TestScanFetchTask split3 = dialect.addTask(createSplit(3), null);
+        dialect.addTask(createSplit(0), split1.dispatched);
+        dialect.addTask(createSplit(2), split3.dispatched);
+
+        IncrementalSourceSplitReader<TestSourceConfig> reader = createReader(dialect, 2);
+        addSplits(reader, 0, 1, 2, 3);
+
+        Map<String, List<SourceRecord>> records = new HashMap<>();
+        List<String> finishedSplits = fetchSplits(reader, 4, records);
+        reader.close();
+
+        assertEquals(Arrays.asList("split-0", "split-1", "split-2", "split-3"), finishedSplits);
+        for (String splitId : finishedSplits) {
+            assertSplitRecords(splitId, records.get(splitId));
+        }
+    }
+
+    @Test
+    public void testPropagateSnapshotSplitFetchError() throws Exception {
+        TestDialect dialect = new TestDialect();
+        dialect.addTask(createSplit(0), null);
+        RuntimeException failure = new IllegalStateException("Failed to read split-1.");
+        dialect.addTask(createSplit(1), null).failure = failure;
+
+        IncrementalSourceSplitReader<TestSourceConfig> reader = createReader(dialect, 2);
+        addSplits(reader, 0, 1);
+
+        // the records of the splits before the failed one are still emitted
+        Map<String, List<SourceRecord>> records = new HashMap<>();
+        assertEquals(Collections.singletonList("split-0"), fetchSplits(reader, 1, records));
+        assertSplitRecords("split-0", records.get("split-0"));
+
+        FlinkRuntimeException e = assertThrows(FlinkRuntimeException.class, reader::fetch);
+        assertSame(failure, e.getCause());
+        reader.close();
+    }
+
+    @Test
+    public void testCloseSnapshotSplitFetchesInProgress() throws Exception {
+        TestDialect dialect = new TestDialect();
+        CountDownLatch neverDispatched = new CountDownLatch(1);
+        dialect.addTask(createSplit(0), null);
+        TestScanFetchTask split1 = dialect.addTask(createSplit(1), neverDispatched);
+        TestScanFetchTask split2 = dialect.addTask(createSplit(2), neverDispatched);
+
+        IncrementalSourceSplitReader<TestSourceConfig> reader = createReader(dialect, 3);
+        addSplits(reader, 0, 1, 2);
+
+        Map<String, List<SourceRecord>> records = new HashMap<>();
+        assertEquals(Collections.singletonList("split-0"), fetchSplits(reader, 1, records));
+
+        // the fetches of the splits still being read are stopped and their resources released
+        reader.close();
+        assertTrue(split1.closed);
+        assertTrue(split2.closed);
+        assertEquals(3, dialect.contexts.size());
+        for (TestFetchTaskContext context : dialect.contexts) {
+            assertTrue(context.closed);
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private static IncrementalSourceSplitReader<TestSourceConfig> createReader(
+            TestDialect dialect, int chunkFetchConcurrency) {
+        return new IncrementalSourceSplitReader<>(
+                0,
+                dialect,
+                new TestSourceConfig(chunkFetchConcurrency),
+                SnapshotPhaseHooks.empty());
+    }
+
+    private static SnapshotSplit createSplit(int index) {
+        return new SnapshotSplit(
+                TABLE_ID,
+                "split-" + index,
+                RowType.of(new BigIntType()),
+                index == 0 ? null : new Object[] {index * 100L},
+                new Object[] {(index + 1) * 100L},
+                null,
+                Collections.emptyMap());
+    }
+
+    private static void addSplits(
+            IncrementalSourceSplitReader<TestSourceConfig> reader, int... splitIndexes) {
+        List<SourceSplitBase> splits = new ArrayList<>();
+        for (int index : splitIndexes) {
+            splits.add(createSplit(index));
+        }
+        reader.handleSplitsChanges(new SplitsAddition<>(splits));
+    }
+
+    /** Fetches until the given number of splits finished, returns the splits in finishing order. */
+    private static List<String> fetchSplits(
+            IncrementalSourceSplitReader<TestSourceConfig> reader,
+            int splitCount,
+            Map<String, List<SourceRecord>> records)
+            throws Exception {
+        List<String> finishedSplits = new ArrayList<>();
+        while (finishedSplits.size() < splitCount) {
+            RecordsWithSplitIds<SourceRecords> fetched = reader.fetch();
+            String splitId;
+            while ((splitId = fetched.nextSplit()) != null) {
+                SourceRecords sourceRecords;
+                while ((sourceRecords = fetched.nextRecordFromSplit()) != null) {
+                    records.computeIfAbsent(splitId, k -> new ArrayList<>())
+                            .addAll(sourceRecords.getSourceRecordList());
+                }
+            }
+            finishedSplits.addAll(fetched.finishedSplits());
+        }
+        return finishedSplits;
+    }
+
+    private static void assertSplitRecords(String splitId, List<SourceRecord> records) {
+        assertEquals(RECORDS_PER_SPLIT + 2, records.size());
+        assertTrue(WatermarkEvent.isLowWatermarkEvent(records.get(0)));
+        assertTrue(WatermarkEvent.isHighWatermarkEvent(records.get(records.size() - 1)));
+
+        Set<Long> ids = new HashSet<>();
+        for (SourceRecord record : records.subList(1, records.size() - 1)) {
+            ids.add(((Struct) record.key()).getInt64("id"));
+        }
+        assertEquals(new HashSet<>(getSplitRecordIds(splitId)), ids);
+    }
+
+    private static List<Long> getSplitRecordIds(String splitId) {
+        int index = Integer.parseInt(splitId.substring("split-".length()));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < RECORDS_PER_SPLIT; i++) {
+            ids.add(index * 100L + i);
+        }
+        return ids;
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    /**
+     * An {@link AbstractScanFetchTask} which dispatches the watermarks and records of a split to
+     * the queue of the context without reading from a database.
+     */
+    private static class TestScanFetchTask extends AbstractScanFetchTask {
+
+        private final CountDownLatch dispatched = new CountDownLatch(1);
+        // the task waits for the latch before dispatching the records, close releases it
+        @Nullable private final CountDownLatch blocker;
+        @Nullable private RuntimeException failure;
+        private volatile boolean closed;
+
+        private TestScanFetchTask(SnapshotSplit snapshotSplit, @Nullable CountDownLatch blocker) {
+            super(snapshotSplit);
+            this.blocker = blocker;
+        }
+
+        @Override
+        public void execute(Context context) throws Exception {
+            taskRunning = true;
+            try {
+                if (blocker != null && !blocker.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new TimeoutException(
+                            "Timeout waiting to read split " + snapshotSplit.splitId());
+                }
+                if (closed) {
+                    return;
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                ChangeEventQueue<DataChangeEvent> queue = context.getQueue();
+                queue.enqueue(createWatermarkEvent(WatermarkKind.LOW));
+                for (long id : getSplitRecordIds(snapshotSplit.splitId())) {
+                    Struct key = new Struct(KEY_SCHEMA).put("id", id);
+                    queue.enqueue(
+                            new DataChangeEvent(
+                                    new SourceRecord(
+                                            Collections.emptyMap(),
+                                            Collections.emptyMap(),
+                                            TABLE_ID.toString(),
+                                            KEY_SCHEMA,
+                                            key,
+                                            KEY_SCHEMA,
+                                            key)));
+                }
+                queue.enqueue(createWatermarkEvent(WatermarkKind.HIGH));
+                queue.enqueue(createWatermarkEvent(WatermarkKind.END));
+                dispatched.countDown();
+            } finally {
+                taskRunning = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            closed = true;
+            if (blocker != null) {
+                blocker.countDown();
+            }
+        }
+
+        @Override
+        protected void executeDataSnapshot(Context context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void executeBackfillTask(Context context, StreamSplit backfillStreamSplit) {
+            throw new UnsupportedOperationException();
+        }
+
+        private DataChangeEvent createWatermarkEvent(WatermarkKind watermarkKind) {
+            return new DataChangeEvent(
+                    WatermarkEvent.create(
+                            Collections.emptyMap(),
+                            TABLE_ID.toString(),
+                            snapshotSplit.splitId(),
+                            watermarkKind,
+                            BinlogOffset.INITIAL_OFFSET));
+        }
+    }
+
+    /** A {@link FetchTask.Context} which only provides the queue of the records. */
+    private static class TestFetchTaskContext implements FetchTask.Context {
+
+        private final TestDialect dialect;
+        private final TestSourceConfig sourceConfig;
+        private final ChangeEventQueue<DataChangeEvent> queue;
+        private volatile boolean closed;
+
+        private TestFetchTaskContext(TestDialect dialect, TestSourceConfig sourceConfig) {
+            this.dialect = dialect;
+            this.sourceConfig = sourceConfig;
+            this.queue =
+                    new ChangeEventQueue.Builder<DataChangeEvent>()
+                            .pollInterval(Duration.ofMillis(10))
+                            .maxBatchSize(16)
+                            .maxQueueSize(64)
+                            .loggingContextSupplier(
+                                    () -> LoggingContext.forConnector("test", "test", "test"))
+                            .build();
+        }
+
+        @Override
+        public void configure(SourceSplitBase sourceSplitBase) {}
+
+        @Override
+        public ChangeEventQueue<DataChangeEvent> getQueue() {
+            return queue;
+        }
+
+        @Override
+        public TableId getTableId(SourceRecord record) {
+            return TABLE_ID;
+        }
+
+        @Override
+        public Tables.TableFilter getTableFilter() {
+            return Tables.TableFilter.includeAll();
+        }
+
+        @Override
+        public Offset getStreamOffset(SourceRecord record) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isDataChangeRecord(SourceRecord record) {
+            return false;
+        }
+
+        @Override
+        public boolean isRecordBetween(
+                SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+            return false;
+        }
+
+        @Override
+        public void rewriteOutputBuffer(
+                Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord) {}
+
+        @Override
+        public List<SourceRecord> formatMessageTimestamp(Collection<SourceRecord> snapshotRecords) {
+            return new ArrayList<>(snapshotRecords);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public DataSourceDialect getDataSourceDialect() {
+            return dialect;
+        }
+
+        @Override
+        public SourceConfig getSourceConfig() {
+            return sourceConfig;
+        }
+    }
+
+    /** A {@link DataSourceDialect} which creates the prepared fetch tasks of the splits. */
+    private static class TestDialect implements DataSourceDialect<TestSourceConfig> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Map<String, TestScanFetchTask> tasks = new HashMap<>();
+        private final List<TestFetchTaskContext> contexts = new ArrayList<>();
+
+        private TestScanFetchTask addTask(SnapshotSplit split, @Nullable CountDownLatch blocker) {
+            TestScanFetchTask task = new TestScanFetchTask(split, blocker);
+            tasks.put(split.splitId(), task);
+            return task;
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public List<TableId> discoverDataCollections(TestSourceConfig sourceConfig) {
+            return Collections.singletonList(TABLE_ID);
+        }
+
+        @Override
+        public Map<TableId, TableChanges.TableChange> discoverDataCollectionSchemas(
+                TestSourceConfig sourceConfig) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Offset displayCurrentOffset(TestSourceConfig sourceConfig) {
+            return BinlogOffset.INITIAL_OFFSET;
+        }
+
+        @Override
+        public boolean isDataCollectionIdCaseSensitive(TestSourceConfig sourceConfig) {
+            return true;
+        }
+
+        @Override
+        public ChunkSplitter createChunkSplitter(TestSourceConfig sourceConfig) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FetchTask<SourceSplitBase> createFetchTask(SourceSplitBase sourceSplitBase) {
+            return tasks.get(sourceSplitBase.splitId());
+        }
+
+        @Override
+        public FetchTask.Context createFetchTaskContext(
+                SourceSplitBase sourceSplitBase, TestSourceConfig sourceConfig) {
+            TestFetchTaskContext context = new TestFetchTaskContext(this, sourceConfig);
+            contexts.add(context);
+            return context;
+        }
+    }
+
+    /** A {@link SourceConfig} of the chunk fetch concurrency. */
+    private static class TestSourceConfig implements SourceConfig {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int chunkFetchConcurrency;
+
+        private TestSourceConfig(int chunkFetchConcurrency) {
+            this.chunkFetchConcurrency = chunkFetchConcurrency;
+        }
+
+        @Override
+        public StartupOptions getStartupOptions() {
+            return StartupOptions.initial();
+        }
+
+        @Override
+        public int getSplitSize() {
+            return 100;
+        }
+
+        @Override
+        public int getSplitMetaGroupSize() {
+            return 1000;
+        }
+
+        @Override
+        public boolean isIncludeSchemaChanges() {
+            return false;
+        }
+
+        @Override
+        public boolean isCloseIdleReaders() {
+            return false;
+        }
+
+        @Override
+        public boolean isSkipSnapshotBackfill() {
+            return false;
+        }
+
+        @Override
+        public int getChunkFetchConcurrency() {
+            return chunkFetchConcurrency;
+        }
+    }
+}
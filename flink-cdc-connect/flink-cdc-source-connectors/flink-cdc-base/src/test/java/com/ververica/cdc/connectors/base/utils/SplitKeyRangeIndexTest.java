@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.base.utils;
+
+import com.ververica.cdc.connectors.base.experimental.offset.BinlogOffset;
+import com.ververica.cdc.connectors.base.experimental.offset.BinlogOffsetFactory;
+import com.ververica.cdc.connectors.base.source.meta.split.FinishedSnapshotSplitInfo;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/** Tests for {@link SplitKeyRangeIndex}. */
+public class SplitKeyRangeIndexTest {
+
+    private static final TableId TABLE_ID = new TableId("test_db", "public", "test_table");
+
+    @Test
+    public void testFindSplit() {
+        FinishedSnapshotSplitInfo split0 = createSplitInfo(0, null, new Object[] {100L});
+        FinishedSnapshotSplitInfo split1 =
+                createSplitInfo(1, new Object[] {100L}, new Object[] {200L});
+        FinishedSnapshotSplitInfo split2 =
+                createSplitInfo(2, new Object[] {200L}, new Object[] {300L});
+        FinishedSnapshotSplitInfo split3 = createSplitInfo(3, new Object[] {300L}, null);
+
+        // the splits are indexed regardless of their original order
+        SplitKeyRangeIndex<FinishedSnapshotSplitInfo> index =
+                createIndex(Arrays.asList(split2, split0, split3, split1));
+        assertEquals(4, index.size());
+
+        assertEquals(split0, index.findSplit(new Object[] {-1L}));
+        assertEquals(split0, index.findSplit(new Object[] {99L}));
+        assertEquals(split1, index.findSplit(new Object[] {100L}));
+        assertEquals(split1, index.findSplit(new Object[] {199L}));
+        assertEquals(split2, index.findSplit(new Object[] {200L}));
+        assertEquals(split3, index.findSplit(new Object[] {300L}));
+        assertEquals(split3, index.findSplit(new Object[] {Long.MAX_VALUE}));
+
+        // split key from the change stream may have different type
+        assertEquals(split1, index.findSplit(new Object[] {BigDecimal.valueOf(150L)}));
+        assertEquals(split2, index.findSplit(new Object[] {250}));
+    }
+
+    @Test
+    public void testFindSplitWithGaps() {
+        FinishedSnapshotSplitInfo split0 =
+                createSplitInfo(0, new Object[] {100L}, new Object[] {200L});
+        FinishedSnapshotSplitInfo split1 =
+                createSplitInfo(1, new Object[] {300L}, new Object[] {400L});
+        SplitKeyRangeIndex<FinishedSnapshotSplitInfo> index =
+                createIndex(Arrays.asList(split0, split1));
+
+        assertNull(index.findSplit(new Object[] {50L}));
+        assertEquals(split0, index.findSplit(new Object[] {150L}));
+        assertNull(index.findSplit(new Object[] {250L}));
+        assertEquals(split1, index.findSplit(new Object[] {350L}));
+        assertNull(index.findSplit(new Object[] {400L}));
+    }
+
+    @Test
+    public void testFindSplitInSingleSplit() {
+        FinishedSnapshotSplitInfo split = createSplitInfo(0, null, null);
+        SplitKeyRangeIndex<FinishedSnapshotSplitInfo> index =
+                createIndex(Collections.singletonList(split));
+        assertEquals(split, index.findSplit(new Object[] {100L}));
+        assertEquals(split, index.findSplit(new Object[] {"abc"}));
+
+        assertNull(createIndex(Collections.emptyList()).findSplit(new Object[] {1L}));
+    }
+
+    private static SplitKeyRangeIndex<FinishedSnapshotSplitInfo> createIndex(
+            List<FinishedSnapshotSplitInfo> splits) {
+        return new SplitKeyRangeIndex<>(
+                splits,
+                FinishedSnapshotSplitInfo::getSplitStart,
+                FinishedSnapshotSplitInfo::getSplitEnd);
+    }
+
+    private static FinishedSnapshotSplitInfo createSplitInfo(
+            int splitNo, Object[] splitStart, Object[] splitEnd) {
+        return new FinishedSnapshotSplitInfo(
+                TABLE_ID,
+                TABLE_ID + ":" + splitNo,
+                splitStart,
+                splitEnd,
+                new BinlogOffset("mysql-bin.000001", splitNo),
+                new BinlogOffsetFactory());
+    }
+}
@@ -86,11 +86,12 @@ import static com.ververica.cdc.debezium.utils.DatabaseHistoryUtil.retrieveHisto
  * streaming phase.
  *
  * <p>Here we use the {@link Handover} as the buffer to submit data from the producer to the
- * consumer. Because the two threads don't communicate to each other directly, the error reporting
- * also relies on {@link Handover}. When the engine gets errors, the engine uses the {@link
- * DebeziumEngine.CompletionCallback} to report errors to the {@link Handover} and wakes up the
- * consumer to check the error. However, the source function just closes the engine and wakes up the
- * producer if the error is from the Flink side.
+ * consumer. It buffers up to {@link #HANDOVER_CAPACITY_KEY} batches, so the engine keeps polling
+ * the database while the source function emits the previous batches. Because the two threads don't
+ * communicate to each other directly, the error reporting also relies on {@link Handover}. When the
+ * engine gets errors, the engine uses the {@link DebeziumEngine.CompletionCallback} to report
+ * errors to the {@link Handover} and wakes up the consumer to check the error. However, the source
+ * function just closes the engine and wakes up the producer if the error is from the Flink side.
  *
  * <p>If the execution is canceled or finish(only snapshot phase), the exit logic is as same as the
  * logic in the error reporting.
@@ -129,6 +130,19 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
     /** The configuration value represents legacy implementation. */
     public static final String LEGACY_IMPLEMENTATION_VALUE = "legacy";
 
+    /**
+     * The configuration of the max number of change event batches buffered in the {@link
+     * Handover}, the Debezium engine reads ahead of the source function by up to this number.
+     */
+    public static final String HANDOVER_CAPACITY_KEY = "internal.handover.capacity";
+
+    /** The default max number of change event batches buffered in the {@link Handover}. */
+    public static final int DEFAULT_HANDOVER_CAPACITY = 4;
+
+    private static final String HANDOVER_QUEUE_SIZE_METRIC = "handoverQueueSize";
+    private static final String HANDOVER_CONSUMER_WAIT_TIME_METRIC = "handoverConsumerWaitTime";
+    private static final String HANDOVER_PRODUCER_WAIT_TIME_METRIC = "handoverProducerWaitTime";
+
     // ---------------------------------------------------------------------------------------
     // Properties
     // ---------------------------------------------------------------------------------------
@@ -217,7 +231,12 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder().setNameFormat("debezium-engine").build();
         this.executor = Executors.newSingleThreadExecutor(threadFactory);
-        this.handover = new Handover();
+        this.handover =
+                new Handover(
+                        Integer.parseInt(
+                                properties.getProperty(
+                                        HANDOVER_CAPACITY_KEY,
+                                        String.valueOf(DEFAULT_HANDOVER_CAPACITY))));
         this.changeConsumer = new DebeziumChangeConsumer(handover);
     }
 
@@ -441,6 +460,11 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
         metricGroup.gauge(
                 MetricNames.NUM_RECORDS_IN_ERRORS,
                 (Gauge<Long>) () -> debeziumChangeFetcher.getNumRecordInErrors());
+        metricGroup.gauge(HANDOVER_QUEUE_SIZE_METRIC, (Gauge<Integer>) handover::getQueueSize);
+        metricGroup.gauge(
+                HANDOVER_CONSUMER_WAIT_TIME_METRIC, (Gauge<Long>) handover::getConsumerWaitTime);
+        metricGroup.gauge(
+                HANDOVER_PRODUCER_WAIT_TIME_METRIC, (Gauge<Long>) handover::getProducerWaitTime);
         // start the real debezium consumer
         try {
             debeziumChangeFetcher.runFetchLoop();
@@ -58,9 +58,10 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /** Debezium event deserializer for {@link SourceRecord}. */
 @Internal
@@ -72,8 +73,8 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
     private static final Logger LOG =
             LoggerFactory.getLogger(DebeziumEventDeserializationSchema.class);
 
-    private static final Map<DataType, DeserializationRuntimeConverter> CONVERTERS =
-            new ConcurrentHashMap<>();
+    /** The max number of converters cached by a deserializer. */
+    private static final int MAX_CACHED_CONVERTERS = 1024;
 
     /** The schema data type inference. */
     protected final SchemaDataTypeInference schemaDataTypeInference;
@@ -81,6 +82,17 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
     /** Changelog Mode to use for encoding changes in Flink internal data structure. */
     protected final DebeziumChangelogMode changelogMode;
 
+    /**
+     * Converters of the record schemas whose data type doesn't depend on the values, keyed by
+     * the identity of kafka connect {@link Schema}. Debezium reuses the same schema instance for
+     * all the records of a table until its schema changes, so the data type inference and the
+     * converter creation are only done once per table schema.
+     */
+    private transient Map<Schema, DeserializationRuntimeConverter> schemaConverters;
+
+    /** Converters of the data types inferred from the schemas which depend on the values. */
+    private transient Map<DataType, DeserializationRuntimeConverter> typeConverters;
+
     public DebeziumEventDeserializationSchema(
             SchemaDataTypeInference schemaDataTypeInference, DebeziumChangelogMode changelogMode) {
         this.schemaDataTypeInference = schemaDataTypeInference;
@@ -140,12 +152,42 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
     }
 
     private RecordData extractDataRecord(Struct value, Schema valueSchema) throws Exception {
+        return (RecordData) getOrCreateConverter(value, valueSchema).convert(value, valueSchema);
+    }
+
+    private DeserializationRuntimeConverter getOrCreateConverter(
+            Struct value, Schema valueSchema) {
+        if (schemaConverters == null) {
+            schemaConverters = new IdentityHashMap<>();
+            typeConverters = new HashMap<>();
+        }
+        DeserializationRuntimeConverter converter = schemaConverters.get(valueSchema);
+        if (converter != null) {
+            return converter;
+        }
         DataType dataType = schemaDataTypeInference.infer(value, valueSchema);
-        return (RecordData) getOrCreateConverter(dataType).convert(value, valueSchema);
+        if (!schemaDataTypeInference.isValueIndependent(valueSchema)) {
+            converter = typeConverters.get(dataType);
+            if (converter == null) {
+                converter = createConverter(dataType);
+                cacheConverter(typeConverters, dataType, converter);
+            }
+            return converter;
+        }
+        converter = createConverter(dataType);
+        cacheConverter(schemaConverters, valueSchema, converter);
+        return converter;
     }
 
-    private DeserializationRuntimeConverter getOrCreateConverter(DataType type) {
-        return CONVERTERS.computeIfAbsent(type, this::createConverter);
+    private static <K> void cacheConverter(
+            Map<K, DeserializationRuntimeConverter> converters,
+            K key,
+            DeserializationRuntimeConverter converter) {
+        // schema instances are recreated on schema changes, avoid holding the stale ones forever
+        if (converters.size() >= MAX_CACHED_CONVERTERS) {
+            converters.clear();
+        }
+        converters.put(key, converter);
     }
 
     // -------------------------------------------------------------------------------------
@@ -206,15 +248,7 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
                     }
                 };
             case ROW:
-                return new DeserializationRuntimeConverter() {
-
-                    private static final long serialVersionUID = 1L;
-
-                    @Override
-                    public Object convert(Object dbzObj, Schema schema) throws Exception {
-                        return convertToRecord((RowType) type, dbzObj, schema);
-                    }
-                };
+                return createRowConverter((RowType) type);
             case ARRAY:
             case MAP:
             default:
@@ -379,16 +413,37 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
         return DecimalData.fromBigDecimal(bigDecimal, precision, scale);
     }
 
-    protected Object convertToRecord(RowType rowType, Object dbzObj, Schema schema)
-            throws Exception {
-        DeserializationRuntimeConverter[] fieldConverters =
+    /**
+     * Creates a converter for {@link RowType}, the field converters and the record data generator
+     * are created once and shared by all the records converted by it.
+     */
+    protected DeserializationRuntimeConverter createRowConverter(RowType rowType) {
+        final DeserializationRuntimeConverter[] fieldConverters =
                 rowType.getFields().stream()
                         .map(DataField::getType)
                         .map(this::createConverter)
                         .toArray(DeserializationRuntimeConverter[]::new);
-        String[] fieldNames = rowType.getFieldNames().toArray(new String[0]);
-        BinaryRecordDataGenerator generator = new BinaryRecordDataGenerator(rowType);
+        final String[] fieldNames = rowType.getFieldNames().toArray(new String[0]);
+        final BinaryRecordDataGenerator generator = new BinaryRecordDataGenerator(rowType);
+
+        return new DeserializationRuntimeConverter() {
+
+            private static final long serialVersionUID = 1L;
 
+            @Override
+            public Object convert(Object dbzObj, Schema schema) throws Exception {
+                return convertToRecord(fieldConverters, fieldNames, generator, dbzObj, schema);
+            }
+        };
+    }
+
+    private Object convertToRecord(
+            DeserializationRuntimeConverter[] fieldConverters,
+            String[] fieldNames,
+            BinaryRecordDataGenerator generator,
+            Object dbzObj,
+            Schema schema)
+            throws Exception {
         Struct struct = (Struct) dbzObj;
         int arity = fieldNames.length;
         Object[] fields = new Object[arity];
@@ -399,9 +454,7 @@ public abstract class DebeziumEventDeserializationSchema extends SourceRecordEve
                 fields[i] = null;
             } else {
                 Object fieldValue = struct.getWithoutDefault(fieldName);
-                Schema fieldSchema = schema.field(fieldName).schema();
-                Object convertedField = convertField(fieldConverters[i], fieldValue, fieldSchema);
-                fields[i] = convertedField;
+                fields[i] = convertField(fieldConverters[i], fieldValue, field.schema());
             }
         }
         return generator.generate(fields);
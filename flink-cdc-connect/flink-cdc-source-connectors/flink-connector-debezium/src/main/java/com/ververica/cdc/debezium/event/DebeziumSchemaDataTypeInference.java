@@ -32,6 +32,7 @@ import io.debezium.time.Timestamp;
 import io.debezium.time.ZonedTimestamp;
 import org.apache.kafka.connect.data.Date;
 import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 
@@ -57,6 +58,34 @@ public class DebeziumSchemaDataTypeInference implements SchemaDataTypeInference,
                 : infer(value, schema, schema.type()).notNull();
     }
 
+    /**
+     * The inferred precision of {@link ZonedTimestamp} and {@link VariableScaleDecimal} depends on
+     * the values, all the other types are inferred from the schema only. Subclasses that infer
+     * types from values should override this method accordingly.
+     */
+    @Override
+    public boolean isValueIndependent(Schema schema) {
+        switch (schema.type()) {
+            case STRING:
+                return !ZonedTimestamp.SCHEMA_NAME.equals(schema.name());
+            case STRUCT:
+                if (VariableScaleDecimal.LOGICAL_NAME.equals(schema.name())) {
+                    return false;
+                }
+                for (Field field : schema.fields()) {
+                    if (!isValueIndependent(field.schema())) {
+                        return false;
+                    }
+                }
+                return true;
+            case ARRAY:
+            case MAP:
+                return false;
+            default:
+                return true;
+        }
+    }
+
     protected DataType infer(Object value, Schema schema, Schema.Type type) {
         switch (type) {
             case INT8:
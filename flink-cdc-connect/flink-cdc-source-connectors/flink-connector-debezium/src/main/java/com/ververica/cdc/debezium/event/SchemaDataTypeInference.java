@@ -32,4 +32,15 @@ public interface SchemaDataTypeInference {
      * @return the inferred data type
      */
     DataType infer(Object value, Schema schema);
+
+    /**
+     * Whether the {@link DataType} inferred from {@link Schema} is the same for all the values, so
+     * that the inferred type can be cached for the schema.
+     *
+     * @param schema the kafka connect schema
+     * @return true if the inferred data type only depends on the schema
+     */
+    default boolean isValueIndependent(Schema schema) {
+        return false;
+    }
 }
@@ -26,24 +26,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.io.Closeable;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import static org.apache.flink.util.Preconditions.checkArgument;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
 /**
  * The Handover is a utility to hand over data (a buffer of records) and exception from a
- * <i>producer</i> thread to a <i>consumer</i> thread. It effectively behaves like a "size one
- * blocking queue", with some extras around exception reporting, closing, and waking up thread
- * without {@link Thread#interrupt() interrupting} threads.
+ * <i>producer</i> thread to a <i>consumer</i> thread. It effectively behaves like a bounded
+ * blocking queue of buffers, with some extras around exception reporting, closing, and waking up
+ * thread without {@link Thread#interrupt() interrupting} threads.
  *
  * <p>This class is used in the Flink Debezium Engine Consumer to hand over data and exceptions
  * between the thread that runs the DebeziumEngine class and the main thread.
  *
+ * <p>The buffers are kept in a ring buffer of a fixed capacity, which is written only by the
+ * producer and read only by the consumer. Handing over a buffer does not take any lock as long as
+ * the ring buffer is neither full nor empty, so the producer can run ahead of the consumer by up
+ * to the capacity. A thread only blocks on the lock when it has to wait for the other one.
+ *
  * <p>The Handover can also be "closed", signalling from one thread to the other that it the thread
  * has terminated.
  */
@@ -54,76 +61,120 @@ public class Handover implements Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(Handover.class);
     private final Object lock = new Object();
 
-    @GuardedBy("lock")
-    private List<ChangeEvent<SourceRecord, SourceRecord>> next;
+    private final int capacity;
+    private final AtomicReferenceArray<List<ChangeEvent<SourceRecord, SourceRecord>>> buffers;
 
-    @GuardedBy("lock")
-    @Nullable
-    private Throwable error;
+    /** The sequence number of the next buffer to poll, only advanced by the consumer. */
+    private final AtomicLong head = new AtomicLong();
+
+    /** The sequence number of the next buffer to produce, only advanced by the producer. */
+    private final AtomicLong tail = new AtomicLong();
+
+    private volatile boolean consumerWaiting;
+    private volatile boolean producerWaiting;
+
+    @Nullable private volatile Throwable error;
+
+    /** The total time the consumer waited for buffers, only updated by the consumer. */
+    private volatile long consumerWaitNanos;
 
-    private boolean wakeupProducer;
+    /** The total time the producer waited for free space, only updated by the producer. */
+    private volatile long producerWaitNanos;
+
+    public Handover() {
+        this(1);
+    }
+
+    public Handover(int capacity) {
+        checkArgument(capacity > 0, "The capacity of the handover must be positive.");
+        this.capacity = capacity;
+        this.buffers = new AtomicReferenceArray<>(capacity);
+    }
 
     /**
      * Polls the next element from the Handover, possibly blocking until the next element is
      * available. This method behaves similar to polling from a blocking queue.
      *
      * <p>If an exception was handed in by the producer ({@link #reportError(Throwable)}), then that
-     * exception is thrown rather than an element being returned.
+     * exception is thrown rather than an element being returned. After the Handover was closed
+     * gently, the elements produced before are still returned before the {@link ClosedException}.
      *
      * @return The next element (buffer of records, never null).
      * @throws ClosedException Thrown if the Handover was {@link #close() closed}.
      * @throws Exception Rethrows exceptions from the {@link #reportError(Throwable)} method.
      */
     public List<ChangeEvent<SourceRecord, SourceRecord>> pollNext() throws Exception {
-        synchronized (lock) {
-            while (next == null && error == null) {
-                lock.wait();
+        while (true) {
+            if (error == null || ClosedException.isGentlyClosedException(error)) {
+                List<ChangeEvent<SourceRecord, SourceRecord>> n = tryPoll();
+                if (n != null) {
+                    return n;
+                }
             }
-            List<ChangeEvent<SourceRecord, SourceRecord>> n = next;
-            if (n != null) {
-                next = null;
-                lock.notifyAll();
-                return n;
-            } else {
-                ExceptionUtils.rethrowException(error, error.getMessage());
-
-                // this statement cannot be reached since the above method always throws an
-                // exception this is only here to silence the compiler and any warnings
-                return Collections.emptyList();
+            synchronized (lock) {
+                if (error != null) {
+                    if (ClosedException.isGentlyClosedException(error) && !isEmpty()) {
+                        // hand over the remaining elements produced before the gentle close
+                        continue;
+                    }
+                    ExceptionUtils.rethrowException(error, error.getMessage());
+
+                    // this statement cannot be reached since the above method always throws an
+                    // exception this is only here to silence the compiler and any warnings
+                    return Collections.emptyList();
+                }
+                // the producer notifies the lock after producing if it sees the flag, the flag is
+                // set before checking the ring buffer again so that no notification is missed
+                consumerWaiting = true;
+                final long waitStart = System.nanoTime();
+                try {
+                    while (error == null && isEmpty()) {
+                        lock.wait();
+                    }
+                } finally {
+                    consumerWaiting = false;
+                    consumerWaitNanos += System.nanoTime() - waitStart;
+                }
             }
         }
     }
 
     /**
-     * Hands over an element from the producer. If the Handover already has an element that was not
-     * yet picked up by the consumer thread, this call blocks until the consumer picks up that
-     * previous element.
+     * Hands over an element from the producer. If the Handover is full of elements that were not
+     * yet picked up by the consumer thread, this call blocks until the consumer picks up the oldest
+     * element.
      *
-     * <p>This behavior is similar to a "size one" blocking queue.
+     * <p>This behavior is similar to a bounded blocking queue.
      *
      * @param element The next element to hand over.
      * @throws InterruptedException Thrown, if the thread is interrupted while blocking for the
-     *     Handover to be empty.
+     *     Handover to have free space.
      */
     public void produce(final List<ChangeEvent<SourceRecord, SourceRecord>> element)
             throws InterruptedException {
 
         checkNotNull(element);
 
-        synchronized (lock) {
-            while (next != null && !wakeupProducer) {
-                lock.wait();
-            }
-
-            wakeupProducer = false;
-
+        while (true) {
             // an error marks this as closed for the producer
-            if (error != null) {
-                ExceptionUtils.rethrow(error, error.getMessage());
-            } else {
-                // if there is no error, then this is open and can accept this element
-                next = element;
-                lock.notifyAll();
+            final Throwable t = error;
+            if (t != null) {
+                ExceptionUtils.rethrow(t, t.getMessage());
+            }
+            if (tryProduce(element)) {
+                return;
+            }
+            synchronized (lock) {
+                producerWaiting = true;
+                final long waitStart = System.nanoTime();
+                try {
+                    while (error == null && isFull()) {
+                        lock.wait();
+                    }
+                } finally {
+                    producerWaiting = false;
+                    producerWaitNanos += System.nanoTime() - waitStart;
+                }
             }
         }
     }
@@ -150,7 +201,6 @@ public class Handover implements Closeable {
             if (error == null) {
                 error = t;
             }
-            next = null;
             lock.notifyAll();
         }
     }
@@ -171,9 +221,7 @@ public class Handover implements Closeable {
      */
     @Nullable
     public Throwable getError() {
-        synchronized (lock) {
-            return this.error;
-        }
+        return this.error;
     }
 
     /**
@@ -187,9 +235,6 @@ public class Handover implements Closeable {
     @Override
     public void close() {
         synchronized (lock) {
-            next = null;
-            wakeupProducer = false;
-
             if (error == null) {
                 error = new ClosedException();
             } else if (!(error instanceof ClosedException)) {
@@ -199,6 +244,73 @@ public class Handover implements Closeable {
         }
     }
 
+    /** Returns the number of elements which are handed over but not yet picked up. */
+    public int getQueueSize() {
+        final long h = head.get();
+        return (int) Math.min(tail.get() - h, capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Returns the total time in milliseconds the consumer waited for elements. */
+    public long getConsumerWaitTime() {
+        return consumerWaitNanos / 1_000_000L;
+    }
+
+    /** Returns the total time in milliseconds the producer waited for the consumer. */
+    public long getProducerWaitTime() {
+        return producerWaitNanos / 1_000_000L;
+    }
+
+    // ------------------------------------------------------------------------
+
+    /** Polls the oldest element without blocking, only called by the consumer. */
+    @Nullable
+    private List<ChangeEvent<SourceRecord, SourceRecord>> tryPoll() {
+        final long h = head.get();
+        if (h == tail.get()) {
+            return null;
+        }
+        final int index = (int) (h % capacity);
+        final List<ChangeEvent<SourceRecord, SourceRecord>> element = buffers.get(index);
+        buffers.lazySet(index, null);
+        head.set(h + 1);
+        if (producerWaiting) {
+            wakeUpWaitingThread();
+        }
+        return element;
+    }
+
+    /** Hands over the element if there is free space without blocking, only called by producer. */
+    private boolean tryProduce(List<ChangeEvent<SourceRecord, SourceRecord>> element) {
+        final long t = tail.get();
+        if (t - head.get() >= capacity) {
+            return false;
+        }
+        buffers.lazySet((int) (t % capacity), element);
+        tail.set(t + 1);
+        if (consumerWaiting) {
+            wakeUpWaitingThread();
+        }
+        return true;
+    }
+
+    private boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    private boolean isFull() {
+        return tail.get() - head.get() >= capacity;
+    }
+
+    private void wakeUpWaitingThread() {
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
     // ------------------------------------------------------------------------
 
     /**
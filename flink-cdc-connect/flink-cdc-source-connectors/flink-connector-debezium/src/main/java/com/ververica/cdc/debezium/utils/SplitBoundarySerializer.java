@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.utils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.StringValue;
+
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A compact binary serializer for the boundaries of the snapshot splits.
+ *
+ * <p>Every value of a boundary is written with a one byte tag of its class followed by its binary
+ * form, the common key classes returned by the JDBC drivers take a few bytes each. The exact class
+ * of every value is kept, as the boundaries are bound to the split queries and compared with the
+ * key values read from the database. Values of other classes fall back to Java serialization.
+ */
+public final class SplitBoundarySerializer {
+
+    private static final int NULL_BOUNDARY = -1;
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte INT = 4;
+    private static final byte LONG = 5;
+    private static final byte FLOAT = 6;
+    private static final byte DOUBLE = 7;
+    private static final byte BIG_INTEGER = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte STRING = 10;
+    private static final byte BYTES = 11;
+    private static final byte SQL_DATE = 12;
+    private static final byte SQL_TIME = 13;
+    private static final byte SQL_TIMESTAMP = 14;
+    private static final byte LOCAL_DATE = 15;
+    private static final byte LOCAL_TIME = 16;
+    private static final byte LOCAL_DATE_TIME = 17;
+    private static final byte JAVA_SERIALIZED = 127;
+
+    private SplitBoundarySerializer() {}
+
+    public static void writeSplitBoundary(@Nullable Object[] boundary, DataOutputView out)
+            throws IOException {
+        if (boundary == null) {
+            out.writeInt(NULL_BOUNDARY);
+            return;
+        }
+        out.writeInt(boundary.length);
+        for (Object value : boundary) {
+            writeValue(value, out);
+        }
+    }
+
+    @Nullable
+    public static Object[] readSplitBoundary(DataInputView in) throws IOException {
+        final int length = in.readInt();
+        if (length == NULL_BOUNDARY) {
+            return null;
+        }
+        final Object[] boundary = new Object[length];
+        for (int i = 0; i < length; i++) {
+            boundary[i] = readValue(in);
+        }
+        return boundary;
+    }
+
+    private static void writeValue(@Nullable Object value, DataOutputView out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        // the exact classes are matched, subclasses like java.sql.Timestamp of java.util.Date
+        // must not be narrowed to their parent classes
+        final Class<?> clazz = value.getClass();
+        if (clazz == Boolean.class) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (clazz == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (clazz == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (clazz == Integer.class) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (clazz == Long.class) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (clazz == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (clazz == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (clazz == BigInteger.class) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray(), out);
+        } else if (clazz == BigDecimal.class) {
+            final BigDecimal decimal = (BigDecimal) value;
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(decimal.scale());
+            writeBytes(decimal.unscaledValue().toByteArray(), out);
+        } else if (clazz == String.class) {
+            out.writeByte(STRING);
+            StringValue.writeString((String) value, out);
+        } else if (clazz == byte[].class) {
+            out.writeByte(BYTES);
+            writeBytes((byte[]) value, out);
+        } else if (clazz == java.sql.Date.class) {
+            out.writeByte(SQL_DATE);
+            out.writeLong(((java.sql.Date) value).getTime());
+        } else if (clazz == java.sql.Time.class) {
+            out.writeByte(SQL_TIME);
+            out.writeLong(((java.sql.Time) value).getTime());
+        } else if (clazz == java.sql.Timestamp.class) {
+            final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+            out.writeByte(SQL_TIMESTAMP);
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        } else if (clazz == LocalDate.class) {
+            out.writeByte(LOCAL_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (clazz == LocalTime.class) {
+            out.writeByte(LOCAL_TIME);
+            out.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (clazz == LocalDateTime.class) {
+            final LocalDateTime dateTime = (LocalDateTime) value;
+            out.writeByte(LOCAL_DATE_TIME);
+            out.writeLong(dateTime.toLocalDate().toEpochDay());
+            out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+        } else {
+            out.writeByte(JAVA_SERIALIZED);
+            writeBytes(javaSerialize(value), out);
+        }
+    }
+
+    @Nullable
+    private static Object readValue(DataInputView in) throws IOException {
+        final byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BIG_DECIMAL:
+                final int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case STRING:
+                return StringValue.readString(in);
+            case BYTES:
+                return readBytes(in);
+            case SQL_DATE:
+                return new java.sql.Date(in.readLong());
+            case SQL_TIME:
+                return new java.sql.Time(in.readLong());
+            case SQL_TIMESTAMP:
+                final java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case LOCAL_DATE_TIME:
+                final LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+            case JAVA_SERIALIZED:
+                return javaDeserialize(readBytes(in));
+            default:
+                throw new IOException("Unknown split boundary value tag: " + tag);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputView out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputView in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        try (final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(value);
+            oos.flush();
+            return bos.toByteArray();
+        }
+    }
+
+    private static Object javaDeserialize(byte[] bytes) throws IOException {
+        try (final ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
+                ObjectInputStream ois = new ObjectInputStream(bis)) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to deserialize split boundary value.", e);
+        }
+    }
+}
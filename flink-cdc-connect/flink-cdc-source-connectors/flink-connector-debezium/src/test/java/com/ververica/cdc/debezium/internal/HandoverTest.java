@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import io.debezium.engine.ChangeEvent;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Tests for {@link Handover}. */
+public class HandoverTest {
+
+    private static final long TIMEOUT_MILLIS = 30_000L;
+    private static final long WAIT_MILLIS = 50L;
+
+    @Test
+    public void testPollInProducingOrder() throws Exception {
+        Handover handover = new Handover(3);
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = createElements(10);
+
+        // the ring buffer wraps around several times while keeping two elements in it
+        for (int i = 0; i < elements.size(); i++) {
+            handover.produce(elements.get(i));
+            if (i >= 2) {
+                assertEquals(3, handover.getQueueSize());
+                assertSame(elements.get(i - 2), handover.pollNext());
+            }
+        }
+        assertEquals(2, handover.getQueueSize());
+        assertSame(elements.get(8), handover.pollNext());
+        assertSame(elements.get(9), handover.pollNext());
+        assertEquals(0, handover.getQueueSize());
+    }
+
+    @Test
+    public void testProducerBlocksWhenFull() throws Exception {
+        Handover handover = new Handover(2);
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = createElements(3);
+        handover.produce(elements.get(0));
+        handover.produce(elements.get(1));
+
+        AtomicReference<Throwable> producerError = new AtomicReference<>();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                handover.produce(elements.get(2));
+                            } catch (Throwable t) {
+                                producerError.set(t);
+                            }
+                        });
+        producer.start();
+        waitUntilWaiting(producer);
+        Thread.sleep(WAIT_MILLIS);
+        assertEquals(2, handover.getQueueSize());
+
+        // polling an element frees the space for the blocked producer
+        assertSame(elements.get(0), handover.pollNext());
+        producer.join(TIMEOUT_MILLIS);
+        assertNull(producerError.get());
+        assertEquals(2, handover.getQueueSize());
+        assertTrue(handover.getProducerWaitTime() >= WAIT_MILLIS);
+
+        assertSame(elements.get(1), handover.pollNext());
+        assertSame(elements.get(2), handover.pollNext());
+    }
+
+    @Test
+    public void testConsumerBlocksWhenEmpty() throws Exception {
+        Handover handover = new Handover(2);
+        List<ChangeEvent<SourceRecord, SourceRecord>> element = createElements(1).get(0);
+
+        AtomicReference<Object> polled = new AtomicReference<>();
+        Thread consumer =
+                new Thread(
+                        () -> {
+                            try {
+                                polled.set(handover.pollNext());
+                            } catch (Throwable t) {
+                                polled.set(t);
+                            }
+                        });
+        consumer.start();
+        waitUntilWaiting(consumer);
+        Thread.sleep(WAIT_MILLIS);
+
+        handover.produce(element);
+        consumer.join(TIMEOUT_MILLIS);
+        assertSame(element, polled.get());
+        assertTrue(handover.getConsumerWaitTime() >= WAIT_MILLIS);
+    }
+
+    @Test
+    public void testPollRemainingElementsAfterGentleClose() throws Exception {
+        Handover handover = new Handover(3);
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = createElements(2);
+        handover.produce(elements.get(0));
+        handover.produce(elements.get(1));
+        handover.close();
+
+        assertSame(elements.get(0), handover.pollNext());
+        assertSame(elements.get(1), handover.pollNext());
+        Handover.ClosedException e =
+                assertThrows(Handover.ClosedException.class, handover::pollNext);
+        assertTrue(Handover.ClosedException.isGentlyClosedException(e));
+    }
+
+    @Test
+    public void testReportedErrorFailsPollImmediately() throws Exception {
+        Handover handover = new Handover(3);
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = createElements(2);
+        handover.produce(elements.get(0));
+        handover.produce(elements.get(1));
+
+        // the elements produced before the error are not handed over any more
+        Exception error = new Exception("Test error.");
+        handover.reportError(error);
+        assertSame(error, assertThrows(Exception.class, handover::pollNext));
+
+        // closing keeps the reported error
+        handover.close();
+        Handover.ClosedException e =
+                assertThrows(Handover.ClosedException.class, handover::pollNext);
+        assertSame(error, e.getCause());
+    }
+
+    @Test
+    public void testProduceAfterClose() {
+        Handover handover = new Handover(3);
+        handover.close();
+
+        RuntimeException e =
+                assertThrows(
+                        RuntimeException.class,
+                        () -> handover.produce(createElements(1).get(0)));
+        assertTrue(e.getCause() instanceof Handover.ClosedException);
+    }
+
+    @Test
+    public void testCloseWakesUpBlockedProducer() throws Exception {
+        Handover handover = new Handover(1);
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = createElements(2);
+        handover.produce(elements.get(0));
+
+        AtomicReference<Throwable> producerError = new AtomicReference<>();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                handover.produce(elements.get(1));
+                            } catch (Throwable t) {
+                                producerError.set(t);
+                            }
+                        });
+        producer.start();
+        waitUntilWaiting(producer);
+
+        handover.close();
+        producer.join(TIMEOUT_MILLIS);
+        assertTrue(producerError.get().getCause() instanceof Handover.ClosedException);
+    }
+
+    // ------------------------------------------------------------------------
+
+    private static List<List<ChangeEvent<SourceRecord, SourceRecord>>> createElements(int count) {
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(new ArrayList<>());
+        }
+        return elements;
+    }
+
+    private static void waitUntilWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (thread.getState() != Thread.State.WAITING) {
+            if (!thread.isAlive() || System.currentTimeMillis() > deadline) {
+                fail("The thread " + thread.getName() + " is not blocked in the handover.");
+            }
+            Thread.sleep(1L);
+        }
+    }
+}
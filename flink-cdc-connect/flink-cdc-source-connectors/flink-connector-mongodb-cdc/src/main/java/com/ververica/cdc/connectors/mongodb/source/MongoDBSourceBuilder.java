@@ -258,6 +258,15 @@ public class MongoDBSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot chunks fetched concurrently by each source reader. The fetched chunks
+     * are emitted in the order they were assigned to the reader.
+     */
+    public MongoDBSourceBuilder<T> chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.configFactory.chunkFetchConcurrency(chunkFetchConcurrency);
+        return this;
+    }
+
     /**
      * Build the {@link MongoDBSource}.
      *
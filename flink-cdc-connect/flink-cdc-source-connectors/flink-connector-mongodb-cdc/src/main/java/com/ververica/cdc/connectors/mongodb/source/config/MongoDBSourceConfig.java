@@ -53,6 +53,7 @@ public class MongoDBSourceConfig implements SourceConfig {
     private final boolean enableFullDocPrePostImage;
     private final boolean disableCursorTimeout;
     private final boolean skipSnapshotBackfill;
+    private final int chunkFetchConcurrency;
 
     MongoDBSourceConfig(
             String scheme,
@@ -74,7 +75,8 @@ public class MongoDBSourceConfig implements SourceConfig {
             boolean closeIdleReaders,
             boolean enableFullDocPrePostImage,
             boolean disableCursorTimeout,
-            boolean skipSnapshotBackfill) {
+            boolean skipSnapshotBackfill,
+            int chunkFetchConcurrency) {
         this.scheme = checkNotNull(scheme);
         this.hosts = checkNotNull(hosts);
         this.username = username;
@@ -96,6 +98,7 @@ public class MongoDBSourceConfig implements SourceConfig {
         this.enableFullDocPrePostImage = enableFullDocPrePostImage;
         this.disableCursorTimeout = disableCursorTimeout;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
     }
 
     public String getScheme() {
@@ -192,6 +195,11 @@ public class MongoDBSourceConfig implements SourceConfig {
         return skipSnapshotBackfill;
     }
 
+    @Override
+    public int getChunkFetchConcurrency() {
+        return chunkFetchConcurrency;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
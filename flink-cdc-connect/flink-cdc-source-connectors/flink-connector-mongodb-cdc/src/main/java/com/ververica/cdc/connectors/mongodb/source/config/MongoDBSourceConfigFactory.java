@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static com.ververica.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
+import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY;
 import static com.ververica.cdc.connectors.base.utils.EnvironmentUtils.checkSupportCheckpointsAfterTasksFinished;
 import static com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SCHEME;
 import static com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SRV_SCHEME;
@@ -63,6 +64,8 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
     private boolean enableFullDocPrePostImage = false;
     private boolean disableCursorTimeout = true;
     protected boolean skipSnapshotBackfill = false;
+    private int chunkFetchConcurrency =
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue();
 
     /** The protocol connected to MongoDB. For example mongodb or mongodb+srv. */
     public MongoDBSourceConfigFactory scheme(String scheme) {
@@ -264,6 +267,15 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
         return this;
     }
 
+    /**
+     * The number of snapshot chunks fetched concurrently by each source reader. The fetched chunks
+     * are emitted in the order they were assigned to the reader.
+     */
+    public MongoDBSourceConfigFactory chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
+        return this;
+    }
+
     /** Creates a new {@link MongoDBSourceConfig} for the given subtask {@code subtaskId}. */
     @Override
     public MongoDBSourceConfig create(int subtaskId) {
@@ -288,6 +300,7 @@ public class MongoDBSourceConfigFactory implements Factory<MongoDBSourceConfig>
                 closeIdleReaders,
                 enableFullDocPrePostImage,
                 disableCursorTimeout,
-                skipSnapshotBackfill);
+                skipSnapshotBackfill,
+                chunkFetchConcurrency);
     }
 }
@@ -48,6 +48,7 @@ import java.util.Map;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP;
+import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY;
 import static com.ververica.cdc.connectors.mongodb.internal.MongoDBEnvelope.MONGODB_SRV_SCHEME;
 import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.BATCH_SIZE;
 import static com.ververica.cdc.connectors.mongodb.source.config.MongoDBSourceOptions.FULL_DOCUMENT_PRE_POST_IMAGE;
@@ -119,6 +120,8 @@ public class MongoDBTableFactoryTest {
             SCAN_NO_CURSOR_TIMEOUT.defaultValue();
     private static final boolean SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP_DEFAULT =
             SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue();
+    private static final int SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY_DEFAULT =
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue();
 
     @Test
     public void testCommonProperties() {
@@ -150,7 +153,8 @@ public class MongoDBTableFactoryTest {
                         SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED_DEFAULT,
                         FULL_DOCUMENT_PRE_POST_IMAGE_ENABLED_DEFAULT,
                         SCAN_NO_CURSOR_TIMEOUT_DEFAULT,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP_DEFAULT);
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP_DEFAULT,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY_DEFAULT);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -172,6 +176,7 @@ public class MongoDBTableFactoryTest {
         options.put("scan.incremental.snapshot.chunk.samples", "10");
         options.put("scan.incremental.close-idle-reader.enabled", "true");
         options.put("scan.incremental.snapshot.backfill.skip", "true");
+        options.put("scan.incremental.snapshot.chunk.fetch-concurrency", "4");
         options.put("scan.full-changelog", "true");
         options.put("scan.cursor.no-timeout", "false");
         DynamicTableSource actualSource = createTableSource(SCHEMA, options);
@@ -200,7 +205,8 @@ public class MongoDBTableFactoryTest {
                         true,
                         true,
                         false,
-                        true);
+                        true,
+                        4);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -240,7 +246,8 @@ public class MongoDBTableFactoryTest {
                         SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED_DEFAULT,
                         FULL_DOCUMENT_PRE_POST_IMAGE_ENABLED_DEFAULT,
                         SCAN_NO_CURSOR_TIMEOUT_DEFAULT,
-                        false);
+                        false,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY_DEFAULT);
 
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys = Arrays.asList("op_ts", "database_name");
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A pipeline which decodes the rows events of the binlog with a pool of worker threads.
+ *
+ * <p>The thread of the {@link BinaryLogClient} only reads the raw events from the connection. The
+ * data of the rows events is copied as bytes together with the table map of its table and decoded
+ * by the workers, while the client continues reading the following events. A single dispatching
+ * thread hands the events to the downstream listener in binlog order, each rows event once its
+ * data has been decoded. So the handling of the events, including the offsets and watermarks, is
+ * the same as reading them on the client thread.
+ *
+ * <p>The pipeline buffers at most a fixed number of events. The client thread blocks when the
+ * buffer is full until the dispatching thread catches up.
+ */
+public class BinlogEventPipeline implements BinaryLogClient.EventListener, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinlogEventPipeline.class);
+
+    /** The max number of events read ahead of the dispatching thread. */
+    private static final int EVENT_BUFFER_CAPACITY = 1024;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final int decodingThreads;
+    private final Consumer<Exception> deserializationFailureHandler;
+    private final BlockingQueue<Event> events = new ArrayBlockingQueue<>(EVENT_BUFFER_CAPACITY);
+
+    @Nullable private volatile ExecutorService decodingExecutor;
+    @Nullable private Thread dispatchingThread;
+    private volatile boolean running;
+
+    public BinlogEventPipeline(
+            int decodingThreads, Consumer<Exception> deserializationFailureHandler) {
+        this.decodingThreads = decodingThreads;
+        this.deserializationFailureHandler = deserializationFailureHandler;
+    }
+
+    /**
+     * Returns a deserializer of rows events which hands over the decoding to the worker threads.
+     * The events are decoded by the given deserializer on the calling thread when the pipeline is
+     * not running.
+     *
+     * @param tableMapEventByTableId the latest table map events read by the client
+     * @param deserializerFactory creates the deserializer of the rows events with the table maps
+     */
+    public EventDataDeserializer<EventData> deferredDeserializer(
+            Map<Long, TableMapEventData> tableMapEventByTableId,
+            Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>> deserializerFactory) {
+        return new DeferredRowsDeserializer(tableMapEventByTableId, deserializerFactory);
+    }
+
+    /** Starts dispatching the events to the given listener in binlog order. */
+    public void start(BinaryLogClient.EventListener listener) {
+        decodingExecutor =
+                Executors.newFixedThreadPool(
+                        decodingThreads,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("binlog-event-decoder-%d")
+                                .setDaemon(true)
+                                .build());
+        running = true;
+        dispatchingThread =
+                new ThreadFactoryBuilder()
+                        .setNameFormat("binlog-event-dispatcher")
+                        .setDaemon(true)
+                        .build()
+                        .newThread(() -> dispatchEvents(listener));
+        dispatchingThread.start();
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        try {
+            // the events must not be dropped while the client reconnects, the client resumes
+            // reading after the last event passed to the listeners
+            while (!events.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the pipeline. The events which have not been dispatched yet are discarded, they are
+     * read again from the last recorded offset when the reading restarts.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (dispatchingThread != null) {
+            dispatchingThread.interrupt();
+            try {
+                dispatchingThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dispatchingThread = null;
+        }
+        if (decodingExecutor != null) {
+            decodingExecutor.shutdownNow();
+            decodingExecutor = null;
+        }
+        events.clear();
+    }
+
+    private void dispatchEvents(BinaryLogClient.EventListener listener) {
+        try {
+            while (running) {
+                final Event event = events.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                final Event decodedEvent = decode(event);
+                if (decodedEvent == null) {
+                    continue;
+                }
+                try {
+                    listener.onEvent(decodedEvent);
+                } catch (Exception e) {
+                    // the same as the client, a failed listener must not stop reading the binlog
+                    LOG.warn("{} choked on {}", listener, decodedEvent, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for the data of the event to be decoded, returns null if the data can not be decoded,
+     * in which case the event is skipped like the client skips undecodable events.
+     */
+    @Nullable
+    private Event decode(Event event) throws InterruptedException {
+        if (!(event.getData() instanceof DeferredEventData)) {
+            return event;
+        }
+        final DeferredEventData deferredData = event.getData();
+        try {
+            return new Event(event.getHeader(), deferredData.data.get());
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            deserializationFailureHandler.accept(
+                    cause instanceof Exception ? (Exception) cause : new IOException(cause));
+            return null;
+        }
+    }
+
+    /** The data of a rows event which is being decoded by the worker threads. */
+    private static final class DeferredEventData implements EventData {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CompletableFuture<EventData> data;
+
+        private DeferredEventData(CompletableFuture<EventData> data) {
+            this.data = data;
+        }
+
+        @Override
+        public String toString() {
+            return "DeferredEventData{decoded=" + data.isDone() + '}';
+        }
+    }
+
+    /** A deserializer which copies the data of the rows events and decodes them asynchronously. */
+    private final class DeferredRowsDeserializer implements EventDataDeserializer<EventData> {
+
+        private final Map<Long, TableMapEventData> tableMapEventByTableId;
+        private final Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>>
+                deserializerFactory;
+
+        private DeferredRowsDeserializer(
+                Map<Long, TableMapEventData> tableMapEventByTableId,
+                Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>>
+                        deserializerFactory) {
+            this.tableMapEventByTableId = tableMapEventByTableId;
+            this.deserializerFactory = deserializerFactory;
+        }
+
+        @Override
+        public EventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+            final ExecutorService executor = decodingExecutor;
+            if (executor == null) {
+                return deserializerFactory.apply(tableMapEventByTableId).deserialize(inputStream);
+            }
+            final byte[] data = inputStream.read(inputStream.available());
+            // every rows event starts with the 6 bytes id of its table, the table map is resolved
+            // now as it may be replaced by the following events before the data is decoded
+            final long tableId = new ByteArrayInputStream(data).readLong(6);
+            final TableMapEventData tableMapEvent = tableMapEventByTableId.get(tableId);
+            final Map<Long, TableMapEventData> tableMaps =
+                    tableMapEvent == null
+                            ? Collections.emptyMap()
+                            : Collections.singletonMap(tableId, tableMapEvent);
+            return new DeferredEventData(
+                    CompletableFuture.supplyAsync(() -> decode(tableMaps, data), executor));
+        }
+
+        private EventData decode(Map<Long, TableMapEventData> tableMaps, byte[] data) {
+            try {
+                return deserializerFactory
+                        .apply(tableMaps)
+                        .deserialize(new ByteArrayInputStream(data));
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }
+    }
+}
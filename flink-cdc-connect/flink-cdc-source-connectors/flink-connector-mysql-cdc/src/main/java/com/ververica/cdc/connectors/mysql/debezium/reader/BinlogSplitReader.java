@@ -21,9 +21,15 @@ import org.apache.flink.util.FlinkRuntimeException;
 
 import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
 import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
 import com.ververica.cdc.common.annotation.VisibleForTesting;
+import com.ververica.cdc.connectors.base.utils.SplitKeyRangeIndex;
 import com.ververica.cdc.connectors.mysql.debezium.task.MySqlBinlogSplitReadTask;
 import com.ververica.cdc.connectors.mysql.debezium.task.context.StatefulTaskContext;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
@@ -33,7 +39,6 @@ import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
 import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
 import com.ververica.cdc.connectors.mysql.source.utils.ChunkUtils;
-import com.ververica.cdc.connectors.mysql.source.utils.RecordUtils;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.mysql.MySqlStreamingChangeEventSourceMetrics;
 import io.debezium.pipeline.DataChangeEvent;
@@ -65,6 +70,7 @@ import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSpl
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getStructContainsChunkKey;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getTableId;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isSchemaChangeEvent;
 
 /**
  * A Debezium binlog reader implementation that also support reads binlog and filter overlapping
@@ -82,7 +88,10 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
 
     private MySqlBinlogSplitReadTask binlogSplitReadTask;
     private MySqlBinlogSplit currentBinlogSplit;
-    private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    // tableId -> the index of finished snapshot splits ordered by split start
+    private Map<TableId, SplitKeyRangeIndex<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    // tableId -> the chunk key type, cached to avoid recomputing it for every record
+    private final Map<TableId, RowType> chunkKeyTypes;
     // tableId -> the max splitHighWatermark
     private Map<TableId, BinlogOffset> maxSplitHighWatermarkMap;
     private final Set<TableId> pureBinlogPhaseTables;
@@ -97,6 +106,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.currentTaskRunning = true;
         this.pureBinlogPhaseTables = new HashSet<>();
+        this.chunkKeyTypes = new HashMap<>();
     }
 
     public void submitSplit(MySqlSplit mySqlSplit) {
@@ -118,7 +128,8 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                         (MySqlStreamingChangeEventSourceMetrics)
                                 statefulTaskContext.getStreamingChangeEventSourceMetrics(),
                         currentBinlogSplit,
-                        createEventFilter(currentBinlogSplit.getStartingOffset()));
+                        createEventFilter(currentBinlogSplit),
+                        statefulTaskContext.getSourceConfig().getBinlogDeserializationThreads());
 
         executorService.submit(
                 () -> {
@@ -232,32 +243,36 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
             }
 
             // only the table who captured snapshot splits need to filter
-            if (finishedSplitsInfo.containsKey(tableId)) {
+            SplitKeyRangeIndex<FinishedSnapshotSplitInfo> splitIndex =
+                    finishedSplitsInfo.get(tableId);
+            if (splitIndex != null) {
                 RowType splitKeyType =
-                        ChunkUtils.getChunkKeyColumnType(
-                                statefulTaskContext.getDatabaseSchema().tableFor(tableId),
-                                statefulTaskContext.getSourceConfig().getChunkKeyColumns());
+                        chunkKeyTypes.computeIfAbsent(tableId, this::getChunkKeyColumnType);
 
                 Struct target = getStructContainsChunkKey(sourceRecord);
                 Object[] chunkKey =
                         getSplitKey(
                                 splitKeyType, statefulTaskContext.getSchemaNameAdjuster(), target);
-                for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
-                    if (RecordUtils.splitKeyRangeContains(
-                                    chunkKey, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
-                            && position.isAfter(splitInfo.getHighWatermark())) {
-                        return true;
-                    }
-                }
+                FinishedSnapshotSplitInfo splitInfo = splitIndex.findSplit(chunkKey);
+                return splitInfo != null && position.isAfter(splitInfo.getHighWatermark());
             }
             // not in the monitored splits scope, do not emit
             return false;
+        } else if (isSchemaChangeEvent(sourceRecord)) {
+            // the chunk key column may be altered, resolve the chunk key types again
+            chunkKeyTypes.clear();
         }
         // always send the schema change event and signal event
         // we need record them to state of Flink
         return true;
     }
 
+    private RowType getChunkKeyColumnType(TableId tableId) {
+        return ChunkUtils.getChunkKeyColumnType(
+                statefulTaskContext.getDatabaseSchema().tableFor(tableId),
+                statefulTaskContext.getSourceConfig().getChunkKeyColumns());
+    }
+
     private boolean hasEnterPureBinlogPhase(TableId tableId, BinlogOffset position) {
         if (pureBinlogPhaseTables.contains(tableId)) {
             return true;
@@ -307,12 +322,57 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                 }
             }
         }
-        this.finishedSplitsInfo = splitsInfoMap;
+        Map<TableId, SplitKeyRangeIndex<FinishedSnapshotSplitInfo>> splitIndexMap =
+                new HashMap<>();
+        for (Map.Entry<TableId, List<FinishedSnapshotSplitInfo>> entry :
+                splitsInfoMap.entrySet()) {
+            splitIndexMap.put(
+                    entry.getKey(),
+                    new SplitKeyRangeIndex<>(
+                            entry.getValue(),
+                            FinishedSnapshotSplitInfo::getSplitStart,
+                            FinishedSnapshotSplitInfo::getSplitEnd));
+        }
+        this.finishedSplitsInfo = splitIndexMap;
         this.maxSplitHighWatermarkMap = tableIdBinlogPositionMap;
         this.pureBinlogPhaseTables.clear();
+        this.chunkKeyTypes.clear();
+    }
+
+    private Predicate<Event> createEventFilter(MySqlBinlogSplit binlogSplit) {
+        Predicate<Event> timestampFilter = createTimestampFilter(binlogSplit.getStartingOffset());
+        if (binlogSplit.getTableShardCount() == 1) {
+            return timestampFilter;
+        }
+        // The rows events of the tables outside the shard are dropped before they are converted
+        // to change events. The filter only depends on the binlog itself, so the restored offsets
+        // skip the same events again.
+        return timestampFilter.and(this::isInTableShard);
+    }
+
+    private boolean isInTableShard(Event event) {
+        EventData eventData = event.getData();
+        if (eventData instanceof EventDeserializer.EventDataWrapper) {
+            eventData = ((EventDeserializer.EventDataWrapper) eventData).getInternal();
+        }
+        final long tableNumber;
+        if (eventData instanceof WriteRowsEventData) {
+            tableNumber = ((WriteRowsEventData) eventData).getTableId();
+        } else if (eventData instanceof UpdateRowsEventData) {
+            tableNumber = ((UpdateRowsEventData) eventData).getTableId();
+        } else if (eventData instanceof DeleteRowsEventData) {
+            tableNumber = ((DeleteRowsEventData) eventData).getTableId();
+        } else {
+            // the other events are needed by every binlog split to maintain the offsets and
+            // the schemas
+            return true;
+        }
+        TableId tableId = statefulTaskContext.getDatabaseSchema().getTableId(tableNumber);
+        // the rows event of an unknown table is left to debezium
+        return tableId == null || currentBinlogSplit.isTableInShard(tableId);
     }
 
-    private Predicate<Event> createEventFilter(BinlogOffset startingOffset) {
+    private Predicate<Event> createTimestampFilter(BinlogOffset startingOffset) {
         // If the startup mode is set as TIMESTAMP, we need to apply a filter on event to drop
         // events earlier than the specified timestamp.
         if (BinlogOffsetKind.TIMESTAMP.equals(startingOffset.getOffsetKind())) {
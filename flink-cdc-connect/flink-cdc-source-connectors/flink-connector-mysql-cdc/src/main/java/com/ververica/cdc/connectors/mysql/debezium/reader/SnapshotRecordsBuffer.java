@@ -0,0 +1,343 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.FileUtils;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.formatMessageTimestamp;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getStructContainsChunkKey;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.upsertBinlog;
+
+/**
+ * The buffer used by {@link SnapshotSplitReader} to normalize the snapshot records of a split with
+ * the binlog records read during backfill.
+ *
+ * <p>The records are kept in a key to records map in memory until the estimated size of the
+ * buffered records exceeds the memory budget. After that, the buffer spills the records to a set of
+ * local files which are partitioned by the hash of the chunk key struct, all the records of a key
+ * are written to the same file in their arriving order. The normalized records are then produced
+ * partition by partition, so only the records of one partition are loaded in memory at a time.
+ *
+ * <p>The records of a table without primary key are always kept in memory, as their rows are
+ * identified by the whole row value which changes with every update, so the records of a row can't
+ * be partitioned by a stable key.
+ */
+public class SnapshotRecordsBuffer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotRecordsBuffer.class);
+
+    private static final int SPILL_PARTITION_NUM = 64;
+    private static final int SPILL_BUFFER_SIZE = 32 * 1024;
+
+    private static final byte SNAPSHOT_RECORD = 0;
+    private static final byte BINLOG_RECORD = 1;
+
+    private final String splitId;
+    private final long memoryBudget;
+    private final String[] tmpDirectories;
+    private final RowType splitKeyType;
+    private final SchemaNameAdjuster nameAdjuster;
+    private final Object[] splitStart;
+    private final Object[] splitEnd;
+
+    private Map<Struct, List<SourceRecord>> snapshotRecords;
+    private long estimatedSize;
+    private boolean keyless;
+    private boolean spillDisabled;
+
+    // the spill files, only initialized after spilling
+    @Nullable private SourceRecordSerializer serializer;
+    @Nullable private File spillDirectory;
+    @Nullable private File[] spillFiles;
+    @Nullable private DataOutputStream[] spillOutputs;
+
+    public SnapshotRecordsBuffer(
+            String splitId,
+            long memoryBudget,
+            String[] tmpDirectories,
+            RowType splitKeyType,
+            SchemaNameAdjuster nameAdjuster,
+            Object[] splitStart,
+            Object[] splitEnd) {
+        this.splitId = splitId;
+        this.memoryBudget = memoryBudget;
+        this.tmpDirectories = tmpDirectories;
+        this.splitKeyType = splitKeyType;
+        this.nameAdjuster = nameAdjuster;
+        this.splitStart = splitStart;
+        this.splitEnd = splitEnd;
+        this.snapshotRecords = new HashMap<>();
+    }
+
+    /** Adds a record read in the snapshot phase of the split. */
+    public void addSnapshotRecord(SourceRecord record) throws IOException {
+        if (isSpilled()) {
+            writeRecord(SNAPSHOT_RECORD, record);
+            return;
+        }
+        putSnapshotRecord(snapshotRecords, record);
+        estimatedSize += SourceRecordSerializer.estimateSize(record);
+        keyless |= record.key() == null;
+        spillIfNeeded();
+    }
+
+    /** Adds a binlog record read in the backfill phase of the split. */
+    public void addBinlogRecord(SourceRecord record) throws IOException {
+        if (isSpilled()) {
+            // the binlog records which don't change data are ignored in normalization
+            if (isDataChangeRecord(record) && record.value() != null) {
+                writeRecord(BINLOG_RECORD, record);
+            }
+            return;
+        }
+        upsertBinlog(snapshotRecords, record, splitKeyType, nameAdjuster, splitStart, splitEnd);
+        estimatedSize += SourceRecordSerializer.estimateSize(record);
+        keyless |= isDataChangeRecord(record) && record.key() == null;
+        spillIfNeeded();
+    }
+
+    public boolean isSpilled() {
+        return spillFiles != null;
+    }
+
+    /**
+     * Returns the normalized records surrounded by the given watermark events. The records are
+     * returned as a single batch if the buffer hasn't been spilled, or one batch per spilled
+     * partition otherwise.
+     */
+    public Iterator<SourceRecords> getNormalizedRecords(
+            SourceRecord lowWatermark, SourceRecord highWatermark) throws IOException {
+        if (!isSpilled()) {
+            final List<SourceRecord> normalizedRecords = new ArrayList<>();
+            normalizedRecords.add(lowWatermark);
+            normalizedRecords.addAll(formatMessageTimestamp(flatten(snapshotRecords)));
+            normalizedRecords.add(highWatermark);
+            snapshotRecords = new HashMap<>();
+            return Collections.singletonList(new SourceRecords(normalizedRecords)).iterator();
+        }
+        for (DataOutputStream spillOutput : spillOutputs) {
+            spillOutput.close();
+        }
+        return new SpilledRecordsIterator(lowWatermark, highWatermark);
+    }
+
+    /** Releases the memory and the spill files held by this buffer. */
+    public void close() {
+        snapshotRecords = new HashMap<>();
+        if (spillOutputs != null) {
+            for (DataOutputStream spillOutput : spillOutputs) {
+                try {
+                    spillOutput.close();
+                } catch (IOException e) {
+                    LOG.warn("Failed to close spill file of snapshot split {}.", splitId, e);
+                }
+            }
+        }
+        deleteSpillDirectory();
+    }
+
+    private void spillIfNeeded() throws IOException {
+        if (spillDisabled || estimatedSize <= memoryBudget) {
+            return;
+        }
+        if (keyless) {
+            LOG.warn(
+                    "The buffered records of snapshot split {} exceed the memory budget of {} "
+                            + "bytes, but the table has no primary key, keep them in memory.",
+                    splitId,
+                    memoryBudget);
+            spillDisabled = true;
+            return;
+        }
+        LOG.info(
+                "The buffered records of snapshot split {} exceed the memory budget of {} bytes, "
+                        + "spill them to local files.",
+                splitId,
+                memoryBudget);
+        // spread the splits over the configured temp directories, like Flink does for its own
+        // spill files, the directory is deleted when the buffer is closed
+        String tmpDirectory =
+                tmpDirectories[Math.floorMod(splitId.hashCode(), tmpDirectories.length)];
+        spillDirectory =
+                Files.createTempDirectory(Paths.get(tmpDirectory), "flink-cdc-snapshot-split-")
+                        .toFile();
+        serializer = new SourceRecordSerializer();
+        spillFiles = new File[SPILL_PARTITION_NUM];
+        spillOutputs = new DataOutputStream[SPILL_PARTITION_NUM];
+        for (int i = 0; i < SPILL_PARTITION_NUM; i++) {
+            spillFiles[i] = new File(spillDirectory, "partition-" + i);
+            spillOutputs[i] =
+                    new DataOutputStream(
+                            new BufferedOutputStream(
+                                    new FileOutputStream(spillFiles[i]), SPILL_BUFFER_SIZE));
+        }
+        // the normalized state of records in memory can be regarded as snapshot records
+        for (SourceRecord record : flatten(snapshotRecords)) {
+            writeRecord(SNAPSHOT_RECORD, record);
+        }
+        snapshotRecords = new HashMap<>();
+        estimatedSize = 0;
+    }
+
+    private void writeRecord(byte recordKind, SourceRecord record) throws IOException {
+        int partition =
+                Math.floorMod(getStructContainsChunkKey(record).hashCode(), SPILL_PARTITION_NUM);
+        DataOutputStream spillOutput = spillOutputs[partition];
+        spillOutput.writeByte(recordKind);
+        serializer.serialize(record, spillOutput);
+    }
+
+    private List<SourceRecord> readPartition(int partition) throws IOException {
+        Map<Struct, List<SourceRecord>> partitionRecords = new HashMap<>();
+        try (DataInputStream spillInput =
+                new DataInputStream(
+                        new BufferedInputStream(
+                                new FileInputStream(spillFiles[partition]), SPILL_BUFFER_SIZE))) {
+            while (true) {
+                byte recordKind;
+                try {
+                    recordKind = spillInput.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+                SourceRecord record = serializer.deserialize(spillInput);
+                if (recordKind == SNAPSHOT_RECORD) {
+                    putSnapshotRecord(partitionRecords, record);
+                } else {
+                    upsertBinlog(
+                            partitionRecords,
+                            record,
+                            splitKeyType,
+                            nameAdjuster,
+                            splitStart,
+                            splitEnd);
+                }
+            }
+        }
+        Files.delete(spillFiles[partition].toPath());
+        return formatMessageTimestamp(flatten(partitionRecords));
+    }
+
+    private void deleteSpillDirectory() {
+        if (spillDirectory != null) {
+            try {
+                FileUtils.deleteDirectory(spillDirectory);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete spill directory {}.", spillDirectory, e);
+            }
+            spillDirectory = null;
+        }
+    }
+
+    private static void putSnapshotRecord(
+            Map<Struct, List<SourceRecord>> records, SourceRecord record) {
+        if (record.key() != null) {
+            records.put((Struct) record.key(), Collections.singletonList(record));
+        } else {
+            records.computeIfAbsent((Struct) record.value(), key -> new LinkedList<>()).add(record);
+        }
+    }
+
+    private static List<SourceRecord> flatten(Map<Struct, List<SourceRecord>> records) {
+        return records.values().stream().flatMap(Collection::stream).collect(Collectors.toList());
+    }
+
+    /** Iterator that loads the normalized records of spilled partitions one by one. */
+    private class SpilledRecordsIterator implements Iterator<SourceRecords> {
+
+        private SourceRecord lowWatermark;
+        private SourceRecord highWatermark;
+        private int nextPartition;
+
+        private SpilledRecordsIterator(SourceRecord lowWatermark, SourceRecord highWatermark) {
+            this.lowWatermark = lowWatermark;
+            this.highWatermark = highWatermark;
+            this.nextPartition = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return highWatermark != null;
+        }
+
+        @Override
+        public SourceRecords next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (lowWatermark != null) {
+                SourceRecords records = SourceRecords.fromSingleRecord(lowWatermark);
+                lowWatermark = null;
+                return records;
+            }
+            while (nextPartition < SPILL_PARTITION_NUM) {
+                List<SourceRecord> records;
+                try {
+                    records = readPartition(nextPartition++);
+                } catch (IOException e) {
+                    close();
+                    throw new FlinkRuntimeException(
+                            String.format(
+                                    "Failed to read spilled records of snapshot split %s.",
+                                    splitId),
+                            e);
+                }
+                if (!records.isEmpty()) {
+                    return new SourceRecords(records);
+                }
+            }
+            SourceRecords records = SourceRecords.fromSingleRecord(highWatermark);
+            highWatermark = null;
+            deleteSpillDirectory();
+            return records;
+        }
+    }
+}
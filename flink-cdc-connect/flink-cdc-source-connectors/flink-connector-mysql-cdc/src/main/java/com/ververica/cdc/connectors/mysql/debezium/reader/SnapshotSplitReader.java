@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.connectors.mysql.debezium.reader;
 
+import org.apache.flink.configuration.CoreOptions;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -42,32 +43,25 @@ import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.pipeline.source.spi.ChangeEventSource;
 import io.debezium.pipeline.spi.SnapshotResult;
 import io.debezium.util.SchemaNameAdjuster;
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.formatMessageTimestamp;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isHighWatermarkEvent;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isLowWatermarkEvent;
-import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.upsertBinlog;
 import static org.apache.flink.util.Preconditions.checkState;
 
 /**
@@ -80,6 +74,9 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private final StatefulTaskContext statefulTaskContext;
     private final ExecutorService executorService;
     private final SnapshotPhaseHooks hooks;
+    private final String[] tmpDirectories;
+    // the readers of a subtask share the server id, so their backfills must not run at once
+    private final Object backfillLock;
 
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile boolean currentTaskRunning;
@@ -92,10 +89,18 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     public AtomicBoolean hasNextElement;
     public AtomicBoolean reachEnd;
 
+    // the watermark events of current split, only used when the records are emitted in batches
+    @Nullable private SourceRecord currentLowWatermark;
+    @Nullable private SourceRecord currentHighWatermark;
+
     private static final long READER_CLOSE_TIMEOUT = 30L;
 
     public SnapshotSplitReader(
-            StatefulTaskContext statefulTaskContext, int subtaskId, SnapshotPhaseHooks hooks) {
+            StatefulTaskContext statefulTaskContext,
+            int subtaskId,
+            SnapshotPhaseHooks hooks,
+            String[] tmpDirectories,
+            Object backfillLock) {
         this.statefulTaskContext = statefulTaskContext;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
@@ -105,11 +110,23 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                         .build();
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.hooks = hooks;
+        this.tmpDirectories = tmpDirectories;
+        this.backfillLock = backfillLock;
         this.currentTaskRunning = false;
         this.hasNextElement = new AtomicBoolean(false);
         this.reachEnd = new AtomicBoolean(false);
     }
 
+    public SnapshotSplitReader(
+            StatefulTaskContext statefulTaskContext, int subtaskId, SnapshotPhaseHooks hooks) {
+        this(
+                statefulTaskContext,
+                subtaskId,
+                hooks,
+                new String[] {CoreOptions.TMP_DIRS.defaultValue()},
+                new Object());
+    }
+
     public SnapshotSplitReader(StatefulTaskContext statefulTaskContext, int subtaskId) {
         this(statefulTaskContext, subtaskId, SnapshotPhaseHooks.empty());
     }
@@ -122,6 +139,8 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
         this.nameAdjuster = statefulTaskContext.getSchemaNameAdjuster();
         this.hasNextElement.set(true);
         this.reachEnd.set(false);
+        this.currentLowWatermark = null;
+        this.currentHighWatermark = null;
         this.splitSnapshotReadTask =
                 new MySqlSnapshotSplitReadTask(
                         statefulTaskContext.getSourceConfig(),
@@ -148,7 +167,9 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
 
                         // Step 2: read binlog events between low and high watermark and backfill
                         // changes into snapshot
-                        backfill(snapshotResult, sourceContext);
+                        synchronized (backfillLock) {
+                            backfill(snapshotResult, sourceContext);
+                        }
 
                     } catch (Exception e) {
                         setReadException(e);
@@ -240,7 +261,9 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                 (MySqlStreamingChangeEventSourceMetrics)
                         statefulTaskContext.getStreamingChangeEventSourceMetrics(),
                 backfillBinlogSplit,
-                event -> true);
+                event -> true,
+                // the backfill reads a short range of binlog, which does not pay off the workers
+                0);
     }
 
     private void dispatchBinlogEndEvent(MySqlBinlogSplit backFillBinlogSplit)
@@ -267,7 +290,9 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     public Iterator<SourceRecords> pollSplitRecords() throws InterruptedException {
         checkReadException();
 
-        if (hasNextElement.get()) {
+        if (hasNextElement.get() && isBackfillSkipped()) {
+            return pollSnapshotRecordsInBatches();
+        } else if (hasNextElement.get()) {
             // data input: [low watermark event][snapshot events][high watermark event][binlog
             // events][binlog-end event]
             // data output: [low watermark event][normalized events][high watermark event]
@@ -276,73 +301,129 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
             SourceRecord lowWatermark = null;
             SourceRecord highWatermark = null;
 
-            Map<Struct, List<SourceRecord>> snapshotRecords = new HashMap<>();
-            while (!reachBinlogEnd) {
-                checkReadException();
-                List<DataChangeEvent> batch = queue.poll();
-                for (DataChangeEvent event : batch) {
-                    SourceRecord record = event.getRecord();
-                    if (lowWatermark == null) {
-                        lowWatermark = record;
-                        assertLowWatermark(lowWatermark);
-                        continue;
-                    }
+            final SnapshotRecordsBuffer snapshotRecords =
+                    new SnapshotRecordsBuffer(
+                            currentSnapshotSplit.splitId(),
+                            statefulTaskContext.getSourceConfig().getChunkMemoryBudget(),
+                            tmpDirectories,
+                            currentSnapshotSplit.getSplitKeyType(),
+                            nameAdjuster,
+                            currentSnapshotSplit.getSplitStart(),
+                            currentSnapshotSplit.getSplitEnd());
+            try {
+                while (!reachBinlogEnd) {
+                    checkReadException();
+                    List<DataChangeEvent> batch = queue.poll();
+                    for (DataChangeEvent event : batch) {
+                        SourceRecord record = event.getRecord();
+                        if (lowWatermark == null) {
+                            lowWatermark = record;
+                            assertLowWatermark(lowWatermark);
+                            continue;
+                        }
 
-                    if (highWatermark == null && isHighWatermarkEvent(record)) {
-                        highWatermark = record;
-                        // snapshot events capture end and begin to capture binlog events
-                        reachBinlogStart = true;
-                        continue;
-                    }
+                        if (highWatermark == null && isHighWatermarkEvent(record)) {
+                            highWatermark = record;
+                            // snapshot events capture end and begin to capture binlog events
+                            reachBinlogStart = true;
+                            continue;
+                        }
 
-                    if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
-                        // capture to end watermark events, stop the loop
-                        reachBinlogEnd = true;
-                        break;
-                    }
+                        if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
+                            // capture to end watermark events, stop the loop
+                            reachBinlogEnd = true;
+                            break;
+                        }
 
-                    if (!reachBinlogStart) {
-                        if (record.key() != null) {
-                            snapshotRecords.put(
-                                    (Struct) record.key(), Collections.singletonList(record));
+                        if (!reachBinlogStart) {
+                            snapshotRecords.addSnapshotRecord(record);
                         } else {
-                            List<SourceRecord> records =
-                                    snapshotRecords.computeIfAbsent(
-                                            (Struct) record.value(), key -> new LinkedList<>());
-                            records.add(record);
+                            snapshotRecords.addBinlogRecord(record);
                         }
-                    } else {
-                        upsertBinlog(
-                                snapshotRecords,
-                                record,
-                                currentSnapshotSplit.getSplitKeyType(),
-                                nameAdjuster,
-                                currentSnapshotSplit.getSplitStart(),
-                                currentSnapshotSplit.getSplitEnd());
                     }
                 }
+                // snapshot split return its data once
+                hasNextElement.set(false);
+                return snapshotRecords.getNormalizedRecords(lowWatermark, highWatermark);
+            } catch (IOException e) {
+                snapshotRecords.close();
+                throw new FlinkRuntimeException(
+                        String.format(
+                                "Failed to normalize records of split %s.", currentSnapshotSplit),
+                        e);
+            } catch (RuntimeException | InterruptedException e) {
+                snapshotRecords.close();
+                throw e;
             }
-            // snapshot split return its data once
-            hasNextElement.set(false);
-
-            final List<SourceRecord> normalizedRecords = new ArrayList<>();
-            normalizedRecords.add(lowWatermark);
-            normalizedRecords.addAll(
-                    formatMessageTimestamp(
-                            snapshotRecords.values().stream()
-                                    .flatMap(Collection::stream)
-                                    .collect(Collectors.toList())));
-            normalizedRecords.add(highWatermark);
-
-            final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-            sourceRecordsSet.add(new SourceRecords(normalizedRecords));
-            return sourceRecordsSet.iterator();
         }
         // the data has been polled, no more data
         reachEnd.compareAndSet(false, true);
         return null;
     }
 
+    /**
+     * Polls the records of current split in batches. The high watermark equals to the low
+     * watermark when backfill is skipped, so there is no binlog event need to be merged into the
+     * snapshot events, and the snapshot events can be emitted as soon as they are read.
+     *
+     * <p>data input: [low watermark event][snapshot events][high watermark event][binlog-end
+     * event]
+     *
+     * <p>data output: [low watermark event][snapshot events]...[snapshot events][high watermark
+     * event]
+     */
+    private Iterator<SourceRecords> pollSnapshotRecordsInBatches() throws InterruptedException {
+        final List<SourceRecord> snapshotRecords = new ArrayList<>();
+        final List<SourceRecord> normalizedRecords = new ArrayList<>();
+        while (normalizedRecords.isEmpty()) {
+            checkReadException();
+            List<DataChangeEvent> batch = queue.poll();
+            for (DataChangeEvent event : batch) {
+                SourceRecord record = event.getRecord();
+                if (currentLowWatermark == null) {
+                    currentLowWatermark = record;
+                    assertLowWatermark(currentLowWatermark);
+                    normalizedRecords.add(currentLowWatermark);
+                    continue;
+                }
+
+                if (currentHighWatermark == null && isHighWatermarkEvent(record)) {
+                    currentHighWatermark = record;
+                    continue;
+                }
+
+                if (currentHighWatermark == null) {
+                    snapshotRecords.add(record);
+                } else if (RecordUtils.isEndWatermarkEvent(record)) {
+                    // snapshot split return its high watermark at the end
+                    hasNextElement.set(false);
+                    break;
+                }
+            }
+            normalizedRecords.addAll(formatMessageTimestamp(snapshotRecords));
+            snapshotRecords.clear();
+            if (!hasNextElement.get()) {
+                normalizedRecords.add(currentHighWatermark);
+            }
+        }
+
+        final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
+        sourceRecordsSet.add(new SourceRecords(normalizedRecords));
+        return sourceRecordsSet.iterator();
+    }
+
+    private boolean isBackfillSkipped() {
+        return statefulTaskContext.getSourceConfig().isSkipSnapshotBackfill();
+    }
+
+    /**
+     * Returns whether all the records of current split have been polled. The records of a split
+     * may be polled in multiple batches if backfill is skipped.
+     */
+    public boolean isCurrentSplitPolled() {
+        return !hasNextElement.get();
+    }
+
     private void checkReadException() {
         if (readException != null) {
             throw new FlinkRuntimeException(
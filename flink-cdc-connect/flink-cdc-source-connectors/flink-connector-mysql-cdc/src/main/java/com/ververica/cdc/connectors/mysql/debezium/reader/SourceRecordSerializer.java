@@ -0,0 +1,355 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.util.InstantiationUtil;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import javax.annotation.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A binary serializer for {@link SourceRecord}s which is used to spill snapshot records to local
+ * files.
+ *
+ * <p>The schemas of the records are not written to the files, they are kept in memory by the
+ * serializer and referenced by an integer id. Therefore, a record can only be deserialized by the
+ * serializer instance that serialized it.
+ */
+public class SourceRecordSerializer {
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT8 = 2;
+    private static final byte INT16 = 3;
+    private static final byte INT32 = 4;
+    private static final byte INT64 = 5;
+    private static final byte FLOAT32 = 6;
+    private static final byte FLOAT64 = 7;
+    private static final byte STRING = 8;
+    private static final byte BYTES = 9;
+    private static final byte BYTE_BUFFER = 10;
+    private static final byte DECIMAL = 11;
+    private static final byte DATE = 12;
+    private static final byte STRUCT = 13;
+    private static final byte ARRAY = 14;
+    private static final byte MAP = 15;
+    private static final byte SERIALIZED = 16;
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+
+    private final List<Schema> schemas = new ArrayList<>();
+    private final Map<Schema, Integer> schemaIds = new IdentityHashMap<>();
+
+    public void serialize(SourceRecord record, DataOutput out) throws IOException {
+        writeValue(record.sourcePartition(), null, out);
+        writeValue(record.sourceOffset(), null, out);
+        writeString(record.topic(), out);
+        writeValue(record.kafkaPartition(), null, out);
+        writeValue(record.timestamp(), null, out);
+        out.writeInt(getSchemaId(record.keySchema()));
+        writeValue(record.key(), record.keySchema(), out);
+        out.writeInt(getSchemaId(record.valueSchema()));
+        writeValue(record.value(), record.valueSchema(), out);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SourceRecord deserialize(DataInput in) throws IOException {
+        Map<String, ?> sourcePartition = (Map<String, ?>) readValue(null, in);
+        Map<String, ?> sourceOffset = (Map<String, ?>) readValue(null, in);
+        String topic = readString(in);
+        Integer kafkaPartition = (Integer) readValue(null, in);
+        Long timestamp = (Long) readValue(null, in);
+        Schema keySchema = getSchema(in.readInt());
+        Object key = readValue(keySchema, in);
+        Schema valueSchema = getSchema(in.readInt());
+        Object value = readValue(valueSchema, in);
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition,
+                keySchema,
+                key,
+                valueSchema,
+                value,
+                timestamp);
+    }
+
+    /** Returns the estimated heap size in bytes of the given record. */
+    public static long estimateSize(SourceRecord record) {
+        return OBJECT_OVERHEAD
+                + 8 * REFERENCE_SIZE
+                + estimateSize(record.key())
+                + estimateSize(record.value());
+    }
+
+    private static long estimateSize(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Struct) {
+            Struct struct = (Struct) value;
+            List<Field> fields = struct.schema().fields();
+            long size = 2 * OBJECT_OVERHEAD + (long) fields.size() * REFERENCE_SIZE;
+            for (Field field : fields) {
+                size += estimateSize(struct.getWithoutDefault(field.name()));
+            }
+            return size;
+        } else if (value instanceof String) {
+            return 2 * OBJECT_OVERHEAD + ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD + ((byte[]) value).length;
+        } else if (value instanceof ByteBuffer) {
+            return 3 * OBJECT_OVERHEAD + ((ByteBuffer) value).capacity();
+        } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 4 * OBJECT_OVERHEAD;
+        } else if (value instanceof List) {
+            long size = 2 * OBJECT_OVERHEAD;
+            for (Object element : (List<?>) value) {
+                size += REFERENCE_SIZE + estimateSize(element);
+            }
+            return size;
+        } else if (value instanceof Map) {
+            long size = 2 * OBJECT_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 2 * OBJECT_OVERHEAD + estimateSize(entry.getKey());
+                size += estimateSize(entry.getValue());
+            }
+            return size;
+        } else {
+            return OBJECT_OVERHEAD + 8;
+        }
+    }
+
+    private int getSchemaId(@Nullable Schema schema) {
+        if (schema == null) {
+            return -1;
+        }
+        Integer schemaId = schemaIds.get(schema);
+        if (schemaId == null) {
+            schemaId = schemas.size();
+            schemas.add(schema);
+            schemaIds.put(schema, schemaId);
+        }
+        return schemaId;
+    }
+
+    @Nullable
+    private Schema getSchema(int schemaId) {
+        return schemaId < 0 ? null : schemas.get(schemaId);
+    }
+
+    private static void writeValue(@Nullable Object value, @Nullable Schema schema, DataOutput out)
+            throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Struct) {
+            Struct struct = (Struct) value;
+            out.writeByte(STRUCT);
+            for (Field field : struct.schema().fields()) {
+                writeValue(struct.getWithoutDefault(field.name()), field.schema(), out);
+            }
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(INT8);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(INT16);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT32);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(INT64);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT32);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(FLOAT64);
+            out.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString((String) value, out);
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes((byte[]) value, out);
+        } else if (value instanceof ByteBuffer) {
+            ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            out.writeByte(BYTE_BUFFER);
+            writeBytes(bytes, out);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.writeByte(DECIMAL);
+            out.writeInt(decimal.scale());
+            writeBytes(decimal.unscaledValue().toByteArray(), out);
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            Schema elementSchema = schema == null ? null : schema.valueSchema();
+            out.writeByte(ARRAY);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(element, elementSchema, out);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Schema keySchema = schema == null ? null : schema.keySchema();
+            Schema valueSchema = schema == null ? null : schema.valueSchema();
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey(), keySchema, out);
+                writeValue(entry.getValue(), valueSchema, out);
+            }
+        } else if (value instanceof Serializable) {
+            out.writeByte(SERIALIZED);
+            writeBytes(InstantiationUtil.serializeObject(value), out);
+        } else {
+            throw new IOException(
+                    String.format(
+                            "Unsupported value type %s of the source record.",
+                            value.getClass().getName()));
+        }
+    }
+
+    private static Object readValue(@Nullable Schema schema, DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRUCT:
+                if (schema == null) {
+                    throw new IOException("Can not deserialize a struct value without schema.");
+                }
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = readValue(field.schema(), in);
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                return struct;
+            case BOOLEAN:
+                return in.readBoolean();
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                return in.readInt();
+            case INT64:
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case STRING:
+                return readString(in);
+            case BYTES:
+                return readBytes(in);
+            case BYTE_BUFFER:
+                return ByteBuffer.wrap(readBytes(in));
+            case DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case DATE:
+                return new Date(in.readLong());
+            case ARRAY:
+                Schema elementSchema = schema == null ? null : schema.valueSchema();
+                int length = in.readInt();
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(readValue(elementSchema, in));
+                }
+                return list;
+            case MAP:
+                Schema keySchema = schema == null ? null : schema.keySchema();
+                Schema valueSchema = schema == null ? null : schema.valueSchema();
+                int size = in.readInt();
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(keySchema, in), readValue(valueSchema, in));
+                }
+                return map;
+            case SERIALIZED:
+                try {
+                    return InstantiationUtil.deserializeObject(
+                            readBytes(in), SourceRecordSerializer.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Failed to deserialize value of the source record.", e);
+                }
+            default:
+                throw new IOException("Unknown value tag " + tag + " of the source record.");
+        }
+    }
+
+    private static void writeString(@Nullable String value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+        }
+    }
+
+    @Nullable
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
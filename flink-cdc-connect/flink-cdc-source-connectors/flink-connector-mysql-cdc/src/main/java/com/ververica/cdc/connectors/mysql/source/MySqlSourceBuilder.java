@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.connectors.mysql.source;
 
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.catalog.ObjectPath;
 
 import com.ververica.cdc.common.annotation.PublicEvolving;
@@ -253,6 +254,60 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The memory budget for normalizing the records of a snapshot chunk. Once the estimated size
+     * of the buffered records exceeds the budget, the records are spilled to local files.
+     */
+    public MySqlSourceBuilder<T> chunkMemoryBudget(MemorySize chunkMemoryBudget) {
+        this.configFactory.chunkMemoryBudget(chunkMemoryBudget);
+        return this;
+    }
+
+    /**
+     * The target size of a snapshot chunk. The number of rows of a chunk is derived from the
+     * average row length of the table instead of using the split size.
+     */
+    public MySqlSourceBuilder<T> chunkTargetSize(MemorySize chunkTargetSize) {
+        this.configFactory.chunkTargetSize(chunkTargetSize);
+        return this;
+    }
+
+    /**
+     * The target time to read a snapshot chunk. The chunks are sized by the read throughput
+     * reported by the source readers.
+     */
+    public MySqlSourceBuilder<T> chunkTargetReadTime(Duration chunkTargetReadTime) {
+        this.configFactory.chunkTargetReadTime(chunkTargetReadTime);
+        return this;
+    }
+
+    /**
+     * The number of worker threads decoding the rows events of the binlog, 0 decodes them on the
+     * thread reading the binlog.
+     */
+    public MySqlSourceBuilder<T> binlogDeserializationThreads(int binlogDeserializationThreads) {
+        this.configFactory.binlogDeserializationThreads(binlogDeserializationThreads);
+        return this;
+    }
+
+    /**
+     * The number of binlog splits reading the binlog, each of them only emits the change events of
+     * its share of the captured tables.
+     */
+    public MySqlSourceBuilder<T> binlogSplitNumber(int binlogSplitNumber) {
+        this.configFactory.binlogSplitNumber(binlogSplitNumber);
+        return this;
+    }
+
+    /**
+     * The number of snapshot splits fetched at the same time by a source reader, each of them
+     * through its own connection.
+     */
+    public MySqlSourceBuilder<T> chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.configFactory.chunkFetchConcurrency(chunkFetchConcurrency);
+        return this;
+    }
+
     /**
      * Whether to close idle readers at the end of the snapshot phase. This feature depends on
      * FLIP-147: Support Checkpoints After Tasks Finished. The flink version is required to be
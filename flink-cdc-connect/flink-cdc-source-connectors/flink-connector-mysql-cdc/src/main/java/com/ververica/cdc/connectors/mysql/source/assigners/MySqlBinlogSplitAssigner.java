@@ -33,6 +33,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 /** A {@link MySqlSplitAssigner} which only read binlog from current binlog position. */
 public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
@@ -41,21 +43,74 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
 
     private final MySqlSourceConfig sourceConfig;
 
+    private final Set<Integer> assignedBinlogSplitShards;
+
+    private final int binlogSplitNumber;
+
     private boolean isBinlogSplitAssigned;
 
     public MySqlBinlogSplitAssigner(MySqlSourceConfig sourceConfig) {
-        this(sourceConfig, false);
+        this(sourceConfig, false, Collections.emptySet(), sourceConfig.getBinlogSplitNumber());
     }
 
     public MySqlBinlogSplitAssigner(
             MySqlSourceConfig sourceConfig, BinlogPendingSplitsState checkpoint) {
-        this(sourceConfig, checkpoint.isBinlogSplitAssigned());
+        this(
+                sourceConfig,
+                checkpoint.isBinlogSplitAssigned(),
+                checkpoint.getAssignedBinlogSplitShards(),
+                getRestoredBinlogSplitNumber(
+                        sourceConfig,
+                        checkpoint.isBinlogSplitAssigned(),
+                        checkpoint.getAssignedBinlogSplitShards(),
+                        checkpoint.getBinlogSplitShardCount()));
     }
 
     private MySqlBinlogSplitAssigner(
-            MySqlSourceConfig sourceConfig, boolean isBinlogSplitAssigned) {
+            MySqlSourceConfig sourceConfig,
+            boolean isBinlogSplitAssigned,
+            Set<Integer> assignedBinlogSplitShards,
+            int binlogSplitNumber) {
         this.sourceConfig = sourceConfig;
         this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this.assignedBinlogSplitShards = new TreeSet<>(assignedBinlogSplitShards);
+        this.binlogSplitNumber = binlogSplitNumber;
+    }
+
+    /**
+     * Returns the id of the binlog split reading the given table shard, the only binlog split keeps
+     * the id of {@link #BINLOG_SPLIT_ID}.
+     */
+    public static String getBinlogSplitId(int tableShardIndex, int tableShardCount) {
+        return tableShardCount == 1 ? BINLOG_SPLIT_ID : BINLOG_SPLIT_ID + "-" + tableShardIndex;
+    }
+
+    /**
+     * Returns the number of binlog splits to assign after restoring from a checkpoint. Once a
+     * binlog split has been assigned, the table shard count is fixed by the splits being read, so
+     * the splits added back are re-created with the same count even if the configured number
+     * changed.
+     */
+    static int getRestoredBinlogSplitNumber(
+            MySqlSourceConfig sourceConfig,
+            boolean isBinlogSplitAssigned,
+            Set<Integer> assignedBinlogSplitShards,
+            int binlogSplitShardCount) {
+        return isBinlogSplitAssigned || !assignedBinlogSplitShards.isEmpty()
+                ? binlogSplitShardCount
+                : sourceConfig.getBinlogSplitNumber();
+    }
+
+    /**
+     * Returns the first table shard which has no binlog split assigned, and marks it as assigned.
+     */
+    static int assignNextBinlogSplitShard(Set<Integer> assignedBinlogSplitShards) {
+        int tableShardIndex = 0;
+        while (assignedBinlogSplitShards.contains(tableShardIndex)) {
+            tableShardIndex++;
+        }
+        assignedBinlogSplitShards.add(tableShardIndex);
+        return tableShardIndex;
     }
 
     @Override
@@ -66,8 +121,9 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
         if (isBinlogSplitAssigned) {
             return Optional.empty();
         } else {
-            isBinlogSplitAssigned = true;
-            return Optional.of(createBinlogSplit());
+            int tableShardIndex = assignNextBinlogSplitShard(assignedBinlogSplitShards);
+            isBinlogSplitAssigned = assignedBinlogSplitShards.size() >= binlogSplitNumber;
+            return Optional.of(createBinlogSplit(tableShardIndex, binlogSplitNumber));
         }
     }
 
@@ -90,13 +146,17 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
     public void addSplits(Collection<MySqlSplit> splits) {
         if (!CollectionUtil.isNullOrEmpty(splits)) {
             // we don't store the split, but will re-create binlog split later
+            for (MySqlSplit split : splits) {
+                assignedBinlogSplitShards.remove(split.asBinlogSplit().getTableShardIndex());
+            }
             isBinlogSplitAssigned = false;
         }
     }
 
     @Override
     public PendingSplitsState snapshotState(long checkpointId) {
-        return new BinlogPendingSplitsState(isBinlogSplitAssigned);
+        return new BinlogPendingSplitsState(
+                isBinlogSplitAssigned, new TreeSet<>(assignedBinlogSplitShards), binlogSplitNumber);
     }
 
     @Override
@@ -125,13 +185,16 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
 
     // ------------------------------------------------------------------------------------------
 
-    private MySqlBinlogSplit createBinlogSplit() {
+    private MySqlBinlogSplit createBinlogSplit(int tableShardIndex, int tableShardCount) {
         return new MySqlBinlogSplit(
-                BINLOG_SPLIT_ID,
+                getBinlogSplitId(tableShardIndex, tableShardCount),
                 sourceConfig.getStartupOptions().binlogOffset,
                 BinlogOffset.ofNonStopping(),
                 new ArrayList<>(),
                 new HashMap<>(),
-                0);
+                0,
+                false,
+                tableShardIndex,
+                tableShardCount);
     }
 }
@@ -42,6 +42,7 @@ import javax.annotation.Nullable;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,12 +50,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.openJdbcConnection;
 import static com.ververica.cdc.connectors.mysql.source.utils.ObjectUtils.doubleCompare;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryApproximateRowCnt;
+import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryAvgRowLength;
+import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryIndexCardinality;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryMin;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryMinMax;
+import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryNextChunkKeys;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryNextChunkMax;
 import static java.math.BigDecimal.ROUND_CEILING;
 
@@ -62,11 +67,27 @@ import static java.math.BigDecimal.ROUND_CEILING;
 public class MySqlChunkSplitter implements ChunkSplitter {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlChunkSplitter.class);
+
+    /** The max number of unevenly-sized chunks whose ends are computed by one query. */
+    private static final int MAX_CHUNKS_PER_QUERY = 16;
+
+    /** The max number of split keys fetched by one query to compute the chunk ends. */
+    private static final int MAX_KEYS_PER_QUERY = 128 * 1024;
+
+    /** The weight of the latest chunk in the moving average of the read throughput. */
+    private static final double THROUGHPUT_SMOOTHING_FACTOR = 0.3;
+
     private final Object lock = new Object();
 
     private final MySqlSourceConfig sourceConfig;
     private final MySqlSchema mySqlSchema;
 
+    /** The estimated size in bytes of the split chunks whose read time is not reported yet. */
+    private final Map<String, Long> estimatedChunkBytes = new ConcurrentHashMap<>();
+
+    /** The moving average of the read throughput in bytes per millisecond, 0 if unknown. */
+    private volatile double observedBytesPerMilli;
+
     @Nullable private TableId currentSplittingTableId;
     @Nullable private ChunkSplitterState.ChunkBound nextChunkStart;
     @Nullable private Integer nextChunkId;
@@ -77,6 +98,8 @@ public class MySqlChunkSplitter implements ChunkSplitter {
     private RowType splitType;
     private Object[] minMaxOfSplitColumn;
     private long approximateRowCnt;
+    private long avgRowLength;
+    private int chunkQueryCount;
 
     public MySqlChunkSplitter(MySqlSchema mySqlSchema, MySqlSourceConfig sourceConfig) {
         this(mySqlSchema, sourceConfig, null, null, null);
@@ -126,8 +149,8 @@ public class MySqlChunkSplitter implements ChunkSplitter {
                     this.currentSplittingTableId = tableId;
                     this.nextChunkStart = ChunkSplitterState.ChunkBound.START_BOUND;
                     this.nextChunkId = 0;
-                    return Collections.singletonList(
-                            splitOneUnevenlySizedChunk(partition, tableId));
+                    this.chunkQueryCount = 0;
+                    return splitUnevenlySizedChunks(partition, tableId);
                 }
             }
         } else {
@@ -138,7 +161,7 @@ public class MySqlChunkSplitter implements ChunkSplitter {
                 analyzeTable(partition, currentSplittingTableId);
             }
             synchronized (lock) {
-                return Collections.singletonList(splitOneUnevenlySizedChunk(partition, tableId));
+                return splitUnevenlySizedChunks(partition, tableId);
             }
         }
     }
@@ -154,15 +177,27 @@ public class MySqlChunkSplitter implements ChunkSplitter {
             splitType = ChunkUtils.getChunkKeyColumnType(splitColumn);
             minMaxOfSplitColumn = queryMinMax(jdbcConnection, tableId, splitColumn.name());
             approximateRowCnt = queryApproximateRowCnt(jdbcConnection, tableId);
+            if (sourceConfig.isAdaptiveChunkSizeEnabled()) {
+                avgRowLength = queryAvgRowLength(jdbcConnection, tableId);
+                // the index statistics are sampled separately, they correct a stale row count
+                approximateRowCnt =
+                        Math.max(
+                                approximateRowCnt,
+                                queryIndexCardinality(
+                                        jdbcConnection, tableId, splitColumn.name()));
+            }
         } catch (Exception e) {
             throw new RuntimeException("Fail to analyze table in chunk splitter.", e);
         }
     }
 
-    /** Generates one snapshot split (chunk) for the give table path. */
-    private MySqlSnapshotSplit splitOneUnevenlySizedChunk(MySqlPartition partition, TableId tableId)
-            throws SQLException {
-        final int chunkSize = sourceConfig.getSplitSize();
+    /**
+     * Generates the next snapshot splits (chunks) for the give table path, the ends of several
+     * chunks are computed by one query.
+     */
+    private List<MySqlSnapshotSplit> splitUnevenlySizedChunks(
+            MySqlPartition partition, TableId tableId) throws SQLException {
+        final int chunkSize = getChunkSize();
         final Object chunkStartVal = nextChunkStart.getValue();
         LOG.info(
                 "Use unevenly-sized chunks for table {}, the chunk size is {} from {}",
@@ -172,8 +207,8 @@ public class MySqlChunkSplitter implements ChunkSplitter {
                         ? "null"
                         : chunkStartVal.toString());
         // we start from [null, min + chunk_size) and avoid [null, min)
-        Object chunkEnd =
-                nextChunkEnd(
+        List<Object> chunkEnds =
+                nextChunkEnds(
                         jdbcConnection,
                         nextChunkStart == ChunkSplitterState.ChunkBound.START_BOUND
                                 ? minMaxOfSplitColumn[0]
@@ -183,29 +218,39 @@ public class MySqlChunkSplitter implements ChunkSplitter {
                         minMaxOfSplitColumn[1],
                         chunkSize);
         // may sleep a while to avoid DDOS on MySQL server
-        maySleep(nextChunkId, tableId);
-        if (chunkEnd != null && ObjectUtils.compare(chunkEnd, minMaxOfSplitColumn[1]) <= 0) {
-            nextChunkStart = ChunkSplitterState.ChunkBound.middleOf(chunkEnd);
-            return createSnapshotSplit(
-                    jdbcConnection,
-                    partition,
-                    tableId,
-                    nextChunkId++,
-                    splitType,
-                    chunkStartVal,
-                    chunkEnd);
-        } else {
-            currentSplittingTableId = null;
-            nextChunkStart = ChunkSplitterState.ChunkBound.END_BOUND;
-            return createSnapshotSplit(
-                    jdbcConnection,
-                    partition,
-                    tableId,
-                    nextChunkId++,
-                    splitType,
-                    chunkStartVal,
-                    null);
+        maySleep(chunkQueryCount++, nextChunkId, tableId);
+        final List<MySqlSnapshotSplit> splits = new ArrayList<>(chunkEnds.size());
+        Object chunkStart = chunkStartVal;
+        for (Object chunkEnd : chunkEnds) {
+            if (chunkEnd != null && ObjectUtils.compare(chunkEnd, minMaxOfSplitColumn[1]) <= 0) {
+                nextChunkStart = ChunkSplitterState.ChunkBound.middleOf(chunkEnd);
+                splits.add(
+                        createSnapshotSplit(
+                                jdbcConnection,
+                                partition,
+                                tableId,
+                                nextChunkId++,
+                                splitType,
+                                chunkStart,
+                                chunkEnd));
+                chunkStart = chunkEnd;
+            } else {
+                currentSplittingTableId = null;
+                nextChunkStart = ChunkSplitterState.ChunkBound.END_BOUND;
+                splits.add(
+                        createSnapshotSplit(
+                                jdbcConnection,
+                                partition,
+                                tableId,
+                                nextChunkId++,
+                                splitType,
+                                chunkStart,
+                                null));
+                break;
+            }
         }
+        trackChunkSizes(splits, chunkSize);
+        return splits;
     }
 
     /**
@@ -227,7 +272,7 @@ public class MySqlChunkSplitter implements ChunkSplitter {
                             partition, tableId, Collections.singletonList(ChunkRange.all())));
         }
 
-        final int chunkSize = sourceConfig.getSplitSize();
+        final int chunkSize = getChunkSize();
         final int dynamicChunkSize =
                 getDynamicChunkSize(tableId, splitColumn, min, max, chunkSize, approximateRowCnt);
         if (dynamicChunkSize != -1) {
@@ -235,7 +280,9 @@ public class MySqlChunkSplitter implements ChunkSplitter {
             List<ChunkRange> chunks =
                     splitEvenlySizedChunks(
                             tableId, min, max, approximateRowCnt, chunkSize, dynamicChunkSize);
-            return Optional.of(generateSplits(partition, tableId, chunks));
+            List<MySqlSnapshotSplit> splits = generateSplits(partition, tableId, chunks);
+            trackChunkSizes(splits, approximateRowCnt / splits.size());
+            return Optional.of(splits);
         } else {
             LOG.debug("beginning unevenly splitting table {} into chunks", tableId);
             return Optional.empty();
@@ -321,6 +368,83 @@ public class MySqlChunkSplitter implements ChunkSplitter {
         return splits;
     }
 
+    /**
+     * Returns the ends of the next chunks starting from the previous chunk end, a null end means
+     * the last chunk of the table. The split keys of several chunks are fetched by one query
+     * unless the chunk size is too large, then only the end of the next chunk is queried.
+     */
+    private List<Object> nextChunkEnds(
+            JdbcConnection jdbc,
+            Object previousChunkEnd,
+            TableId tableId,
+            String splitColumnName,
+            Object max,
+            int chunkSize)
+            throws SQLException {
+        final int maxChunks = Math.min(MAX_CHUNKS_PER_QUERY, MAX_KEYS_PER_QUERY / chunkSize);
+        if (maxChunks > 1) {
+            final int limit = chunkSize * maxChunks;
+            final List<Object> keys =
+                    queryNextChunkKeys(jdbc, tableId, splitColumnName, limit, previousChunkEnd);
+            final List<Object> chunkEnds =
+                    selectChunkEnds(
+                            keys, keys.size() < limit, previousChunkEnd, max, chunkSize, maxChunks);
+            if (!chunkEnds.isEmpty()) {
+                return chunkEnds;
+            }
+            // all the fetched keys are equal to the previous chunk end, fall back to query the
+            // next larger one
+        }
+        return Collections.singletonList(
+                nextChunkEnd(jdbc, previousChunkEnd, tableId, splitColumnName, max, chunkSize));
+    }
+
+    /**
+     * Selects the ends of at most max chunks from the ascending split keys which are not less than
+     * the chunk start. Every chunk contains at least chunk size keys and no chunk end is equal to
+     * its chunk start. A null end is appended as the end of the last chunk of the table if a chunk
+     * end reaches the max value, or the keys run out and they are all the remaining keys.
+     */
+    @VisibleForTesting
+    static List<Object> selectChunkEnds(
+            List<Object> keys,
+            boolean isAllRemainingKeys,
+            Object chunkStart,
+            Object max,
+            int chunkSize,
+            int maxChunks) {
+        final List<Object> chunkEnds = new ArrayList<>();
+        Object currentChunkStart = chunkStart;
+        int startIndex = 0;
+        while (chunkEnds.size() < maxChunks) {
+            int endIndex = startIndex + chunkSize - 1;
+            // we don't allow equal chunk start and end, use the next larger one
+            while (endIndex < keys.size()
+                    && Objects.equals(keys.get(endIndex), currentChunkStart)) {
+                endIndex++;
+            }
+            if (endIndex >= keys.size()) {
+                if (isAllRemainingKeys) {
+                    chunkEnds.add(null);
+                }
+                break;
+            }
+            final Object chunkEnd = keys.get(endIndex);
+            if (ObjectUtils.compare(chunkEnd, max) >= 0) {
+                chunkEnds.add(null);
+                break;
+            }
+            chunkEnds.add(chunkEnd);
+            currentChunkStart = chunkEnd;
+            // the next chunk starts from the first key which is equal to the chunk end
+            startIndex = endIndex;
+            while (startIndex > 0 && Objects.equals(keys.get(startIndex - 1), chunkEnd)) {
+                startIndex--;
+            }
+        }
+        return chunkEnds;
+    }
+
     private Object nextChunkEnd(
             JdbcConnection jdbc,
             Object previousChunkEnd,
@@ -455,19 +579,93 @@ public class MySqlChunkSplitter implements ChunkSplitter {
         return distributionFactor;
     }
 
+    /**
+     * Returns the number of rows of a chunk of the current splitting table. It's the split size
+     * unless the adaptive chunk size is enabled, then the chunk is sized to the target size and
+     * the size read within the target read time by the observed throughput, whichever is smaller.
+     */
+    private int getChunkSize() {
+        if (!sourceConfig.isAdaptiveChunkSizeEnabled()) {
+            return sourceConfig.getSplitSize();
+        }
+        return getAdaptiveChunkSize(
+                sourceConfig.getSplitSize(),
+                sourceConfig.getChunkTargetSize(),
+                sourceConfig.getChunkTargetReadTime(),
+                observedBytesPerMilli,
+                avgRowLength);
+    }
+
+    @VisibleForTesting
+    static int getAdaptiveChunkSize(
+            int splitSize,
+            long targetSize,
+            @Nullable Duration targetReadTime,
+            double bytesPerMilli,
+            long avgRowLength) {
+        if (avgRowLength <= 0) {
+            // the table statistics are not available
+            return splitSize;
+        }
+        long targetBytes = targetSize;
+        if (targetReadTime != null && bytesPerMilli > 0) {
+            targetBytes = Math.min(targetBytes, (long) (bytesPerMilli * targetReadTime.toMillis()));
+        }
+        if (targetBytes == Long.MAX_VALUE) {
+            // only the read time is targeted, but no chunk has been read yet
+            return splitSize;
+        }
+        return (int) Math.max(1L, Math.min(targetBytes / avgRowLength, Integer.MAX_VALUE));
+    }
+
+    /** Remembers the estimated sizes of the chunks to compute the throughput when they are read. */
+    private void trackChunkSizes(List<MySqlSnapshotSplit> splits, long rowsPerChunk) {
+        if (sourceConfig.getChunkTargetReadTime() == null || avgRowLength <= 0) {
+            return;
+        }
+        final long chunkBytes = Math.max(rowsPerChunk, 1L) * avgRowLength;
+        for (MySqlSnapshotSplit split : splits) {
+            estimatedChunkBytes.put(split.splitId(), chunkBytes);
+        }
+    }
+
+    /**
+     * Updates the observed read throughput by the read time of a finished chunk reported by the
+     * source readers. The chunks split afterwards are sized to be read within the target read
+     * time.
+     */
+    public void onChunkRead(String splitId, long readTimeMillis) {
+        final Long chunkBytes = estimatedChunkBytes.remove(splitId);
+        if (chunkBytes == null) {
+            return;
+        }
+        final double bytesPerMilli = (double) chunkBytes / Math.max(readTimeMillis, 1L);
+        final double previous = observedBytesPerMilli;
+        observedBytesPerMilli =
+                previous <= 0
+                        ? bytesPerMilli
+                        : previous + THROUGHPUT_SMOOTHING_FACTOR * (bytesPerMilli - previous);
+        LOG.debug(
+                "Chunk {} of about {} bytes was read in {} ms, the observed throughput is {} bytes/ms",
+                splitId,
+                chunkBytes,
+                readTimeMillis,
+                observedBytesPerMilli);
+    }
+
     private static String splitId(TableId tableId, int chunkId) {
         return tableId.toString() + ":" + chunkId;
     }
 
-    private static void maySleep(int count, TableId tableId) {
+    private static void maySleep(int queryCount, int chunkCount, TableId tableId) {
         // every 10 queries to sleep 0.1s
-        if (count % 10 == 0) {
+        if (queryCount % 10 == 0) {
             try {
                 Thread.sleep(100);
             } catch (InterruptedException e) {
                 // nothing to do
             }
-            LOG.info("ChunkSplitter has split {} chunks for table {}", count, tableId);
+            LOG.info("ChunkSplitter has split {} chunks for table {}", chunkCount, tableId);
         }
     }
 
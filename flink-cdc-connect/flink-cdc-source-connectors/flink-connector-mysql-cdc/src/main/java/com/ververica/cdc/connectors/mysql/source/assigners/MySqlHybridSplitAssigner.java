@@ -30,16 +30,22 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus.isInitialAssigningFinished;
 import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus.isNewlyAddedAssigningFinished;
 import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus.isNewlyAddedAssigningSnapshotFinished;
+import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.assignNextBinlogSplitShard;
+import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.getBinlogSplitId;
+import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.getRestoredBinlogSplitNumber;
 
 /**
  * A {@link MySqlSplitAssigner} that splits tables into small chunk splits based on primary key
@@ -48,9 +54,10 @@ import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus
 public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlHybridSplitAssigner.class);
-    private static final String BINLOG_SPLIT_ID = "binlog-split";
 
     private final int splitMetaGroupSize;
+    private final int binlogSplitNumber;
+    private final Set<Integer> assignedBinlogSplitShards;
 
     private boolean isBinlogSplitAssigned;
 
@@ -65,7 +72,9 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
                 new MySqlSnapshotSplitAssigner(
                         sourceConfig, currentParallelism, remainingTables, isTableIdCaseSensitive),
                 false,
-                sourceConfig.getSplitMetaGroupSize());
+                Collections.emptySet(),
+                sourceConfig.getSplitMetaGroupSize(),
+                sourceConfig.getBinlogSplitNumber());
     }
 
     public MySqlHybridSplitAssigner(
@@ -76,16 +85,26 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
                 new MySqlSnapshotSplitAssigner(
                         sourceConfig, currentParallelism, checkpoint.getSnapshotPendingSplits()),
                 checkpoint.isBinlogSplitAssigned(),
-                sourceConfig.getSplitMetaGroupSize());
+                checkpoint.getAssignedBinlogSplitShards(),
+                sourceConfig.getSplitMetaGroupSize(),
+                getRestoredBinlogSplitNumber(
+                        sourceConfig,
+                        checkpoint.isBinlogSplitAssigned(),
+                        checkpoint.getAssignedBinlogSplitShards(),
+                        checkpoint.getBinlogSplitShardCount()));
     }
 
     private MySqlHybridSplitAssigner(
             MySqlSnapshotSplitAssigner snapshotSplitAssigner,
             boolean isBinlogSplitAssigned,
-            int splitMetaGroupSize) {
+            Set<Integer> assignedBinlogSplitShards,
+            int splitMetaGroupSize,
+            int binlogSplitNumber) {
         this.snapshotSplitAssigner = snapshotSplitAssigner;
         this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this.assignedBinlogSplitShards = new TreeSet<>(assignedBinlogSplitShards);
         this.splitMetaGroupSize = splitMetaGroupSize;
+        this.binlogSplitNumber = binlogSplitNumber;
     }
 
     @Override
@@ -108,8 +127,9 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
                 // we need to wait snapshot-assigner to be finished before
                 // assigning the binlog split. Otherwise, records emitted from binlog split
                 // might be out-of-order in terms of same primary key with snapshot splits.
-                isBinlogSplitAssigned = true;
-                return Optional.of(createBinlogSplit());
+                int tableShardIndex = assignNextBinlogSplitShard(assignedBinlogSplitShards);
+                isBinlogSplitAssigned = assignedBinlogSplitShards.size() >= binlogSplitNumber;
+                return Optional.of(createBinlogSplit(tableShardIndex));
             } else if (isNewlyAddedAssigningFinished(snapshotSplitAssigner.getAssignerStatus())) {
                 // do not need to create binlog, but send event to wake up the binlog reader
                 isBinlogSplitAssigned = true;
@@ -144,6 +164,11 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         snapshotSplitAssigner.onFinishedSplits(splitFinishedOffsets);
     }
 
+    @Override
+    public void onFinishedSplitReadTimes(Map<String, Long> splitReadTimes) {
+        snapshotSplitAssigner.onFinishedSplitReadTimes(splitReadTimes);
+    }
+
     @Override
     public void addSplits(Collection<MySqlSplit> splits) {
         List<MySqlSplit> snapshotSplits = new ArrayList<>();
@@ -152,6 +177,7 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
                 snapshotSplits.add(split);
             } else {
                 // we don't store the split, but will re-create binlog split later
+                assignedBinlogSplitShards.remove(split.asBinlogSplit().getTableShardIndex());
                 isBinlogSplitAssigned = false;
             }
         }
@@ -161,7 +187,10 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
     @Override
     public PendingSplitsState snapshotState(long checkpointId) {
         return new HybridPendingSplitsState(
-                snapshotSplitAssigner.snapshotState(checkpointId), isBinlogSplitAssigned);
+                snapshotSplitAssigner.snapshotState(checkpointId),
+                isBinlogSplitAssigned,
+                new TreeSet<>(assignedBinlogSplitShards),
+                binlogSplitNumber);
     }
 
     @Override
@@ -195,7 +224,7 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
 
     // --------------------------------------------------------------------------------------------
 
-    private MySqlBinlogSplit createBinlogSplit() {
+    private MySqlBinlogSplit createBinlogSplit(int tableShardIndex) {
         final List<MySqlSchemalessSnapshotSplit> assignedSnapshotSplit =
                 snapshotSplitAssigner.getAssignedSplits().values().stream()
                         .sorted(Comparator.comparing(MySqlSplit::splitId))
@@ -224,13 +253,18 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         // the finishedSnapshotSplitInfos is too large for transmission, divide it to groups and
         // then transfer them
 
+        // every binlog split carries the finished infos of all the snapshot splits, so that the
+        // meta groups requested by any binlog split are the same
         boolean divideMetaToGroups = finishedSnapshotSplitInfos.size() > splitMetaGroupSize;
         return new MySqlBinlogSplit(
-                BINLOG_SPLIT_ID,
+                getBinlogSplitId(tableShardIndex, binlogSplitNumber),
                 minBinlogOffset == null ? BinlogOffset.ofEarliest() : minBinlogOffset,
                 BinlogOffset.ofNonStopping(),
                 divideMetaToGroups ? new ArrayList<>() : finishedSnapshotSplitInfos,
                 new HashMap<>(),
-                finishedSnapshotSplitInfos.size());
+                finishedSnapshotSplitInfos.size(),
+                false,
+                tableShardIndex,
+                binlogSplitNumber);
     }
 }
@@ -410,6 +410,16 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         }
     }
 
+    @Override
+    public void onFinishedSplitReadTimes(Map<String, Long> splitReadTimes) {
+        for (Map.Entry<String, Long> splitReadTime : splitReadTimes.entrySet()) {
+            // the read time is reported again until the finished split is acknowledged
+            if (!splitFinishedOffsets.containsKey(splitReadTime.getKey())) {
+                chunkSplitter.onChunkRead(splitReadTime.getKey(), splitReadTime.getValue());
+            }
+        }
+    }
+
     @Override
     public void addSplits(Collection<MySqlSplit> splits) {
         for (MySqlSplit split : splits) {
@@ -70,6 +70,14 @@ public interface MySqlSplitAssigner {
      */
     void onFinishedSplits(Map<String, BinlogOffset> splitFinishedOffsets);
 
+    /**
+     * Callback to handle the read time in milliseconds of the finished splits. This is useful to
+     * size the splits generated afterwards.
+     */
+    default void onFinishedSplitReadTimes(Map<String, Long> splitReadTimes) {
+        // do nothing
+    }
+
     /**
      * Adds a set of splits to this assigner. This happens for example when some split processing
      * failed and the splits need to be re-added.
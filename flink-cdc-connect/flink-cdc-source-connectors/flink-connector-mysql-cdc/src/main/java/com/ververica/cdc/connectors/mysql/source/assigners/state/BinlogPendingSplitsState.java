@@ -16,21 +16,49 @@
 
 package com.ververica.cdc.connectors.mysql.source.assigners.state;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 
 /** A {@link PendingSplitsState} for pending binlog splits. */
 public class BinlogPendingSplitsState extends PendingSplitsState {
 
     private final boolean isBinlogSplitAssigned;
 
+    /** The table shards of the assigned binlog splits. */
+    private final Set<Integer> assignedBinlogSplitShards;
+
+    /** The table shard count of the assigned binlog splits. */
+    private final int binlogSplitShardCount;
+
     public BinlogPendingSplitsState(boolean isBinlogSplitAssigned) {
+        this(
+                isBinlogSplitAssigned,
+                isBinlogSplitAssigned ? Collections.singleton(0) : Collections.emptySet(),
+                1);
+    }
+
+    public BinlogPendingSplitsState(
+            boolean isBinlogSplitAssigned,
+            Set<Integer> assignedBinlogSplitShards,
+            int binlogSplitShardCount) {
         this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this.assignedBinlogSplitShards = assignedBinlogSplitShards;
+        this.binlogSplitShardCount = binlogSplitShardCount;
     }
 
     public boolean isBinlogSplitAssigned() {
         return isBinlogSplitAssigned;
     }
 
+    public Set<Integer> getAssignedBinlogSplitShards() {
+        return assignedBinlogSplitShards;
+    }
+
+    public int getBinlogSplitShardCount() {
+        return binlogSplitShardCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -40,16 +68,26 @@ public class BinlogPendingSplitsState extends PendingSplitsState {
             return false;
         }
         BinlogPendingSplitsState that = (BinlogPendingSplitsState) o;
-        return isBinlogSplitAssigned == that.isBinlogSplitAssigned;
+        return isBinlogSplitAssigned == that.isBinlogSplitAssigned
+                && binlogSplitShardCount == that.binlogSplitShardCount
+                && Objects.equals(assignedBinlogSplitShards, that.assignedBinlogSplitShards);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(isBinlogSplitAssigned);
+        return Objects.hash(
+                isBinlogSplitAssigned, assignedBinlogSplitShards, binlogSplitShardCount);
     }
 
     @Override
     public String toString() {
-        return "BinlogPendingSplitsState{" + "isBinlogSplitAssigned=" + isBinlogSplitAssigned + '}';
+        return "BinlogPendingSplitsState{"
+                + "isBinlogSplitAssigned="
+                + isBinlogSplitAssigned
+                + ", assignedBinlogSplitShards="
+                + assignedBinlogSplitShards
+                + ", binlogSplitShardCount="
+                + binlogSplitShardCount
+                + '}';
     }
 }
@@ -16,17 +16,39 @@
 
 package com.ververica.cdc.connectors.mysql.source.assigners.state;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 
 /** A {@link PendingSplitsState} for pending hybrid (snapshot & binlog) splits. */
 public class HybridPendingSplitsState extends PendingSplitsState {
     private final SnapshotPendingSplitsState snapshotPendingSplits;
     private final boolean isBinlogSplitAssigned;
 
+    /** The table shards of the assigned binlog splits. */
+    private final Set<Integer> assignedBinlogSplitShards;
+
+    /** The table shard count of the assigned binlog splits. */
+    private final int binlogSplitShardCount;
+
     public HybridPendingSplitsState(
             SnapshotPendingSplitsState snapshotPendingSplits, boolean isBinlogSplitAssigned) {
+        this(
+                snapshotPendingSplits,
+                isBinlogSplitAssigned,
+                isBinlogSplitAssigned ? Collections.singleton(0) : Collections.emptySet(),
+                1);
+    }
+
+    public HybridPendingSplitsState(
+            SnapshotPendingSplitsState snapshotPendingSplits,
+            boolean isBinlogSplitAssigned,
+            Set<Integer> assignedBinlogSplitShards,
+            int binlogSplitShardCount) {
         this.snapshotPendingSplits = snapshotPendingSplits;
         this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this.assignedBinlogSplitShards = assignedBinlogSplitShards;
+        this.binlogSplitShardCount = binlogSplitShardCount;
     }
 
     public SnapshotPendingSplitsState getSnapshotPendingSplits() {
@@ -37,6 +59,14 @@ public class HybridPendingSplitsState extends PendingSplitsState {
         return isBinlogSplitAssigned;
     }
 
+    public Set<Integer> getAssignedBinlogSplitShards() {
+        return assignedBinlogSplitShards;
+    }
+
+    public int getBinlogSplitShardCount() {
+        return binlogSplitShardCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -47,12 +77,18 @@ public class HybridPendingSplitsState extends PendingSplitsState {
         }
         HybridPendingSplitsState that = (HybridPendingSplitsState) o;
         return isBinlogSplitAssigned == that.isBinlogSplitAssigned
-                && Objects.equals(snapshotPendingSplits, that.snapshotPendingSplits);
+                && binlogSplitShardCount == that.binlogSplitShardCount
+                && Objects.equals(snapshotPendingSplits, that.snapshotPendingSplits)
+                && Objects.equals(assignedBinlogSplitShards, that.assignedBinlogSplitShards);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(snapshotPendingSplits, isBinlogSplitAssigned);
+        return Objects.hash(
+                snapshotPendingSplits,
+                isBinlogSplitAssigned,
+                assignedBinlogSplitShards,
+                binlogSplitShardCount);
     }
 
     @Override
@@ -62,6 +98,10 @@ public class HybridPendingSplitsState extends PendingSplitsState {
                 + snapshotPendingSplits
                 + ", isBinlogSplitAssigned="
                 + isBinlogSplitAssigned
+                + ", assignedBinlogSplitShards="
+                + assignedBinlogSplitShards
+                + ", binlogSplitShardCount="
+                + binlogSplitShardCount
                 + '}';
     }
 }
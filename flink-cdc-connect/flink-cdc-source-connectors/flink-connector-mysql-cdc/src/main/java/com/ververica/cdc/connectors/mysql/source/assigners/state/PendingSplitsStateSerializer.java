@@ -25,6 +25,7 @@ import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSchemalessSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.debezium.utils.SplitBoundarySerializer;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges;
 
@@ -34,12 +35,13 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static com.ververica.cdc.connectors.mysql.source.assigners.state.ChunkSplitterState.NO_SPLITTING_TABLE_STATE;
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlSplitSerializer.readTableSchemas;
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlSplitSerializer.writeTableSchemas;
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
 
@@ -50,7 +52,7 @@ import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.wr
 public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<PendingSplitsState> {
 
     // TODO: need proper implementation of the new version
-    private static final int VERSION = 5;
+    private static final int VERSION = 7;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -110,6 +112,8 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             case 3:
             case 4:
             case 5:
+            case 6:
+            case 7:
                 return deserializePendingSplitsState(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -126,7 +130,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         } else if (stateFlag == HYBRID_PENDING_SPLITS_STATE_FLAG) {
             return deserializeLegacyHybridPendingSplitsState(splitVersion, in);
         } else if (stateFlag == BINLOG_PENDING_SPLITS_STATE_FLAG) {
-            return deserializeBinlogPendingSplitsState(in);
+            return new BinlogPendingSplitsState(in.readBoolean());
         } else {
             throw new IOException(
                     "Unsupported to deserialize PendingSplitsState flag: " + stateFlag);
@@ -143,7 +147,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         } else if (stateFlag == HYBRID_PENDING_SPLITS_STATE_FLAG) {
             return deserializeHybridPendingSplitsState(version, splitVersion, in);
         } else if (stateFlag == BINLOG_PENDING_SPLITS_STATE_FLAG) {
-            return deserializeBinlogPendingSplitsState(in);
+            return deserializeBinlogPendingSplitsState(version, in);
         } else {
             throw new IOException(
                     "Unsupported to deserialize PendingSplitsState flag: " + stateFlag);
@@ -171,9 +175,8 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         if (hasTableIsSplitting) {
             ChunkSplitterState chunkSplitterState = state.getChunkSplitterState();
             out.writeUTF(chunkSplitterState.getCurrentSplittingTableId().toString());
-            out.writeUTF(
-                    rowToSerializedString(
-                            new Object[] {chunkSplitterState.getNextChunkStart().getValue()}));
+            SplitBoundarySerializer.writeSplitBoundary(
+                    new Object[] {chunkSplitterState.getNextChunkStart().getValue()}, out);
             out.writeInt(chunkSplitterState.getNextChunkId());
         }
     }
@@ -182,11 +185,15 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             HybridPendingSplitsState state, DataOutputSerializer out) throws IOException {
         serializeSnapshotPendingSplitsState(state.getSnapshotPendingSplits(), out);
         out.writeBoolean(state.isBinlogSplitAssigned());
+        writeBinlogSplitShards(state.getAssignedBinlogSplitShards(), out);
+        out.writeInt(state.getBinlogSplitShardCount());
     }
 
     private void serializeBinlogPendingSplitsState(
             BinlogPendingSplitsState state, DataOutputSerializer out) throws IOException {
         out.writeBoolean(state.isBinlogSplitAssigned());
+        writeBinlogSplitShards(state.getAssignedBinlogSplitShards(), out);
+        out.writeInt(state.getBinlogSplitShardCount());
     }
 
     // ------------------------------------------------------------------------------------------
@@ -295,7 +302,10 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             boolean hasTableIsSplitting = in.readBoolean();
             if (hasTableIsSplitting) {
                 splittingTableId = TableId.parse(in.readUTF());
-                nextChunkStart = serializedStringToRow(in.readUTF())[0];
+                nextChunkStart =
+                        version >= 6
+                                ? SplitBoundarySerializer.readSplitBoundary(in)[0]
+                                : serializedStringToRow(in.readUTF())[0];
                 nextChunkId = in.readInt();
             }
         }
@@ -322,12 +332,24 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         SnapshotPendingSplitsState snapshotPendingSplitsState =
                 deserializeSnapshotPendingSplitsState(version, splitVersion, in);
         boolean isBinlogSplitAssigned = in.readBoolean();
-        return new HybridPendingSplitsState(snapshotPendingSplitsState, isBinlogSplitAssigned);
+        Set<Integer> assignedBinlogSplitShards =
+                readBinlogSplitShards(version, isBinlogSplitAssigned, in);
+        return new HybridPendingSplitsState(
+                snapshotPendingSplitsState,
+                isBinlogSplitAssigned,
+                assignedBinlogSplitShards,
+                readBinlogSplitShardCount(version, in));
     }
 
-    private BinlogPendingSplitsState deserializeBinlogPendingSplitsState(DataInputDeserializer in)
-            throws IOException {
-        return new BinlogPendingSplitsState(in.readBoolean());
+    private BinlogPendingSplitsState deserializeBinlogPendingSplitsState(
+            int version, DataInputDeserializer in) throws IOException {
+        boolean isBinlogSplitAssigned = in.readBoolean();
+        Set<Integer> assignedBinlogSplitShards =
+                readBinlogSplitShards(version, isBinlogSplitAssigned, in);
+        return new BinlogPendingSplitsState(
+                isBinlogSplitAssigned,
+                assignedBinlogSplitShards,
+                readBinlogSplitShardCount(version, in));
     }
 
     // ------------------------------------------------------------------------------------------
@@ -411,6 +433,36 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         return splitSerializer.deserialize(splitVersion, splitBytes);
     }
 
+    private void writeBinlogSplitShards(Set<Integer> shards, DataOutputSerializer out)
+            throws IOException {
+        out.writeInt(shards.size());
+        for (int shard : shards) {
+            out.writeInt(shard);
+        }
+    }
+
+    private Set<Integer> readBinlogSplitShards(
+            int version, boolean isBinlogSplitAssigned, DataInputDeserializer in)
+            throws IOException {
+        final Set<Integer> shards = new TreeSet<>();
+        // the shards of the binlog splits are serialized since version 7, before that the only
+        // binlog split reads the only table shard
+        if (version >= 7) {
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                shards.add(in.readInt());
+            }
+        } else if (isBinlogSplitAssigned) {
+            shards.add(0);
+        }
+        return shards;
+    }
+
+    private int readBinlogSplitShardCount(int version, DataInputDeserializer in)
+            throws IOException {
+        return version >= 7 ? in.readInt() : 1;
+    }
+
     private void writeTableIds(Collection<TableId> tableIds, DataOutputSerializer out)
             throws IOException {
         final int size = tableIds.size();
@@ -61,6 +61,12 @@ public class MySqlSourceConfig implements Serializable {
     private final Properties jdbcProperties;
     private final Map<ObjectPath, String> chunkKeyColumns;
     private final boolean skipSnapshotBackfill;
+    private final long chunkMemoryBudget;
+    private final long chunkTargetSize;
+    @Nullable private final Duration chunkTargetReadTime;
+    private final int binlogDeserializationThreads;
+    private final int binlogSplitNumber;
+    private final int chunkFetchConcurrency;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -93,7 +99,13 @@ public class MySqlSourceConfig implements Serializable {
             Properties dbzProperties,
             Properties jdbcProperties,
             Map<ObjectPath, String> chunkKeyColumns,
-            boolean skipSnapshotBackfill) {
+            boolean skipSnapshotBackfill,
+            long chunkMemoryBudget,
+            long chunkTargetSize,
+            @Nullable Duration chunkTargetReadTime,
+            int binlogDeserializationThreads,
+            int binlogSplitNumber,
+            int chunkFetchConcurrency) {
         this.hostname = checkNotNull(hostname);
         this.port = port;
         this.username = checkNotNull(username);
@@ -120,6 +132,12 @@ public class MySqlSourceConfig implements Serializable {
         this.jdbcProperties = jdbcProperties;
         this.chunkKeyColumns = chunkKeyColumns;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
+        this.chunkMemoryBudget = chunkMemoryBudget;
+        this.chunkTargetSize = chunkTargetSize;
+        this.chunkTargetReadTime = chunkTargetReadTime;
+        this.binlogDeserializationThreads = binlogDeserializationThreads;
+        this.binlogSplitNumber = binlogSplitNumber;
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
     }
 
     public String getHostname() {
@@ -230,4 +248,34 @@ public class MySqlSourceConfig implements Serializable {
     public boolean isSkipSnapshotBackfill() {
         return skipSnapshotBackfill;
     }
+
+    public long getChunkMemoryBudget() {
+        return chunkMemoryBudget;
+    }
+
+    public long getChunkTargetSize() {
+        return chunkTargetSize;
+    }
+
+    @Nullable
+    public Duration getChunkTargetReadTime() {
+        return chunkTargetReadTime;
+    }
+
+    /** Whether the chunk size is derived from the table statistics instead of the split size. */
+    public boolean isAdaptiveChunkSizeEnabled() {
+        return chunkTargetSize != Long.MAX_VALUE || chunkTargetReadTime != null;
+    }
+
+    public int getBinlogDeserializationThreads() {
+        return binlogDeserializationThreads;
+    }
+
+    public int getBinlogSplitNumber() {
+        return binlogSplitNumber;
+    }
+
+    public int getChunkFetchConcurrency() {
+        return chunkFetchConcurrency;
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.connectors.mysql.source.config;
 
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.catalog.ObjectPath;
 
 import com.ververica.cdc.common.annotation.Internal;
@@ -78,6 +79,14 @@ public class MySqlSourceConfigFactory implements Serializable {
     private Properties dbzProperties;
     private Map<ObjectPath, String> chunkKeyColumns = new HashMap<>();
     private boolean skipSnapshotBackfill = false;
+    private long chunkMemoryBudget = MemorySize.MAX_VALUE.getBytes();
+    private long chunkTargetSize = MemorySize.MAX_VALUE.getBytes();
+    private Duration chunkTargetReadTime;
+    private int binlogDeserializationThreads =
+            MySqlSourceOptions.SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue();
+    private int binlogSplitNumber = MySqlSourceOptions.SCAN_BINLOG_SPLIT_NUMBER.defaultValue();
+    private int chunkFetchConcurrency =
+            MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue();
 
     public MySqlSourceConfigFactory hostname(String hostname) {
         this.hostname = hostname;
@@ -279,6 +288,60 @@ public class MySqlSourceConfigFactory implements Serializable {
         return this;
     }
 
+    /**
+     * The memory budget for normalizing the records of a snapshot chunk. Once the estimated size
+     * of the buffered records exceeds the budget, the records are spilled to local files.
+     */
+    public MySqlSourceConfigFactory chunkMemoryBudget(MemorySize chunkMemoryBudget) {
+        this.chunkMemoryBudget = chunkMemoryBudget.getBytes();
+        return this;
+    }
+
+    /**
+     * The target size of a snapshot chunk. The number of rows of a chunk is derived from the
+     * average row length of the table instead of using the split size.
+     */
+    public MySqlSourceConfigFactory chunkTargetSize(MemorySize chunkTargetSize) {
+        this.chunkTargetSize = chunkTargetSize.getBytes();
+        return this;
+    }
+
+    /**
+     * The target time to read a snapshot chunk. The chunks are sized by the read throughput
+     * reported by the source readers.
+     */
+    public MySqlSourceConfigFactory chunkTargetReadTime(Duration chunkTargetReadTime) {
+        this.chunkTargetReadTime = chunkTargetReadTime;
+        return this;
+    }
+
+    /**
+     * The number of worker threads decoding the rows events of the binlog, 0 decodes them on the
+     * thread reading the binlog.
+     */
+    public MySqlSourceConfigFactory binlogDeserializationThreads(int binlogDeserializationThreads) {
+        this.binlogDeserializationThreads = binlogDeserializationThreads;
+        return this;
+    }
+
+    /**
+     * The number of binlog splits reading the binlog, each of them only emits the change events of
+     * its share of the captured tables.
+     */
+    public MySqlSourceConfigFactory binlogSplitNumber(int binlogSplitNumber) {
+        this.binlogSplitNumber = binlogSplitNumber;
+        return this;
+    }
+
+    /**
+     * The number of snapshot splits fetched at the same time by a source reader, each of them
+     * through its own connection.
+     */
+    public MySqlSourceConfigFactory chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
+        return this;
+    }
+
     /**
      * Whether to close idle readers at the end of the snapshot phase. This feature depends on
      * FLIP-147: Support Checkpoints After Tasks Finished. The flink version is required to be
@@ -386,6 +449,12 @@ public class MySqlSourceConfigFactory implements Serializable {
                 props,
                 jdbcProperties,
                 chunkKeyColumns,
-                skipSnapshotBackfill);
+                skipSnapshotBackfill,
+                chunkMemoryBudget,
+                chunkTargetSize,
+                chunkTargetReadTime,
+                binlogDeserializationThreads,
+                binlogSplitNumber,
+                chunkFetchConcurrency);
     }
 }
@@ -18,6 +18,7 @@ package com.ververica.cdc.connectors.mysql.source.config;
 
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
+import org.apache.flink.configuration.MemorySize;
 
 import com.ververica.cdc.common.annotation.Experimental;
 import com.ververica.cdc.connectors.mysql.source.MySqlSource;
@@ -263,4 +264,52 @@ public class MySqlSourceOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to skip backfill in snapshot reading phase. If backfill is skipped, changes on captured tables during snapshot phase will be consumed later in binlog reading phase instead of being merged into the snapshot. WARNING: Skipping backfill might lead to data inconsistency because some binlog events happened within the snapshot phase might be replayed (only at-least-once semantic is promised). For example updating an already updated value in snapshot, or deleting an already deleted entry in snapshot. These replayed binlog events should be handled specially.");
+
+    @Experimental
+    public static final ConfigOption<MemorySize> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_MEMORY_BUDGET =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.memory-budget")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The memory budget for normalizing the records of a snapshot chunk with the binlog records read during backfill. Once the estimated size of the buffered records exceeds the budget, the records are spilled to local files and the normalized records are emitted in batches. By default, the records of a chunk are always kept in memory.");
+
+    @Experimental
+    public static final ConfigOption<MemorySize> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_SIZE =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.target-size")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The target size in bytes of a table snapshot chunk. When set, the number of rows of a chunk is derived from the average row length of the table in information_schema instead of using 'scan.incremental.snapshot.chunk.size', so that small tables are read as a few chunks and tables with wide rows are not read as oversized chunks.");
+
+    @Experimental
+    public static final ConfigOption<Duration> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.target-read-time")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The target time to read a table snapshot chunk. When set, the source readers report the read time of every finished chunk, and the chunks split afterwards are sized by the observed read throughput to be read within this time. It can be combined with 'scan.incremental.snapshot.chunk.target-size', the smaller of both sizes is used then.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_BINLOG_DESERIALIZATION_THREADS =
+            ConfigOptions.key("scan.binlog.deserialization.threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of worker threads decoding the rows events of the binlog. The rows events are decoded concurrently while the change events are still emitted in binlog order. By default, the rows events are decoded on the thread reading the binlog.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_BINLOG_SPLIT_NUMBER =
+            ConfigOptions.key("scan.binlog.split.number")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of binlog splits reading the binlog after the snapshot phase. Every binlog split is read by a different source reader with its own server id, and only emits the change events of its share of the captured tables, which are distributed by the hash of the table identifier. The change events of a table are still emitted in order by a single reader. The number must not exceed the source parallelism and can not be combined with 'scan.newly-added-table.enabled'. It only takes effect when the binlog splits are created, the binlog splits restored from a checkpoint keep their tables.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.fetch-concurrency")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot chunks (splits) read concurrently by each source reader. Every concurrently read chunk uses its own database connection, and the read chunks are still emitted one by one in the order they were assigned to the reader. The backfill binlog reading of the chunks of a reader still happens one chunk at a time, as they share the server id of the reader. Increasing it speeds up the snapshot phase when the database has spare capacity, at the cost of more connections and buffering up to that number of chunks in memory. The snapshot chunks of newly added tables are always read one by one.");
 }
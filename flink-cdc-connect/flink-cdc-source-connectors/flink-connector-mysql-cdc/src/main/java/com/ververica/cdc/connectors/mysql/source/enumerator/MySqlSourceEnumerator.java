@@ -53,6 +53,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
@@ -71,11 +73,15 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     private final MySqlSourceConfig sourceConfig;
     private final MySqlSplitAssigner splitAssigner;
 
-    // using TreeSet to prefer assigning binlog split to task-0 for easier debug
-    private final TreeSet<Integer> readersAwaitingSplit;
+    // using TreeMap to prefer assigning binlog split to task-0 for easier debug, the values are
+    // the numbers of requested splits, as a reader fetching snapshot splits concurrently requests
+    // several of them
+    private final TreeMap<Integer, Integer> readersAwaitingSplit;
     private List<List<FinishedSnapshotSplitInfo>> binlogSplitMeta;
 
-    @Nullable private Integer binlogSplitTaskId;
+    // the subtasks reading a binlog split, there are several of them if the binlog is read by
+    // multiple table-sharded binlog splits
+    private final Set<Integer> binlogSplitTaskIds;
 
     public MySqlSourceEnumerator(
             SplitEnumeratorContext<MySqlSplit> context,
@@ -84,11 +90,20 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
         this.context = context;
         this.sourceConfig = sourceConfig;
         this.splitAssigner = splitAssigner;
-        this.readersAwaitingSplit = new TreeSet<>();
+        this.readersAwaitingSplit = new TreeMap<>();
+        this.binlogSplitTaskIds = new TreeSet<>();
     }
 
     @Override
     public void start() {
+        if (sourceConfig.getBinlogSplitNumber() > context.currentParallelism()) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "The number of binlog splits %s is larger than the source "
+                                    + "parallelism %s, some of the binlog splits would never "
+                                    + "be read.",
+                            sourceConfig.getBinlogSplitNumber(), context.currentParallelism()));
+        }
         splitAssigner.open();
         requestBinlogSplitUpdateIfNeed();
         this.context.callAsync(
@@ -105,7 +120,7 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
             return;
         }
 
-        readersAwaitingSplit.add(subtaskId);
+        readersAwaitingSplit.merge(subtaskId, 1, Integer::sum);
         assignSplits();
     }
 
@@ -116,7 +131,7 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
                 splits.stream().filter(MySqlSplit::isBinlogSplit).findAny();
         if (binlogSplit.isPresent()) {
             LOG.info("The enumerator adds add binlog split back: {}", binlogSplit);
-            this.binlogSplitTaskId = null;
+            this.binlogSplitTaskIds.remove(subtaskId);
         }
         splitAssigner.addSplits(splits);
     }
@@ -142,6 +157,7 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
                     (FinishedSnapshotSplitsReportEvent) sourceEvent;
             Map<String, BinlogOffset> finishedOffsets = reportEvent.getFinishedOffsets();
 
+            splitAssigner.onFinishedSplitReadTimes(reportEvent.getReadTimes());
             splitAssigner.onFinishedSplits(finishedOffsets);
             requestBinlogSplitUpdateIfNeed();
 
@@ -168,7 +184,7 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
             LOG.info(
                     "The enumerator receives notice from subtask {} for the binlog split assignment. ",
                     subtaskId);
-            binlogSplitTaskId = subtaskId;
+            binlogSplitTaskIds.add(subtaskId);
         }
     }
 
@@ -193,10 +209,12 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     // ------------------------------------------------------------------------------------------
 
     private void assignSplits() {
-        final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
+        final Iterator<Map.Entry<Integer, Integer>> awaitingReader =
+                readersAwaitingSplit.entrySet().iterator();
 
         while (awaitingReader.hasNext()) {
-            int nextAwaiting = awaitingReader.next();
+            Map.Entry<Integer, Integer> nextAwaitingRequests = awaitingReader.next();
+            int nextAwaiting = nextAwaitingRequests.getKey();
             // if the reader that requested another split has failed in the meantime, remove
             // it from the list of waiting readers
             if (!context.registeredReaders().containsKey(nextAwaiting)) {
@@ -207,7 +225,8 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
             if (splitAssigner.isStreamSplitAssigned()
                     && sourceConfig.isCloseIdleReaders()
                     && noMoreSnapshotSplits()
-                    && (binlogSplitTaskId != null && !binlogSplitTaskId.equals(nextAwaiting))) {
+                    && (!binlogSplitTaskIds.isEmpty()
+                            && !binlogSplitTaskIds.contains(nextAwaiting))) {
                 // close idle readers when snapshot phase finished.
                 context.signalNoMoreSplits(nextAwaiting);
                 awaitingReader.remove();
@@ -215,16 +234,28 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
                 continue;
             }
 
-            Optional<MySqlSplit> split = splitAssigner.getNext();
-            if (split.isPresent()) {
+            int requestedSplits = nextAwaitingRequests.getValue();
+            while (requestedSplits > 0) {
+                Optional<MySqlSplit> split = splitAssigner.getNext();
+                if (!split.isPresent()) {
+                    break;
+                }
                 final MySqlSplit mySqlSplit = split.get();
                 context.assignSplit(mySqlSplit, nextAwaiting);
                 if (mySqlSplit instanceof MySqlBinlogSplit) {
-                    this.binlogSplitTaskId = nextAwaiting;
+                    this.binlogSplitTaskIds.add(nextAwaiting);
+                    // the reader only reads the binlog split from now on
+                    requestedSplits = 0;
+                } else {
+                    requestedSplits--;
                 }
-                awaitingReader.remove();
                 LOG.info("The enumerator assigns split {} to subtask {}", mySqlSplit, nextAwaiting);
+            }
+
+            if (requestedSplits == 0) {
+                awaitingReader.remove();
             } else {
+                nextAwaitingRequests.setValue(requestedSplits);
                 // there is no available splits by now, skip assigning
                 requestBinlogSplitUpdateIfNeed();
                 break;
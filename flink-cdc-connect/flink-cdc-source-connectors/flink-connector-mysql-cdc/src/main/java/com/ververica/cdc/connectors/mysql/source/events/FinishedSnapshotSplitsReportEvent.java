@@ -22,6 +22,7 @@ import com.ververica.cdc.connectors.mysql.source.enumerator.MySqlSourceEnumerato
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.reader.MySqlSourceReader;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -34,16 +35,34 @@ public class FinishedSnapshotSplitsReportEvent implements SourceEvent {
 
     private final Map<String, BinlogOffset> finishedOffsets;
 
+    /** The read time in milliseconds of the finished splits, it may not cover all of them. */
+    private final Map<String, Long> readTimes;
+
     public FinishedSnapshotSplitsReportEvent(Map<String, BinlogOffset> finishedOffsets) {
+        this(finishedOffsets, Collections.emptyMap());
+    }
+
+    public FinishedSnapshotSplitsReportEvent(
+            Map<String, BinlogOffset> finishedOffsets, Map<String, Long> readTimes) {
         this.finishedOffsets = finishedOffsets;
+        this.readTimes = readTimes;
     }
 
     public Map<String, BinlogOffset> getFinishedOffsets() {
         return finishedOffsets;
     }
 
+    public Map<String, Long> getReadTimes() {
+        return readTimes;
+    }
+
     @Override
     public String toString() {
-        return "FinishedSnapshotSplitsReportEvent{" + "finishedOffsets=" + finishedOffsets + '}';
+        return "FinishedSnapshotSplitsReportEvent{"
+                + "finishedOffsets="
+                + finishedOffsets
+                + ", readTimes="
+                + readTimes
+                + '}';
     }
 }
@@ -22,6 +22,7 @@ import org.apache.flink.util.Collector;
 
 import com.ververica.cdc.connectors.mysql.source.metrics.MySqlSourceReaderMetrics;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplitState;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplitState;
 import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
@@ -96,12 +97,23 @@ public class MySqlRecordEmitter<T> implements RecordEmitter<SourceRecords, T, My
             Array tableChanges =
                     historyRecord.document().getArray(HistoryRecord.Fields.TABLE_CHANGES);
             TableChanges changes = TABLE_CHANGE_SERIALIZER.deserialize(tableChanges, true);
+            MySqlBinlogSplitState binlogSplitState = splitState.asBinlogSplitState();
+            // every binlog split records the schemas of all the tables, but only the split reading
+            // a changed table emits the schema change, a schema change without any table change is
+            // emitted by the split of the first table shard
+            boolean hasTableChanges = false;
+            boolean inTableShard = false;
             for (TableChanges.TableChange tableChange : changes) {
-                splitState.asBinlogSplitState().recordSchema(tableChange.getId(), tableChange);
+                binlogSplitState.recordSchema(tableChange.getId(), tableChange);
+                hasTableChanges = true;
+                inTableShard |= binlogSplitState.isTableInShard(tableChange.getId());
             }
-            if (includeSchemaChanges) {
+            if (!hasTableChanges) {
+                inTableShard = binlogSplitState.getTableShardIndex() == 0;
+            }
+            if (includeSchemaChanges && inTableShard) {
                 BinlogOffset position = getBinlogPosition(element);
-                splitState.asBinlogSplitState().setStartingOffset(position);
+                binlogSplitState.setStartingOffset(position);
                 emitElement(element, output);
             }
         } else if (isDataChangeRecord(element)) {
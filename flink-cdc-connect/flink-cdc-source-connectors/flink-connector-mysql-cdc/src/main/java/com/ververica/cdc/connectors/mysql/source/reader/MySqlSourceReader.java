@@ -82,6 +82,8 @@ public class MySqlSourceReader<T>
     private static final Logger LOG = LoggerFactory.getLogger(MySqlSourceReader.class);
     private final MySqlSourceConfig sourceConfig;
     private final Map<String, MySqlSnapshotSplit> finishedUnackedSplits;
+    private final Map<String, Long> snapshotSplitStartTimes;
+    private final Map<String, Long> finishedUnackedSplitReadTimes;
     private final Map<String, MySqlBinlogSplit> uncompletedBinlogSplits;
     private final int subtaskId;
     private final MySqlSourceReaderContext mySqlSourceReaderContext;
@@ -103,6 +105,8 @@ public class MySqlSourceReader<T>
                 context.getSourceReaderContext());
         this.sourceConfig = sourceConfig;
         this.finishedUnackedSplits = new HashMap<>();
+        this.snapshotSplitStartTimes = new HashMap<>();
+        this.finishedUnackedSplitReadTimes = new HashMap<>();
         this.uncompletedBinlogSplits = new HashMap<>();
         this.subtaskId = context.getSourceReaderContext().getIndexOfSubtask();
         this.mySqlSourceReaderContext = context;
@@ -113,7 +117,13 @@ public class MySqlSourceReader<T>
 
     @Override
     public void start() {
-        if (getNumberOfCurrentlyAssignedSplits() <= 1) {
+        if (getNumberOfCurrentlyAssignedSplits() == 0) {
+            // request as many snapshot splits as the split reader fetches concurrently, a new
+            // split is requested whenever one of them is finished
+            for (int i = 0; i < sourceConfig.getChunkFetchConcurrency(); i++) {
+                context.sendSplitRequest();
+            }
+        } else if (getNumberOfCurrentlyAssignedSplits() <= 1) {
             context.sendSplitRequest();
         }
     }
@@ -121,6 +131,7 @@ public class MySqlSourceReader<T>
     @Override
     protected MySqlSplitState initializedState(MySqlSplit split) {
         if (split.isSnapshotSplit()) {
+            snapshotSplitStartTimes.put(split.splitId(), System.currentTimeMillis());
             return new MySqlSnapshotSplitState(split.asSnapshotSplit());
         } else {
             return new MySqlBinlogSplitState(split.asBinlogSplit());
@@ -158,6 +169,7 @@ public class MySqlSourceReader<T>
         boolean requestNextSplit = true;
         if (isNewlyAddedTableSplitAndBinlogSplit(finishedSplitIds)) {
             MySqlSplitState mySqlBinlogSplitState = finishedSplitIds.remove(BINLOG_SPLIT_ID);
+            finishedSplitIds.keySet().forEach(snapshotSplitStartTimes::remove);
             finishedSplitIds
                     .values()
                     .forEach(
@@ -187,6 +199,11 @@ public class MySqlSourceReader<T>
                     requestNextSplit = false;
                 } else {
                     finishedUnackedSplits.put(mySqlSplit.splitId(), mySqlSplit.asSnapshotSplit());
+                    Long startTime = snapshotSplitStartTimes.remove(mySqlSplit.splitId());
+                    if (startTime != null) {
+                        finishedUnackedSplitReadTimes.put(
+                                mySqlSplit.splitId(), System.currentTimeMillis() - startTime);
+                    }
                 }
             }
             reportFinishedSnapshotSplitsIfNeed();
@@ -301,6 +318,7 @@ public class MySqlSourceReader<T>
                     ackEvent.getFinishedSplits());
             for (String splitId : ackEvent.getFinishedSplits()) {
                 this.finishedUnackedSplits.remove(splitId);
+                this.finishedUnackedSplitReadTimes.remove(splitId);
             }
         } else if (sourceEvent instanceof FinishedSnapshotSplitsRequestEvent) {
             // report finished snapshot splits
@@ -357,7 +375,8 @@ public class MySqlSourceReader<T>
                 finishedOffsets.put(split.splitId(), split.getHighWatermark());
             }
             FinishedSnapshotSplitsReportEvent reportEvent =
-                    new FinishedSnapshotSplitsReportEvent(finishedOffsets);
+                    new FinishedSnapshotSplitsReportEvent(
+                            finishedOffsets, new HashMap<>(finishedUnackedSplitReadTimes));
             context.sendSourceEventToCoordinator(reportEvent);
             LOG.debug(
                     "Source reader {} reports offsets of finished snapshot splits {}.",
@@ -16,10 +16,14 @@
 
 package com.ververica.cdc.connectors.mysql.source.reader;
 
+import org.apache.flink.configuration.ConfigurationUtils;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
 import com.ververica.cdc.connectors.mysql.debezium.reader.BinlogSplitReader;
@@ -42,15 +46,30 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createBinaryClient;
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlConnection;
 import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.BINLOG_SPLIT_ID;
 
-/** The {@link SplitReader} implementation for the {@link MySqlSource}. */
+/**
+ * The {@link SplitReader} implementation for the {@link MySqlSource}.
+ *
+ * <p>If the chunk fetch concurrency of the source is greater than 1, up to that number of snapshot
+ * splits are read at the same time, each by its own {@link SnapshotSplitReader} with a separate
+ * {@link StatefulTaskContext} and connection. The records of the snapshot splits are still emitted
+ * one split after another in the order the splits were added to the reader. The snapshot splits of
+ * newly added tables, which are read while the reader holds the binlog split, are always read one
+ * by one.
+ */
 public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit> {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlSplitReader.class);
@@ -61,12 +80,21 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
     private final MySqlSourceReaderContext context;
 
     private final SnapshotPhaseHooks snapshotHooks;
+    private final String[] tmpDirectories;
 
     @Nullable private String currentSplitId;
+    @Nullable private String currentBinlogSplitId;
     @Nullable private DebeziumReader<SourceRecords, MySqlSplit> currentReader;
     @Nullable private SnapshotSplitReader reusedSnapshotReader;
     @Nullable private BinlogSplitReader reusedBinlogReader;
 
+    private final int chunkFetchConcurrency;
+    // the snapshot splits being fetched concurrently, in the order of emitting
+    private final ArrayDeque<SnapshotSplitFetch> snapshotSplitFetches;
+    private final ArrayDeque<SnapshotSplitReader> idleSnapshotReaders;
+    private final Object backfillLock;
+    @Nullable private ExecutorService snapshotFetchExecutor;
+
     public MySqlSplitReader(
             MySqlSourceConfig sourceConfig,
             int subtaskId,
@@ -78,12 +106,22 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
         this.binlogSplits = new ArrayDeque<>(1);
         this.context = context;
         this.snapshotHooks = snapshotHooks;
+        this.tmpDirectories =
+                ConfigurationUtils.parseTempDirectories(
+                        context.getSourceReaderContext().getConfiguration());
+        this.chunkFetchConcurrency = sourceConfig.getChunkFetchConcurrency();
+        this.snapshotSplitFetches = new ArrayDeque<>();
+        this.idleSnapshotReaders = new ArrayDeque<>();
+        this.backfillLock = new Object();
     }
 
     @Override
     public RecordsWithSplitIds<SourceRecords> fetch() throws IOException {
         try {
             suspendBinlogReaderIfNeed();
+            if (isFetchingSnapshotSplitsConcurrently()) {
+                return fetchSnapshotSplitsConcurrently();
+            }
             return pollSplitRecords();
         } catch (InterruptedException e) {
             LOG.warn("fetch data failed.", e);
@@ -112,6 +150,8 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
                 // (b) added back binlog-split in newly added table process
                 MySqlSplit nextSplit = binlogSplits.poll();
                 currentSplitId = nextSplit.splitId();
+                currentBinlogSplitId = nextSplit.splitId();
+                closeConcurrentSnapshotReaders();
                 currentReader = getBinlogSplitReader();
                 currentReader.submitSplit(nextSplit);
             } else if (snapshotSplits.size() > 0) {
@@ -128,6 +168,10 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
             // (2) try to switch to binlog split reading util current snapshot split finished
             dataIt = currentReader.pollSplitRecords();
             if (dataIt != null) {
+                if (!((SnapshotSplitReader) currentReader).isCurrentSplitPolled()) {
+                    // the records of snapshot split are emitted in batches, keep reading it
+                    return MySqlRecords.forUnfinishedSnapshotRecords(currentSplitId, dataIt);
+                }
                 // first fetch data of snapshot split, return and emit the records of snapshot split
                 MySqlRecords records;
                 if (context.isHasAssignedBinlogSplit()) {
@@ -135,7 +179,7 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
                     closeSnapshotReader();
                     closeBinlogReader();
                 } else {
-                    records = forRecords(dataIt);
+                    records = MySqlRecords.forSnapshotRecords(currentSplitId, dataIt);
                     MySqlSplit nextSplit = snapshotSplits.poll();
                     if (nextSplit != null) {
                         currentSplitId = nextSplit.splitId();
@@ -161,7 +205,7 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
                     currentReader = getSnapshotSplitReader();
                     currentReader.submitSplit(nextSplit);
                 }
-                return MySqlRecords.forBinlogRecords(BINLOG_SPLIT_ID, dataIt);
+                return MySqlRecords.forBinlogRecords(currentBinlogSplitId, dataIt);
             } else {
                 // null will be returned after receiving suspend binlog event
                 // finish current binlog split reading
@@ -181,6 +225,10 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
 
     private MySqlRecords forRecords(Iterator<SourceRecords> dataIt) {
         if (currentReader instanceof SnapshotSplitReader) {
+            if (!((SnapshotSplitReader) currentReader).isCurrentSplitPolled()) {
+                // the records of snapshot split are emitted in batches, keep reading it
+                return MySqlRecords.forUnfinishedSnapshotRecords(currentSplitId, dataIt);
+            }
             final MySqlRecords finishedRecords =
                     MySqlRecords.forSnapshotRecords(currentSplitId, dataIt);
             closeSnapshotReader();
@@ -229,21 +277,26 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
     public void close() throws Exception {
         closeSnapshotReader();
         closeBinlogReader();
+        closeConcurrentSnapshotReaders();
     }
 
     private SnapshotSplitReader getSnapshotSplitReader() {
         if (reusedSnapshotReader == null) {
-            final MySqlConnection jdbcConnection = createMySqlConnection(sourceConfig);
-            final BinaryLogClient binaryLogClient =
-                    createBinaryClient(sourceConfig.getDbzConfiguration());
-            final StatefulTaskContext statefulTaskContext =
-                    new StatefulTaskContext(sourceConfig, binaryLogClient, jdbcConnection);
-            reusedSnapshotReader =
-                    new SnapshotSplitReader(statefulTaskContext, subtaskId, snapshotHooks);
+            reusedSnapshotReader = createSnapshotSplitReader();
         }
         return reusedSnapshotReader;
     }
 
+    private SnapshotSplitReader createSnapshotSplitReader() {
+        final MySqlConnection jdbcConnection = createMySqlConnection(sourceConfig);
+        final BinaryLogClient binaryLogClient =
+                createBinaryClient(sourceConfig.getDbzConfiguration());
+        final StatefulTaskContext statefulTaskContext =
+                new StatefulTaskContext(sourceConfig, binaryLogClient, jdbcConnection);
+        return new SnapshotSplitReader(
+                statefulTaskContext, subtaskId, snapshotHooks, tmpDirectories, backfillLock);
+    }
+
     private BinlogSplitReader getBinlogSplitReader() {
         if (reusedBinlogReader == null) {
             final MySqlConnection jdbcConnection = createMySqlConnection(sourceConfig);
@@ -278,4 +331,131 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
             reusedBinlogReader = null;
         }
     }
+
+    // --------------------------------------------------------------------------------------------
+    // Concurrent snapshot split fetching
+    // --------------------------------------------------------------------------------------------
+
+    private boolean isFetchingSnapshotSplitsConcurrently() {
+        if (chunkFetchConcurrency <= 1 || currentReader != null) {
+            return false;
+        }
+        return !snapshotSplitFetches.isEmpty()
+                || (binlogSplits.isEmpty()
+                        && !snapshotSplits.isEmpty()
+                        && !context.isHasAssignedBinlogSplit());
+    }
+
+    private MySqlRecords fetchSnapshotSplitsConcurrently() throws IOException {
+        submitSnapshotSplitFetches();
+        final SnapshotSplitFetch headFetch = snapshotSplitFetches.poll();
+        final Iterator<SourceRecords> dataIt = headFetch.awaitRecords();
+        // the records of the split have been polled, fetch the next split with the reader
+        idleSnapshotReaders.add(headFetch.reader);
+        submitSnapshotSplitFetches();
+        return MySqlRecords.forSnapshotRecords(headFetch.splitId, dataIt);
+    }
+
+    private void submitSnapshotSplitFetches() {
+        while (snapshotSplitFetches.size() < chunkFetchConcurrency && !snapshotSplits.isEmpty()) {
+            final MySqlSnapshotSplit nextSplit = snapshotSplits.poll();
+            SnapshotSplitReader reader = idleSnapshotReaders.poll();
+            if (reader == null) {
+                reader = createSnapshotSplitReader();
+            }
+            reader.submitSplit(nextSplit);
+
+            // normalize the records of the split in the background, as the read task blocks once
+            // its queue is full
+            final SnapshotSplitReader splitReader = reader;
+            final String splitId = nextSplit.splitId();
+            CompletableFuture<Iterator<SourceRecords>> records =
+                    CompletableFuture.supplyAsync(
+                            () -> pollSnapshotSplitRecords(splitReader, splitId),
+                            getSnapshotFetchExecutor());
+            snapshotSplitFetches.add(new SnapshotSplitFetch(splitId, reader, records));
+        }
+    }
+
+    private static Iterator<SourceRecords> pollSnapshotSplitRecords(
+            SnapshotSplitReader reader, String splitId) {
+        try {
+            final Iterator<SourceRecords> dataIt = reader.pollSplitRecords();
+            if (reader.isCurrentSplitPolled()) {
+                return dataIt;
+            }
+            // the records are polled in batches if backfill is skipped, collect all of them as the
+            // split is emitted once it's the head of the fetches
+            final List<SourceRecords> batches = new ArrayList<>();
+            dataIt.forEachRemaining(batches::add);
+            while (!reader.isCurrentSplitPolled()) {
+                reader.pollSplitRecords().forEachRemaining(batches::add);
+            }
+            return batches.iterator();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlinkRuntimeException(
+                    String.format("Interrupted while fetching snapshot split %s.", splitId), e);
+        }
+    }
+
+    private ExecutorService getSnapshotFetchExecutor() {
+        if (snapshotFetchExecutor == null) {
+            snapshotFetchExecutor =
+                    Executors.newFixedThreadPool(
+                            chunkFetchConcurrency,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("snapshot-split-fetcher-" + subtaskId + "-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+        return snapshotFetchExecutor;
+    }
+
+    private void closeConcurrentSnapshotReaders() {
+        if (snapshotFetchExecutor != null) {
+            // interrupt the fetches which are still waiting for records
+            snapshotFetchExecutor.shutdownNow();
+            snapshotFetchExecutor = null;
+        }
+        for (SnapshotSplitFetch fetch : snapshotSplitFetches) {
+            fetch.reader.close();
+        }
+        snapshotSplitFetches.clear();
+        for (SnapshotSplitReader reader : idleSnapshotReaders) {
+            reader.close();
+        }
+        idleSnapshotReaders.clear();
+    }
+
+    /** A snapshot split which is fetched concurrently with other snapshot splits. */
+    private static class SnapshotSplitFetch {
+
+        private final String splitId;
+        private final SnapshotSplitReader reader;
+        private final CompletableFuture<Iterator<SourceRecords>> records;
+
+        private SnapshotSplitFetch(
+                String splitId,
+                SnapshotSplitReader reader,
+                CompletableFuture<Iterator<SourceRecords>> records) {
+            this.splitId = splitId;
+            this.reader = reader;
+            this.records = records;
+        }
+
+        private Iterator<SourceRecords> awaitRecords() throws IOException {
+            try {
+                return records.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.debezium.utils.SplitBoundarySerializer;
 import io.debezium.relational.TableId;
 
 import java.io.IOException;
@@ -28,8 +29,6 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
 
 /** The information used to describe a finished snapshot split. */
@@ -126,8 +125,8 @@ public class FinishedSnapshotSplitInfo {
             final DataOutputSerializer out = SERIALIZER_CACHE.get();
             out.writeUTF(splitInfo.getTableId().toString());
             out.writeUTF(splitInfo.getSplitId());
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+            SplitBoundarySerializer.writeSplitBoundary(splitInfo.getSplitStart(), out);
+            SplitBoundarySerializer.writeSplitBoundary(splitInfo.getSplitEnd(), out);
             writeBinlogPosition(splitInfo.getHighWatermark(), out);
             final byte[] result = out.getCopyOfBuffer();
             out.clear();
@@ -142,8 +141,8 @@ public class FinishedSnapshotSplitInfo {
             final DataInputDeserializer in = new DataInputDeserializer(serialized);
             TableId tableId = TableId.parse(in.readUTF());
             String splitId = in.readUTF();
-            Object[] splitStart = serializedStringToRow(in.readUTF());
-            Object[] splitEnd = serializedStringToRow(in.readUTF());
+            Object[] splitStart = SplitBoundarySerializer.readSplitBoundary(in);
+            Object[] splitEnd = SplitBoundarySerializer.readSplitBoundary(in);
             BinlogOffset highWatermark = readBinlogPosition(in);
             in.releaseArrays();
             return new FinishedSnapshotSplitInfo(
@@ -38,6 +38,14 @@ public class MySqlBinlogSplit extends MySqlSplit {
     private final Map<TableId, TableChange> tableSchemas;
     private final int totalFinishedSplitSize;
     private final boolean isSuspended;
+
+    /**
+     * The binlog may be read by multiple splits, each of them only emits the change events of the
+     * tables in its own shard, see {@link #isTableInShard(TableId)}.
+     */
+    private final int tableShardIndex;
+
+    private final int tableShardCount;
     @Nullable transient byte[] serializedFormCache;
 
     public MySqlBinlogSplit(
@@ -47,7 +55,9 @@ public class MySqlBinlogSplit extends MySqlSplit {
             List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos,
             Map<TableId, TableChange> tableSchemas,
             int totalFinishedSplitSize,
-            boolean isSuspended) {
+            boolean isSuspended,
+            int tableShardIndex,
+            int tableShardCount) {
         super(splitId);
         this.startingOffset = startingOffset;
         this.endingOffset = endingOffset;
@@ -55,6 +65,28 @@ public class MySqlBinlogSplit extends MySqlSplit {
         this.tableSchemas = tableSchemas;
         this.totalFinishedSplitSize = totalFinishedSplitSize;
         this.isSuspended = isSuspended;
+        this.tableShardIndex = tableShardIndex;
+        this.tableShardCount = tableShardCount;
+    }
+
+    public MySqlBinlogSplit(
+            String splitId,
+            BinlogOffset startingOffset,
+            BinlogOffset endingOffset,
+            List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos,
+            Map<TableId, TableChange> tableSchemas,
+            int totalFinishedSplitSize,
+            boolean isSuspended) {
+        this(
+                splitId,
+                startingOffset,
+                endingOffset,
+                finishedSnapshotSplitInfos,
+                tableSchemas,
+                totalFinishedSplitSize,
+                isSuspended,
+                0,
+                1);
     }
 
     public MySqlBinlogSplit(
@@ -64,13 +96,14 @@ public class MySqlBinlogSplit extends MySqlSplit {
             List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos,
             Map<TableId, TableChange> tableSchemas,
             int totalFinishedSplitSize) {
-        super(splitId);
-        this.startingOffset = startingOffset;
-        this.endingOffset = endingOffset;
-        this.finishedSnapshotSplitInfos = finishedSnapshotSplitInfos;
-        this.tableSchemas = tableSchemas;
-        this.totalFinishedSplitSize = totalFinishedSplitSize;
-        this.isSuspended = false;
+        this(
+                splitId,
+                startingOffset,
+                endingOffset,
+                finishedSnapshotSplitInfos,
+                tableSchemas,
+                totalFinishedSplitSize,
+                false);
     }
 
     public BinlogOffset getStartingOffset() {
@@ -102,6 +135,27 @@ public class MySqlBinlogSplit extends MySqlSplit {
         return totalFinishedSplitSize == finishedSnapshotSplitInfos.size();
     }
 
+    public int getTableShardIndex() {
+        return tableShardIndex;
+    }
+
+    public int getTableShardCount() {
+        return tableShardCount;
+    }
+
+    /** Returns whether the change events of the given table are emitted by this split. */
+    public boolean isTableInShard(TableId tableId) {
+        return tableShardCount == 1 || getTableShard(tableId, tableShardCount) == tableShardIndex;
+    }
+
+    /**
+     * Returns the shard of the given table. The shard is derived from the identifier of the table,
+     * which keeps it stable across restarts.
+     */
+    public static int getTableShard(TableId tableId, int tableShardCount) {
+        return Math.floorMod(tableId.identifier().hashCode(), tableShardCount);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -116,6 +170,8 @@ public class MySqlBinlogSplit extends MySqlSplit {
         MySqlBinlogSplit that = (MySqlBinlogSplit) o;
         return totalFinishedSplitSize == that.totalFinishedSplitSize
                 && isSuspended == that.isSuspended
+                && tableShardIndex == that.tableShardIndex
+                && tableShardCount == that.tableShardCount
                 && Objects.equals(startingOffset, that.startingOffset)
                 && Objects.equals(endingOffset, that.endingOffset)
                 && Objects.equals(finishedSnapshotSplitInfos, that.finishedSnapshotSplitInfos)
@@ -131,7 +187,9 @@ public class MySqlBinlogSplit extends MySqlSplit {
                 finishedSnapshotSplitInfos,
                 tableSchemas,
                 totalFinishedSplitSize,
-                isSuspended);
+                isSuspended,
+                tableShardIndex,
+                tableShardCount);
     }
 
     @Override
@@ -146,6 +204,10 @@ public class MySqlBinlogSplit extends MySqlSplit {
                 + endingOffset
                 + ", isSuspended="
                 + isSuspended
+                + ", tableShard="
+                + tableShardIndex
+                + "/"
+                + tableShardCount
                 + '}';
     }
 
@@ -169,7 +231,9 @@ public class MySqlBinlogSplit extends MySqlSplit {
                 splitInfos,
                 binlogSplit.getTableSchemas(),
                 binlogSplit.getTotalFinishedSplitSize(),
-                binlogSplit.isSuspended());
+                binlogSplit.isSuspended(),
+                binlogSplit.getTableShardIndex(),
+                binlogSplit.getTableShardCount());
     }
 
     /**
@@ -194,7 +258,9 @@ public class MySqlBinlogSplit extends MySqlSplit {
                 binlogSplit.getTotalFinishedSplitSize()
                         - (binlogSplit.getFinishedSnapshotSplitInfos().size()
                                 - allFinishedSnapshotSplitInfos.size()),
-                binlogSplit.isSuspended());
+                binlogSplit.isSuspended(),
+                binlogSplit.getTableShardIndex(),
+                binlogSplit.getTableShardCount());
     }
 
     public static MySqlBinlogSplit fillTableSchemas(
@@ -207,7 +273,9 @@ public class MySqlBinlogSplit extends MySqlSplit {
                 binlogSplit.getFinishedSnapshotSplitInfos(),
                 tableSchemas,
                 binlogSplit.getTotalFinishedSplitSize(),
-                binlogSplit.isSuspended());
+                binlogSplit.isSuspended(),
+                binlogSplit.getTableShardIndex(),
+                binlogSplit.getTableShardCount());
     }
 
     public static MySqlBinlogSplit toNormalBinlogSplit(
@@ -219,7 +287,9 @@ public class MySqlBinlogSplit extends MySqlSplit {
                 suspendedBinlogSplit.getFinishedSnapshotSplitInfos(),
                 suspendedBinlogSplit.getTableSchemas(),
                 totalFinishedSplitSize,
-                false);
+                false,
+                suspendedBinlogSplit.getTableShardIndex(),
+                suspendedBinlogSplit.getTableShardCount());
     }
 
     public static MySqlBinlogSplit toSuspendedBinlogSplit(MySqlBinlogSplit normalBinlogSplit) {
@@ -232,7 +302,9 @@ public class MySqlBinlogSplit extends MySqlSplit {
                         normalBinlogSplit.getStartingOffset()),
                 normalBinlogSplit.getTableSchemas(),
                 normalBinlogSplit.getTotalFinishedSplitSize(),
-                true);
+                true,
+                normalBinlogSplit.getTableShardIndex(),
+                normalBinlogSplit.getTableShardCount());
     }
 
     /**
@@ -73,7 +73,18 @@ public class MySqlBinlogSplitState extends MySqlSplitState {
                 binlogSplit.asBinlogSplit().getFinishedSnapshotSplitInfos(),
                 getTableSchemas(),
                 binlogSplit.getTotalFinishedSplitSize(),
-                binlogSplit.isSuspended());
+                binlogSplit.isSuspended(),
+                binlogSplit.getTableShardIndex(),
+                binlogSplit.getTableShardCount());
+    }
+
+    /** Returns whether the change events of the given table are emitted by this split. */
+    public boolean isTableInShard(TableId tableId) {
+        return split.asBinlogSplit().isTableInShard(tableId);
+    }
+
+    public int getTableShardIndex() {
+        return split.asBinlogSplit().getTableShardIndex();
     }
 
     @Override
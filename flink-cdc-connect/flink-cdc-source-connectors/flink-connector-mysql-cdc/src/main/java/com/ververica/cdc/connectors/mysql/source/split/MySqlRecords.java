@@ -85,6 +85,11 @@ public final class MySqlRecords implements RecordsWithSplitIds<SourceRecords> {
         return new MySqlRecords(splitId, recordsForSplit, Collections.singleton(splitId));
     }
 
+    public static MySqlRecords forUnfinishedSnapshotRecords(
+            final String splitId, final Iterator<SourceRecords> recordsForSplit) {
+        return new MySqlRecords(splitId, recordsForSplit, Collections.emptySet());
+    }
+
     public static MySqlRecords forFinishedSplit(final String splitId) {
         return new MySqlRecords(null, null, Collections.singleton(splitId));
     }
@@ -23,10 +23,11 @@ import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.table.types.logical.utils.LogicalTypeParser;
 
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.utils.BinaryTableChangeSerializer;
 import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import com.ververica.cdc.debezium.utils.SplitBoundarySerializer;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
-import io.debezium.document.DocumentWriter;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
 
@@ -39,7 +40,6 @@ import java.util.List;
 import java.util.Map;
 
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.quote;
@@ -49,7 +49,7 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
 
     public static final MySqlSplitSerializer INSTANCE = new MySqlSplitSerializer();
 
-    private static final int VERSION = 4;
+    private static final int VERSION = 7;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -78,9 +78,9 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
 
             final Object[] splitStart = snapshotSplit.getSplitStart();
             final Object[] splitEnd = snapshotSplit.getSplitEnd();
-            // rowToSerializedString deals null case
-            out.writeUTF(rowToSerializedString(splitStart));
-            out.writeUTF(rowToSerializedString(splitEnd));
+            // writeSplitBoundary deals null case
+            SplitBoundarySerializer.writeSplitBoundary(splitStart, out);
+            SplitBoundarySerializer.writeSplitBoundary(splitEnd, out);
             writeBinlogPosition(snapshotSplit.getHighWatermark(), out);
             writeTableSchemas(snapshotSplit.getTableSchemas(), out);
             final byte[] result = out.getCopyOfBuffer();
@@ -105,6 +105,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             writeTableSchemas(binlogSplit.getTableSchemas(), out);
             out.writeInt(binlogSplit.getTotalFinishedSplitSize());
             out.writeBoolean(binlogSplit.isSuspended());
+            out.writeInt(binlogSplit.getTableShardIndex());
+            out.writeInt(binlogSplit.getTableShardCount());
             final byte[] result = out.getCopyOfBuffer();
             out.clear();
             // optimization: cache the serialized from, so we avoid the byte work during repeated
@@ -121,6 +123,9 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             case 2:
             case 3:
             case 4:
+            case 5:
+            case 6:
+            case 7:
                 return deserializeSplit(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -135,8 +140,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             TableId tableId = TableId.parse(in.readUTF());
             String splitId = in.readUTF();
             RowType splitKeyType = (RowType) LogicalTypeParser.parse(in.readUTF());
-            Object[] splitBoundaryStart = serializedStringToRow(in.readUTF());
-            Object[] splitBoundaryEnd = serializedStringToRow(in.readUTF());
+            Object[] splitBoundaryStart = readSplitBoundary(version, in);
+            Object[] splitBoundaryEnd = readSplitBoundary(version, in);
             BinlogOffset highWatermark = readBinlogPosition(version, in);
             Map<TableId, TableChange> tableSchemas = readTableSchemas(version, in);
 
@@ -159,6 +164,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             Map<TableId, TableChange> tableChangeMap = readTableSchemas(version, in);
             int totalFinishedSplitSize = finishedSplitsInfo.size();
             boolean isSuspended = false;
+            int tableShardIndex = 0;
+            int tableShardCount = 1;
             if (version >= 3) {
                 totalFinishedSplitSize = in.readInt();
                 if (version > 3) {
@@ -169,6 +176,10 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
                         // it
                     }
                 }
+                if (version >= 7) {
+                    tableShardIndex = in.readInt();
+                    tableShardCount = in.readInt();
+                }
             }
             in.releaseArrays();
             return new MySqlBinlogSplit(
@@ -178,7 +189,9 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
                     finishedSplitsInfo,
                     tableChangeMap,
                     totalFinishedSplitSize,
-                    isSuspended);
+                    isSuspended,
+                    tableShardIndex,
+                    tableShardCount);
         } else {
             throw new IOException("Unknown split kind: " + splitKind);
         }
@@ -186,22 +199,15 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
 
     public static void writeTableSchemas(
             Map<TableId, TableChange> tableSchemas, DataOutputSerializer out) throws IOException {
-        FlinkJsonTableChangeSerializer jsonSerializer = new FlinkJsonTableChangeSerializer();
-        DocumentWriter documentWriter = DocumentWriter.defaultWriter();
-        final int size = tableSchemas.size();
-        out.writeInt(size);
-        for (Map.Entry<TableId, TableChange> entry : tableSchemas.entrySet()) {
-            out.writeUTF(entry.getKey().toString());
-            final String tableChangeStr =
-                    documentWriter.write(jsonSerializer.toDocument(entry.getValue()));
-            final byte[] tableChangeBytes = tableChangeStr.getBytes(StandardCharsets.UTF_8);
-            out.writeInt(tableChangeBytes.length);
-            out.write(tableChangeBytes);
-        }
+        BinaryTableChangeSerializer.writeTableSchemas(tableSchemas, out);
     }
 
     public static Map<TableId, TableChange> readTableSchemas(int version, DataInputDeserializer in)
             throws IOException {
+        if (version >= 5) {
+            return BinaryTableChangeSerializer.readTableSchemas(in);
+        }
+        // the table schemas were written as Debezium JSON documents before version 5
         DocumentReader documentReader = DocumentReader.defaultReader();
         Map<TableId, TableChange> tableSchemas = new HashMap<>();
         final int size = in.readInt();
@@ -238,8 +244,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
         for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo) {
             out.writeUTF(splitInfo.getTableId().toString());
             out.writeUTF(splitInfo.getSplitId());
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+            SplitBoundarySerializer.writeSplitBoundary(splitInfo.getSplitStart(), out);
+            SplitBoundarySerializer.writeSplitBoundary(splitInfo.getSplitEnd(), out);
             writeBinlogPosition(splitInfo.getHighWatermark(), out);
         }
     }
@@ -251,8 +257,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
         for (int i = 0; i < size; i++) {
             TableId tableId = TableId.parse(in.readUTF());
             String splitId = in.readUTF();
-            Object[] splitStart = serializedStringToRow(in.readUTF());
-            Object[] splitEnd = serializedStringToRow(in.readUTF());
+            Object[] splitStart = readSplitBoundary(version, in);
+            Object[] splitEnd = readSplitBoundary(version, in);
             BinlogOffset highWatermark = readBinlogPosition(version, in);
             finishedSplitsInfo.add(
                     new FinishedSnapshotSplitInfo(
@@ -260,4 +266,13 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
         }
         return finishedSplitsInfo;
     }
+
+    private static Object[] readSplitBoundary(int version, DataInputDeserializer in)
+            throws IOException {
+        if (version >= 6) {
+            return SplitBoundarySerializer.readSplitBoundary(in);
+        }
+        // the split boundaries were written as hex strings of Java serialization before version 6
+        return serializedStringToRow(in.readUTF());
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.utils;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.StringValue;
+
+import org.apache.flink.shaded.guava31.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnEditor;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary serializer for the table schemas of the MySQL splits.
+ *
+ * <p>The structure of a table, i.e. everything of the {@link Table} except its id, is encoded in a
+ * binary form and written once for all the tables sharing the same structure, e.g. the sharded
+ * tables. The encoded structures are cached by the identity of the {@link Table}, so a checkpoint
+ * of the binlog split only encodes the tables whose schema has changed since the last one.
+ */
+public class BinaryTableChangeSerializer {
+
+    /** The encoded structures of the tables, the table schemas are never modified in place. */
+    private static final Cache<Table, byte[]> ENCODED_STRUCTURES =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    private static final ThreadLocal<DataOutputSerializer> STRUCTURE_SERIALIZER_CACHE =
+            ThreadLocal.withInitial(() -> new DataOutputSerializer(256));
+
+    private static final TableChangeType[] CHANGE_TYPES = TableChangeType.values();
+
+    private BinaryTableChangeSerializer() {}
+
+    public static void writeTableSchemas(
+            Map<TableId, TableChange> tableSchemas, DataOutputView out) throws IOException {
+        final Map<ByteBuffer, Integer> structureIndexes = new HashMap<>();
+        final List<byte[]> structures = new ArrayList<>();
+        final int[] tableStructureIndexes = new int[tableSchemas.size()];
+        int i = 0;
+        for (TableChange tableChange : tableSchemas.values()) {
+            final byte[] structure = encodeStructure(tableChange.getTable());
+            Integer index = structureIndexes.get(ByteBuffer.wrap(structure));
+            if (index == null) {
+                index = structures.size();
+                structures.add(structure);
+                structureIndexes.put(ByteBuffer.wrap(structure), index);
+            }
+            tableStructureIndexes[i++] = index;
+        }
+
+        out.writeInt(structures.size());
+        for (byte[] structure : structures) {
+            out.writeInt(structure.length);
+            out.write(structure);
+        }
+        out.writeInt(tableSchemas.size());
+        i = 0;
+        for (Map.Entry<TableId, TableChange> entry : tableSchemas.entrySet()) {
+            final TableId tableId = entry.getKey();
+            final TableChange tableChange = entry.getValue();
+            out.writeUTF(tableId.toString());
+            out.writeByte(tableChange.getType().ordinal());
+            // the id of the table change is the same as the key except some legacy states
+            final boolean isSameId = tableId.equals(tableChange.getId());
+            out.writeBoolean(isSameId);
+            if (!isSameId) {
+                out.writeUTF(tableChange.getId().toDoubleQuotedString());
+            }
+            out.writeInt(tableStructureIndexes[i++]);
+        }
+    }
+
+    public static Map<TableId, TableChange> readTableSchemas(DataInputDeserializer in)
+            throws IOException {
+        final int structureSize = in.readInt();
+        final byte[][] structures = new byte[structureSize][];
+        for (int i = 0; i < structureSize; i++) {
+            structures[i] = new byte[in.readInt()];
+            in.readFully(structures[i]);
+        }
+        // the structure is decoded once, the tables sharing it share the immutable columns
+        final Table[] decodedStructures = new Table[structureSize];
+        final int tableSize = in.readInt();
+        final Map<TableId, TableChange> tableSchemas = new HashMap<>(tableSize * 4 / 3 + 1);
+        for (int i = 0; i < tableSize; i++) {
+            final TableId tableId = TableId.parse(in.readUTF());
+            final TableChangeType type = CHANGE_TYPES[in.readByte()];
+            final TableId changeId =
+                    in.readBoolean() ? tableId : TableId.parse(in.readUTF(), true);
+            final int structureIndex = in.readInt();
+            Table structure = decodedStructures[structureIndex];
+            if (structure == null) {
+                structure =
+                        decodeStructure(
+                                changeId, new DataInputDeserializer(structures[structureIndex]));
+                decodedStructures[structureIndex] = structure;
+            }
+            final Table table =
+                    structure.id().equals(changeId)
+                            ? structure
+                            : structure.edit().tableId(changeId).create();
+            tableSchemas.put(tableId, new TableChange(type, table));
+        }
+        return tableSchemas;
+    }
+
+    private static byte[] encodeStructure(Table table) throws IOException {
+        byte[] structure = ENCODED_STRUCTURES.getIfPresent(table);
+        if (structure == null) {
+            final DataOutputSerializer out = STRUCTURE_SERIALIZER_CACHE.get();
+            try {
+                writeStructure(table, out);
+                structure = out.getCopyOfBuffer();
+            } finally {
+                out.clear();
+            }
+            ENCODED_STRUCTURES.put(table, structure);
+        }
+        return structure;
+    }
+
+    private static void writeStructure(Table table, DataOutputView out) throws IOException {
+        StringValue.writeString(table.defaultCharsetName(), out);
+        StringValue.writeString(table.comment(), out);
+        final List<String> primaryKeyColumnNames = table.primaryKeyColumnNames();
+        out.writeInt(primaryKeyColumnNames.size());
+        for (String primaryKeyColumnName : primaryKeyColumnNames) {
+            StringValue.writeString(primaryKeyColumnName, out);
+        }
+        final List<Column> columns = table.columns();
+        out.writeInt(columns.size());
+        for (Column column : columns) {
+            writeColumn(column, out);
+        }
+    }
+
+    private static Table decodeStructure(TableId tableId, DataInputView in) throws IOException {
+        final TableEditor editor =
+                Table.editor()
+                        .tableId(tableId)
+                        .setDefaultCharsetName(StringValue.readString(in));
+        final String comment = StringValue.readString(in);
+        if (comment != null) {
+            editor.setComment(comment);
+        }
+        final int primaryKeySize = in.readInt();
+        final List<String> primaryKeyColumnNames = new ArrayList<>(primaryKeySize);
+        for (int i = 0; i < primaryKeySize; i++) {
+            primaryKeyColumnNames.add(StringValue.readString(in));
+        }
+        final int columnSize = in.readInt();
+        for (int i = 0; i < columnSize; i++) {
+            editor.addColumn(readColumn(in));
+        }
+        editor.setPrimaryKeyNames(primaryKeyColumnNames);
+        return editor.create();
+    }
+
+    private static void writeColumn(Column column, DataOutputView out) throws IOException {
+        StringValue.writeString(column.name(), out);
+        out.writeInt(column.jdbcType());
+        out.writeInt(column.nativeType());
+        StringValue.writeString(column.typeName(), out);
+        StringValue.writeString(column.typeExpression(), out);
+        StringValue.writeString(column.charsetName(), out);
+        out.writeInt(column.length());
+        out.writeBoolean(column.scale().isPresent());
+        if (column.scale().isPresent()) {
+            out.writeInt(column.scale().get());
+        }
+        out.writeInt(column.position());
+        out.writeBoolean(column.isOptional());
+        out.writeBoolean(column.isAutoIncremented());
+        out.writeBoolean(column.isGenerated());
+        StringValue.writeString(column.comment(), out);
+        out.writeBoolean(column.hasDefaultValue());
+        StringValue.writeString(column.defaultValueExpression().orElse(null), out);
+        final List<String> enumValues = column.enumValues();
+        if (enumValues == null) {
+            out.writeInt(0);
+        } else {
+            out.writeInt(enumValues.size());
+            for (String enumValue : enumValues) {
+                StringValue.writeString(enumValue, out);
+            }
+        }
+    }
+
+    private static Column readColumn(DataInputView in) throws IOException {
+        final ColumnEditor columnEditor =
+                Column.editor().name(StringValue.readString(in)).jdbcType(in.readInt());
+        columnEditor.nativeType(in.readInt());
+        final String typeName = StringValue.readString(in);
+        final String typeExpression = StringValue.readString(in);
+        columnEditor.type(typeName, typeExpression).charsetName(StringValue.readString(in));
+        columnEditor.length(in.readInt());
+        if (in.readBoolean()) {
+            columnEditor.scale(in.readInt());
+        }
+        columnEditor
+                .position(in.readInt())
+                .optional(in.readBoolean())
+                .autoIncremented(in.readBoolean())
+                .generated(in.readBoolean());
+        final String comment = StringValue.readString(in);
+        if (comment != null) {
+            columnEditor.comment(comment);
+        }
+        final boolean hasDefaultValue = in.readBoolean();
+        final String defaultValueExpression = StringValue.readString(in);
+        if (defaultValueExpression != null) {
+            columnEditor.defaultValueExpression(defaultValueExpression);
+        } else if (hasDefaultValue) {
+            columnEditor.defaultValueExpression(null);
+        }
+        final int enumSize = in.readInt();
+        if (enumSize > 0) {
+            final List<String> enumValues = new ArrayList<>(enumSize);
+            for (int i = 0; i < enumSize; i++) {
+                enumValues.add(StringValue.readString(in));
+            }
+            columnEditor.enumValues(enumValues);
+        }
+        return columnEditor.create();
+    }
+}
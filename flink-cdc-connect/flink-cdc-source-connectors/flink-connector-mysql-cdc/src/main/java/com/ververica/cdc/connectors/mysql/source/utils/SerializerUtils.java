@@ -57,6 +57,9 @@ public class SerializerUtils {
             case 2:
             case 3:
             case 4:
+            case 5:
+            case 6:
+            case 7:
                 return readBinlogPosition(in);
             default:
                 throw new IOException("Unknown version: " + offsetVersion);
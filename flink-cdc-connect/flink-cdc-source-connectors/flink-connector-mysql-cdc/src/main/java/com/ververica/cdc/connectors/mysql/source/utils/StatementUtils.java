@@ -24,7 +24,9 @@ import io.debezium.relational.TableId;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -129,6 +131,73 @@ public class StatementUtils {
                 });
     }
 
+    /**
+     * Queries the split column values of the next rows which are not less than the given lower
+     * bound in ascending order, at most the given limit. It's used to compute the boundaries of
+     * several chunks with one query.
+     */
+    public static List<Object> queryNextChunkKeys(
+            JdbcConnection jdbc,
+            TableId tableId,
+            String splitColumnName,
+            int limit,
+            Object includedLowerBound)
+            throws SQLException {
+        String quotedColumn = quote(splitColumnName);
+        String query =
+                String.format(
+                        "SELECT %s FROM %s WHERE %s >= ? ORDER BY %s ASC LIMIT %s",
+                        quotedColumn, quote(tableId), quotedColumn, quotedColumn, limit);
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> ps.setObject(1, includedLowerBound),
+                rs -> {
+                    List<Object> keys = new ArrayList<>();
+                    while (rs.next()) {
+                        keys.add(rs.getObject(1));
+                    }
+                    return keys;
+                });
+    }
+
+    /**
+     * Queries the average row length in bytes of the given table from {@code
+     * information_schema.TABLES}, returns 0 if it's unknown.
+     */
+    public static long queryAvgRowLength(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String query =
+                "SELECT AVG_ROW_LENGTH FROM information_schema.TABLES "
+                        + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> {
+                    ps.setString(1, tableId.catalog());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> rs.next() ? rs.getLong(1) : 0L);
+    }
+
+    /**
+     * Queries the largest cardinality of the indexes leading with the given column from {@code
+     * information_schema.STATISTICS}, returns 0 if it's unknown.
+     */
+    public static long queryIndexCardinality(
+            JdbcConnection jdbc, TableId tableId, String columnName) throws SQLException {
+        final String query =
+                "SELECT MAX(CARDINALITY) FROM information_schema.STATISTICS "
+                        + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = ? "
+                        + "AND SEQ_IN_INDEX = 1";
+        return jdbc.prepareQueryAndMap(
+                query,
+                ps -> {
+                    ps.setString(1, tableId.catalog());
+                    ps.setString(2, tableId.table());
+                    ps.setString(3, columnName);
+                },
+                rs -> rs.next() ? rs.getLong(1) : 0L);
+    }
+
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
         return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
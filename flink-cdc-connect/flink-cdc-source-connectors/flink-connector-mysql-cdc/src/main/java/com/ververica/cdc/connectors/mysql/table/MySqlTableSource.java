@@ -17,6 +17,7 @@
 package com.ververica.cdc.connectors.mysql.table;
 
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.catalog.ObjectPath;
 import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
@@ -83,6 +84,12 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
     private final Duration heartbeatInterval;
     private final String chunkKeyColumn;
     final boolean skipSnapshotBackFill;
+    private final MemorySize chunkMemoryBudget;
+    private final MemorySize chunkTargetSize;
+    @Nullable private final Duration chunkTargetReadTime;
+    private final int binlogDeserializationThreads;
+    private final int binlogSplitNumber;
+    private final int chunkFetchConcurrency;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -120,7 +127,13 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
             Properties jdbcProperties,
             Duration heartbeatInterval,
             @Nullable String chunkKeyColumn,
-            boolean skipSnapshotBackFill) {
+            boolean skipSnapshotBackFill,
+            MemorySize chunkMemoryBudget,
+            MemorySize chunkTargetSize,
+            @Nullable Duration chunkTargetReadTime,
+            int binlogDeserializationThreads,
+            int binlogSplitNumber,
+            int chunkFetchConcurrency) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -150,6 +163,12 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
         this.heartbeatInterval = heartbeatInterval;
         this.chunkKeyColumn = chunkKeyColumn;
         this.skipSnapshotBackFill = skipSnapshotBackFill;
+        this.chunkMemoryBudget = chunkMemoryBudget;
+        this.chunkTargetSize = chunkTargetSize;
+        this.chunkTargetReadTime = chunkTargetReadTime;
+        this.binlogDeserializationThreads = binlogDeserializationThreads;
+        this.binlogSplitNumber = binlogSplitNumber;
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
     }
 
     @Override
@@ -205,6 +224,12 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                             .heartbeatInterval(heartbeatInterval)
                             .chunkKeyColumn(new ObjectPath(database, tableName), chunkKeyColumn)
                             .skipSnapshotBackfill(skipSnapshotBackFill)
+                            .chunkMemoryBudget(chunkMemoryBudget)
+                            .chunkTargetSize(chunkTargetSize)
+                            .chunkTargetReadTime(chunkTargetReadTime)
+                            .binlogDeserializationThreads(binlogDeserializationThreads)
+                            .binlogSplitNumber(binlogSplitNumber)
+                            .chunkFetchConcurrency(chunkFetchConcurrency)
                             .build();
             return SourceProvider.of(parallelSource);
         } else {
@@ -290,7 +315,13 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                         jdbcProperties,
                         heartbeatInterval,
                         chunkKeyColumn,
-                        skipSnapshotBackFill);
+                        skipSnapshotBackFill,
+                        chunkMemoryBudget,
+                        chunkTargetSize,
+                        chunkTargetReadTime,
+                        binlogDeserializationThreads,
+                        binlogSplitNumber,
+                        chunkFetchConcurrency);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -332,7 +363,13 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 && Objects.equals(jdbcProperties, that.jdbcProperties)
                 && Objects.equals(heartbeatInterval, that.heartbeatInterval)
                 && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
-                && Objects.equals(skipSnapshotBackFill, that.skipSnapshotBackFill);
+                && Objects.equals(skipSnapshotBackFill, that.skipSnapshotBackFill)
+                && Objects.equals(chunkMemoryBudget, that.chunkMemoryBudget)
+                && Objects.equals(chunkTargetSize, that.chunkTargetSize)
+                && Objects.equals(chunkTargetReadTime, that.chunkTargetReadTime)
+                && binlogDeserializationThreads == that.binlogDeserializationThreads
+                && binlogSplitNumber == that.binlogSplitNumber
+                && chunkFetchConcurrency == that.chunkFetchConcurrency;
     }
 
     @Override
@@ -365,7 +402,13 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 jdbcProperties,
                 heartbeatInterval,
                 chunkKeyColumn,
-                skipSnapshotBackFill);
+                skipSnapshotBackFill,
+                chunkMemoryBudget,
+                chunkTargetSize,
+                chunkTargetReadTime,
+                binlogDeserializationThreads,
+                binlogSplitNumber,
+                chunkFetchConcurrency);
     }
 
     @Override
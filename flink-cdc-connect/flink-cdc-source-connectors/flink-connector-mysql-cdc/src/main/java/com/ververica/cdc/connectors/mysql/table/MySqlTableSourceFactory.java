@@ -18,6 +18,7 @@ package com.ververica.cdc.connectors.mysql.table;
 
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.configuration.ReadableConfig;
 import org.apache.flink.table.api.ValidationException;
 import org.apache.flink.table.api.config.TableConfigOptions;
@@ -56,10 +57,16 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.HOSTNAME;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.PASSWORD;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.PORT;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_DESERIALIZATION_THREADS;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_SPLIT_NUMBER;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_MEMORY_BUDGET;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_SIZE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
@@ -123,6 +130,17 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
         boolean enableParallelRead = config.get(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
         boolean closeIdleReaders = config.get(SCAN_INCREMENTAL_CLOSE_IDLE_READER_ENABLED);
         boolean skipSnapshotBackFill = config.get(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
+        MemorySize chunkMemoryBudget =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_MEMORY_BUDGET)
+                        .orElse(MemorySize.MAX_VALUE);
+        MemorySize chunkTargetSize =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_SIZE)
+                        .orElse(MemorySize.MAX_VALUE);
+        Duration chunkTargetReadTime =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME).orElse(null);
+        int binlogDeserializationThreads = config.get(SCAN_BINLOG_DESERIALIZATION_THREADS);
+        int binlogSplitNumber = config.get(SCAN_BINLOG_SPLIT_NUMBER);
+        int chunkFetchConcurrency = config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY);
 
         if (enableParallelRead) {
             validatePrimaryKeyIfEnableParallel(physicalSchema, chunkKeyColumn);
@@ -131,6 +149,12 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
             validateIntegerOption(SCAN_SNAPSHOT_FETCH_SIZE, fetchSize, 1);
             validateIntegerOption(CONNECTION_POOL_SIZE, connectionPoolSize, 1);
             validateIntegerOption(CONNECT_MAX_RETRIES, connectMaxRetries, 0);
+            validateIntegerOption(
+                    SCAN_BINLOG_DESERIALIZATION_THREADS, binlogDeserializationThreads, 0);
+            validateIntegerOption(SCAN_BINLOG_SPLIT_NUMBER, binlogSplitNumber, 0);
+            validateBinlogSplitNumber(binlogSplitNumber, scanNewlyAddedTableEnabled);
+            validateIntegerOption(
+                    SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY, chunkFetchConcurrency, 0);
             validateDistributionFactorUpper(distributionFactorUpper);
             validateDistributionFactorLower(distributionFactorLower);
         }
@@ -163,7 +187,13 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
                 JdbcUrlUtils.getJdbcProperties(context.getCatalogTable().getOptions()),
                 heartbeatInterval,
                 chunkKeyColumn,
-                skipSnapshotBackFill);
+                skipSnapshotBackFill,
+                chunkMemoryBudget,
+                chunkTargetSize,
+                chunkTargetReadTime,
+                binlogDeserializationThreads,
+                binlogSplitNumber,
+                chunkFetchConcurrency);
     }
 
     @Override
@@ -209,6 +239,12 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
         options.add(HEARTBEAT_INTERVAL);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_MEMORY_BUDGET);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_SIZE);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME);
+        options.add(SCAN_BINLOG_DESERIALIZATION_THREADS);
+        options.add(SCAN_BINLOG_SPLIT_NUMBER);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY);
         return options;
     }
 
@@ -368,6 +404,17 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
                         distributionFactorLower));
     }
 
+    private void validateBinlogSplitNumber(
+            int binlogSplitNumber, boolean scanNewlyAddedTableEnabled) {
+        checkState(
+                binlogSplitNumber == 1 || !scanNewlyAddedTableEnabled,
+                String.format(
+                        "The option '%s' can not be combined with '%s', but is %s",
+                        SCAN_BINLOG_SPLIT_NUMBER.key(),
+                        SCAN_NEWLY_ADDED_TABLE_ENABLED.key(),
+                        binlogSplitNumber));
+    }
+
     /** Replaces the default timezone placeholder with session timezone, if applicable. */
     private static ZoneId getServerTimeZone(ReadableConfig config) {
         final String serverTimeZone = config.get(SERVER_TIME_ZONE);
@@ -22,6 +22,7 @@ import com.github.shyiko.mysql.binlog.event.TableMapEventData;
 import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
 import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
 import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
 import com.github.shyiko.mysql.binlog.event.deserialization.GtidEventDataDeserializer;
 import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
@@ -30,6 +31,7 @@ import com.github.shyiko.mysql.binlog.network.DefaultSSLSocketFactory;
 import com.github.shyiko.mysql.binlog.network.SSLMode;
 import com.github.shyiko.mysql.binlog.network.SSLSocketFactory;
 import com.github.shyiko.mysql.binlog.network.ServerException;
+import com.ververica.cdc.connectors.mysql.debezium.reader.BinlogEventPipeline;
 import io.debezium.DebeziumException;
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
@@ -52,6 +54,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
+import javax.annotation.Nullable;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -79,6 +82,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static io.debezium.util.Strings.isNullOrEmpty;
@@ -87,10 +91,15 @@ import static io.debezium.util.Strings.isNullOrEmpty;
  * Copied from Debezium project to fix
  * https://github.com/ververica/flink-cdc-connectors/issues/1944.
  *
- * <p>Line 1427-1433 : Adjust GTID merging logic to support recovering from job which previously
+ * <p>Line 1486-1492 : Adjust GTID merging logic to support recovering from job which previously
  * specifying starting offset on start.
  *
- * <p>Line 1485 : Add more error details for some exceptions.
+ * <p>Line 1546 : Add more error details for some exceptions.
+ *
+ * <p>Line 212-234, 341-385 : Decode the rows events with the worker threads of a {@link
+ * BinlogEventPipeline} when binlog deserialization threads are configured.
+ *
+ * <p>Line 1146-1150, 1301-1304 : Handle the events on the dispatching thread of the pipeline.
  */
 public class MySqlStreamingChangeEventSource
         implements StreamingChangeEventSource<MySqlPartition, MySqlOffsetContext> {
@@ -123,6 +132,7 @@ public class MySqlStreamingChangeEventSource
     private final MySqlConnection connection;
     private final EventDispatcher<MySqlPartition, TableId> eventDispatcher;
     private final ErrorHandler errorHandler;
+    @Nullable private final BinlogEventPipeline eventPipeline;
 
     @SingleThreadAccess("binlog client thread")
     private Instant eventTimestamp;
@@ -196,6 +206,18 @@ public class MySqlStreamingChangeEventSource
             Clock clock,
             MySqlTaskContext taskContext,
             MySqlStreamingChangeEventSourceMetrics metrics) {
+        this(connectorConfig, connection, dispatcher, errorHandler, clock, taskContext, metrics, 0);
+    }
+
+    public MySqlStreamingChangeEventSource(
+            MySqlConnectorConfig connectorConfig,
+            MySqlConnection connection,
+            EventDispatcher<MySqlPartition, TableId> dispatcher,
+            ErrorHandler errorHandler,
+            Clock clock,
+            MySqlTaskContext taskContext,
+            MySqlStreamingChangeEventSourceMetrics metrics,
+            int binlogDeserializationThreads) {
 
         this.taskContext = taskContext;
         this.connectorConfig = connectorConfig;
@@ -204,6 +226,12 @@ public class MySqlStreamingChangeEventSource
         this.eventDispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.metrics = metrics;
+        this.eventPipeline =
+                binlogDeserializationThreads > 0
+                        ? new BinlogEventPipeline(
+                                binlogDeserializationThreads,
+                                this::handleEventDeserializationFailure)
+                        : null;
 
         eventDeserializationFailureHandlingMode =
                 connectorConfig.getEventProcessingFailureHandlingMode();
@@ -312,28 +340,50 @@ public class MySqlStreamingChangeEventSource
         eventDeserializer.setEventDataDeserializer(EventType.GTID, new GtidEventDataDeserializer());
         eventDeserializer.setEventDataDeserializer(
                 EventType.WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId));
+                rowsDeserializer(
+                        tableMapEventByTableId, RowDeserializers.WriteRowsDeserializer::new));
         eventDeserializer.setEventDataDeserializer(
                 EventType.UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId));
+                rowsDeserializer(
+                        tableMapEventByTableId, RowDeserializers.UpdateRowsDeserializer::new));
         eventDeserializer.setEventDataDeserializer(
                 EventType.DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId));
+                rowsDeserializer(
+                        tableMapEventByTableId, RowDeserializers.DeleteRowsDeserializer::new));
         eventDeserializer.setEventDataDeserializer(
                 EventType.EXT_WRITE_ROWS,
-                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId)
-                        .setMayContainExtraInformation(true));
+                rowsDeserializer(
+                        tableMapEventByTableId,
+                        tableMaps ->
+                                new RowDeserializers.WriteRowsDeserializer(tableMaps)
+                                        .setMayContainExtraInformation(true)));
         eventDeserializer.setEventDataDeserializer(
                 EventType.EXT_UPDATE_ROWS,
-                new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId)
-                        .setMayContainExtraInformation(true));
+                rowsDeserializer(
+                        tableMapEventByTableId,
+                        tableMaps ->
+                                new RowDeserializers.UpdateRowsDeserializer(tableMaps)
+                                        .setMayContainExtraInformation(true)));
         eventDeserializer.setEventDataDeserializer(
                 EventType.EXT_DELETE_ROWS,
-                new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId)
-                        .setMayContainExtraInformation(true));
+                rowsDeserializer(
+                        tableMapEventByTableId,
+                        tableMaps ->
+                                new RowDeserializers.DeleteRowsDeserializer(tableMaps)
+                                        .setMayContainExtraInformation(true)));
         client.setEventDeserializer(eventDeserializer);
     }
 
+    private EventDataDeserializer<?> rowsDeserializer(
+            Map<Long, TableMapEventData> tableMapEventByTableId,
+            Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>> deserializerFactory) {
+        if (eventPipeline == null) {
+            return deserializerFactory.apply(tableMapEventByTableId);
+        }
+        // the rows events are decoded by the worker threads of the pipeline
+        return eventPipeline.deferredDeserializer(tableMapEventByTableId, deserializerFactory);
+    }
+
     protected void onEvent(MySqlOffsetContext offsetContext, Event event) {
         long ts = 0;
 
@@ -1093,6 +1143,11 @@ public class MySqlStreamingChangeEventSource
         BinaryLogClient.EventListener listener;
         if (connectorConfig.bufferSizeForStreamingChangeEventSource() == 0) {
             listener = (event) -> handleEvent(partition, effectiveOffsetContext, event);
+            if (eventPipeline != null) {
+                // the events are handled in binlog order by the dispatching thread of the pipeline
+                eventPipeline.start(listener);
+                listener = eventPipeline;
+            }
         } else {
             EventBuffer buffer =
                     new EventBuffer(
@@ -1243,6 +1298,10 @@ public class MySqlStreamingChangeEventSource
                 Thread.sleep(100);
             }
         } finally {
+            if (eventPipeline != null) {
+                // unblocks the client thread before disconnecting
+                eventPipeline.close();
+            }
             try {
                 client.disconnect();
             } catch (Exception e) {
@@ -1546,19 +1605,22 @@ public class MySqlStreamingChangeEventSource
 
         @Override
         public void onEventDeserializationFailure(BinaryLogClient client, Exception ex) {
-            if (eventDeserializationFailureHandlingMode
-                    == EventProcessingFailureHandlingMode.FAIL) {
-                LOGGER.debug("A deserialization failure event arrived", ex);
-                logStreamingSourceState();
-                errorHandler.setProducerThrowable(wrap(ex));
-            } else if (eventDeserializationFailureHandlingMode
-                    == EventProcessingFailureHandlingMode.WARN) {
-                LOGGER.warn("A deserialization failure event arrived", ex);
-                logStreamingSourceState(Level.WARN);
-            } else {
-                LOGGER.debug("A deserialization failure event arrived", ex);
-                logStreamingSourceState(Level.DEBUG);
-            }
+            handleEventDeserializationFailure(ex);
+        }
+    }
+
+    private void handleEventDeserializationFailure(Exception ex) {
+        if (eventDeserializationFailureHandlingMode == EventProcessingFailureHandlingMode.FAIL) {
+            LOGGER.debug("A deserialization failure event arrived", ex);
+            logStreamingSourceState();
+            errorHandler.setProducerThrowable(wrap(ex));
+        } else if (eventDeserializationFailureHandlingMode
+                == EventProcessingFailureHandlingMode.WARN) {
+            LOGGER.warn("A deserialization failure event arrived", ex);
+            logStreamingSourceState(Level.WARN);
+        } else {
+            LOGGER.debug("A deserialization failure event arrived", ex);
+            logStreamingSourceState(Level.DEBUG);
         }
     }
 
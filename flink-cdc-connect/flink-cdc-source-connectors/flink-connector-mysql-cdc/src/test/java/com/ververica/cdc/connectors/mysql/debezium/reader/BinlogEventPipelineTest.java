@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import com.github.shyiko.mysql.binlog.event.ByteArrayEventData;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link BinlogEventPipeline}. */
+public class BinlogEventPipelineTest {
+
+    private static final long TABLE_ID = 42L;
+
+    @Test
+    public void testDispatchEventsInBinlogOrder() throws Exception {
+        final List<Exception> failures = new CopyOnWriteArrayList<>();
+        final BlockingQueue<Event> dispatched = new LinkedBlockingQueue<>();
+        final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+        final int numEvents = 100;
+        try (BinlogEventPipeline pipeline = new BinlogEventPipeline(4, failures::add)) {
+            pipeline.start(dispatched::add);
+            final EventDataDeserializer<EventData> deserializer =
+                    pipeline.deferredDeserializer(
+                            tableMapEventByTableId, deserializerFactory(-1));
+            for (int i = 0; i < numEvents; i++) {
+                // the table map is replaced before the previous events are decoded
+                tableMapEventByTableId.put(TABLE_ID, createTableMapEvent("table" + i));
+                pipeline.onEvent(createEvent(i, deserializer.deserialize(createRowsData(i))));
+            }
+
+            for (int i = 0; i < numEvents; i++) {
+                final Event event = dispatched.poll(10, TimeUnit.SECONDS);
+                assertNotNull(event);
+                assertEquals(i, ((EventHeaderV4) event.getHeader()).getNextPosition());
+                assertEquals("table" + i, decodedValue(event));
+            }
+        }
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void testSkipUndecodableEvents() throws Exception {
+        final List<Exception> failures = new CopyOnWriteArrayList<>();
+        final BlockingQueue<Event> dispatched = new LinkedBlockingQueue<>();
+        final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+        tableMapEventByTableId.put(TABLE_ID, createTableMapEvent("table"));
+        try (BinlogEventPipeline pipeline = new BinlogEventPipeline(2, failures::add)) {
+            pipeline.start(dispatched::add);
+            final EventDataDeserializer<EventData> deserializer =
+                    pipeline.deferredDeserializer(
+                            tableMapEventByTableId, deserializerFactory(3));
+            for (int i = 0; i < 6; i++) {
+                pipeline.onEvent(createEvent(i, deserializer.deserialize(createRowsData(i))));
+            }
+
+            final List<Long> positions = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                final Event event = dispatched.poll(10, TimeUnit.SECONDS);
+                assertNotNull(event);
+                positions.add(((EventHeaderV4) event.getHeader()).getNextPosition());
+            }
+            assertEquals(Arrays.asList(0L, 1L, 2L, 4L, 5L), positions);
+        }
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof IOException);
+    }
+
+    @Test
+    public void testDecodeInlineWhenNotStarted() throws Exception {
+        final Map<Long, TableMapEventData> tableMapEventByTableId = new HashMap<>();
+        tableMapEventByTableId.put(TABLE_ID, createTableMapEvent("table"));
+        try (BinlogEventPipeline pipeline = new BinlogEventPipeline(2, e -> {})) {
+            final EventData data =
+                    pipeline.deferredDeserializer(
+                                    tableMapEventByTableId, deserializerFactory(-1))
+                            .deserialize(createRowsData(0));
+            assertEquals("table", decodedValue(createEvent(0, data)));
+        }
+    }
+
+    /**
+     * Creates deserializers which decode the name of the table of the event. The decoding of the
+     * even events takes longer, so that the events are decoded out of order.
+     */
+    private static Function<Map<Long, TableMapEventData>, EventDataDeserializer<?>>
+            deserializerFactory(int failingSequence) {
+        return tableMaps -> createDeserializer(tableMaps, failingSequence);
+    }
+
+    private static EventDataDeserializer<ByteArrayEventData> createDeserializer(
+            Map<Long, TableMapEventData> tableMapEventByTableId, int failingSequence) {
+        return inputStream -> {
+            final long tableId = inputStream.readLong(6);
+            final int sequence = inputStream.read();
+            if (sequence == failingSequence) {
+                throw new IOException("Failed to decode event " + sequence);
+            }
+            try {
+                Thread.sleep(sequence % 2 == 0 ? 5 : 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final ByteArrayEventData data = new ByteArrayEventData();
+            data.setData(
+                    tableMapEventByTableId
+                            .get(tableId)
+                            .getTable()
+                            .getBytes(StandardCharsets.UTF_8));
+            return data;
+        };
+    }
+
+    private static ByteArrayInputStream createRowsData(int sequence) {
+        final byte[] bytes = new byte[7];
+        for (int i = 0; i < 6; i++) {
+            bytes[i] = (byte) (TABLE_ID >>> (8 * i));
+        }
+        bytes[6] = (byte) sequence;
+        return new ByteArrayInputStream(bytes);
+    }
+
+    private static TableMapEventData createTableMapEvent(String table) {
+        final TableMapEventData tableMapEvent = new TableMapEventData();
+        tableMapEvent.setTableId(TABLE_ID);
+        tableMapEvent.setDatabase("db");
+        tableMapEvent.setTable(table);
+        return tableMapEvent;
+    }
+
+    private static Event createEvent(long position, EventData data) {
+        final EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(EventType.EXT_WRITE_ROWS);
+        header.setNextPosition(position);
+        return new Event(header, data);
+    }
+
+    private static String decodedValue(Event event) {
+        return new String(
+                ((ByteArrayEventData) event.getData()).getData(), StandardCharsets.UTF_8);
+    }
+}
@@ -562,6 +562,81 @@ public class BinlogSplitReaderTest extends MySqlSourceTestBase {
         assertEqualsInOrder(Arrays.asList(expected), actual);
     }
 
+    @Test
+    public void testReadBinlogSplitsOfTableShards() throws Exception {
+        // Preparations
+        customerDatabase.createAndInitialize();
+        String[] captureTables = new String[] {"customers", "customers_1"};
+        MySqlSourceConfig connectionConfig = getConfig(captureTables);
+        mySqlConnection = DebeziumUtils.createMySqlConnection(connectionConfig);
+        DataType dataType =
+                DataTypes.ROW(
+                        DataTypes.FIELD("id", DataTypes.BIGINT()),
+                        DataTypes.FIELD("name", DataTypes.STRING()),
+                        DataTypes.FIELD("address", DataTypes.STRING()),
+                        DataTypes.FIELD("phone_number", DataTypes.STRING()));
+
+        // Use the smallest table shard count which puts the two tables into different shards
+        TableId customers = new TableId(customerDatabase.getDatabaseName(), null, "customers");
+        TableId customers1 = new TableId(customerDatabase.getDatabaseName(), null, "customers_1");
+        int shardCount = 2;
+        while (MySqlBinlogSplit.getTableShard(customers, shardCount)
+                == MySqlBinlogSplit.getTableShard(customers1, shardCount)) {
+            shardCount++;
+        }
+        int customersShard = MySqlBinlogSplit.getTableShard(customers, shardCount);
+        int customers1Shard = MySqlBinlogSplit.getTableShard(customers1, shardCount);
+
+        BinlogOffset startingOffset = DebeziumUtils.currentBinlogOffset(mySqlConnection);
+        MySqlSourceConfig sourceConfig =
+                getConfigFactory(MYSQL_CONTAINER, customerDatabase, captureTables)
+                        .startupOptions(
+                                StartupOptions.specificOffset(
+                                        startingOffset.getFilename(), startingOffset.getPosition()))
+                        .binlogSplitNumber(shardCount)
+                        .createConfig(0);
+
+        // Create a transaction changing the tables of both shards alternately
+        mySqlConnection.setAutoCommit(false);
+        mySqlConnection.execute(
+                "UPDATE " + customers + " SET address = 'Hangzhou' where id = 101",
+                "UPDATE " + customers1 + " SET address = 'Hangzhou' where id = 101",
+                "UPDATE " + customers + " SET address = 'Hangzhou' where id = 102",
+                "UPDATE " + customers1 + " SET address = 'Hangzhou' where id = 102");
+        mySqlConnection.commit();
+
+        // Each binlog split only reads the changes of the table in its shard
+        String[] expected =
+                new String[] {
+                    "-U[101, user_1, Shanghai, 123567891234]",
+                    "+U[101, user_1, Hangzhou, 123567891234]",
+                    "-U[102, user_2, Shanghai, 123567891234]",
+                    "+U[102, user_2, Hangzhou, 123567891234]"
+                };
+        List<SourceRecord> customersRecords = readTableShard(sourceConfig, customersShard, 2);
+        assertTableOfRecords(customers, customersRecords);
+        assertEqualsInOrder(Arrays.asList(expected), formatResult(customersRecords, dataType));
+
+        List<SourceRecord> customers1Records = readTableShard(sourceConfig, customers1Shard, 2);
+        assertTableOfRecords(customers1, customers1Records);
+        assertEqualsInOrder(Arrays.asList(expected), formatResult(customers1Records, dataType));
+
+        // Restore the split from the offset inside the transaction, the events of the other
+        // shard are skipped the same way, so the reading continues right after the first change
+        MySqlSourceConfig restoredSourceConfig =
+                getConfigFactory(MYSQL_CONTAINER, customerDatabase, captureTables)
+                        .startupOptions(
+                                StartupOptions.specificOffset(
+                                        RecordUtils.getBinlogPosition(customersRecords.get(0))))
+                        .binlogSplitNumber(shardCount)
+                        .createConfig(0);
+        List<SourceRecord> restoredRecords =
+                readTableShard(restoredSourceConfig, customersShard, 1);
+        assertTableOfRecords(customers, restoredRecords);
+        assertEqualsInOrder(
+                Arrays.asList(expected).subList(2, 4), formatResult(restoredRecords, dataType));
+    }
+
     @Test
     public void testReadBinlogFromGtidSet() throws Exception {
         // Preparations
@@ -855,8 +930,18 @@ public class BinlogSplitReaderTest extends MySqlSourceTestBase {
     }
 
     private MySqlBinlogSplit createBinlogSplit(MySqlSourceConfig sourceConfig) throws Exception {
+        return createBinlogSplit(sourceConfig, 0);
+    }
+
+    private MySqlBinlogSplit createBinlogSplit(MySqlSourceConfig sourceConfig, int tableShardIndex)
+            throws Exception {
         MySqlBinlogSplitAssigner binlogSplitAssigner = new MySqlBinlogSplitAssigner(sourceConfig);
         binlogSplitAssigner.open();
+        // the binlog splits are assigned in the order of their table shards
+        MySqlBinlogSplit binlogSplit = binlogSplitAssigner.getNext().get().asBinlogSplit();
+        while (binlogSplit.getTableShardIndex() < tableShardIndex) {
+            binlogSplit = binlogSplitAssigner.getNext().get().asBinlogSplit();
+        }
         try (MySqlConnection jdbc = DebeziumUtils.createMySqlConnection(sourceConfig)) {
             Map<TableId, TableChanges.TableChange> tableSchemas =
                     TableDiscoveryUtils.discoverSchemaForCapturedTables(
@@ -864,8 +949,32 @@ public class BinlogSplitReaderTest extends MySqlSourceTestBase {
                                     sourceConfig.getMySqlConnectorConfig().getLogicalName()),
                             sourceConfig,
                             jdbc);
-            return MySqlBinlogSplit.fillTableSchemas(
-                    binlogSplitAssigner.getNext().get().asBinlogSplit(), tableSchemas);
+            return MySqlBinlogSplit.fillTableSchemas(binlogSplit, tableSchemas);
+        }
+    }
+
+    private List<SourceRecord> readTableShard(
+            MySqlSourceConfig sourceConfig, int tableShardIndex, int expectedSize)
+            throws Exception {
+        if (binaryLogClient != null) {
+            binaryLogClient.disconnect();
+        }
+        binaryLogClient = DebeziumUtils.createBinaryClient(sourceConfig.getDbzConfiguration());
+        MySqlBinlogSplit split = createBinlogSplit(sourceConfig, tableShardIndex);
+        BinlogSplitReader reader = createBinlogReader(sourceConfig);
+        reader.submitSplit(split);
+
+        List<SourceRecord> records = new ArrayList<>();
+        while (records.size() < expectedSize) {
+            records.addAll(pollRecordsFromReader(reader, RecordUtils::isDataChangeRecord));
+        }
+        reader.close();
+        return records;
+    }
+
+    private void assertTableOfRecords(TableId tableId, List<SourceRecord> records) {
+        for (SourceRecord record : records) {
+            assertEquals(tableId, RecordUtils.getTableId(record));
         }
     }
 
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import io.debezium.data.Envelope;
+import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SnapshotRecordsBuffer}. */
+public class SnapshotRecordsBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("row")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("source")
+                    .field(Envelope.FieldName.TIMESTAMP, Schema.INT64_SCHEMA)
+                    .build();
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+    private static final RowType SPLIT_KEY_TYPE =
+            (RowType) DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT())).getLogicalType();
+
+    @Rule public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void testNormalizeInMemory() throws Exception {
+        SnapshotRecordsBuffer buffer = createBuffer(Long.MAX_VALUE);
+        Map<Long, String> normalized = normalize(buffer);
+        assertFalse(buffer.isSpilled());
+        assertEquals(getExpectedRecords(), normalized);
+    }
+
+    @Test
+    public void testNormalizeWithSpilling() throws Exception {
+        SnapshotRecordsBuffer buffer = createBuffer(1024);
+        Map<Long, String> normalized = normalize(buffer);
+        assertTrue(buffer.isSpilled());
+        assertEquals(getExpectedRecords(), normalized);
+    }
+
+    @Test
+    public void testSpillToTempDirectories() throws Exception {
+        SnapshotRecordsBuffer buffer = createBuffer(1024);
+        for (long id = 0; id < 100; id++) {
+            buffer.addSnapshotRecord(
+                    createRecord(id, ENVELOPE.read(createRow(id, "snapshot"), source(), now())));
+        }
+        assertTrue(buffer.isSpilled());
+        assertEquals(1, listFiles(tmpFolder.getRoot()).length);
+
+        buffer.close();
+        assertEquals(0, listFiles(tmpFolder.getRoot()).length);
+    }
+
+    @Test
+    public void testKeylessTableNotSpilled() throws Exception {
+        SnapshotRecordsBuffer buffer = createBuffer(1024);
+        for (long id = 0; id < 100; id++) {
+            buffer.addSnapshotRecord(
+                    createKeylessRecord(ENVELOPE.read(createRow(id, "snapshot"), source(), now())));
+        }
+        // the second update is identified by the row value after the first update
+        buffer.addBinlogRecord(
+                createKeylessRecord(
+                        ENVELOPE.update(
+                                createRow(5, "snapshot"),
+                                createRow(5, "updated"),
+                                source(),
+                                now())));
+        buffer.addBinlogRecord(
+                createKeylessRecord(
+                        ENVELOPE.update(
+                                createRow(5, "updated"),
+                                createRow(5, "updated again"),
+                                source(),
+                                now())));
+        buffer.addBinlogRecord(
+                createKeylessRecord(ENVELOPE.delete(createRow(7, "snapshot"), source(), now())));
+        assertFalse(buffer.isSpilled());
+
+        Map<Long, String> expected = new TreeMap<>();
+        for (long id = 0; id < 100; id++) {
+            expected.put(id, "snapshot");
+        }
+        expected.put(5L, "updated again");
+        expected.remove(7L);
+        assertEquals(expected, collect(buffer));
+    }
+
+    private SnapshotRecordsBuffer createBuffer(long memoryBudget) {
+        return new SnapshotRecordsBuffer(
+                "test_split",
+                memoryBudget,
+                new String[] {tmpFolder.getRoot().getAbsolutePath()},
+                SPLIT_KEY_TYPE,
+                SchemaNameAdjuster.create(),
+                null,
+                new Object[] {150L});
+    }
+
+    private static Map<Long, String> normalize(SnapshotRecordsBuffer buffer) throws Exception {
+        for (long id = 0; id < 100; id++) {
+            buffer.addSnapshotRecord(
+                    createRecord(id, ENVELOPE.read(createRow(id, "snapshot"), source(), now())));
+        }
+        buffer.addBinlogRecord(
+                createRecord(
+                        5,
+                        ENVELOPE.update(
+                                createRow(5, "snapshot"),
+                                createRow(5, "updated"),
+                                source(),
+                                now())));
+        buffer.addBinlogRecord(
+                createRecord(7, ENVELOPE.delete(createRow(7, "snapshot"), source(), now())));
+        buffer.addBinlogRecord(
+                createRecord(120, ENVELOPE.create(createRow(120, "created"), source(), now())));
+        // out of the split range
+        buffer.addBinlogRecord(
+                createRecord(200, ENVELOPE.create(createRow(200, "created"), source(), now())));
+        return collect(buffer);
+    }
+
+    private static File[] listFiles(File directory) {
+        File[] files = directory.listFiles();
+        return files == null ? new File[0] : files;
+    }
+
+    private static Map<Long, String> collect(SnapshotRecordsBuffer buffer) throws Exception {
+        SourceRecord lowWatermark = createRecord(-1, null);
+        SourceRecord highWatermark = createRecord(-2, null);
+        Iterator<SourceRecords> iterator = buffer.getNormalizedRecords(lowWatermark, highWatermark);
+        List<SourceRecord> records = new ArrayList<>();
+        while (iterator.hasNext()) {
+            records.addAll(iterator.next().getSourceRecordList());
+        }
+        assertEquals(lowWatermark, records.get(0));
+        assertEquals(highWatermark, records.get(records.size() - 1));
+
+        Map<Long, String> normalized = new TreeMap<>();
+        for (SourceRecord record : records.subList(1, records.size() - 1)) {
+            Struct value = (Struct) record.value();
+            assertEquals("r", value.getString(Envelope.FieldName.OPERATION));
+            Struct after = value.getStruct(Envelope.FieldName.AFTER);
+            normalized.put(after.getInt64("id"), after.getString("name"));
+        }
+        return normalized;
+    }
+
+    private static Map<Long, String> getExpectedRecords() {
+        Map<Long, String> expected = new TreeMap<>();
+        for (long id = 0; id < 100; id++) {
+            expected.put(id, "snapshot");
+        }
+        expected.put(5L, "updated");
+        expected.remove(7L);
+        expected.put(120L, "created");
+        return expected;
+    }
+
+    private static SourceRecord createRecord(long id, Struct value) {
+        Struct key = new Struct(KEY_SCHEMA).put("id", id);
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                Collections.singletonMap("pos", id),
+                "test_topic",
+                null,
+                KEY_SCHEMA,
+                key,
+                value == null ? null : ENVELOPE.schema(),
+                value);
+    }
+
+    private static SourceRecord createKeylessRecord(Struct value) {
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                Collections.singletonMap("pos", 0L),
+                "test_topic",
+                null,
+                null,
+                null,
+                ENVELOPE.schema(),
+                value);
+    }
+
+    private static Struct createRow(long id, String name) {
+        return new Struct(ROW_SCHEMA).put("id", id).put("name", name);
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA).put(Envelope.FieldName.TIMESTAMP, 1000L);
+    }
+
+    private static Instant now() {
+        return Instant.ofEpochMilli(2000L);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/** Tests for {@link SourceRecordSerializer}. */
+public class SourceRecordSerializerTest {
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("row")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field(
+                            "name",
+                            SchemaBuilder.string().optional().defaultValue("unknown").build())
+                    .build();
+
+    @Test
+    public void testNullValueOfColumnWithDefault() throws Exception {
+        Struct nullName = new Struct(ROW_SCHEMA).put("id", 1L).put("name", null);
+        Struct name = new Struct(ROW_SCHEMA).put("id", 2L).put("name", "jane");
+        // the schema default is returned for the null value by Struct#get
+        assertEquals("unknown", nullName.get("name"));
+
+        SourceRecordSerializer serializer = new SourceRecordSerializer();
+        Struct restoredNullName = (Struct) roundTrip(serializer, createRecord(nullName)).value();
+        Struct restoredName = (Struct) roundTrip(serializer, createRecord(name)).value();
+
+        assertEquals(1L, (long) restoredNullName.getInt64("id"));
+        assertNull(restoredNullName.getWithoutDefault("name"));
+        assertEquals(nullName, restoredNullName);
+        assertEquals("jane", restoredName.getWithoutDefault("name"));
+        assertEquals(name, restoredName);
+    }
+
+    private static SourceRecord roundTrip(SourceRecordSerializer serializer, SourceRecord record)
+            throws Exception {
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        serializer.serialize(record, out);
+        return serializer.deserialize(new DataInputDeserializer(out.getCopyOfBuffer()));
+    }
+
+    private static SourceRecord createRecord(Struct value) {
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                Collections.singletonMap("pos", 1L),
+                "test_topic",
+                null,
+                null,
+                null,
+                ROW_SCHEMA,
+                value);
+    }
+}
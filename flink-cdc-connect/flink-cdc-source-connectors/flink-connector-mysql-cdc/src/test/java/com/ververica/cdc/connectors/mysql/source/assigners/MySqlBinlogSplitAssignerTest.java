@@ -16,15 +16,18 @@
 
 package com.ververica.cdc.connectors.mysql.source.assigners;
 
+import com.ververica.cdc.connectors.mysql.source.assigners.state.BinlogPendingSplitsState;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
 import com.ververica.cdc.connectors.mysql.table.StartupOptions;
+import io.debezium.relational.TableId;
 import org.junit.Test;
 
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
@@ -63,6 +66,78 @@ public class MySqlBinlogSplitAssignerTest {
                 StartupOptions.specificOffset("foo-gtid"), BinlogOffset.ofGtidSet("foo-gtid"));
     }
 
+    @Test
+    public void testAssignTableShardedBinlogSplits() {
+        MySqlSourceConfig config = getConfig(StartupOptions.latest(), 3);
+        MySqlBinlogSplitAssigner assigner = new MySqlBinlogSplitAssigner(config);
+        for (int i = 0; i < 3; i++) {
+            assertFalse(assigner.isStreamSplitAssigned());
+            MySqlBinlogSplit split = assigner.getNext().get().asBinlogSplit();
+            assertEquals("binlog-split-" + i, split.splitId());
+            assertEquals(i, split.getTableShardIndex());
+            assertEquals(3, split.getTableShardCount());
+        }
+        assertTrue(assigner.isStreamSplitAssigned());
+        assertFalse(assigner.getNext().isPresent());
+
+        // every table is read by exactly one of the binlog splits
+        TableId tableId = TableId.parse("foo-db.foo-table");
+        int tableShard = MySqlBinlogSplit.getTableShard(tableId, 3);
+        for (int i = 0; i < 3; i++) {
+            MySqlBinlogSplit split =
+                    new MySqlBinlogSplit(
+                            MySqlBinlogSplitAssigner.getBinlogSplitId(i, 3),
+                            BinlogOffset.ofLatest(),
+                            BinlogOffset.ofNonStopping(),
+                            Collections.emptyList(),
+                            Collections.emptyMap(),
+                            0,
+                            false,
+                            i,
+                            3);
+            assertEquals(i == tableShard, split.isTableInShard(tableId));
+        }
+
+        // the binlog split added back is assigned again with the same table shard
+        MySqlBinlogSplit splitAddedBack =
+                new MySqlBinlogSplit(
+                        "binlog-split-1",
+                        BinlogOffset.ofLatest(),
+                        BinlogOffset.ofNonStopping(),
+                        Collections.emptyList(),
+                        Collections.emptyMap(),
+                        0,
+                        false,
+                        1,
+                        3);
+        assigner.addSplits(Collections.singletonList(splitAddedBack));
+        assertFalse(assigner.isStreamSplitAssigned());
+        BinlogPendingSplitsState state = (BinlogPendingSplitsState) assigner.snapshotState(1L);
+        assigner.close();
+
+        MySqlBinlogSplitAssigner restoredAssigner = new MySqlBinlogSplitAssigner(config, state);
+        MySqlBinlogSplit split = restoredAssigner.getNext().get().asBinlogSplit();
+        assertEquals("binlog-split-1", split.splitId());
+        assertEquals(1, split.getTableShardIndex());
+        assertTrue(restoredAssigner.isStreamSplitAssigned());
+        assertFalse(restoredAssigner.getNext().isPresent());
+        restoredAssigner.close();
+
+        // the binlog split added back after restoring with another configured number keeps the
+        // table shard count of the binlog splits being read
+        restoredAssigner =
+                new MySqlBinlogSplitAssigner(getConfig(StartupOptions.latest(), 2), state);
+        split = restoredAssigner.getNext().get().asBinlogSplit();
+        assertEquals("binlog-split-1", split.splitId());
+        assertEquals(1, split.getTableShardIndex());
+        assertEquals(3, split.getTableShardCount());
+        restoredAssigner.addSplits(Collections.singletonList(split));
+        split = restoredAssigner.getNext().get().asBinlogSplit();
+        assertEquals(3, split.getTableShardCount());
+        assertTrue(restoredAssigner.isStreamSplitAssigned());
+        restoredAssigner.close();
+    }
+
     private void checkAssignedBinlogOffset(
             StartupOptions startupOptions, BinlogOffset expectedOffset) {
         // Set starting from the given option
@@ -80,6 +155,10 @@ public class MySqlBinlogSplitAssignerTest {
     }
 
     private MySqlSourceConfig getConfig(StartupOptions startupOptions) {
+        return getConfig(startupOptions, 1);
+    }
+
+    private MySqlSourceConfig getConfig(StartupOptions startupOptions, int binlogSplitNumber) {
         return new MySqlSourceConfigFactory()
                 .startupOptions(startupOptions)
                 .databaseList("foo-db")
@@ -89,6 +168,7 @@ public class MySqlBinlogSplitAssignerTest {
                 .username("jane-doe")
                 .password("password")
                 .serverTimeZone(ZoneId.of("UTC").toString())
+                .binlogSplitNumber(binlogSplitNumber)
                 .createConfig(0);
     }
 }
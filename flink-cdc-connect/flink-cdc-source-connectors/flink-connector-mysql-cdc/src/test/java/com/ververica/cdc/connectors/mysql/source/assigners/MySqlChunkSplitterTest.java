@@ -19,6 +19,9 @@ package com.ververica.cdc.connectors.mysql.source.assigners;
 import io.debezium.relational.TableId;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -58,4 +61,60 @@ public class MySqlChunkSplitterTest {
         assertEquals(ChunkRange.of(2147483637, 2147483647), res.get(1));
         assertEquals(ChunkRange.of(2147483647, null), res.get(2));
     }
+
+    @Test
+    public void testSelectChunkEnds() {
+        List<Object> keys = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertEquals(
+                Arrays.asList(3, 5, 7, 9, null),
+                MySqlChunkSplitter.selectChunkEnds(keys, true, 1, 100, 3, 16));
+        // the keys are not all the remaining keys, the next chunks are left to the next query
+        assertEquals(
+                Arrays.asList(3, 5, 7, 9),
+                MySqlChunkSplitter.selectChunkEnds(keys, false, 1, 100, 3, 16));
+        // the chunk end reaches the max value
+        assertEquals(
+                Arrays.asList(3, 5, null),
+                MySqlChunkSplitter.selectChunkEnds(keys, false, 1, 6, 3, 16));
+        assertEquals(
+                Arrays.asList(3, 5), MySqlChunkSplitter.selectChunkEnds(keys, true, 1, 100, 3, 2));
+    }
+
+    @Test
+    public void testSelectChunkEndsWithDuplicateKeys() {
+        assertEquals(
+                Arrays.asList(2, 3, 4),
+                MySqlChunkSplitter.selectChunkEnds(
+                        Arrays.asList(1, 1, 1, 1, 2, 3, 4), false, 1, 10, 2, 16));
+        assertEquals(
+                Arrays.asList(3, 4, null),
+                MySqlChunkSplitter.selectChunkEnds(
+                        Arrays.asList(1, 2, 3, 3, 3, 3, 4), true, 1, 10, 3, 16));
+        assertEquals(
+                Collections.emptyList(),
+                MySqlChunkSplitter.selectChunkEnds(Arrays.asList(1, 1, 1), false, 1, 10, 2, 16));
+    }
+
+    @Test
+    public void testAdaptiveChunkSize() {
+        // the table statistics are not available
+        assertEquals(8096, MySqlChunkSplitter.getAdaptiveChunkSize(8096, 1024 * 1024, null, 0, 0));
+        assertEquals(
+                10485,
+                MySqlChunkSplitter.getAdaptiveChunkSize(8096, 1024 * 1024, null, 0, 100));
+        // no chunk has been read yet
+        assertEquals(
+                8096,
+                MySqlChunkSplitter.getAdaptiveChunkSize(
+                        8096, Long.MAX_VALUE, Duration.ofSeconds(10), 0, 100));
+        assertEquals(
+                100000,
+                MySqlChunkSplitter.getAdaptiveChunkSize(
+                        8096, Long.MAX_VALUE, Duration.ofSeconds(10), 1000, 100));
+        assertEquals(
+                10485,
+                MySqlChunkSplitter.getAdaptiveChunkSize(
+                        8096, 1024 * 1024, Duration.ofSeconds(10), 1000, 100));
+        assertEquals(1, MySqlChunkSplitter.getAdaptiveChunkSize(8096, 10, null, 0, 100));
+    }
 }
@@ -39,6 +39,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
@@ -60,7 +61,9 @@ public class PendingSplitsStateSerializerTest {
                 getTestSnapshotPendingSplitsState(false),
                 getTestHybridPendingSplitsState(false),
                 getTestHybridPendingSplitsState(true),
-                getTestBinlogPendingSplitsState());
+                getTestBinlogPendingSplitsState(),
+                getTestTableShardedHybridPendingSplitsState(),
+                getTestTableShardedBinlogPendingSplitsState());
     }
 
     @Test
@@ -182,6 +185,18 @@ public class PendingSplitsStateSerializerTest {
         return new BinlogPendingSplitsState(true);
     }
 
+    private static HybridPendingSplitsState getTestTableShardedHybridPendingSplitsState() {
+        return new HybridPendingSplitsState(
+                getTestSnapshotPendingSplitsState(false),
+                false,
+                new TreeSet<>(Arrays.asList(0, 2)),
+                3);
+    }
+
+    private static BinlogPendingSplitsState getTestTableShardedBinlogPendingSplitsState() {
+        return new BinlogPendingSplitsState(true, new TreeSet<>(Arrays.asList(0, 1, 2)), 3);
+    }
+
     private static MySqlSchemalessSnapshotSplit getTestSchemalessSnapshotSplit(
             TableId tableId, int splitNo) {
         return new MySqlSchemalessSnapshotSplit(
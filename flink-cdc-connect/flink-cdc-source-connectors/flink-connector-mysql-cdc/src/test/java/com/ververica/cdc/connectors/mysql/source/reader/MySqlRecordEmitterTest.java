@@ -29,21 +29,38 @@ import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import io.debezium.config.Configuration;
 import io.debezium.connector.mysql.MySqlConnectorConfig;
+import io.debezium.document.DocumentWriter;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.heartbeat.HeartbeatFactory;
 import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.TableChanges;
 import io.debezium.schema.TopicSelector;
 import io.debezium.util.SchemaNameAdjuster;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Test;
 
+import javax.annotation.Nullable;
+
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 
+import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.EventDispatcherImpl.HISTORY_RECORD_FIELD;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.SCHEMA_CHANGE_EVENT_KEY_NAME;
 import static io.debezium.config.CommonConnectorConfig.TRANSACTION_TOPIC;
 import static io.debezium.connector.mysql.MySqlConnectorConfig.SERVER_NAME;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /** Unit test for {@link MySqlRecordEmitter}. */
 public class MySqlRecordEmitterTest {
@@ -86,6 +103,108 @@ public class MySqlRecordEmitterTest {
         assertEquals(0, splitState.getStartingOffset().compareTo(fakeOffset));
     }
 
+    @Test
+    public void testSchemaChangeEventsOfTableShards() throws Exception {
+        TableId shard0Table = null;
+        TableId shard1Table = null;
+        for (int i = 0; shard0Table == null || shard1Table == null; i++) {
+            TableId tableId = new TableId("test_db", null, "test_table_" + i);
+            if (MySqlBinlogSplit.getTableShard(tableId, 2) == 0) {
+                shard0Table = tableId;
+            } else {
+                shard1Table = tableId;
+            }
+        }
+        List<SourceRecord> emittedRecords = new ArrayList<>();
+        MySqlRecordEmitter<Void> recordEmitter = createRecordEmitter(emittedRecords);
+        MySqlBinlogSplitState shard0State = createBinlogSplitState(0, 2);
+        MySqlBinlogSplitState shard1State = createBinlogSplitState(1, 2);
+
+        // every split records the schema, only the split of the changed table emits the change
+        BinlogOffset offset = BinlogOffset.ofBinlogFilePosition("fake-file", 100L);
+        SourceRecord alterShard1Table = createSchemaChangeRecord(offset, shard1Table);
+        emitRecord(recordEmitter, alterShard1Table, shard0State);
+        emitRecord(recordEmitter, alterShard1Table, shard1State);
+        assertTrue(shard0State.getTableSchemas().containsKey(shard1Table));
+        assertTrue(shard1State.getTableSchemas().containsKey(shard1Table));
+        assertEquals(Collections.singletonList(alterShard1Table), emittedRecords);
+        assertEquals(0, shard1State.getStartingOffset().compareTo(offset));
+
+        emittedRecords.clear();
+        SourceRecord alterShard0Table = createSchemaChangeRecord(offset, shard0Table);
+        emitRecord(recordEmitter, alterShard0Table, shard0State);
+        emitRecord(recordEmitter, alterShard0Table, shard1State);
+        assertTrue(shard1State.getTableSchemas().containsKey(shard0Table));
+        assertEquals(Collections.singletonList(alterShard0Table), emittedRecords);
+
+        // the schema change without any table change is emitted by the first table shard
+        emittedRecords.clear();
+        SourceRecord createDatabase = createSchemaChangeRecord(offset, null);
+        emitRecord(recordEmitter, createDatabase, shard0State);
+        emitRecord(recordEmitter, createDatabase, shard1State);
+        assertEquals(Collections.singletonList(createDatabase), emittedRecords);
+    }
+
+    private static void emitRecord(
+            MySqlRecordEmitter<Void> recordEmitter,
+            SourceRecord record,
+            MySqlBinlogSplitState splitState)
+            throws Exception {
+        recordEmitter.emitRecord(
+                SourceRecords.fromSingleRecord(record), new TestingReaderOutput<>(), splitState);
+    }
+
+    private static SourceRecord createSchemaChangeRecord(
+            BinlogOffset offset, @Nullable TableId tableId) throws Exception {
+        TableChanges tableChanges = new TableChanges();
+        String ddl = "CREATE DATABASE test_db";
+        if (tableId != null) {
+            tableChanges.alter(
+                    Table.editor()
+                            .tableId(tableId)
+                            .addColumn(
+                                    Column.editor()
+                                            .name("id")
+                                            .type("INT")
+                                            .jdbcType(Types.INTEGER)
+                                            .optional(false)
+                                            .create())
+                            .setPrimaryKeyNames("id")
+                            .create());
+            ddl = "ALTER TABLE " + tableId + " MODIFY id INT NOT NULL";
+        }
+        HistoryRecord historyRecord =
+                new HistoryRecord(
+                        Collections.emptyMap(),
+                        offset.getOffset(),
+                        "test_db",
+                        null,
+                        ddl,
+                        tableChanges);
+
+        Schema keySchema =
+                SchemaBuilder.struct()
+                        .name(SCHEMA_CHANGE_EVENT_KEY_NAME)
+                        .field(HistoryRecord.Fields.DATABASE_NAME, Schema.STRING_SCHEMA)
+                        .build();
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .name("io.debezium.connector.mysql.SchemaChangeValue")
+                        .field(HISTORY_RECORD_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                        .build();
+        return new SourceRecord(
+                Collections.emptyMap(),
+                offset.getOffset(),
+                "fake-topic",
+                keySchema,
+                new Struct(keySchema).put(HistoryRecord.Fields.DATABASE_NAME, "test_db"),
+                valueSchema,
+                new Struct(valueSchema)
+                        .put(
+                                HISTORY_RECORD_FIELD,
+                                DocumentWriter.defaultWriter().write(historyRecord.document())));
+    }
+
     private MySqlRecordEmitter<Void> createRecordEmitter() {
         return new MySqlRecordEmitter<>(
                 new DebeziumDeserializationSchema<Void>() {
@@ -104,6 +223,39 @@ public class MySqlRecordEmitterTest {
                 false);
     }
 
+    private static MySqlRecordEmitter<Void> createRecordEmitter(List<SourceRecord> emittedRecords) {
+        return new MySqlRecordEmitter<>(
+                new DebeziumDeserializationSchema<Void>() {
+                    @Override
+                    public void deserialize(SourceRecord record, Collector<Void> out) {
+                        emittedRecords.add(record);
+                    }
+
+                    @Override
+                    public TypeInformation<Void> getProducedType() {
+                        return TypeInformation.of(Void.class);
+                    }
+                },
+                new MySqlSourceReaderMetrics(
+                        UnregisteredMetricGroups.createUnregisteredOperatorMetricGroup()),
+                true);
+    }
+
+    private static MySqlBinlogSplitState createBinlogSplitState(
+            int tableShardIndex, int tableShardCount) {
+        return new MySqlBinlogSplitState(
+                new MySqlBinlogSplit(
+                        "binlog-split-" + tableShardIndex,
+                        BinlogOffset.ofEarliest(),
+                        BinlogOffset.ofNonStopping(),
+                        Collections.emptyList(),
+                        new HashMap<>(),
+                        0,
+                        false,
+                        tableShardIndex,
+                        tableShardCount));
+    }
+
     private MySqlBinlogSplitState createBinlogSplitState() {
         return new MySqlBinlogSplitState(
                 new MySqlBinlogSplit(
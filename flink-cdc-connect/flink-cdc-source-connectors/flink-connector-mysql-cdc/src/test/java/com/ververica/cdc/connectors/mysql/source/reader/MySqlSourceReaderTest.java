@@ -23,6 +23,7 @@ import org.apache.flink.api.connector.source.SourceOutput;
 import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.connector.base.source.reader.RecordEmitter;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
 import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
@@ -107,6 +108,37 @@ import static org.junit.Assert.fail;
 /** Tests for {@link MySqlSourceReader}. */
 public class MySqlSourceReaderTest extends MySqlSourceTestBase {
 
+    private static final DataType CUSTOMERS_TYPE =
+            DataTypes.ROW(
+                    DataTypes.FIELD("id", DataTypes.BIGINT()),
+                    DataTypes.FIELD("name", DataTypes.STRING()),
+                    DataTypes.FIELD("address", DataTypes.STRING()),
+                    DataTypes.FIELD("phone_number", DataTypes.STRING()));
+    private static final String[] CUSTOMERS_RECORDS =
+            new String[] {
+                "+I[111, user_6, Shanghai, 123567891234]",
+                "+I[110, user_5, Shanghai, 123567891234]",
+                "+I[101, user_1, Shanghai, 123567891234]",
+                "+I[103, user_3, Shanghai, 123567891234]",
+                "+I[102, user_2, Shanghai, 123567891234]",
+                "+I[118, user_7, Shanghai, 123567891234]",
+                "+I[121, user_8, Shanghai, 123567891234]",
+                "+I[123, user_9, Shanghai, 123567891234]",
+                "+I[109, user_4, Shanghai, 123567891234]",
+                "+I[1009, user_10, Shanghai, 123567891234]",
+                "+I[1011, user_12, Shanghai, 123567891234]",
+                "+I[1010, user_11, Shanghai, 123567891234]",
+                "+I[1013, user_14, Shanghai, 123567891234]",
+                "+I[1012, user_13, Shanghai, 123567891234]",
+                "+I[1015, user_16, Shanghai, 123567891234]",
+                "+I[1014, user_15, Shanghai, 123567891234]",
+                "+I[1017, user_18, Shanghai, 123567891234]",
+                "+I[1016, user_17, Shanghai, 123567891234]",
+                "+I[1019, user_20, Shanghai, 123567891234]",
+                "+I[1018, user_19, Shanghai, 123567891234]",
+                "+I[2000, user_21, Shanghai, 123567891234]"
+            };
+
     private final UniqueDatabase customerDatabase =
             new UniqueDatabase(MYSQL_CONTAINER, "customer", "mysqluser", "mysqlpw");
     private final UniqueDatabase inventoryDatabase =
@@ -122,86 +154,17 @@ public class MySqlSourceReaderTest extends MySqlSourceTestBase {
     public void testFinishedUnackedSplitsUsingStateFromSnapshotPhase() throws Exception {
         customerDatabase.createAndInitialize();
         final MySqlSourceConfig sourceConfig = getConfig(new String[] {"customers"});
-        final DataType dataType =
-                DataTypes.ROW(
-                        DataTypes.FIELD("id", DataTypes.BIGINT()),
-                        DataTypes.FIELD("name", DataTypes.STRING()),
-                        DataTypes.FIELD("address", DataTypes.STRING()),
-                        DataTypes.FIELD("phone_number", DataTypes.STRING()));
-        List<MySqlSplit> snapshotSplits;
-        try (MySqlConnection jdbc = DebeziumUtils.createMySqlConnection(sourceConfig)) {
-            Map<TableId, TableChanges.TableChange> tableSchemas =
-                    TableDiscoveryUtils.discoverSchemaForCapturedTables(
-                            new MySqlPartition(
-                                    sourceConfig.getMySqlConnectorConfig().getLogicalName()),
-                            sourceConfig,
-                            jdbc);
-            TableId tableId = new TableId(customerDatabase.getDatabaseName(), null, "customers");
-            RowType splitType =
-                    RowType.of(
-                            new LogicalType[] {DataTypes.INT().getLogicalType()},
-                            new String[] {"id"});
-            snapshotSplits =
-                    Arrays.asList(
-                            new MySqlSnapshotSplit(
-                                    tableId,
-                                    tableId + ":0",
-                                    splitType,
-                                    null,
-                                    new Integer[] {200},
-                                    null,
-                                    tableSchemas),
-                            new MySqlSnapshotSplit(
-                                    tableId,
-                                    tableId + ":1",
-                                    splitType,
-                                    new Integer[] {200},
-                                    new Integer[] {1500},
-                                    null,
-                                    tableSchemas),
-                            new MySqlSnapshotSplit(
-                                    tableId,
-                                    tableId + ":2",
-                                    splitType,
-                                    new Integer[] {1500},
-                                    null,
-                                    null,
-                                    tableSchemas));
-        }
+        List<MySqlSplit> snapshotSplits = createSnapshotSplits(sourceConfig);
 
         // Step 1: start source reader and assign snapshot splits
         MySqlSourceReader<SourceRecord> reader = createReader(sourceConfig, -1);
         reader.start();
         reader.addSplits(snapshotSplits);
 
-        String[] expectedRecords =
-                new String[] {
-                    "+I[111, user_6, Shanghai, 123567891234]",
-                    "+I[110, user_5, Shanghai, 123567891234]",
-                    "+I[101, user_1, Shanghai, 123567891234]",
-                    "+I[103, user_3, Shanghai, 123567891234]",
-                    "+I[102, user_2, Shanghai, 123567891234]",
-                    "+I[118, user_7, Shanghai, 123567891234]",
-                    "+I[121, user_8, Shanghai, 123567891234]",
-                    "+I[123, user_9, Shanghai, 123567891234]",
-                    "+I[109, user_4, Shanghai, 123567891234]",
-                    "+I[1009, user_10, Shanghai, 123567891234]",
-                    "+I[1011, user_12, Shanghai, 123567891234]",
-                    "+I[1010, user_11, Shanghai, 123567891234]",
-                    "+I[1013, user_14, Shanghai, 123567891234]",
-                    "+I[1012, user_13, Shanghai, 123567891234]",
-                    "+I[1015, user_16, Shanghai, 123567891234]",
-                    "+I[1014, user_15, Shanghai, 123567891234]",
-                    "+I[1017, user_18, Shanghai, 123567891234]",
-                    "+I[1016, user_17, Shanghai, 123567891234]",
-                    "+I[1019, user_20, Shanghai, 123567891234]",
-                    "+I[1018, user_19, Shanghai, 123567891234]",
-                    "+I[2000, user_21, Shanghai, 123567891234]"
-                };
         // Step 2: wait the snapshot splits finished reading
         Thread.sleep(5000L);
-        List<String> actualRecords = consumeRecords(reader, dataType);
-        assertEqualsInAnyOrder(Arrays.asList(expectedRecords), actualRecords);
+        List<String> actualRecords = consumeRecords(reader, CUSTOMERS_TYPE);
+        assertEqualsInAnyOrder(Arrays.asList(CUSTOMERS_RECORDS), actualRecords);
 
         // Step 3: snapshot reader's state
         List<MySqlSplit> splitsState = reader.snapshotState(1L);
@@ -219,6 +182,46 @@ public class MySqlSourceReaderTest extends MySqlSourceTestBase {
         restartReader.close();
     }
 
+    @Test
+    public void testReadSnapshotSplitsConcurrently() throws Exception {
+        customerDatabase.createAndInitialize();
+        final MySqlSourceConfig sourceConfig = getConfig(new String[] {"customers"}, 2);
+        List<MySqlSplit> snapshotSplits = createSnapshotSplits(sourceConfig);
+
+        MySqlSplitReader splitReader =
+                createSplitReader(
+                        sourceConfig,
+                        new MySqlSourceReaderContext(new TestingReaderContext()),
+                        SnapshotPhaseHooks.empty());
+        splitReader.handleSplitsChanges(new SplitsAddition<>(snapshotSplits));
+
+        List<String> finishedSplits = new ArrayList<>();
+        List<SourceRecord> records = new ArrayList<>();
+        while (finishedSplits.size() < snapshotSplits.size()) {
+            RecordsWithSplitIds<SourceRecords> fetched = splitReader.fetch();
+            while (fetched.nextSplit() != null) {
+                SourceRecords sourceRecords;
+                while ((sourceRecords = fetched.nextRecordFromSplit()) != null) {
+                    for (SourceRecord record : sourceRecords.getSourceRecordList()) {
+                        if (isDataChangeRecord(record)) {
+                            records.add(record);
+                        }
+                    }
+                }
+            }
+            finishedSplits.addAll(fetched.finishedSplits());
+        }
+        splitReader.close();
+
+        // the splits are read concurrently, but still finished in the order they were added
+        assertEquals(
+                snapshotSplits.stream().map(MySqlSplit::splitId).collect(Collectors.toList()),
+                finishedSplits);
+        assertEqualsInAnyOrder(
+                Arrays.asList(CUSTOMERS_RECORDS),
+                new RecordsFormatter(CUSTOMERS_TYPE).format(records));
+    }
+
     @Test
     public void testBinlogReadFailoverCrossTransaction() throws Exception {
         customerDatabase.createAndInitialize();
@@ -439,6 +442,48 @@ public class MySqlSourceReaderTest extends MySqlSourceTestBase {
         reader.close();
     }
 
+    private List<MySqlSplit> createSnapshotSplits(MySqlSourceConfig sourceConfig)
+            throws Exception {
+        try (MySqlConnection jdbc = DebeziumUtils.createMySqlConnection(sourceConfig)) {
+            Map<TableId, TableChanges.TableChange> tableSchemas =
+                    TableDiscoveryUtils.discoverSchemaForCapturedTables(
+                            new MySqlPartition(
+                                    sourceConfig.getMySqlConnectorConfig().getLogicalName()),
+                            sourceConfig,
+                            jdbc);
+            TableId tableId = new TableId(customerDatabase.getDatabaseName(), null, "customers");
+            RowType splitType =
+                    RowType.of(
+                            new LogicalType[] {DataTypes.INT().getLogicalType()},
+                            new String[] {"id"});
+            return Arrays.asList(
+                    new MySqlSnapshotSplit(
+                            tableId,
+                            tableId + ":0",
+                            splitType,
+                            null,
+                            new Integer[] {200},
+                            null,
+                            tableSchemas),
+                    new MySqlSnapshotSplit(
+                            tableId,
+                            tableId + ":1",
+                            splitType,
+                            new Integer[] {200},
+                            new Integer[] {1500},
+                            null,
+                            tableSchemas),
+                    new MySqlSnapshotSplit(
+                            tableId,
+                            tableId + ":2",
+                            splitType,
+                            new Integer[] {1500},
+                            null,
+                            null,
+                            tableSchemas));
+        }
+    }
+
     private MySqlSourceReader<SourceRecord> createReader(MySqlSourceConfig configuration, int limit)
             throws Exception {
         return createReader(
@@ -507,6 +552,10 @@ public class MySqlSourceReaderTest extends MySqlSourceTestBase {
     }
 
     private MySqlSourceConfig getConfig(String[] captureTables) {
+        return getConfig(captureTables, 1);
+    }
+
+    private MySqlSourceConfig getConfig(String[] captureTables, int chunkFetchConcurrency) {
         String[] captureTableIds =
                 Arrays.stream(captureTables)
                         .map(tableName -> customerDatabase.getDatabaseName() + "." + tableName)
@@ -524,6 +573,7 @@ public class MySqlSourceReaderTest extends MySqlSourceTestBase {
                 .username(customerDatabase.getUsername())
                 .password(customerDatabase.getPassword())
                 .serverTimeZone(ZoneId.of("UTC").toString())
+                .chunkFetchConcurrency(chunkFetchConcurrency)
                 .createConfig(0);
     }
 
@@ -16,26 +16,45 @@
 
 package com.ververica.cdc.connectors.mysql.source.split;
 
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.table.types.logical.BigIntType;
 import org.apache.flink.table.types.logical.RowType;
 
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils;
 import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit.toSuspendedBinlogSplit;
+import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.quote;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /** Tests for {@link MySqlSplitSerializer}. */
 public class MySqlSplitSerializerTest {
@@ -114,6 +133,23 @@ public class MySqlSplitSerializerTest {
                         new HashMap<>(),
                         0);
         assertEquals(unCompletedBinlogSplit, serializeAndDeserializeSplit(unCompletedBinlogSplit));
+
+        final MySqlSplit tableShardedBinlogSplit =
+                new MySqlBinlogSplit(
+                        "binlog-split-2",
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                        BinlogOffset.ofNonStopping(),
+                        finishedSplitsInfo,
+                        databaseHistory,
+                        finishedSplitsInfo.size(),
+                        false,
+                        2,
+                        3);
+        final MySqlBinlogSplit deserializedSplit =
+                serializeAndDeserializeSplit(tableShardedBinlogSplit).asBinlogSplit();
+        assertEquals(tableShardedBinlogSplit, deserializedSplit);
+        assertEquals(2, deserializedSplit.getTableShardIndex());
+        assertEquals(3, deserializedSplit.getTableShardCount());
     }
 
     @Test
@@ -134,6 +170,125 @@ public class MySqlSplitSerializerTest {
         assertSame(ser1, ser2);
     }
 
+    @Test
+    public void testTypedSplitBoundaries() throws Exception {
+        final Object[] splitStart =
+                new Object[] {
+                    true,
+                    (byte) 1,
+                    (short) 2,
+                    3,
+                    4L,
+                    5.5f,
+                    6.6d,
+                    new BigInteger("18446744073709551615"),
+                    new BigDecimal("-12345.678900"),
+                    "key",
+                    Date.valueOf("2023-08-01"),
+                    Time.valueOf("12:30:45"),
+                    Timestamp.valueOf("2023-08-01 12:30:45.123456789"),
+                    LocalDate.of(2023, 8, 1),
+                    LocalTime.of(12, 30, 45, 123456789),
+                    LocalDateTime.of(2023, 8, 1, 12, 30, 45, 123456789),
+                    UUID.fromString("8d3d4c6e-3b8a-4c5e-9f1a-2b7c9d0e1f2a"),
+                    null
+                };
+        final FinishedSnapshotSplitInfo splitInfo =
+                new FinishedSnapshotSplitInfo(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        splitStart,
+                        new Object[] {new byte[] {1, 2, 3}},
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L));
+
+        final FinishedSnapshotSplitInfo restored =
+                FinishedSnapshotSplitInfo.deserialize(
+                        FinishedSnapshotSplitInfo.serialize(splitInfo));
+        assertArrayEquals(splitStart, restored.getSplitStart());
+        for (int i = 0; i < splitStart.length - 1; i++) {
+            assertEquals(splitStart[i].getClass(), restored.getSplitStart()[i].getClass());
+        }
+        assertNull(restored.getSplitStart()[splitStart.length - 1]);
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) restored.getSplitEnd()[0]);
+    }
+
+    @Test
+    public void testReadLegacySnapshotSplit() throws Exception {
+        final MySqlSplit split =
+                new MySqlSnapshotSplit(
+                        TableId.parse("test_db.test_table"),
+                        "test_db.test_table-1",
+                        new RowType(
+                                Collections.singletonList(
+                                        new RowType.RowField("id", new BigIntType()))),
+                        new Object[] {100L},
+                        null,
+                        null,
+                        new HashMap<>());
+        final MySqlSnapshotSplit snapshotSplit = split.asSnapshotSplit();
+        // the layout of a snapshot split written with version 5
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        out.writeInt(1);
+        out.writeUTF(quote(snapshotSplit.getTableId()));
+        out.writeUTF(snapshotSplit.splitId());
+        out.writeUTF(snapshotSplit.getSplitKeyType().asSerializableString());
+        out.writeUTF(SerializerUtils.rowToSerializedString(snapshotSplit.getSplitStart()));
+        out.writeUTF(SerializerUtils.rowToSerializedString(snapshotSplit.getSplitEnd()));
+        SerializerUtils.writeBinlogPosition(null, out);
+        MySqlSplitSerializer.writeTableSchemas(new HashMap<>(), out);
+
+        assertEquals(split, MySqlSplitSerializer.INSTANCE.deserialize(5, out.getCopyOfBuffer()));
+    }
+
+    @Test
+    public void testTableSchemasOfShardedTables() throws Exception {
+        final TableChange schema = getTestTableSchema();
+        final Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            final TableId shardId = TableId.parse("test_db.test_table_" + i);
+            tableSchemas.put(
+                    shardId,
+                    new TableChange(
+                            TableChangeType.CREATE,
+                            schema.getTable().edit().tableId(shardId).create()));
+        }
+        tableSchemas.put(schema.getId(), schema);
+
+        final byte[] serialized = serializeTableSchemas(tableSchemas);
+        assertEquals(
+                tableSchemas,
+                MySqlSplitSerializer.readTableSchemas(5, new DataInputDeserializer(serialized)));
+        // the structure shared by the sharded tables is only written once
+        final byte[] singleSerialized =
+                serializeTableSchemas(Collections.singletonMap(schema.getId(), schema));
+        assertTrue(serialized.length < tableSchemas.size() * singleSerialized.length / 4);
+    }
+
+    @Test
+    public void testReadLegacyJsonTableSchemas() throws Exception {
+        final TableChange schema = getTestTableSchema();
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        out.writeInt(1);
+        out.writeUTF(schema.getId().toString());
+        final byte[] json =
+                DocumentWriter.defaultWriter()
+                        .write(new FlinkJsonTableChangeSerializer().toDocument(schema))
+                        .getBytes(StandardCharsets.UTF_8);
+        out.writeInt(json.length);
+        out.write(json);
+        assertEquals(
+                Collections.singletonMap(schema.getId(), schema),
+                MySqlSplitSerializer.readTableSchemas(
+                        4, new DataInputDeserializer(out.getCopyOfBuffer())));
+    }
+
+    private static byte[] serializeTableSchemas(Map<TableId, TableChange> tableSchemas)
+            throws Exception {
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        MySqlSplitSerializer.writeTableSchemas(tableSchemas, out);
+        return out.getCopyOfBuffer();
+    }
+
     private MySqlSplit serializeAndDeserializeSplit(MySqlSplit split) throws Exception {
         final MySqlSplitSerializer sqlSplitSerializer = new MySqlSplitSerializer();
         byte[] serialized = sqlSplitSerializer.serialize(split);
@@ -18,6 +18,7 @@ package com.ververica.cdc.connectors.mysql.table;
 
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.api.Schema;
 import org.apache.flink.table.catalog.CatalogTable;
@@ -50,7 +51,10 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.CONNECT_MAX_RETRIES;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.CONNECT_TIMEOUT;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.HEARTBEAT_INTERVAL;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_DESERIALIZATION_THREADS;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_SPLIT_NUMBER;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
@@ -126,7 +130,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -142,6 +152,8 @@ public class MySqlTableSourceFactoryTest {
         properties.put("scan.snapshot.fetch.size", "100");
         properties.put("connect.timeout", "45s");
         properties.put("scan.incremental.snapshot.chunk.key-column", "testCol");
+        properties.put("scan.binlog.split.number", "2");
+        properties.put("scan.incremental.snapshot.chunk.fetch-concurrency", "4");
 
         // validation for source
         DynamicTableSource actualSource = createTableSource(properties);
@@ -172,7 +184,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         "testCol",
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        2,
+                        4);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -214,7 +232,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -254,7 +278,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -271,6 +301,10 @@ public class MySqlTableSourceFactoryTest {
         options.put("scan.incremental.snapshot.chunk.key-column", "testCol");
         options.put("scan.incremental.close-idle-reader.enabled", "true");
         options.put("scan.incremental.snapshot.backfill.skip", "true");
+        options.put("scan.incremental.snapshot.chunk.memory-budget", "64mb");
+        options.put("scan.incremental.snapshot.chunk.target-size", "16mb");
+        options.put("scan.incremental.snapshot.chunk.target-read-time", "30s");
+        options.put("scan.binlog.deserialization.threads", "4");
 
         DynamicTableSource actualSource = createTableSource(options);
         Properties dbzProperties = new Properties();
@@ -304,7 +338,13 @@ public class MySqlTableSourceFactoryTest {
                         jdbcProperties,
                         Duration.ofMillis(15213),
                         "testCol",
-                        true);
+                        true,
+                        MemorySize.parse("64mb"),
+                        MemorySize.parse("16mb"),
+                        Duration.ofSeconds(30),
+                        4,
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -350,7 +390,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -388,7 +434,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -427,7 +479,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -467,7 +525,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -505,7 +569,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -548,7 +618,13 @@ public class MySqlTableSourceFactoryTest {
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
                         null,
-                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        MemorySize.MAX_VALUE,
+                        MemorySize.MAX_VALUE,
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_THREADS.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY.defaultValue());
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys = Arrays.asList("op_ts", "database_name");
 
@@ -679,6 +755,37 @@ public class MySqlTableSourceFactoryTest {
                             "The value of option 'connect.max-retries' must larger than 0, but is 0"));
         }
 
+        // validate illegal chunk fetch concurrency
+        try {
+            Map<String, String> properties = getAllOptions();
+            properties.put("scan.incremental.snapshot.enabled", "true");
+            properties.put("scan.incremental.snapshot.chunk.fetch-concurrency", "0");
+
+            createTableSource(properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            assertThat(
+                    t,
+                    containsMessage(
+                            "The value of option 'scan.incremental.snapshot.chunk.fetch-concurrency' must larger than 0, but is 0"));
+        }
+
+        // validate binlog split number combined with newly added table
+        try {
+            Map<String, String> properties = getAllOptions();
+            properties.put("scan.incremental.snapshot.enabled", "true");
+            properties.put("scan.newly-added-table.enabled", "true");
+            properties.put("scan.binlog.split.number", "2");
+
+            createTableSource(properties);
+            fail("exception expected");
+        } catch (Throwable t) {
+            assertThat(
+                    t,
+                    containsMessage(
+                            "The option 'scan.binlog.split.number' can not be combined with 'scan.newly-added-table.enabled', but is 2"));
+        }
+
         // validate missing required
         Factory factory = new MySqlTableSourceFactory();
         for (ConfigOption<?> requiredOption : factory.requiredOptions()) {
@@ -242,6 +242,16 @@ public class OracleSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot chunks fetched concurrently by each source reader, each concurrent
+     * fetch uses its own database connection. The fetched chunks are emitted in the order they
+     * were assigned to the reader.
+     */
+    public OracleSourceBuilder<T> chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.configFactory.chunkFetchConcurrency(chunkFetchConcurrency);
+        return this;
+    }
+
     /**
      * Build the {@link OracleIncrementalSource}.
      *
@@ -62,7 +62,8 @@ public class OracleSourceConfig extends JdbcSourceConfig {
             int connectMaxRetries,
             int connectionPoolSize,
             String chunkKeyColumn,
-            boolean skipSnapshotBackfill) {
+            boolean skipSnapshotBackfill,
+            int chunkFetchConcurrency) {
         super(
                 startupOptions,
                 databaseList,
@@ -87,7 +88,8 @@ public class OracleSourceConfig extends JdbcSourceConfig {
                 connectMaxRetries,
                 connectionPoolSize,
                 chunkKeyColumn,
-                skipSnapshotBackfill);
+                skipSnapshotBackfill,
+                chunkFetchConcurrency);
         this.url = url;
     }
 
@@ -204,6 +204,11 @@ public class OracleSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
 
     @Override
     public boolean isRecordBetween(SourceRecord record, Object[] splitStart, Object[] splitEnd) {
+        return SourceRecordUtils.splitKeyRangeContains(getSplitKey(record), splitStart, splitEnd);
+    }
+
+    @Override
+    public Object[] getSplitKey(SourceRecord record) {
         RowType splitKeyType =
                 getSplitType(getDatabaseSchema().tableFor(SourceRecordUtils.getTableId(record)));
 
@@ -216,13 +221,10 @@ public class OracleSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
             } catch (SQLException e) {
                 LOG.error("{} can not convert to RowId", record);
             }
-            Object[] rowIds = new ROWID[] {rowId};
-            return SourceRecordUtils.splitKeyRangeContains(rowIds, splitStart, splitEnd);
+            return new ROWID[] {rowId};
         } else {
             // config chunk key column compare
-            Object[] key =
-                    SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
-            return SourceRecordUtils.splitKeyRangeContains(key, splitStart, splitEnd);
+            return SourceRecordUtils.getSplitKey(splitKeyType, record, getSchemaNameAdjuster());
         }
     }
 
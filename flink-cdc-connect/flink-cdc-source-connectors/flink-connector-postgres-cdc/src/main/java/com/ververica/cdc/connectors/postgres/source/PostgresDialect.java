@@ -213,6 +213,12 @@ public class PostgresDialect implements JdbcDataSourceDialect {
         return new PostgresSourceFetchTaskContext(taskSourceConfig, this);
     }
 
+    @Override
+    public JdbcSourceFetchTaskContext createFetchTaskContext(
+            SourceSplitBase sourceSplitBase, JdbcSourceConfig taskSourceConfig, int fetcherIndex) {
+        return new PostgresSourceFetchTaskContext(taskSourceConfig, this, fetcherIndex);
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         if (streamFetchTask != null) {
@@ -263,6 +263,16 @@ public class PostgresSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot chunks fetched concurrently by each source reader, each concurrent
+     * fetch uses its own database connection. The fetched chunks are emitted in the order they
+     * were assigned to the reader.
+     */
+    public PostgresSourceBuilder<T> chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.configFactory.chunkFetchConcurrency(chunkFetchConcurrency);
+        return this;
+    }
+
     /**
      * Build the {@link PostgresIncrementalSource}.
      *
@@ -78,7 +78,7 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
             maybeCreateSlotForBackFillReadTask(
                     ctx.getConnection(),
                     ctx.getReplicationConnection(),
-                    sourceConfig.getSlotNameForBackfillTask(),
+                    ctx.getSlotNameForBackfillTask(),
                     ctx.getPluginName(),
                     sourceConfig.isSkipSnapshotBackfill());
             super.execute(context);
@@ -144,7 +144,7 @@ public class PostgresScanFetchTask extends AbstractScanFetchTask {
         LOG.info(
                 "Execute backfillReadTask for split {} with slot name {}",
                 snapshotSplit,
-                ((PostgresSourceConfig) ctx.getSourceConfig()).getSlotNameForBackfillTask());
+                ctx.getSlotNameForBackfillTask());
         backfillReadTask.execute(
                 new PostgresChangeEventSourceContext(), ctx.getPartition(), postgresOffsetContext);
     }
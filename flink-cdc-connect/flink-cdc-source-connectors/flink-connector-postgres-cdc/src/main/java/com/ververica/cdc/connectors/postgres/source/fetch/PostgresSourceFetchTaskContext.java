@@ -95,10 +95,19 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
     private EventMetadataProvider metadataProvider;
     private SnapshotChangeEventSourceMetrics<PostgresPartition> snapshotChangeEventSourceMetrics;
     private Snapshotter snapShotter;
+    private final String slotNameForBackfillTask;
 
     public PostgresSourceFetchTaskContext(
             JdbcSourceConfig sourceConfig, PostgresDialect dataSourceDialect) {
+        this(sourceConfig, dataSourceDialect, 0);
+    }
+
+    public PostgresSourceFetchTaskContext(
+            JdbcSourceConfig sourceConfig, PostgresDialect dataSourceDialect, int fetcherIndex) {
         super(sourceConfig, dataSourceDialect);
+        String slotName = ((PostgresSourceConfig) sourceConfig).getSlotNameForBackfillTask();
+        // the concurrent snapshot split fetchers of a reader need distinct backfill slots
+        this.slotNameForBackfillTask = fetcherIndex == 0 ? slotName : slotName + "_" + fetcherIndex;
     }
 
     @Override
@@ -132,10 +141,7 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
                                             ((SnapshotSplit) sourceSplitBase)
                                                     .getTableId()
                                                     .toString())
-                                    .with(
-                                            SLOT_NAME.name(),
-                                            ((PostgresSourceConfig) sourceConfig)
-                                                    .getSlotNameForBackfillTask())
+                                    .with(SLOT_NAME.name(), slotNameForBackfillTask)
                                     // drop slot for backfill stream split
                                     .with(DROP_SLOT_ON_STOP.name(), true)
                                     // Disable heartbeat event in snapshot split fetcher
@@ -331,6 +337,10 @@ public class PostgresSourceFetchTaskContext extends JdbcSourceFetchTaskContext {
         return sourceConfig.getDbzProperties().getProperty(SLOT_NAME.name());
     }
 
+    public String getSlotNameForBackfillTask() {
+        return slotNameForBackfillTask;
+    }
+
     public String getPluginName() {
         return PostgresConnectorConfig.LogicalDecoder.parse(
                         sourceConfig.getDbzProperties().getProperty(PLUGIN_NAME.name()))
@@ -84,6 +84,7 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
     private final boolean closeIdleReaders;
 
     private final boolean skipSnapshotBackfill;
+    private final int chunkFetchConcurrency;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -121,7 +122,8 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
             StartupOptions startupOptions,
             @Nullable String chunkKeyColumn,
             boolean closeIdleReaders,
-            boolean skipSnapshotBackfill) {
+            boolean skipSnapshotBackfill,
+            int chunkFetchConcurrency) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -151,6 +153,7 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
         this.metadataKeys = Collections.emptyList();
         this.closeIdleReaders = closeIdleReaders;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
     }
 
     @Override
@@ -211,6 +214,7 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                             .heartbeatInterval(heartbeatInterval)
                             .closeIdleReaders(closeIdleReaders)
                             .skipSnapshotBackfill(skipSnapshotBackfill)
+                            .chunkFetchConcurrency(chunkFetchConcurrency)
                             .build();
             return SourceProvider.of(parallelSource);
         } else {
@@ -277,7 +281,8 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                         startupOptions,
                         chunkKeyColumn,
                         closeIdleReaders,
-                        skipSnapshotBackfill);
+                        skipSnapshotBackfill,
+                        chunkFetchConcurrency);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -319,7 +324,8 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 && Objects.equals(startupOptions, that.startupOptions)
                 && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
                 && Objects.equals(closeIdleReaders, that.closeIdleReaders)
-                && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill);
+                && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill)
+                && Objects.equals(chunkFetchConcurrency, that.chunkFetchConcurrency);
     }
 
     @Override
@@ -352,7 +358,8 @@ public class PostgreSQLTableSource implements ScanTableSource, SupportsReadingMe
                 startupOptions,
                 chunkKeyColumn,
                 closeIdleReaders,
-                skipSnapshotBackfill);
+                skipSnapshotBackfill,
+                chunkFetchConcurrency);
     }
 
     @Override
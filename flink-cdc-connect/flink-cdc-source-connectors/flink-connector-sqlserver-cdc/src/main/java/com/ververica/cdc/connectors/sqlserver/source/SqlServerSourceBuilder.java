@@ -228,6 +228,16 @@ public class SqlServerSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The number of snapshot chunks fetched concurrently by each source reader, each concurrent
+     * fetch uses its own database connection. The fetched chunks are emitted in the order they
+     * were assigned to the reader.
+     */
+    public SqlServerSourceBuilder<T> chunkFetchConcurrency(int chunkFetchConcurrency) {
+        this.configFactory.chunkFetchConcurrency(chunkFetchConcurrency);
+        return this;
+    }
+
     /**
      * Build the {@link SqlServerIncrementalSource}.
      *
@@ -79,6 +79,7 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
     private final String chunkKeyColumn;
     private final boolean closeIdleReaders;
     private final boolean skipSnapshotBackfill;
+    private final int chunkFetchConcurrency;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -112,7 +113,8 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
             double distributionFactorLower,
             @Nullable String chunkKeyColumn,
             boolean closeIdleReaders,
-            boolean skipSnapshotBackfill) {
+            boolean skipSnapshotBackfill,
+            int chunkFetchConcurrency) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -137,6 +139,7 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
         this.chunkKeyColumn = chunkKeyColumn;
         this.closeIdleReaders = closeIdleReaders;
         this.skipSnapshotBackfill = skipSnapshotBackfill;
+        this.chunkFetchConcurrency = chunkFetchConcurrency;
     }
 
     @Override
@@ -185,6 +188,7 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                             .chunkKeyColumn(chunkKeyColumn)
                             .closeIdleReaders(closeIdleReaders)
                             .skipSnapshotBackfill(skipSnapshotBackfill)
+                            .chunkFetchConcurrency(chunkFetchConcurrency)
                             .build();
             return SourceProvider.of(sqlServerChangeEventSource);
         } else {
@@ -245,7 +249,8 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                         distributionFactorLower,
                         chunkKeyColumn,
                         closeIdleReaders,
-                        skipSnapshotBackfill);
+                        skipSnapshotBackfill,
+                        chunkFetchConcurrency);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -283,7 +288,8 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                 && Objects.equals(distributionFactorLower, that.distributionFactorLower)
                 && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
                 && Objects.equals(closeIdleReaders, that.closeIdleReaders)
-                && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill);
+                && Objects.equals(skipSnapshotBackfill, that.skipSnapshotBackfill)
+                && Objects.equals(chunkFetchConcurrency, that.chunkFetchConcurrency);
     }
 
     @Override
@@ -312,7 +318,8 @@ public class SqlServerTableSource implements ScanTableSource, SupportsReadingMet
                 distributionFactorLower,
                 chunkKeyColumn,
                 closeIdleReaders,
-                skipSnapshotBackfill);
+                skipSnapshotBackfill,
+                chunkFetchConcurrency);
     }
 
     @Override
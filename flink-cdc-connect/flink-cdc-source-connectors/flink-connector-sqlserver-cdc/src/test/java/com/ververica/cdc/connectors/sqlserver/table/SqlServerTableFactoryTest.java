@@ -111,7 +111,9 @@ public class SqlServerTableFactoryTest {
                                 .defaultValue(),
                         null,
                         false,
-                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY
+                                .defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -128,6 +130,7 @@ public class SqlServerTableFactoryTest {
         properties.put("scan.incremental.snapshot.chunk.key-column", "testCol");
         properties.put("scan.incremental.close-idle-reader.enabled", "true");
         properties.put("scan.incremental.snapshot.backfill.skip", "true");
+        properties.put("scan.incremental.snapshot.chunk.fetch-concurrency", "4");
 
         // validation for source
         DynamicTableSource actualSource = createTableSource(SCHEMA, properties);
@@ -154,7 +157,8 @@ public class SqlServerTableFactoryTest {
                         0.01d,
                         "testCol",
                         true,
-                        true);
+                        true,
+                        4);
         assertEquals(expectedSource, actualSource);
     }
 
@@ -195,7 +199,9 @@ public class SqlServerTableFactoryTest {
                                 .defaultValue(),
                         "testCol",
                         true,
-                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY
+                                .defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -235,7 +241,9 @@ public class SqlServerTableFactoryTest {
                                 .defaultValue(),
                         null,
                         false,
-                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue());
+                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SKIP.defaultValue(),
+                        JdbcSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_FETCH_CONCURRENCY
+                                .defaultValue());
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys =
                 Arrays.asList("op_ts", "database_name", "schema_name", "table_name");
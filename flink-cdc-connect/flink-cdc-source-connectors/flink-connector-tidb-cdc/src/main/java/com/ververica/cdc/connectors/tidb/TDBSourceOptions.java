@@ -50,6 +50,16 @@ public class TDBSourceOptions {
                             "Optional startup mode for TiDB CDC consumer, valid enumerations are "
                                     + "\"initial\", \"latest-offset\"");
 
+    public static final ConfigOption<Integer> SCAN_CHANGELOG_MAX_BUFFERED_ROWS =
+            ConfigOptions.key("scan.changelog.max-buffered-rows")
+                    .intType()
+                    .defaultValue(1_000_000)
+                    .withDescription(
+                            "The maximum number of change event rows a source reader buffers "
+                                    + "while waiting for their transactions to be committed and "
+                                    + "resolved. The job fails instead of running out of memory "
+                                    + "when a long transaction exceeds this limit.");
+
     public static final ConfigOption<String> PD_ADDRESSES =
             ConfigOptions.key("pd-addresses")
                     .stringType()
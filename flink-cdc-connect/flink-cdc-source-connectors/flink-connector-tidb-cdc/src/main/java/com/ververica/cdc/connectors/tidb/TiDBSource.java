@@ -21,7 +21,14 @@ import org.apache.flink.streaming.api.functions.source.RichParallelSourceFunctio
 import com.ververica.cdc.connectors.tidb.table.StartupOptions;
 import org.tikv.common.TiConfiguration;
 
-/** A builder to build a SourceFunction which can read snapshot and continue to read CDC events. */
+/**
+ * A builder to build a SourceFunction which can read snapshot and continue to read CDC events.
+ *
+ * @deprecated please use {@link com.ververica.cdc.connectors.tidb.source.TiDBSource} instead which
+ *     supports more rich features, e.g. parallel reading by the TiKV regions. The {@link
+ *     TiDBSource} will be dropped in the future version.
+ */
+@Deprecated
 public class TiDBSource {
 
     public static <T> Builder<T> builder() {
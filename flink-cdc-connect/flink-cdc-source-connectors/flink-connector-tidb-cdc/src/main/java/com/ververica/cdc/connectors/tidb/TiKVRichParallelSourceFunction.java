@@ -32,6 +32,7 @@ import org.apache.flink.util.Preconditions;
 
 import org.apache.flink.shaded.guava31.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import com.ververica.cdc.connectors.tidb.source.reader.TiKVTransactionBuffer;
 import com.ververica.cdc.connectors.tidb.table.StartupMode;
 import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
 import org.slf4j.Logger;
@@ -48,8 +49,6 @@ import org.tikv.shade.com.google.protobuf.ByteString;
 import org.tikv.txn.KVClient;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -60,7 +59,11 @@ import java.util.concurrent.TimeUnit;
 /**
  * The source implementation for TiKV that read snapshot events first and then read the change
  * event.
+ *
+ * @deprecated please use {@link com.ververica.cdc.connectors.tidb.source.TiDBSource} instead, which
+ *     splits the table by the TiKV regions and bounds the buffered change events.
  */
+@Deprecated
 public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunction<T>
         implements CheckpointListener, CheckpointedFunction, ResultTypeQueryable<T> {
 
@@ -83,8 +86,7 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
     private transient CDCClient cdcClient = null;
     private transient SourceContext<T> sourceContext = null;
     private transient volatile long resolvedTs = -1L;
-    private transient TreeMap<RowKeyWithTs, Cdcpb.Event.Row> prewrites = null;
-    private transient TreeMap<RowKeyWithTs, Cdcpb.Event.Row> commits = null;
+    private transient TiKVTransactionBuffer transactionBuffer = null;
     private transient BlockingQueue<Cdcpb.Event.Row> committedEvents = null;
     private transient OutputCollector<T> outputCollector;
 
@@ -127,8 +129,7 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
                         getRuntimeContext().getNumberOfParallelSubtasks(),
                         getRuntimeContext().getIndexOfThisSubtask());
         cdcClient = new CDCClient(session, keyRange);
-        prewrites = new TreeMap<>();
-        commits = new TreeMap<>();
+        transactionBuffer = new TiKVTransactionBuffer();
         // cdc event will lose if pull cdc event block when region split
         // use queue to separate read and write to ensure pull event unblock.
         // since sink jdbc is slow, 5000W queue size may be safe size.
@@ -167,31 +168,6 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
         readChangeEvents();
     }
 
-    private void handleRow(final Cdcpb.Event.Row row) {
-        if (!TableKeyRangeUtils.isRecordKey(row.getKey().toByteArray())) {
-            // Don't handle index key for now
-            return;
-        }
-        LOG.debug("binlog record, type: {}, data: {}", row.getType(), row);
-        switch (row.getType()) {
-            case COMMITTED:
-                prewrites.put(RowKeyWithTs.ofStart(row), row);
-                commits.put(RowKeyWithTs.ofCommit(row), row);
-                break;
-            case COMMIT:
-                commits.put(RowKeyWithTs.ofCommit(row), row);
-                break;
-            case PREWRITE:
-                prewrites.put(RowKeyWithTs.ofStart(row), row);
-                break;
-            case ROLLBACK:
-                prewrites.remove(RowKeyWithTs.ofStart(row));
-                break;
-            default:
-                LOG.warn("Unsupported row type:" + row.getType());
-        }
-    }
-
     protected void readSnapshotEvents() throws Exception {
         LOG.info("read snapshot events");
         try (KVClient scanClient = session.createKVClient()) {
@@ -241,10 +217,10 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
                 if (row == null) {
                     break;
                 }
-                handleRow(row);
+                transactionBuffer.handleRow(row);
             }
             resolvedTs = cdcClient.getMaxResolvedTs();
-            if (commits.size() > 0) {
+            if (transactionBuffer.hasCommittedRows()) {
                 flushRows(resolvedTs);
             }
         }
@@ -253,13 +229,8 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
     protected void flushRows(final long timestamp) throws Exception {
         Preconditions.checkState(sourceContext != null, "sourceContext shouldn't be null");
         synchronized (sourceContext) {
-            while (!commits.isEmpty() && commits.firstKey().timestamp <= timestamp) {
-                final Cdcpb.Event.Row commitRow = commits.pollFirstEntry().getValue();
-                final Cdcpb.Event.Row prewriteRow =
-                        prewrites.remove(RowKeyWithTs.ofStart(commitRow));
-                // if pull cdc event block when region split, cdc event will lose.
-                committedEvents.offer(prewriteRow);
-            }
+            // if pull cdc event block when region split, cdc event will lose.
+            transactionBuffer.pollCommittedRows(timestamp, committedEvents::offer);
         }
     }
 
@@ -327,54 +298,6 @@ public class TiKVRichParallelSourceFunction<T> extends RichParallelSourceFunctio
     // ---------------------------------------
     // static Utils classes
     // ---------------------------------------
-    private static class RowKeyWithTs implements Comparable<RowKeyWithTs> {
-        private final long timestamp;
-        private final RowKey rowKey;
-
-        private RowKeyWithTs(final long timestamp, final RowKey rowKey) {
-            this.timestamp = timestamp;
-            this.rowKey = rowKey;
-        }
-
-        private RowKeyWithTs(final long timestamp, final byte[] key) {
-            this(timestamp, RowKey.decode(key));
-        }
-
-        @Override
-        public int compareTo(final RowKeyWithTs that) {
-            int res = Long.compare(this.timestamp, that.timestamp);
-            if (res == 0) {
-                res = Long.compare(this.rowKey.getTableId(), that.rowKey.getTableId());
-            }
-            if (res == 0) {
-                res = Long.compare(this.rowKey.getHandle(), that.rowKey.getHandle());
-            }
-            return res;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.timestamp, this.rowKey.getTableId(), this.rowKey.getHandle());
-        }
-
-        @Override
-        public boolean equals(final Object thatObj) {
-            if (thatObj instanceof RowKeyWithTs) {
-                final RowKeyWithTs that = (RowKeyWithTs) thatObj;
-                return this.timestamp == that.timestamp && this.rowKey.equals(that.rowKey);
-            }
-            return false;
-        }
-
-        static RowKeyWithTs ofStart(final Cdcpb.Event.Row row) {
-            return new RowKeyWithTs(row.getStartTs(), row.getKey().toByteArray());
-        }
-
-        static RowKeyWithTs ofCommit(final Cdcpb.Event.Row row) {
-            return new RowKeyWithTs(row.getCommitTs(), row.getKey().toByteArray());
-        }
-    }
-
     private static class OutputCollector<T> implements Collector<T> {
 
         private SourceContext<T> context;
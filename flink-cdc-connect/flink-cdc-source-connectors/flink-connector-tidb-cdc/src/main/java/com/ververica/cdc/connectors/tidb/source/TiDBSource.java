@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.Source;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+
+import com.ververica.cdc.common.annotation.Internal;
+import com.ververica.cdc.common.annotation.PublicEvolving;
+import com.ververica.cdc.connectors.tidb.TiKVChangeEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.TiKVSnapshotEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumState;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumStateSerializer;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumerator;
+import com.ververica.cdc.connectors.tidb.source.reader.TiKVRecord;
+import com.ververica.cdc.connectors.tidb.source.reader.TiKVRecordEmitter;
+import com.ververica.cdc.connectors.tidb.source.reader.TiKVSourceReader;
+import com.ververica.cdc.connectors.tidb.source.reader.TiKVSplitReader;
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplit;
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplitSerializer;
+
+/**
+ * The TiDB CDC Source based on FLIP-27, which reads the snapshot of a table and then continues to
+ * read the change events of it.
+ *
+ * <pre>
+ *     1. The key range of the table is split by the TiKV regions it spans, and the splits are
+ *        spread across the parallel readers.
+ *     2. Every split reads its snapshot and then the change events of its own key range.
+ *     3. The source supports checkpoint in the middle of the snapshot of a split.
+ * </pre>
+ *
+ * <pre>{@code
+ * TiDBSource
+ *     .<String>builder()
+ *     .database("mydb")
+ *     .tableName("products")
+ *     .tiConf(TDBSourceOptions.getTiConfiguration("localhost:2399", new HashMap<>()))
+ *     .snapshotEventDeserializer(snapshotEventDeserializer)
+ *     .changeEventDeserializer(changeEventDeserializer)
+ *     .build();
+ * }</pre>
+ *
+ * <p>See {@link TiDBSourceBuilder} for more details.
+ *
+ * @param <T> the output type of the source.
+ */
+@Internal
+public class TiDBSource<T>
+        implements Source<T, TiKVSplit, TiDBSourceEnumState>, ResultTypeQueryable<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TiDBSourceConfig sourceConfig;
+    private final TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema;
+    private final TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema;
+
+    /**
+     * Get a TiDBSourceBuilder to build a {@link TiDBSource}.
+     *
+     * @return a TiDB source builder.
+     */
+    @PublicEvolving
+    public static <T> TiDBSourceBuilder<T> builder() {
+        return new TiDBSourceBuilder<>();
+    }
+
+    TiDBSource(
+            TiDBSourceConfig sourceConfig,
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema,
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema) {
+        this.sourceConfig = sourceConfig;
+        this.snapshotEventDeserializationSchema = snapshotEventDeserializationSchema;
+        this.changeEventDeserializationSchema = changeEventDeserializationSchema;
+    }
+
+    public TiDBSourceConfig getSourceConfig() {
+        return sourceConfig;
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return Boundedness.CONTINUOUS_UNBOUNDED;
+    }
+
+    @Override
+    public SourceReader<T, TiKVSplit> createReader(SourceReaderContext readerContext) {
+        FutureCompletingBlockingQueue<RecordsWithSplitIds<TiKVRecord>> elementsQueue =
+                new FutureCompletingBlockingQueue<>();
+        return new TiKVSourceReader<>(
+                elementsQueue,
+                () -> new TiKVSplitReader(sourceConfig, readerContext.getIndexOfSubtask()),
+                new TiKVRecordEmitter<>(
+                        snapshotEventDeserializationSchema, changeEventDeserializationSchema),
+                readerContext.getConfiguration(),
+                readerContext);
+    }
+
+    @Override
+    public SplitEnumerator<TiKVSplit, TiDBSourceEnumState> createEnumerator(
+            SplitEnumeratorContext<TiKVSplit> enumContext) {
+        return new TiDBSourceEnumerator(enumContext, sourceConfig);
+    }
+
+    @Override
+    public SplitEnumerator<TiKVSplit, TiDBSourceEnumState> restoreEnumerator(
+            SplitEnumeratorContext<TiKVSplit> enumContext, TiDBSourceEnumState checkpoint) {
+        return new TiDBSourceEnumerator(enumContext, sourceConfig, checkpoint);
+    }
+
+    @Override
+    public SimpleVersionedSerializer<TiKVSplit> getSplitSerializer() {
+        return TiKVSplitSerializer.INSTANCE;
+    }
+
+    @Override
+    public SimpleVersionedSerializer<TiDBSourceEnumState> getEnumeratorCheckpointSerializer() {
+        return TiDBSourceEnumStateSerializer.INSTANCE;
+    }
+
+    @Override
+    public TypeInformation<T> getProducedType() {
+        return snapshotEventDeserializationSchema.getProducedType();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source;
+
+import com.ververica.cdc.common.annotation.PublicEvolving;
+import com.ververica.cdc.connectors.tidb.TDBSourceOptions;
+import com.ververica.cdc.connectors.tidb.TiKVChangeEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.TiKVSnapshotEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import com.ververica.cdc.connectors.tidb.table.StartupOptions;
+import org.tikv.common.TiConfiguration;
+
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/**
+ * The builder class for {@link TiDBSource} to make it easier for the users to construct a {@link
+ * TiDBSource}.
+ *
+ * <p>Check the Java docs of each individual method to learn more about the settings to build a
+ * {@link TiDBSource}.
+ */
+@PublicEvolving
+public class TiDBSourceBuilder<T> {
+
+    private String database;
+    private String tableName;
+    private StartupOptions startupOptions = StartupOptions.initial();
+    private TiConfiguration tiConf;
+    private int changelogMaxBufferedRows =
+            TDBSourceOptions.SCAN_CHANGELOG_MAX_BUFFERED_ROWS.defaultValue();
+
+    private TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema;
+    private TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema;
+
+    /** Database name to be monitored. */
+    public TiDBSourceBuilder<T> database(String database) {
+        this.database = database;
+        return this;
+    }
+
+    /** TableName name to be monitored. */
+    public TiDBSourceBuilder<T> tableName(String tableName) {
+        this.tableName = tableName;
+        return this;
+    }
+
+    /** The deserializer used to convert from consumed snapshot event from TiKV. */
+    public TiDBSourceBuilder<T> snapshotEventDeserializer(
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema) {
+        this.snapshotEventDeserializationSchema = snapshotEventDeserializationSchema;
+        return this;
+    }
+
+    /** The deserializer used to convert from consumed change event from TiKV. */
+    public TiDBSourceBuilder<T> changeEventDeserializer(
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema) {
+        this.changeEventDeserializationSchema = changeEventDeserializationSchema;
+        return this;
+    }
+
+    /** Specifies the startup options. */
+    public TiDBSourceBuilder<T> startupOptions(StartupOptions startupOptions) {
+        this.startupOptions = startupOptions;
+        return this;
+    }
+
+    /** TIDB config. */
+    public TiDBSourceBuilder<T> tiConf(TiConfiguration tiConf) {
+        this.tiConf = tiConf;
+        return this;
+    }
+
+    /**
+     * The maximum number of change event rows a source reader buffers while waiting for their
+     * transactions to be committed and resolved, the job fails when it is exceeded.
+     */
+    public TiDBSourceBuilder<T> changelogMaxBufferedRows(int changelogMaxBufferedRows) {
+        this.changelogMaxBufferedRows = changelogMaxBufferedRows;
+        return this;
+    }
+
+    /**
+     * Build the {@link TiDBSource}.
+     *
+     * @return a TiDBSource with the settings made for this builder.
+     */
+    public TiDBSource<T> build() {
+        TiDBSourceConfig sourceConfig =
+                new TiDBSourceConfig(
+                        tiConf,
+                        database,
+                        tableName,
+                        startupOptions.startupMode,
+                        changelogMaxBufferedRows);
+        return new TiDBSource<>(
+                sourceConfig,
+                checkNotNull(snapshotEventDeserializationSchema),
+                checkNotNull(changeEventDeserializationSchema));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.config;
+
+import com.ververica.cdc.connectors.tidb.table.StartupMode;
+import org.tikv.common.TiConfiguration;
+
+import java.io.Serializable;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+import static org.apache.flink.util.Preconditions.checkNotNull;
+
+/** The configuration of {@link com.ververica.cdc.connectors.tidb.source.TiDBSource}. */
+public class TiDBSourceConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TiConfiguration tiConf;
+    private final String database;
+    private final String tableName;
+    private final StartupMode startupMode;
+    private final int changelogMaxBufferedRows;
+
+    public TiDBSourceConfig(
+            TiConfiguration tiConf,
+            String database,
+            String tableName,
+            StartupMode startupMode,
+            int changelogMaxBufferedRows) {
+        checkArgument(
+                changelogMaxBufferedRows > 0,
+                "The max buffered rows of changelog must be positive, but was %s.",
+                changelogMaxBufferedRows);
+        this.tiConf = checkNotNull(tiConf);
+        this.database = checkNotNull(database);
+        this.tableName = checkNotNull(tableName);
+        this.startupMode = checkNotNull(startupMode);
+        this.changelogMaxBufferedRows = changelogMaxBufferedRows;
+    }
+
+    public TiConfiguration getTiConf() {
+        return tiConf;
+    }
+
+    public String getDatabase() {
+        return database;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public StartupMode getStartupMode() {
+        return startupMode;
+    }
+
+    public int getChangelogMaxBufferedRows() {
+        return changelogMaxBufferedRows;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplit;
+
+import java.util.List;
+import java.util.Objects;
+
+/** The checkpoint state of {@link TiDBSourceEnumerator}. */
+public class TiDBSourceEnumState {
+
+    /** Whether the splits of the table have been generated. */
+    private final boolean splitsDiscovered;
+
+    /** The splits which have not been assigned to any reader. */
+    private final List<TiKVSplit> remainingSplits;
+
+    public TiDBSourceEnumState(boolean splitsDiscovered, List<TiKVSplit> remainingSplits) {
+        this.splitsDiscovered = splitsDiscovered;
+        this.remainingSplits = remainingSplits;
+    }
+
+    public boolean isSplitsDiscovered() {
+        return splitsDiscovered;
+    }
+
+    public List<TiKVSplit> getRemainingSplits() {
+        return remainingSplits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TiDBSourceEnumState that = (TiDBSourceEnumState) o;
+        return splitsDiscovered == that.splitsDiscovered
+                && Objects.equals(remainingSplits, that.remainingSplits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(splitsDiscovered, remainingSplits);
+    }
+
+    @Override
+    public String toString() {
+        return "TiDBSourceEnumState{"
+                + "splitsDiscovered="
+                + splitsDiscovered
+                + ", remainingSplits="
+                + remainingSplits
+                + '}';
+    }
+}
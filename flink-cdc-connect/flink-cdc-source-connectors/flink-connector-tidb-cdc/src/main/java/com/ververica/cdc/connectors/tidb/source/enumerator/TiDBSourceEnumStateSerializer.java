@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplit;
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplitSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/** A serializer for the {@link TiDBSourceEnumState}. */
+public class TiDBSourceEnumStateSerializer
+        implements SimpleVersionedSerializer<TiDBSourceEnumState> {
+
+    public static final TiDBSourceEnumStateSerializer INSTANCE =
+            new TiDBSourceEnumStateSerializer();
+
+    private static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(TiDBSourceEnumState state) throws IOException {
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        out.writeBoolean(state.isSplitsDiscovered());
+        out.writeInt(state.getRemainingSplits().size());
+        for (TiKVSplit split : state.getRemainingSplits()) {
+            TiKVSplitSerializer.serialize(split, out);
+        }
+        return out.getCopyOfBuffer();
+    }
+
+    @Override
+    public TiDBSourceEnumState deserialize(int version, byte[] serialized) throws IOException {
+        if (version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        final DataInputDeserializer in = new DataInputDeserializer(serialized);
+        final boolean splitsDiscovered = in.readBoolean();
+        final int size = in.readInt();
+        final List<TiKVSplit> remainingSplits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            remainingSplits.add(TiKVSplitSerializer.deserialize(in));
+        }
+        return new TiDBSourceEnumState(splitsDiscovered, remainingSplits);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.connector.source.SplitsAssignment;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplit;
+import com.ververica.cdc.connectors.tidb.table.StartupMode;
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.common.TiSession;
+import org.tikv.common.meta.TiTableInfo;
+import org.tikv.kvproto.Coprocessor;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The enumerator of the TiDB source. It splits the key range of the captured table by the TiKV
+ * regions it spans and spreads the splits evenly across the readers. Every split keeps reading the
+ * change events of its key range after the snapshot, so the splits are never finished.
+ */
+public class TiDBSourceEnumerator implements SplitEnumerator<TiKVSplit, TiDBSourceEnumState> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBSourceEnumerator.class);
+
+    private final SplitEnumeratorContext<TiKVSplit> context;
+    private final TiDBSourceConfig sourceConfig;
+    private final List<TiKVSplit> remainingSplits;
+
+    private boolean splitsDiscovered;
+    private int nextReaderIndex;
+
+    public TiDBSourceEnumerator(
+            SplitEnumeratorContext<TiKVSplit> context, TiDBSourceConfig sourceConfig) {
+        this(context, sourceConfig, new TiDBSourceEnumState(false, new ArrayList<>()));
+    }
+
+    public TiDBSourceEnumerator(
+            SplitEnumeratorContext<TiKVSplit> context,
+            TiDBSourceConfig sourceConfig,
+            TiDBSourceEnumState checkpoint) {
+        this.context = context;
+        this.sourceConfig = sourceConfig;
+        this.remainingSplits = new ArrayList<>(checkpoint.getRemainingSplits());
+        this.splitsDiscovered = checkpoint.isSplitsDiscovered();
+    }
+
+    @Override
+    public void start() {
+        if (!splitsDiscovered) {
+            context.callAsync(this::discoverSplits, this::handleDiscoveredSplits);
+        }
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId, @Nullable String requesterHostname) {
+        // the splits are pushed to the readers once they are registered
+    }
+
+    @Override
+    public void addSplitsBack(List<TiKVSplit> splits, int subtaskId) {
+        LOG.info("The enumerator adds splits back: {}", splits);
+        remainingSplits.addAll(splits);
+        assignSplits();
+    }
+
+    @Override
+    public void addReader(int subtaskId) {
+        assignSplits();
+    }
+
+    @Override
+    public TiDBSourceEnumState snapshotState(long checkpointId) {
+        return new TiDBSourceEnumState(splitsDiscovered, new ArrayList<>(remainingSplits));
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+
+    private List<TiKVSplit> discoverSplits() throws Exception {
+        final String database = sourceConfig.getDatabase();
+        final String tableName = sourceConfig.getTableName();
+        try (TiSession session = TiSession.create(sourceConfig.getTiConf())) {
+            final TiTableInfo tableInfo = session.getCatalog().getTable(database, tableName);
+            if (tableInfo == null) {
+                throw new FlinkRuntimeException(
+                        String.format("Table %s.%s does not exist.", database, tableName));
+            }
+            final long tableId = tableInfo.getId();
+            final List<Coprocessor.KeyRange> keyRanges =
+                    TableKeyRangeUtils.getTableRegionKeyRanges(session.getRegionManager(), tableId);
+            final boolean readSnapshot = sourceConfig.getStartupMode() == StartupMode.INITIAL;
+            final List<TiKVSplit> splits = new ArrayList<>(keyRanges.size());
+            for (int i = 0; i < keyRanges.size(); i++) {
+                final byte[] startKey = keyRanges.get(i).getStart().toByteArray();
+                final byte[] endKey = keyRanges.get(i).getEnd().toByteArray();
+                splits.add(
+                        new TiKVSplit(
+                                tableId + ":" + i,
+                                startKey,
+                                endKey,
+                                readSnapshot ? startKey : null,
+                                TiKVSplit.UNKNOWN_TS));
+            }
+            LOG.info(
+                    "Split table {}.{} into {} splits by its regions.",
+                    database,
+                    tableName,
+                    splits.size());
+            return splits;
+        }
+    }
+
+    private void handleDiscoveredSplits(List<TiKVSplit> splits, Throwable error) {
+        if (error != null) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Failed to discover the splits of table %s.%s.",
+                            sourceConfig.getDatabase(), sourceConfig.getTableName()),
+                    error);
+        }
+        remainingSplits.addAll(splits);
+        splitsDiscovered = true;
+        assignSplits();
+    }
+
+    /**
+     * Assigns the remaining splits to the readers in a round-robin fashion. The assignment waits
+     * until all the readers are registered, so that the splits are not piled up on the readers
+     * which happen to start first.
+     */
+    private void assignSplits() {
+        if (!splitsDiscovered || remainingSplits.isEmpty()) {
+            return;
+        }
+        if (context.registeredReaders().size() < context.currentParallelism()) {
+            return;
+        }
+        final List<Integer> readers = new ArrayList<>(context.registeredReaders().keySet());
+        Collections.sort(readers);
+        final Map<Integer, List<TiKVSplit>> assignment = new HashMap<>();
+        for (TiKVSplit split : remainingSplits) {
+            final int reader = readers.get(nextReaderIndex++ % readers.size());
+            assignment.computeIfAbsent(reader, r -> new ArrayList<>()).add(split);
+        }
+        LOG.info("Assign {} splits to {} readers.", remainingSplits.size(), readers.size());
+        context.assignSplits(new SplitsAssignment<>(assignment));
+        remainingSplits.clear();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.kvproto.Kvrpcpb;
+
+/**
+ * The element fetched by {@link TiKVSplitReader}, either a row of the snapshot, a committed change
+ * event row, or a marker that the change events have been resolved up to a timestamp.
+ */
+public final class TiKVRecord {
+
+    /** The kind of a {@link TiKVRecord}. */
+    public enum Kind {
+        SNAPSHOT_ROW,
+        CHANGE_ROW,
+        RESOLVED_TS
+    }
+
+    private final Kind kind;
+    private final Kvrpcpb.KvPair kvPair;
+    private final Cdcpb.Event.Row row;
+    private final long timestamp;
+
+    private TiKVRecord(Kind kind, Kvrpcpb.KvPair kvPair, Cdcpb.Event.Row row, long timestamp) {
+        this.kind = kind;
+        this.kvPair = kvPair;
+        this.row = row;
+        this.timestamp = timestamp;
+    }
+
+    public static TiKVRecord snapshotRow(Kvrpcpb.KvPair kvPair, long snapshotVersion) {
+        return new TiKVRecord(Kind.SNAPSHOT_ROW, kvPair, null, snapshotVersion);
+    }
+
+    public static TiKVRecord changeRow(Cdcpb.Event.Row row) {
+        return new TiKVRecord(Kind.CHANGE_ROW, null, row, -1L);
+    }
+
+    public static TiKVRecord resolvedTs(long resolvedTs) {
+        return new TiKVRecord(Kind.RESOLVED_TS, null, null, resolvedTs);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Kvrpcpb.KvPair getKvPair() {
+        return kvPair;
+    }
+
+    public Cdcpb.Event.Row getRow() {
+        return row;
+    }
+
+    /** Returns the snapshot version of a snapshot row or the timestamp of a resolved marker. */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
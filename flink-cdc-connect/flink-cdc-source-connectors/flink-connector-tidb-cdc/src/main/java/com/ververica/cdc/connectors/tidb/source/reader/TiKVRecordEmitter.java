@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.connectors.tidb.TiKVChangeEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.TiKVSnapshotEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplitState;
+
+/**
+ * The {@link RecordEmitter} of the TiDB source, which deserializes the fetched rows and updates the
+ * position of the split state.
+ */
+public class TiKVRecordEmitter<T> implements RecordEmitter<TiKVRecord, T, TiKVSplitState> {
+
+    private final TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema;
+    private final TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema;
+    private final OutputCollector<T> outputCollector;
+
+    public TiKVRecordEmitter(
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema,
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema) {
+        this.snapshotEventDeserializationSchema = snapshotEventDeserializationSchema;
+        this.changeEventDeserializationSchema = changeEventDeserializationSchema;
+        this.outputCollector = new OutputCollector<>();
+    }
+
+    @Override
+    public void emitRecord(TiKVRecord record, SourceOutput<T> output, TiKVSplitState splitState)
+            throws Exception {
+        outputCollector.output = output;
+        switch (record.getKind()) {
+            case SNAPSHOT_ROW:
+                snapshotEventDeserializationSchema.deserialize(
+                        record.getKvPair(), outputCollector);
+                splitState.setSnapshotPosition(record.getKvPair().getKey(), record.getTimestamp());
+                break;
+            case CHANGE_ROW:
+                changeEventDeserializationSchema.deserialize(record.getRow(), outputCollector);
+                break;
+            case RESOLVED_TS:
+                splitState.setResolvedTs(record.getTimestamp());
+                break;
+            default:
+                throw new IllegalStateException("Unknown record kind: " + record.getKind());
+        }
+    }
+
+    private static class OutputCollector<T> implements Collector<T> {
+
+        private SourceOutput<T> output;
+
+        @Override
+        public void collect(T record) {
+            output.collect(record);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+}
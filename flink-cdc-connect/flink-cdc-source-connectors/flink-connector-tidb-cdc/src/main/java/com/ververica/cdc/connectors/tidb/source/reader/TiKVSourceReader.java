@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.SingleThreadMultiplexSourceReaderBase;
+import org.apache.flink.connector.base.source.reader.fetcher.SingleThreadFetcherManager;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplit;
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplitState;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/** The source reader of the TiDB source. The assigned splits are never finished. */
+public class TiKVSourceReader<T>
+        extends SingleThreadMultiplexSourceReaderBase<TiKVRecord, T, TiKVSplit, TiKVSplitState> {
+
+    public TiKVSourceReader(
+            FutureCompletingBlockingQueue<RecordsWithSplitIds<TiKVRecord>> elementQueue,
+            Supplier<SplitReader<TiKVRecord, TiKVSplit>> splitReaderSupplier,
+            RecordEmitter<TiKVRecord, T, TiKVSplitState> recordEmitter,
+            Configuration config,
+            SourceReaderContext context) {
+        super(
+                elementQueue,
+                new SingleThreadFetcherManager<>(elementQueue, splitReaderSupplier),
+                recordEmitter,
+                config,
+                context);
+    }
+
+    @Override
+    protected void onSplitFinished(Map<String, TiKVSplitState> finishedSplitIds) {
+        // the splits keep reading the change events and are never finished
+    }
+
+    @Override
+    protected TiKVSplitState initializedState(TiKVSplit split) {
+        return new TiKVSplitState(split);
+    }
+
+    @Override
+    protected TiKVSplit toSplitType(String splitId, TiKVSplitState splitState) {
+        return splitState.toTiKVSplit();
+    }
+}
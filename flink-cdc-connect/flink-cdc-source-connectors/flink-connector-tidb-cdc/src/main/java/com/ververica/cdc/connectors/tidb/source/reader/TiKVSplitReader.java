@@ -0,0 +1,294 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.connector.base.source.reader.RecordsBySplits;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.tidb.TDBSourceOptions;
+import com.ververica.cdc.connectors.tidb.source.config.TiDBSourceConfig;
+import com.ververica.cdc.connectors.tidb.source.split.TiKVSplit;
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.cdc.CDCClient;
+import org.tikv.common.TiSession;
+import org.tikv.common.key.Key;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.kvproto.Coprocessor;
+import org.tikv.kvproto.Kvrpcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+import org.tikv.txn.KVClient;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The {@link SplitReader} of the TiDB source. It scans the snapshot of the assigned splits one by
+ * one, and reads the change events of every split whose snapshot is finished with a {@link
+ * CDCClient} of its own key range.
+ *
+ * <p>The prewrite and commit rows of a split are kept in a {@link TiKVTransactionBuffer} until the
+ * resolved timestamp of the split passes their commit timestamp. The total number of buffered rows
+ * is bounded by {@link TiDBSourceConfig#getChangelogMaxBufferedRows()}, the reader fails when a
+ * long transaction exceeds it instead of running out of memory.
+ */
+public class TiKVSplitReader implements SplitReader<TiKVRecord, TiKVSplit> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiKVSplitReader.class);
+
+    /** The max number of change event rows read from a split in one fetch. */
+    private static final int MAX_ROWS_PER_FETCH = 1000;
+
+    /** The max time to wait for new change events when the last fetch read nothing. */
+    private static final long IDLE_WAIT_MILLIS = 100L;
+
+    private final TiDBSourceConfig sourceConfig;
+    private final int subtaskId;
+    private final TiSession session;
+    private final Object wakeUpLock = new Object();
+
+    /** The splits whose snapshot is being read, in the assigned order. */
+    private final Deque<SplitContext> snapshotSplits = new ArrayDeque<>();
+
+    /** The splits which should start reading change events in the next fetch. */
+    private final Deque<SplitContext> pendingStreamSplits = new ArrayDeque<>();
+
+    /** The splits which are reading change events. */
+    private final List<SplitContext> streamSplits = new ArrayList<>();
+
+    @Nullable private KVClient scanClient;
+    private boolean wakenUp;
+
+    public TiKVSplitReader(TiDBSourceConfig sourceConfig, int subtaskId) {
+        this.sourceConfig = sourceConfig;
+        this.subtaskId = subtaskId;
+        this.session = TiSession.create(sourceConfig.getTiConf());
+    }
+
+    @Override
+    public RecordsWithSplitIds<TiKVRecord> fetch() throws IOException {
+        final RecordsBySplits.Builder<TiKVRecord> records = new RecordsBySplits.Builder<>();
+        boolean hasProgress = false;
+        try {
+            while (!pendingStreamSplits.isEmpty()) {
+                startReadingChangeEvents(pendingStreamSplits.poll(), records);
+                hasProgress = true;
+            }
+            final SplitContext snapshotSplit = snapshotSplits.peek();
+            if (snapshotSplit != null) {
+                if (!readSnapshot(snapshotSplit, records)) {
+                    snapshotSplits.poll();
+                    startReadingChangeEvents(snapshotSplit, records);
+                }
+                hasProgress = true;
+            }
+            for (SplitContext streamSplit : streamSplits) {
+                hasProgress |= readChangeEvents(streamSplit, records);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching the TiKV change events.", e);
+        }
+        checkBufferedRows();
+        if (!hasProgress) {
+            waitForChangeEvents();
+        }
+        return records.build();
+    }
+
+    @Override
+    public void handleSplitsChanges(SplitsChange<TiKVSplit> splitsChanges) {
+        if (!(splitsChanges instanceof SplitsAddition)) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "The SplitChange type of %s is not supported.",
+                            splitsChanges.getClass()));
+        }
+        for (TiKVSplit split : splitsChanges.splits()) {
+            LOG.info("Subtask {} is assigned split {}.", subtaskId, split);
+            final SplitContext context = new SplitContext(split);
+            if (split.isSnapshotFinished()) {
+                pendingStreamSplits.add(context);
+            } else {
+                snapshotSplits.add(context);
+            }
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        synchronized (wakeUpLock) {
+            wakenUp = true;
+            wakeUpLock.notifyAll();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (SplitContext streamSplit : streamSplits) {
+            streamSplit.cdcClient.close();
+        }
+        streamSplits.clear();
+        if (scanClient != null) {
+            scanClient.close();
+            scanClient = null;
+        }
+        session.close();
+    }
+
+    /**
+     * Scans the next batch of the snapshot of the split, returns false if the snapshot has been
+     * finished.
+     */
+    private boolean readSnapshot(SplitContext split, RecordsBySplits.Builder<TiKVRecord> records) {
+        if (split.startTs == TiKVSplit.UNKNOWN_TS) {
+            split.startTs = session.getTimestamp().getVersion();
+            LOG.info("Read the snapshot of split {} at version {}.", split.splitId, split.startTs);
+        }
+        final List<Kvrpcpb.KvPair> segment =
+                getScanClient().scan(split.snapshotKey, split.keyRange.getEnd(), split.startTs);
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (Kvrpcpb.KvPair pair : segment) {
+            if (TableKeyRangeUtils.isRecordKey(pair.getKey().toByteArray())) {
+                records.add(split.splitId, TiKVRecord.snapshotRow(pair, split.startTs));
+            }
+        }
+        split.snapshotKey =
+                Key.toRawKey(segment.get(segment.size() - 1).getKey()).next().toByteString();
+        return true;
+    }
+
+    private void startReadingChangeEvents(
+            SplitContext split, RecordsBySplits.Builder<TiKVRecord> records) {
+        if (split.startTs == TiKVSplit.UNKNOWN_TS) {
+            split.startTs = session.getTimestamp().getVersion();
+        }
+        LOG.info("Read the change events of split {} from {}.", split.splitId, split.startTs);
+        split.cdcClient = new CDCClient(session, split.keyRange);
+        split.cdcClient.start(split.startTs);
+        split.resolvedTs = split.startTs;
+        // marks the snapshot of the split as finished in the split state
+        records.add(split.splitId, TiKVRecord.resolvedTs(split.startTs));
+        streamSplits.add(split);
+    }
+
+    /**
+     * Reads the change events of the split, and emits the rows committed before the resolved
+     * timestamp of the split. Returns whether any change event has been read.
+     */
+    private boolean readChangeEvents(
+            SplitContext split, RecordsBySplits.Builder<TiKVRecord> records)
+            throws InterruptedException {
+        boolean hasEvents = false;
+        for (int i = 0; i < MAX_ROWS_PER_FETCH; i++) {
+            final Cdcpb.Event.Row row = split.cdcClient.get();
+            if (row == null) {
+                break;
+            }
+            split.buffer.handleRow(row);
+            hasEvents = true;
+        }
+        // only the rows committed before the resolved timestamp of all the regions are complete
+        final long resolvedTs = split.cdcClient.getMinResolvedTs();
+        if (resolvedTs > split.resolvedTs) {
+            split.buffer.pollCommittedRows(
+                    resolvedTs, row -> records.add(split.splitId, TiKVRecord.changeRow(row)));
+            records.add(split.splitId, TiKVRecord.resolvedTs(resolvedTs));
+            split.resolvedTs = resolvedTs;
+            hasEvents = true;
+        }
+        return hasEvents;
+    }
+
+    private void checkBufferedRows() {
+        long bufferedRows = 0;
+        for (SplitContext streamSplit : streamSplits) {
+            bufferedRows += streamSplit.buffer.size();
+        }
+        if (bufferedRows > sourceConfig.getChangelogMaxBufferedRows()) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "The source reader of subtask %s has buffered %s uncommitted or "
+                                    + "unresolved change event rows, which exceeds the limit of "
+                                    + "%s. This usually happens when a large transaction is "
+                                    + "running on the captured table, please increase the limit "
+                                    + "by option '%s' if the memory allows.",
+                            subtaskId,
+                            bufferedRows,
+                            sourceConfig.getChangelogMaxBufferedRows(),
+                            TDBSourceOptions.SCAN_CHANGELOG_MAX_BUFFERED_ROWS.key()));
+        }
+    }
+
+    private void waitForChangeEvents() throws IOException {
+        synchronized (wakeUpLock) {
+            try {
+                if (!wakenUp) {
+                    wakeUpLock.wait(IDLE_WAIT_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the TiKV change events.", e);
+            } finally {
+                wakenUp = false;
+            }
+        }
+    }
+
+    private KVClient getScanClient() {
+        if (scanClient == null) {
+            scanClient = session.createKVClient();
+        }
+        return scanClient;
+    }
+
+    /** The reading context of an assigned split. */
+    private static class SplitContext {
+        private final String splitId;
+        private final Coprocessor.KeyRange keyRange;
+        private final TiKVTransactionBuffer buffer;
+
+        @Nullable private ByteString snapshotKey;
+        private long startTs;
+        private long resolvedTs;
+        private CDCClient cdcClient;
+
+        private SplitContext(TiKVSplit split) {
+            this.splitId = split.splitId();
+            this.keyRange = split.getKeyRange();
+            this.buffer = new TiKVTransactionBuffer();
+            this.snapshotKey =
+                    split.getSnapshotKey() == null
+                            ? null
+                            : ByteString.copyFrom(split.getSnapshotKey());
+            this.startTs = split.getStartTs();
+            this.resolvedTs = TiKVSplit.UNKNOWN_TS;
+        }
+    }
+}
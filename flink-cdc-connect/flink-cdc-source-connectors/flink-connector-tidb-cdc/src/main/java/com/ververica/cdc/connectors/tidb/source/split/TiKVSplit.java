@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.split;
+
+import org.apache.flink.api.connector.source.SourceSplit;
+
+import org.tikv.common.util.KeyRangeUtils;
+import org.tikv.kvproto.Coprocessor;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A split of the TiDB source, which covers a key range of the captured table. The enumerator splits
+ * the table by the TiKV regions, the split reader first scans the snapshot of the key range and
+ * then reads the change events of it.
+ */
+public class TiKVSplit implements SourceSplit {
+
+    /** The timestamp of a split which has not determined its start version yet. */
+    public static final long UNKNOWN_TS = -1L;
+
+    private final String splitId;
+    private final byte[] startKey;
+    private final byte[] endKey;
+
+    /** The key to continue the snapshot scan from, null if the snapshot is finished or skipped. */
+    @Nullable private final byte[] snapshotKey;
+
+    /**
+     * The version to read the split from. It is the snapshot version while the snapshot is being
+     * read, and the resolved timestamp of the change events afterwards.
+     */
+    private final long startTs;
+
+    public TiKVSplit(
+            String splitId,
+            byte[] startKey,
+            byte[] endKey,
+            @Nullable byte[] snapshotKey,
+            long startTs) {
+        this.splitId = splitId;
+        this.startKey = startKey;
+        this.endKey = endKey;
+        this.snapshotKey = snapshotKey;
+        this.startTs = startTs;
+    }
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+
+    public byte[] getStartKey() {
+        return startKey;
+    }
+
+    public byte[] getEndKey() {
+        return endKey;
+    }
+
+    @Nullable
+    public byte[] getSnapshotKey() {
+        return snapshotKey;
+    }
+
+    public long getStartTs() {
+        return startTs;
+    }
+
+    public boolean isSnapshotFinished() {
+        return snapshotKey == null;
+    }
+
+    public Coprocessor.KeyRange getKeyRange() {
+        return KeyRangeUtils.makeCoprocRange(
+                ByteString.copyFrom(startKey), ByteString.copyFrom(endKey));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TiKVSplit that = (TiKVSplit) o;
+        return startTs == that.startTs
+                && Objects.equals(splitId, that.splitId)
+                && Arrays.equals(startKey, that.startKey)
+                && Arrays.equals(endKey, that.endKey)
+                && Arrays.equals(snapshotKey, that.snapshotKey);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(splitId, startTs);
+        result = 31 * result + Arrays.hashCode(startKey);
+        result = 31 * result + Arrays.hashCode(endKey);
+        result = 31 * result + Arrays.hashCode(snapshotKey);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TiKVSplit{"
+                + "splitId='"
+                + splitId
+                + '\''
+                + ", snapshotFinished="
+                + isSnapshotFinished()
+                + ", startTs="
+                + startTs
+                + '}';
+    }
+}
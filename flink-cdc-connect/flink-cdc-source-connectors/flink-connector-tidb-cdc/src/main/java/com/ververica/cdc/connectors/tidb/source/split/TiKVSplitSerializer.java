@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.split;
+
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+
+/** A serializer for the {@link TiKVSplit}. */
+public final class TiKVSplitSerializer implements SimpleVersionedSerializer<TiKVSplit> {
+
+    public static final TiKVSplitSerializer INSTANCE = new TiKVSplitSerializer();
+
+    private static final int VERSION = 1;
+    private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
+            ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(TiKVSplit split) throws IOException {
+        final DataOutputSerializer out = SERIALIZER_CACHE.get();
+        serialize(split, out);
+        final byte[] result = out.getCopyOfBuffer();
+        out.clear();
+        return result;
+    }
+
+    @Override
+    public TiKVSplit deserialize(int version, byte[] serialized) throws IOException {
+        if (version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        return deserialize(new DataInputDeserializer(serialized));
+    }
+
+    public static void serialize(TiKVSplit split, DataOutputView out) throws IOException {
+        out.writeUTF(split.splitId());
+        writeBytes(split.getStartKey(), out);
+        writeBytes(split.getEndKey(), out);
+        final byte[] snapshotKey = split.getSnapshotKey();
+        out.writeBoolean(snapshotKey != null);
+        if (snapshotKey != null) {
+            writeBytes(snapshotKey, out);
+        }
+        out.writeLong(split.getStartTs());
+    }
+
+    public static TiKVSplit deserialize(DataInputView in) throws IOException {
+        final String splitId = in.readUTF();
+        final byte[] startKey = readBytes(in);
+        final byte[] endKey = readBytes(in);
+        final byte[] snapshotKey = in.readBoolean() ? readBytes(in) : null;
+        final long startTs = in.readLong();
+        return new TiKVSplit(splitId, startKey, endKey, snapshotKey, startTs);
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputView out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputView in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
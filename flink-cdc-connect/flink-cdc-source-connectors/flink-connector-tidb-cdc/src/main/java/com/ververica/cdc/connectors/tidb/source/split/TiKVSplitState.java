@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.split;
+
+import org.tikv.common.key.Key;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import javax.annotation.Nullable;
+
+/** The mutable state of a {@link TiKVSplit}, updated by the emitted records of the split. */
+public class TiKVSplitState {
+
+    private final TiKVSplit split;
+
+    private boolean snapshotFinished;
+    private long startTs;
+
+    /** The key of the last emitted snapshot row, null if no snapshot row has been emitted. */
+    @Nullable private ByteString lastSnapshotKey;
+
+    public TiKVSplitState(TiKVSplit split) {
+        this.split = split;
+        this.snapshotFinished = split.isSnapshotFinished();
+        this.startTs = split.getStartTs();
+    }
+
+    /** Records that the snapshot row of the given key has been emitted. */
+    public void setSnapshotPosition(ByteString key, long snapshotVersion) {
+        this.lastSnapshotKey = key;
+        this.startTs = snapshotVersion;
+    }
+
+    /** Records that all the change events before the given timestamp have been emitted. */
+    public void setResolvedTs(long resolvedTs) {
+        this.snapshotFinished = true;
+        this.startTs = resolvedTs;
+    }
+
+    public TiKVSplit toTiKVSplit() {
+        final byte[] snapshotKey;
+        if (snapshotFinished) {
+            snapshotKey = null;
+        } else if (lastSnapshotKey == null) {
+            snapshotKey = split.getSnapshotKey();
+        } else {
+            snapshotKey = Key.toRawKey(lastSnapshotKey).next().getBytes();
+        }
+        return new TiKVSplit(
+                split.splitId(), split.getStartKey(), split.getEndKey(), snapshotKey, startTs);
+    }
+
+    @Override
+    public String toString() {
+        return "TiKVSplitState{"
+                + "splitId='"
+                + split.splitId()
+                + '\''
+                + ", snapshotFinished="
+                + snapshotFinished
+                + ", startTs="
+                + startTs
+                + '}';
+    }
+}
@@ -21,7 +21,7 @@ import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
-import org.apache.flink.table.connector.source.SourceFunctionProvider;
+import org.apache.flink.table.connector.source.SourceProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -29,7 +29,8 @@ import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.RowKind;
 
 import com.ververica.cdc.connectors.tidb.TDBSourceOptions;
-import com.ververica.cdc.connectors.tidb.TiDBSource;
+import com.ververica.cdc.connectors.tidb.source.TiDBSource;
+import com.ververica.cdc.connectors.tidb.source.TiDBSourceBuilder;
 import org.tikv.common.TiConfiguration;
 
 import java.util.Collections;
@@ -52,6 +53,7 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
     private final String tableName;
     private final String pdAddresses;
     private final StartupOptions startupOptions;
+    private final int changelogMaxBufferedRows;
     private final Map<String, String> options;
 
     // --------------------------------------------------------------------------------------------
@@ -70,12 +72,14 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
             String tableName,
             String pdAddresses,
             StartupOptions startupOptions,
+            int changelogMaxBufferedRows,
             Map<String, String> options) {
         this.physicalSchema = physicalSchema;
         this.database = checkNotNull(database);
         this.tableName = checkNotNull(tableName);
         this.pdAddresses = checkNotNull(pdAddresses);
         this.startupOptions = startupOptions;
+        this.changelogMaxBufferedRows = changelogMaxBufferedRows;
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.options = options;
         this.metadataKeys = Collections.emptyList();
@@ -116,22 +120,29 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                         metadataConverters,
                         physicalDataType);
 
-        TiDBSource.Builder<RowData> builder =
+        TiDBSourceBuilder<RowData> builder =
                 TiDBSource.<RowData>builder()
                         .database(database)
                         .tableName(tableName)
                         .startupOptions(startupOptions)
                         .tiConf(tiConf)
+                        .changelogMaxBufferedRows(changelogMaxBufferedRows)
                         .snapshotEventDeserializer(snapshotEventDeserializationSchema)
                         .changeEventDeserializer(changeEventDeserializationSchema);
-        return SourceFunctionProvider.of(builder.build(), false);
+        return SourceProvider.of(builder.build());
     }
 
     @Override
     public DynamicTableSource copy() {
         TiDBTableSource source =
                 new TiDBTableSource(
-                        physicalSchema, database, tableName, pdAddresses, startupOptions, options);
+                        physicalSchema,
+                        database,
+                        tableName,
+                        pdAddresses,
+                        startupOptions,
+                        changelogMaxBufferedRows,
+                        options);
         source.producedDataType = producedDataType;
         source.metadataKeys = metadataKeys;
         return source;
@@ -169,6 +180,7 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                 && Objects.equals(tableName, that.tableName)
                 && Objects.equals(pdAddresses, that.pdAddresses)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && changelogMaxBufferedRows == that.changelogMaxBufferedRows
                 && Objects.equals(options, that.options)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys);
@@ -182,6 +194,7 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                 tableName,
                 pdAddresses,
                 startupOptions,
+                changelogMaxBufferedRows,
                 options,
                 producedDataType,
                 metadataKeys);
@@ -34,6 +34,7 @@ import java.util.Set;
 
 import static com.ververica.cdc.connectors.tidb.TDBSourceOptions.DATABASE_NAME;
 import static com.ververica.cdc.connectors.tidb.TDBSourceOptions.PD_ADDRESSES;
+import static com.ververica.cdc.connectors.tidb.TDBSourceOptions.SCAN_CHANGELOG_MAX_BUFFERED_ROWS;
 import static com.ververica.cdc.connectors.tidb.TDBSourceOptions.SCAN_STARTUP_MODE;
 import static com.ververica.cdc.connectors.tidb.TDBSourceOptions.TABLE_NAME;
 import static com.ververica.cdc.connectors.tidb.TDBSourceOptions.TIKV_BATCH_GET_CONCURRENCY;
@@ -57,6 +58,7 @@ public class TiDBTableSourceFactory implements DynamicTableSourceFactory {
         String tableName = config.get(TABLE_NAME);
         String pdAddresses = config.get(PD_ADDRESSES);
         StartupOptions startupOptions = getStartupOptions(config);
+        int changelogMaxBufferedRows = config.get(SCAN_CHANGELOG_MAX_BUFFERED_ROWS);
         ResolvedSchema physicalSchema =
                 getPhysicalSchema(context.getCatalogTable().getResolvedSchema());
 
@@ -68,6 +70,7 @@ public class TiDBTableSourceFactory implements DynamicTableSourceFactory {
                 tableName,
                 pdAddresses,
                 startupOptions,
+                changelogMaxBufferedRows,
                 TiKVOptions.getTiKVOptions(context.getCatalogTable().getOptions()));
     }
 
@@ -89,6 +92,7 @@ public class TiDBTableSourceFactory implements DynamicTableSourceFactory {
     public Set<ConfigOption<?>> optionalOptions() {
         Set<ConfigOption<?>> options = new HashSet<>();
         options.add(SCAN_STARTUP_MODE);
+        options.add(SCAN_CHANGELOG_MAX_BUFFERED_ROWS);
         options.add(TIKV_GRPC_TIMEOUT);
         options.add(TIKV_GRPC_SCAN_TIMEOUT);
         options.add(TIKV_BATCH_GET_CONCURRENCY);
@@ -21,11 +21,15 @@ import org.apache.flink.util.Preconditions;
 import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableList;
 
 import org.tikv.common.key.RowKey;
+import org.tikv.common.region.RegionManager;
 import org.tikv.common.util.KeyRangeUtils;
+import org.tikv.common.util.RangeSplitter;
 import org.tikv.kvproto.Coprocessor.KeyRange;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /** Utils to obtain the keyRange of table. */
 public class TableKeyRangeUtils {
@@ -68,6 +72,16 @@ public class TableKeyRangeUtils {
         return getTableKeyRanges(tableId, num).get(idx);
     }
 
+    /** Splits the key range of the table by the boundaries of the regions it currently spans. */
+    public static List<KeyRange> getTableRegionKeyRanges(
+            final RegionManager regionManager, final long tableId) {
+        return RangeSplitter.newSplitter(regionManager)
+                .splitRangeByRegion(Collections.singletonList(getTableKeyRange(tableId)))
+                .stream()
+                .flatMap(task -> task.getRanges().stream())
+                .collect(Collectors.toList());
+    }
+
     public static boolean isRecordKey(final byte[] key) {
         return key[9] == '_' && key[10] == 'r';
     }
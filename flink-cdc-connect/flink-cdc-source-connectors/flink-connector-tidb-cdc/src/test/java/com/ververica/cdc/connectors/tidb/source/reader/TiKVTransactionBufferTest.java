@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.junit.Test;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link TiKVTransactionBuffer}. */
+public class TiKVTransactionBufferTest {
+
+    private static final long TABLE_ID = 42L;
+
+    @Test
+    public void testReleaseCommittedRowsInCommitOrder() {
+        TiKVTransactionBuffer buffer = new TiKVTransactionBuffer();
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.PREWRITE, 1L, 10L, 0L, "a"));
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.PREWRITE, 2L, 11L, 0L, "b"));
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.PREWRITE, 3L, 12L, 0L, "c"));
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.COMMIT, 2L, 11L, 15L, ""));
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.COMMIT, 1L, 10L, 20L, ""));
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.ROLLBACK, 3L, 12L, 0L, ""));
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.COMMITTED, 4L, 13L, 30L, "d"));
+        assertEquals(6, buffer.size());
+
+        assertEquals(Arrays.asList("b", "a"), pollCommittedValues(buffer, 20L));
+        assertEquals(2, buffer.size());
+        assertTrue(buffer.hasCommittedRows());
+
+        assertEquals(Arrays.asList("d"), pollCommittedValues(buffer, 30L));
+        assertEquals(0, buffer.size());
+        assertFalse(buffer.hasCommittedRows());
+    }
+
+    @Test
+    public void testKeepUnresolvedRows() {
+        TiKVTransactionBuffer buffer = new TiKVTransactionBuffer();
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.PREWRITE, 1L, 10L, 0L, "a"));
+        buffer.handleRow(createRow(Cdcpb.Event.LogType.COMMIT, 1L, 10L, 20L, ""));
+
+        assertTrue(pollCommittedValues(buffer, 19L).isEmpty());
+        assertEquals(2, buffer.size());
+        assertEquals(Arrays.asList("a"), pollCommittedValues(buffer, 20L));
+    }
+
+    private static List<String> pollCommittedValues(TiKVTransactionBuffer buffer, long resolvedTs) {
+        List<String> values = new ArrayList<>();
+        buffer.pollCommittedRows(resolvedTs, row -> values.add(row.getValue().toStringUtf8()));
+        return values;
+    }
+
+    private static Cdcpb.Event.Row createRow(
+            Cdcpb.Event.LogType type, long handle, long startTs, long commitTs, String value) {
+        return Cdcpb.Event.Row.newBuilder()
+                .setType(type)
+                .setKey(RowKey.toRowKey(TABLE_ID, handle).toByteString())
+                .setStartTs(startTs)
+                .setCommitTs(commitTs)
+                .setValue(ByteString.copyFromUtf8(value))
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.split;
+
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumState;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumStateSerializer;
+import org.junit.Test;
+import org.tikv.common.key.RowKey;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link TiKVSplitSerializer}, {@link TiKVSplitState} and the enumerator state. */
+public class TiKVSplitSerializerTest {
+
+    private static final long TABLE_ID = 42L;
+
+    @Test
+    public void testSnapshotSplitSerde() throws Exception {
+        TiKVSplit split = createSplit("42:0", 0L, 100L, true, TiKVSplit.UNKNOWN_TS);
+        assertEquals(split, serdeSplit(split));
+    }
+
+    @Test
+    public void testStreamSplitSerde() throws Exception {
+        TiKVSplit split = createSplit("42:1", 100L, 200L, false, 446322131574358017L);
+        assertEquals(split, serdeSplit(split));
+    }
+
+    @Test
+    public void testEnumStateSerde() throws Exception {
+        TiDBSourceEnumState state =
+                new TiDBSourceEnumState(
+                        true,
+                        Arrays.asList(
+                                createSplit("42:0", 0L, 100L, true, TiKVSplit.UNKNOWN_TS),
+                                createSplit("42:1", 100L, 200L, false, 1024L)));
+        TiDBSourceEnumStateSerializer serializer = TiDBSourceEnumStateSerializer.INSTANCE;
+        assertEquals(
+                state,
+                serializer.deserialize(serializer.getVersion(), serializer.serialize(state)));
+    }
+
+    @Test
+    public void testSplitStateTracksSnapshotPosition() throws Exception {
+        TiKVSplit split = createSplit("42:0", 0L, 100L, true, TiKVSplit.UNKNOWN_TS);
+        TiKVSplitState state = new TiKVSplitState(split);
+        assertEquals(split, state.toTiKVSplit());
+
+        ByteString lastKey = RowKey.toRowKey(TABLE_ID, 10L).toByteString();
+        state.setSnapshotPosition(lastKey, 1000L);
+        TiKVSplit restored = serdeSplit(state.toTiKVSplit());
+        assertFalse(restored.isSnapshotFinished());
+        assertEquals(1000L, restored.getStartTs());
+        assertArrayEquals(RowKey.toRawKey(lastKey).next().getBytes(), restored.getSnapshotKey());
+
+        state.setResolvedTs(2000L);
+        restored = serdeSplit(state.toTiKVSplit());
+        assertTrue(restored.isSnapshotFinished());
+        assertEquals(2000L, restored.getStartTs());
+        assertArrayEquals(split.getStartKey(), restored.getStartKey());
+        assertArrayEquals(split.getEndKey(), restored.getEndKey());
+    }
+
+    private static TiKVSplit createSplit(
+            String splitId, long startHandle, long endHandle, boolean readSnapshot, long startTs) {
+        byte[] startKey = RowKey.toRowKey(TABLE_ID, startHandle).getBytes();
+        byte[] endKey = RowKey.toRowKey(TABLE_ID, endHandle).getBytes();
+        return new TiKVSplit(splitId, startKey, endKey, readSnapshot ? startKey : null, startTs);
+    }
+
+    private static TiKVSplit serdeSplit(TiKVSplit split) throws Exception {
+        TiKVSplitSerializer serializer = TiKVSplitSerializer.INSTANCE;
+        return serializer.deserialize(serializer.getVersion(), serializer.serialize(split));
+    }
+}
@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.ververica.cdc.connectors.tidb.TDBSourceOptions.SCAN_CHANGELOG_MAX_BUFFERED_ROWS;
 import static org.junit.Assert.assertEquals;
 
 /** Unit tests for TiDB table source factory. */
@@ -85,6 +86,7 @@ public class TiDBTableSourceFactoryTest {
                         MY_TABLE,
                         PD_ADDRESS,
                         StartupOptions.latest(),
+                        SCAN_CHANGELOG_MAX_BUFFERED_ROWS.defaultValue(),
                         OPTIONS);
         assertEquals(expectedSource, actualSource);
     }
@@ -98,6 +100,7 @@ public class TiDBTableSourceFactoryTest {
         properties.put("tikv.batch_put_concurrency", "4");
         properties.put("tikv.batch_scan_concurrency", "4");
         properties.put("tikv.batch_delete_concurrency", "4");
+        properties.put("scan.changelog.max-buffered-rows", "1000");
 
         // validation for source
         DynamicTableSource actualSource = createTableSource(properties);
@@ -115,6 +118,7 @@ public class TiDBTableSourceFactoryTest {
                         MY_TABLE,
                         PD_ADDRESS,
                         StartupOptions.latest(),
+                        1000,
                         options);
         assertEquals(expectedSource, actualSource);
     }
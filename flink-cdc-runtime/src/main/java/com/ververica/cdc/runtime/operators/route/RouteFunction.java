@@ -20,6 +20,10 @@ import org.apache.flink.api.common.functions.RichMapFunction;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.configuration.Configuration;
 
+import org.apache.flink.shaded.guava31.com.google.common.cache.CacheBuilder;
+import org.apache.flink.shaded.guava31.com.google.common.cache.CacheLoader;
+import org.apache.flink.shaded.guava31.com.google.common.cache.LoadingCache;
+
 import com.ververica.cdc.common.event.AddColumnEvent;
 import com.ververica.cdc.common.event.AlterColumnTypeEvent;
 import com.ververica.cdc.common.event.ChangeEvent;
@@ -34,14 +38,24 @@ import com.ververica.cdc.common.schema.Selectors;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.ververica.cdc.common.utils.Preconditions.checkState;
 
-/** A map function that applies user-defined routing logics. */
+/**
+ * A map function that applies user-defined routing logics.
+ *
+ * <p>The route of a table is resolved once and cached by its {@link TableId}, the cache is created
+ * along with the routes in {@link #open(Configuration)} as the routing rules never change after the
+ * function is built.
+ */
 public class RouteFunction extends RichMapFunction<Event, Event> {
+    private static final long ROUTE_CACHE_MAX_SIZE = 100_000L;
+
     private final List<Tuple2<String, TableId>> routingRules;
     private transient List<Tuple2<Selectors, TableId>> routes;
+    private transient LoadingCache<TableId, Optional<TableId>> cachedRoutes;
 
     public static Builder newBuilder() {
         return new Builder();
@@ -80,6 +94,7 @@ public class RouteFunction extends RichMapFunction<Event, Event> {
                                     return new Tuple2<>(selectors, replaceBy);
                                 })
                         .collect(Collectors.toList());
+        cachedRoutes = createCache();
     }
 
     @Override
@@ -90,16 +105,34 @@ public class RouteFunction extends RichMapFunction<Event, Event> {
                         "The input event of the route is not a ChangeEvent but with type \"%s\"",
                         event.getClass().getCanonicalName()));
         ChangeEvent changeEvent = (ChangeEvent) event;
-        TableId tableId = changeEvent.tableId();
+        Optional<TableId> replaceBy = cachedRoutes.get(changeEvent.tableId());
+        if (replaceBy.isPresent()) {
+            return recreateChangeEvent(changeEvent, replaceBy.get());
+        }
+        return event;
+    }
 
+    private Optional<TableId> resolveRoute(TableId tableId) {
         for (Tuple2<Selectors, TableId> route : routes) {
             Selectors selectors = route.f0;
             TableId replaceBy = route.f1;
             if (selectors.isMatch(tableId)) {
-                return recreateChangeEvent(changeEvent, replaceBy);
+                return Optional.of(replaceBy);
             }
         }
-        return event;
+        return Optional.empty();
+    }
+
+    private LoadingCache<TableId, Optional<TableId>> createCache() {
+        return CacheBuilder.newBuilder()
+                .maximumSize(ROUTE_CACHE_MAX_SIZE)
+                .build(
+                        new CacheLoader<TableId, Optional<TableId>>() {
+                            @Override
+                            public Optional<TableId> load(TableId key) {
+                                return resolveRoute(key);
+                            }
+                        });
     }
 
     private ChangeEvent recreateChangeEvent(ChangeEvent event, TableId tableId) {
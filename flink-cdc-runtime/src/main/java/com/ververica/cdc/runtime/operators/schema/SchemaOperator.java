@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.runtime.operators.schema;
 
+import org.apache.flink.api.common.operators.MailboxExecutor;
 import org.apache.flink.runtime.jobgraph.tasks.TaskOperatorEventGateway;
 import org.apache.flink.runtime.operators.coordination.CoordinationRequest;
 import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
@@ -29,6 +30,7 @@ import org.apache.flink.streaming.runtime.tasks.StreamTask;
 import org.apache.flink.util.SerializedValue;
 
 import com.ververica.cdc.common.annotation.Internal;
+import com.ververica.cdc.common.event.ChangeEvent;
 import com.ververica.cdc.common.event.Event;
 import com.ververica.cdc.common.event.FlushEvent;
 import com.ververica.cdc.common.event.SchemaChangeEvent;
@@ -42,11 +44,28 @@ import com.ververica.cdc.runtime.operators.schema.event.SchemaChangeResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * The operator will evolve schemas in {@link SchemaRegistry} for incoming {@link
  * SchemaChangeEvent}s and block the stream for tables before their schema changes finish.
+ *
+ * <p>Only the table under schema evolution is blocked: its events are buffered in the operator
+ * until the schema change has been applied, while the events of other tables are forwarded as
+ * usual. Responses from {@link SchemaRegistry} are handled in the mailbox thread of the task.
+ *
+ * <p>Consecutive schema changes of a table are sent to {@link SchemaRegistry} in one request to be
+ * coalesced. The request can be delayed by a coalescing window to collect more schema changes.
  */
 @Internal
 public class SchemaOperator extends AbstractStreamOperator<Event>
@@ -56,9 +75,25 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
 
     private static final Logger LOG = LoggerFactory.getLogger(SchemaOperator.class);
 
+    /** The time to wait for more schema changes of a table before requesting to evolve them. */
+    private final Duration coalescingWindow;
+
     private transient TaskOperatorEventGateway toCoordinator;
 
+    private transient MailboxExecutor mailboxExecutor;
+
+    /** Buffered events of the tables blocked by their processing schema changes. */
+    private transient Map<TableId, Deque<StreamRecord<Event>>> blockedTables;
+
+    /** Blocked tables waiting for the coalescing window to send their schema changes. */
+    private transient Set<TableId> coalescingTables;
+
     public SchemaOperator() {
+        this(Duration.ZERO);
+    }
+
+    public SchemaOperator(Duration coalescingWindow) {
+        this.coalescingWindow = coalescingWindow;
         this.chainingStrategy = ChainingStrategy.ALWAYS;
     }
 
@@ -69,6 +104,10 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
             Output<StreamRecord<Event>> output) {
         super.setup(containingTask, config, output);
         this.toCoordinator = containingTask.getEnvironment().getOperatorCoordinatorEventGateway();
+        this.mailboxExecutor =
+                containingTask.getMailboxExecutorFactory().createExecutor(config.getChainIndex());
+        this.blockedTables = new HashMap<>();
+        this.coalescingTables = new HashSet<>();
     }
 
     /**
@@ -77,53 +116,155 @@ public class SchemaOperator extends AbstractStreamOperator<Event>
     @Override
     public void processElement(StreamRecord<Event> streamRecord) {
         Event event = streamRecord.getValue();
-        if (event instanceof SchemaChangeEvent) {
-            TableId tableId = ((SchemaChangeEvent) event).tableId();
-            LOG.info(
-                    "Table {} received SchemaChangeEvent and start to be blocked.",
-                    tableId.toString());
-            handleSchemaChangeEvent(tableId, (SchemaChangeEvent) event);
-            return;
+        if (event instanceof ChangeEvent) {
+            TableId tableId = ((ChangeEvent) event).tableId();
+            Deque<StreamRecord<Event>> bufferedRecords = blockedTables.get(tableId);
+            if (bufferedRecords != null) {
+                bufferedRecords.add(streamRecord);
+                return;
+            }
+            if (event instanceof SchemaChangeEvent) {
+                LOG.info(
+                        "Table {} received SchemaChangeEvent and start to be blocked.",
+                        tableId.toString());
+                bufferedRecords = new ArrayDeque<>();
+                bufferedRecords.add(streamRecord);
+                blockTable(tableId, bufferedRecords);
+                return;
+            }
         }
         output.collect(streamRecord);
     }
 
+    @Override
+    public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+        // Buffered events are not part of the state, so they must be emitted before the barrier
+        waitForBlockedTables();
+    }
+
+    @Override
+    public void finish() throws Exception {
+        waitForBlockedTables();
+        super.finish();
+    }
+
     // ----------------------------------------------------------------------------------
 
-    private void handleSchemaChangeEvent(TableId tableId, SchemaChangeEvent schemaChangeEvent) {
-        // The request will need to send a FlushEvent or block until flushing finished
-        SchemaChangeResponse response = requestSchemaChange(tableId, schemaChangeEvent);
-        if (response.isShouldSendFlushEvent()) {
+    private void waitForBlockedTables() throws InterruptedException {
+        // Don't wait for the coalescing windows to close
+        for (TableId tableId : new ArrayList<>(coalescingTables)) {
+            requestSchemaChange(tableId);
+        }
+        while (!blockedTables.isEmpty()) {
             LOG.info(
-                    "Sending the FlushEvent for table {} in subtask {}.",
-                    tableId,
-                    getRuntimeContext().getIndexOfThisSubtask());
-            output.collect(new StreamRecord<>(new FlushEvent(tableId)));
-            output.collect(new StreamRecord<>(schemaChangeEvent));
-            // The request will block until flushing finished in each sink writer
-            requestReleaseUpstream();
+                    "Waiting for schema changes of tables {} to finish.", blockedTables.keySet());
+            mailboxExecutor.yield();
+        }
+    }
+
+    /** Blocks the table whose buffered records start with a schema change. */
+    private void blockTable(TableId tableId, Deque<StreamRecord<Event>> bufferedRecords) {
+        blockedTables.put(tableId, bufferedRecords);
+        if (coalescingWindow.isZero()) {
+            requestSchemaChange(tableId);
+            return;
         }
+        coalescingTables.add(tableId);
+        getProcessingTimeService()
+                .registerTimer(
+                        getProcessingTimeService().getCurrentProcessingTime()
+                                + coalescingWindow.toMillis(),
+                        timestamp -> {
+                            if (coalescingTables.contains(tableId)) {
+                                requestSchemaChange(tableId);
+                            }
+                        });
     }
 
-    private SchemaChangeResponse requestSchemaChange(
-            TableId tableId, SchemaChangeEvent schemaChangeEvent) {
-        return sendRequestToCoordinator(new SchemaChangeRequest(tableId, schemaChangeEvent));
+    private void requestSchemaChange(TableId tableId) {
+        coalescingTables.remove(tableId);
+        Deque<StreamRecord<Event>> bufferedRecords = blockedTables.get(tableId);
+        List<SchemaChangeEvent> schemaChangeEvents = new ArrayList<>();
+        while (!bufferedRecords.isEmpty()
+                && bufferedRecords.peek().getValue() instanceof SchemaChangeEvent) {
+            schemaChangeEvents.add((SchemaChangeEvent) bufferedRecords.poll().getValue());
+        }
+        // The request will need to send a FlushEvent or wait until flushing finished
+        sendRequestToCoordinator(
+                new SchemaChangeRequest(tableId, schemaChangeEvents),
+                (SchemaChangeResponse response) -> {
+                    if (response.isShouldSendFlushEvent()) {
+                        LOG.info(
+                                "Sending the FlushEvent for table {} in subtask {}.",
+                                tableId,
+                                getRuntimeContext().getIndexOfThisSubtask());
+                        output.collect(new StreamRecord<>(new FlushEvent(tableId)));
+                        for (SchemaChangeEvent schemaChangeEvent :
+                                response.getSchemaChangeEvents()) {
+                            output.collect(new StreamRecord<>(schemaChangeEvent));
+                        }
+                        // The table will be released after flushing finished in each sink writer
+                        sendRequestToCoordinator(
+                                new ReleaseUpstreamRequest(tableId),
+                                (ReleaseUpstreamResponse releaseResponse) -> releaseTable(tableId));
+                    } else {
+                        releaseTable(tableId);
+                    }
+                });
     }
 
-    private ReleaseUpstreamResponse requestReleaseUpstream() {
-        return sendRequestToCoordinator(new ReleaseUpstreamRequest());
+    private void releaseTable(TableId tableId) {
+        Deque<StreamRecord<Event>> bufferedRecords = blockedTables.remove(tableId);
+        LOG.info(
+                "Table {} is released with {} buffered events.",
+                tableId.toString(),
+                bufferedRecords.size());
+        StreamRecord<Event> streamRecord;
+        while ((streamRecord = bufferedRecords.peek()) != null) {
+            if (streamRecord.getValue() instanceof SchemaChangeEvent) {
+                // The remaining events are blocked again by the next schema change
+                blockTable(tableId, bufferedRecords);
+                return;
+            }
+            output.collect(bufferedRecords.poll());
+        }
     }
 
     private <REQUEST extends CoordinationRequest, RESPONSE extends CoordinationResponse>
-            RESPONSE sendRequestToCoordinator(REQUEST request) {
+            void sendRequestToCoordinator(REQUEST request, Consumer<RESPONSE> responseHandler) {
+        CompletableFuture<CoordinationResponse> responseFuture;
         try {
-            CompletableFuture<CoordinationResponse> responseFuture =
+            responseFuture =
                     toCoordinator.sendRequestToCoordinator(
                             getOperatorID(), new SerializedValue<>(request));
-            return CoordinationResponseUtils.unwrap(responseFuture.get());
         } catch (Exception e) {
             throw new IllegalStateException(
                     "Failed to send request to coordinator: " + request.toString(), e);
         }
+        if (responseFuture.isDone()) {
+            handleResponse(request, responseFuture, responseHandler);
+        } else {
+            responseFuture.whenComplete(
+                    (response, throwable) ->
+                            mailboxExecutor.execute(
+                                    () -> handleResponse(request, responseFuture, responseHandler),
+                                    "Handle response of %s",
+                                    request));
+        }
+    }
+
+    private <REQUEST extends CoordinationRequest, RESPONSE extends CoordinationResponse>
+            void handleResponse(
+                    REQUEST request,
+                    CompletableFuture<CoordinationResponse> responseFuture,
+                    Consumer<RESPONSE> responseHandler) {
+        RESPONSE response;
+        try {
+            response = CoordinationResponseUtils.unwrap(responseFuture.get());
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Failed to send request to coordinator: " + request.toString(), e);
+        }
+        responseHandler.accept(response);
     }
 }
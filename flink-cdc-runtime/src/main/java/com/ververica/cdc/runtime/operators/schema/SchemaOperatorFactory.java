@@ -27,6 +27,8 @@ import com.ververica.cdc.common.event.Event;
 import com.ververica.cdc.common.sink.MetadataApplier;
 import com.ververica.cdc.runtime.operators.schema.coordinator.SchemaRegistryProvider;
 
+import java.time.Duration;
+
 /** Factory to create {@link SchemaOperator}. */
 @Internal
 public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
@@ -37,7 +39,11 @@ public class SchemaOperatorFactory extends SimpleOperatorFactory<Event>
     private final MetadataApplier metadataApplier;
 
     public SchemaOperatorFactory(MetadataApplier metadataApplier) {
-        super(new SchemaOperator());
+        this(metadataApplier, Duration.ZERO);
+    }
+
+    public SchemaOperatorFactory(MetadataApplier metadataApplier, Duration coalescingWindow) {
+        super(new SchemaOperator(coalescingWindow));
         this.metadataApplier = metadataApplier;
     }
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.schema.coordinator;
+
+import com.ververica.cdc.common.annotation.Internal;
+import com.ververica.cdc.common.event.AddColumnEvent;
+import com.ververica.cdc.common.event.AlterColumnTypeEvent;
+import com.ververica.cdc.common.event.DropColumnEvent;
+import com.ververica.cdc.common.event.SchemaChangeEvent;
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.types.DataType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility to coalesce consecutive compatible {@link SchemaChangeEvent}s of a table into one event,
+ * so that they can be flushed and applied to the external system at once.
+ *
+ * <p>Consecutive {@link AddColumnEvent}s, {@link DropColumnEvent}s and {@link
+ * AlterColumnTypeEvent}s are merged respectively. Applying the coalesced events results in the
+ * same schema as applying the original events in order.
+ */
+@Internal
+public class SchemaChangeCoalescer {
+
+    private SchemaChangeCoalescer() {}
+
+    /** Coalesces the given schema changes of a table, the order of the changes is preserved. */
+    public static List<SchemaChangeEvent> coalesce(List<SchemaChangeEvent> schemaChangeEvents) {
+        List<SchemaChangeEvent> coalescedEvents = new ArrayList<>();
+        for (SchemaChangeEvent event : schemaChangeEvents) {
+            int lastIndex = coalescedEvents.size() - 1;
+            SchemaChangeEvent merged =
+                    lastIndex < 0 ? null : tryMerge(coalescedEvents.get(lastIndex), event);
+            if (merged != null) {
+                coalescedEvents.set(lastIndex, merged);
+            } else {
+                coalescedEvents.add(event);
+            }
+        }
+        return coalescedEvents;
+    }
+
+    private static SchemaChangeEvent tryMerge(SchemaChangeEvent first, SchemaChangeEvent second) {
+        if (!first.tableId().equals(second.tableId())) {
+            return null;
+        }
+        if (first instanceof AddColumnEvent && second instanceof AddColumnEvent) {
+            List<AddColumnEvent.ColumnWithPosition> addedColumns =
+                    new ArrayList<>(((AddColumnEvent) first).getAddedColumns());
+            addedColumns.addAll(((AddColumnEvent) second).getAddedColumns());
+            return new AddColumnEvent(first.tableId(), addedColumns);
+        } else if (first instanceof DropColumnEvent && second instanceof DropColumnEvent) {
+            List<Column> droppedColumns =
+                    new ArrayList<>(((DropColumnEvent) first).getDroppedColumns());
+            droppedColumns.addAll(((DropColumnEvent) second).getDroppedColumns());
+            return new DropColumnEvent(first.tableId(), droppedColumns);
+        } else if (first instanceof AlterColumnTypeEvent
+                && second instanceof AlterColumnTypeEvent) {
+            Map<String, DataType> typeMapping =
+                    new LinkedHashMap<>(((AlterColumnTypeEvent) first).getTypeMapping());
+            // The latest type of a column wins
+            typeMapping.putAll(((AlterColumnTypeEvent) second).getTypeMapping());
+            return new AlterColumnTypeEvent(first.tableId(), typeMapping);
+        }
+        return null;
+    }
+}
@@ -156,7 +156,7 @@ public class SchemaRegistry implements OperatorCoordinator, CoordinationRequestH
             SchemaChangeRequest schemaChangeRequest = (SchemaChangeRequest) request;
             return requestHandler.handleSchemaChangeRequest(schemaChangeRequest);
         } else if (request instanceof ReleaseUpstreamRequest) {
-            return requestHandler.handleReleaseUpstreamRequest();
+            return requestHandler.handleReleaseUpstreamRequest((ReleaseUpstreamRequest) request);
         } else if (request instanceof GetSchemaRequest) {
             return CompletableFuture.completedFuture(
                     wrap(handleGetSchemaRequest(((GetSchemaRequest) request))));
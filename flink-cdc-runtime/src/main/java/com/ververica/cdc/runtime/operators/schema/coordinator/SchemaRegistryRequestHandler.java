@@ -32,16 +32,27 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static com.ververica.cdc.runtime.operators.schema.coordinator.SchemaRegistryRequestHandler.RequestStatus.RECEIVED_RELEASE_REQUEST;
 import static com.ververica.cdc.runtime.operators.schema.event.CoordinationResponseUtils.wrap;
 
-/** A handler to deal with all requests and events for {@link SchemaRegistry}. */
+/**
+ * A handler to deal with all requests and events for {@link SchemaRegistry}.
+ *
+ * <p>Schema changes are serialized per table: requests of the same table wait for the previous
+ * one to be applied, while requests of different tables are processed independently. The
+ * consecutive schema changes in a request are recorded one by one in {@link SchemaManager}, but
+ * flushed and applied to the external system as coalesced by {@link SchemaChangeCoalescer}.
+ */
 @Internal
 @NotThreadSafe
 public class SchemaRegistryRequestHandler {
@@ -55,19 +66,16 @@ public class SchemaRegistryRequestHandler {
     private final SchemaManager schemaManager;
 
     /**
-     * Not applied SchemaChangeRequest before receiving all flush success events for its table from
-     * sink writers.
+     * Not applied SchemaChangeRequests of each table before receiving all flush success events
+     * for the table from sink writers. The head of each queue is the request being processed.
      */
-    private final List<PendingSchemaChange> pendingSchemaChanges;
-    /** Sink writers which have sent flush success events for the request. */
-    private final Set<Integer> flushedSinkWriters;
+    private final Map<TableId, LinkedList<PendingSchemaChange>> pendingSchemaChanges;
 
     public SchemaRegistryRequestHandler(
             MetadataApplier metadataApplier, SchemaManager schemaManager) {
         this.metadataApplier = metadataApplier;
         this.activeSinkWriters = new HashSet<>();
-        this.flushedSinkWriters = new HashSet<>();
-        this.pendingSchemaChanges = new LinkedList<>();
+        this.pendingSchemaChanges = new HashMap<>();
         this.schemaManager = schemaManager;
     }
 
@@ -89,36 +97,55 @@ public class SchemaRegistryRequestHandler {
      */
     public CompletableFuture<CoordinationResponse> handleSchemaChangeRequest(
             SchemaChangeRequest request) {
-        if (pendingSchemaChanges.isEmpty()) {
+        TableId tableId = request.getTableId();
+        LinkedList<PendingSchemaChange> tableSchemaChanges = pendingSchemaChanges.get(tableId);
+        if (tableSchemaChanges == null) {
             LOG.info(
-                    "Received schema change event request from table {}. Start to buffer requests for others.",
-                    request.getTableId().toString());
-            if (request.getSchemaChangeEvent() instanceof CreateTableEvent
-                    && schemaManager.schemaExists(request.getTableId())) {
-                return CompletableFuture.completedFuture(wrap(new SchemaChangeResponse(false)));
-            }
+                    "Received schema change event request from table {}. Start to buffer requests for the table.",
+                    tableId.toString());
+            List<SchemaChangeEvent> schemaChangeEvents = applyToSchemaManager(request);
             CompletableFuture<CoordinationResponse> response =
-                    CompletableFuture.completedFuture(wrap(new SchemaChangeResponse(true)));
-            schemaManager.applySchemaChange(request.getSchemaChangeEvent());
-            pendingSchemaChanges.add(new PendingSchemaChange(request, response));
-            pendingSchemaChanges.get(0).startToWaitForReleaseRequest();
+                    CompletableFuture.completedFuture(
+                            wrap(new SchemaChangeResponse(schemaChangeEvents)));
+            if (schemaChangeEvents.isEmpty()) {
+                return response;
+            }
+            PendingSchemaChange pendingSchemaChange = new PendingSchemaChange(request, response);
+            pendingSchemaChange.startToWaitForReleaseRequest(schemaChangeEvents);
+            tableSchemaChanges = new LinkedList<>();
+            tableSchemaChanges.add(pendingSchemaChange);
+            pendingSchemaChanges.put(tableId, tableSchemaChanges);
             return response;
         } else {
-            LOG.info("There are already processing requests. Wait for processing.");
+            LOG.info(
+                    "There are already processing requests for table {}. Wait for processing.",
+                    tableId.toString());
             CompletableFuture<CoordinationResponse> response = new CompletableFuture<>();
-            pendingSchemaChanges.add(new PendingSchemaChange(request, response));
+            tableSchemaChanges.add(new PendingSchemaChange(request, response));
             return response;
         }
     }
 
-    /** Handle the {@link ReleaseUpstreamRequest} and wait for all sink subtasks flushing. */
-    public CompletableFuture<CoordinationResponse> handleReleaseUpstreamRequest() {
+    /**
+     * Handle the {@link ReleaseUpstreamRequest} and wait for all sink subtasks flushing.
+     *
+     * @param request the received ReleaseUpstreamRequest
+     */
+    public CompletableFuture<CoordinationResponse> handleReleaseUpstreamRequest(
+            ReleaseUpstreamRequest request) {
+        TableId tableId = request.getTableId();
+        PendingSchemaChange processingSchemaChange = getProcessingSchemaChange(tableId);
+        if (processingSchemaChange == null) {
+            throw new IllegalStateException(
+                    "Received release upstream request without processing schema change for table "
+                            + tableId);
+        }
         CompletableFuture<CoordinationResponse> response =
-                pendingSchemaChanges.get(0).getResponseFuture();
+                processingSchemaChange.getResponseFuture();
         if (response.isDone()) {
-            startNextSchemaChangeRequest();
+            startNextSchemaChangeRequest(tableId);
         } else {
-            pendingSchemaChanges.get(0).receiveReleaseRequest();
+            processingSchemaChange.receiveReleaseRequest();
         }
         return response;
     }
@@ -140,46 +167,86 @@ public class SchemaRegistryRequestHandler {
      * @param sinkSubtask the sink subtask succeed flushing
      */
     public void flushSuccess(TableId tableId, int sinkSubtask) {
-        flushedSinkWriters.add(sinkSubtask);
-        if (flushedSinkWriters.equals(activeSinkWriters)) {
+        PendingSchemaChange waitFlushSuccess = getProcessingSchemaChange(tableId);
+        if (waitFlushSuccess == null) {
+            LOG.warn(
+                    "Received flush success event from sink subtask {} for table {} without processing schema change.",
+                    sinkSubtask,
+                    tableId.toString());
+            return;
+        }
+        waitFlushSuccess.getFlushedSinkWriters().add(sinkSubtask);
+        if (waitFlushSuccess.getFlushedSinkWriters().equals(activeSinkWriters)) {
             LOG.info(
                     "All sink subtask have flushed for table {}. Start to apply schema change.",
                     tableId.toString());
-            PendingSchemaChange waitFlushSuccess = pendingSchemaChanges.get(0);
-            applySchemaChange(tableId, waitFlushSuccess.getChangeRequest().getSchemaChangeEvent());
+            for (SchemaChangeEvent changeEvent : waitFlushSuccess.getSchemaChangeEvents()) {
+                applySchemaChange(tableId, changeEvent);
+            }
             waitFlushSuccess.getResponseFuture().complete(wrap(new ReleaseUpstreamResponse()));
 
             if (RECEIVED_RELEASE_REQUEST.equals(waitFlushSuccess.getStatus())) {
-                startNextSchemaChangeRequest();
+                startNextSchemaChangeRequest(tableId);
             }
         }
     }
 
-    private void startNextSchemaChangeRequest() {
-        pendingSchemaChanges.remove(0);
-        flushedSinkWriters.clear();
-        while (!pendingSchemaChanges.isEmpty()) {
-            PendingSchemaChange pendingSchemaChange = pendingSchemaChanges.get(0);
-            SchemaChangeRequest request = pendingSchemaChange.changeRequest;
-            if (request.getSchemaChangeEvent() instanceof CreateTableEvent
-                    && schemaManager.schemaExists(request.getTableId())) {
-                pendingSchemaChange
-                        .getResponseFuture()
-                        .complete(wrap(new SchemaChangeResponse(false)));
-                pendingSchemaChanges.remove(0);
+    private PendingSchemaChange getProcessingSchemaChange(TableId tableId) {
+        LinkedList<PendingSchemaChange> tableSchemaChanges = pendingSchemaChanges.get(tableId);
+        return tableSchemaChanges == null ? null : tableSchemaChanges.getFirst();
+    }
+
+    private void startNextSchemaChangeRequest(TableId tableId) {
+        LinkedList<PendingSchemaChange> tableSchemaChanges = pendingSchemaChanges.get(tableId);
+        tableSchemaChanges.removeFirst();
+        while (!tableSchemaChanges.isEmpty()) {
+            PendingSchemaChange pendingSchemaChange = tableSchemaChanges.getFirst();
+            List<SchemaChangeEvent> schemaChangeEvents =
+                    applyToSchemaManager(pendingSchemaChange.getChangeRequest());
+            pendingSchemaChange
+                    .getResponseFuture()
+                    .complete(wrap(new SchemaChangeResponse(schemaChangeEvents)));
+            if (schemaChangeEvents.isEmpty()) {
+                tableSchemaChanges.removeFirst();
             } else {
-                schemaManager.applySchemaChange(request.getSchemaChangeEvent());
-                pendingSchemaChange
-                        .getResponseFuture()
-                        .complete(wrap(new SchemaChangeResponse(true)));
-                pendingSchemaChange.startToWaitForReleaseRequest();
-                break;
+                pendingSchemaChange.startToWaitForReleaseRequest(schemaChangeEvents);
+                return;
             }
         }
+        pendingSchemaChanges.remove(tableId);
+    }
+
+    /**
+     * Apply the schema changes of the request to {@link SchemaManager} one by one to keep the
+     * schema history, and return the coalesced schema changes for evolving downstream.
+     */
+    private List<SchemaChangeEvent> applyToSchemaManager(SchemaChangeRequest request) {
+        List<SchemaChangeEvent> appliedEvents = new ArrayList<>();
+        for (SchemaChangeEvent changeEvent : request.getSchemaChangeEvents()) {
+            if (changeEvent instanceof CreateTableEvent
+                    && schemaManager.schemaExists(changeEvent.tableId())) {
+                continue;
+            }
+            schemaManager.applySchemaChange(changeEvent);
+            appliedEvents.add(changeEvent);
+        }
+        if (appliedEvents.size() > 1) {
+            LOG.info(
+                    "Coalescing {} schema changes of table {}.",
+                    appliedEvents.size(),
+                    request.getTableId().toString());
+        }
+        return appliedEvents.isEmpty()
+                ? Collections.emptyList()
+                : SchemaChangeCoalescer.coalesce(appliedEvents);
     }
 
     private static class PendingSchemaChange {
         private final SchemaChangeRequest changeRequest;
+        /** Sink writers which have sent flush success events for the request. */
+        private final Set<Integer> flushedSinkWriters;
+        /** The coalesced schema changes to apply after all sink writers flushed. */
+        private List<SchemaChangeEvent> schemaChangeEvents;
         private CompletableFuture<CoordinationResponse> responseFuture;
         private RequestStatus status;
 
@@ -187,6 +254,7 @@ public class SchemaRegistryRequestHandler {
                 SchemaChangeRequest changeRequest,
                 CompletableFuture<CoordinationResponse> responseFuture) {
             this.changeRequest = changeRequest;
+            this.flushedSinkWriters = new HashSet<>();
             this.responseFuture = responseFuture;
             this.status = RequestStatus.PENDING;
         }
@@ -195,6 +263,14 @@ public class SchemaRegistryRequestHandler {
             return changeRequest;
         }
 
+        public List<SchemaChangeEvent> getSchemaChangeEvents() {
+            return schemaChangeEvents;
+        }
+
+        public Set<Integer> getFlushedSinkWriters() {
+            return flushedSinkWriters;
+        }
+
         public CompletableFuture<CoordinationResponse> getResponseFuture() {
             return responseFuture;
         }
@@ -203,11 +279,12 @@ public class SchemaRegistryRequestHandler {
             return status;
         }
 
-        public void startToWaitForReleaseRequest() {
+        public void startToWaitForReleaseRequest(List<SchemaChangeEvent> schemaChangeEvents) {
             if (!responseFuture.isDone()) {
                 throw new IllegalStateException(
                         "Cannot start to wait for flush success before the SchemaChangeRequest is done.");
             }
+            this.schemaChangeEvents = schemaChangeEvents;
             this.responseFuture = new CompletableFuture<>();
             this.status = RequestStatus.WAIT_RELEASE_REQUEST;
         }
@@ -19,9 +19,12 @@ package com.ververica.cdc.runtime.operators.schema.event;
 import org.apache.flink.runtime.operators.coordination.CoordinationRequest;
 
 import com.ververica.cdc.common.event.FlushEvent;
+import com.ververica.cdc.common.event.TableId;
 import com.ververica.cdc.runtime.operators.schema.SchemaOperator;
 import com.ververica.cdc.runtime.operators.schema.coordinator.SchemaRegistry;
 
+import java.util.Objects;
+
 /**
  * The request from {@link SchemaOperator} to {@link SchemaRegistry} to request to release upstream
  * after sending {@link FlushEvent}.
@@ -29,4 +32,37 @@ import com.ververica.cdc.runtime.operators.schema.coordinator.SchemaRegistry;
 public class ReleaseUpstreamRequest implements CoordinationRequest {
 
     private static final long serialVersionUID = 1L;
+
+    /** The table whose schema change has been sent to downstream. */
+    private final TableId tableId;
+
+    public ReleaseUpstreamRequest(TableId tableId) {
+        this.tableId = tableId;
+    }
+
+    public TableId getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReleaseUpstreamRequest)) {
+            return false;
+        }
+        ReleaseUpstreamRequest that = (ReleaseUpstreamRequest) o;
+        return Objects.equals(tableId, that.tableId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId);
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseUpstreamRequest{" + "tableId=" + tableId + '}';
+    }
 }
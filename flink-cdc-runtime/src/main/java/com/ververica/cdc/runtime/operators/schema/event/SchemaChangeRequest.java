@@ -23,6 +23,8 @@ import com.ververica.cdc.common.event.TableId;
 import com.ververica.cdc.runtime.operators.schema.SchemaOperator;
 import com.ververica.cdc.runtime.operators.schema.coordinator.SchemaRegistry;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -34,20 +36,24 @@ public class SchemaChangeRequest implements CoordinationRequest {
 
     /** The sender of the request. */
     private final TableId tableId;
-    /** The schema changes. */
-    private final SchemaChangeEvent schemaChangeEvent;
+    /** The consecutive schema changes of the table, in the order they happened. */
+    private final List<SchemaChangeEvent> schemaChangeEvents;
 
     public SchemaChangeRequest(TableId tableId, SchemaChangeEvent schemaChangeEvent) {
+        this(tableId, Collections.singletonList(schemaChangeEvent));
+    }
+
+    public SchemaChangeRequest(TableId tableId, List<SchemaChangeEvent> schemaChangeEvents) {
         this.tableId = tableId;
-        this.schemaChangeEvent = schemaChangeEvent;
+        this.schemaChangeEvents = schemaChangeEvents;
     }
 
     public TableId getTableId() {
         return tableId;
     }
 
-    public SchemaChangeEvent getSchemaChangeEvent() {
-        return schemaChangeEvent;
+    public List<SchemaChangeEvent> getSchemaChangeEvents() {
+        return schemaChangeEvents;
     }
 
     @Override
@@ -60,11 +66,11 @@ public class SchemaChangeRequest implements CoordinationRequest {
         }
         SchemaChangeRequest that = (SchemaChangeRequest) o;
         return Objects.equals(tableId, that.tableId)
-                && Objects.equals(schemaChangeEvent, that.schemaChangeEvent);
+                && Objects.equals(schemaChangeEvents, that.schemaChangeEvents);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(tableId, schemaChangeEvent);
+        return Objects.hash(tableId, schemaChangeEvents);
     }
 }
@@ -18,9 +18,11 @@ package com.ververica.cdc.runtime.operators.schema.event;
 
 import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
 
+import com.ververica.cdc.common.event.SchemaChangeEvent;
 import com.ververica.cdc.runtime.operators.schema.SchemaOperator;
 import com.ververica.cdc.runtime.operators.schema.coordinator.SchemaRegistry;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -31,17 +33,25 @@ public class SchemaChangeResponse implements CoordinationResponse {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Whether the SchemaOperator need to buffer data and the SchemaOperatorCoordinator need to wait
-     * for flushing.
+     * The coalesced schema changes to send to downstream after the FlushEvent, empty if there is
+     * no schema change to evolve.
      */
-    private final boolean shouldSendFlushEvent;
+    private final List<SchemaChangeEvent> schemaChangeEvents;
 
-    public SchemaChangeResponse(boolean shouldSendFlushEvent) {
-        this.shouldSendFlushEvent = shouldSendFlushEvent;
+    public SchemaChangeResponse(List<SchemaChangeEvent> schemaChangeEvents) {
+        this.schemaChangeEvents = schemaChangeEvents;
     }
 
+    /**
+     * Whether the SchemaOperator need to buffer data and the SchemaOperatorCoordinator need to wait
+     * for flushing.
+     */
     public boolean isShouldSendFlushEvent() {
-        return shouldSendFlushEvent;
+        return !schemaChangeEvents.isEmpty();
+    }
+
+    public List<SchemaChangeEvent> getSchemaChangeEvents() {
+        return schemaChangeEvents;
     }
 
     @Override
@@ -53,11 +63,11 @@ public class SchemaChangeResponse implements CoordinationResponse {
             return false;
         }
         SchemaChangeResponse response = (SchemaChangeResponse) o;
-        return shouldSendFlushEvent == response.shouldSendFlushEvent;
+        return Objects.equals(schemaChangeEvents, response.schemaChangeEvents);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(shouldSendFlushEvent);
+        return Objects.hash(schemaChangeEvents);
     }
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.transform;
+
+import com.ververica.cdc.common.data.RecordData;
+import com.ververica.cdc.common.event.AddColumnEvent;
+import com.ververica.cdc.common.event.AlterColumnTypeEvent;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.DropColumnEvent;
+import com.ververica.cdc.common.event.RenameColumnEvent;
+import com.ververica.cdc.common.event.SchemaChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.common.utils.SchemaUtils;
+import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The {@link TransformRule} bound to the current schema of a source table, which projects and
+ * filters the data change events of the table and derives the schema of the projected table.
+ */
+class TableTransform {
+
+    private final TableId tableId;
+    private final TransformRule rule;
+    private final Schema sourceSchema;
+    private final Schema derivedSchema;
+
+    /** The getters of the projected fields from the source rows, null if all fields are kept. */
+    @Nullable private final RecordData.FieldGetter[] fieldGetters;
+
+    @Nullable private final BinaryRecordDataGenerator recordDataGenerator;
+    @Nullable private final Predicate<RecordData> filter;
+
+    private TableTransform(TableId tableId, TransformRule rule, Schema sourceSchema) {
+        this.tableId = tableId;
+        this.rule = rule;
+        this.sourceSchema = sourceSchema;
+
+        TransformProjection projection = rule.getProjection();
+        List<Column> projectedColumns = new ArrayList<>();
+        int[] projectedIndexes = projection.project(sourceSchema, projectedColumns);
+        this.derivedSchema =
+                Schema.newBuilder()
+                        .setColumns(projectedColumns)
+                        .primaryKey(derivePrimaryKeys(sourceSchema, projection))
+                        .options(sourceSchema.options())
+                        .comment(sourceSchema.comment())
+                        .build();
+
+        if (projection.isAllColumns()) {
+            this.fieldGetters = null;
+            this.recordDataGenerator = null;
+        } else {
+            this.fieldGetters = new RecordData.FieldGetter[projectedIndexes.length];
+            DataType[] dataTypes = new DataType[projectedIndexes.length];
+            for (int i = 0; i < projectedIndexes.length; i++) {
+                dataTypes[i] = projectedColumns.get(i).getType();
+                fieldGetters[i] = RecordData.createFieldGetter(dataTypes[i], projectedIndexes[i]);
+            }
+            this.recordDataGenerator = new BinaryRecordDataGenerator(dataTypes);
+        }
+
+        TransformFilter transformFilter = rule.getFilter();
+        this.filter =
+                transformFilter == null
+                        ? null
+                        : transformFilter.bind(sourceSchema, projection::resolveColumn);
+    }
+
+    static TableTransform create(TableId tableId, TransformRule rule, Schema sourceSchema) {
+        return new TableTransform(tableId, rule, sourceSchema);
+    }
+
+    Schema getSourceSchema() {
+        return sourceSchema;
+    }
+
+    Schema getDerivedSchema() {
+        return derivedSchema;
+    }
+
+    /** Whether the data change events of the table are forwarded as they are. */
+    boolean isIdentity() {
+        return fieldGetters == null && filter == null;
+    }
+
+    /**
+     * Filters and projects the data change event, returns null if the event is filtered out.
+     *
+     * <p>An update is converted to a deletion if only the row before the update is kept by the
+     * filter, or to an insertion if only the row after the update is kept.
+     */
+    @Nullable
+    DataChangeEvent transform(DataChangeEvent event) {
+        switch (event.op()) {
+            case INSERT:
+                return test(event.after())
+                        ? DataChangeEvent.insertEvent(tableId, project(event.after()), event.meta())
+                        : null;
+            case REPLACE:
+                return test(event.after())
+                        ? DataChangeEvent.replaceEvent(
+                                tableId, project(event.after()), event.meta())
+                        : null;
+            case DELETE:
+                return test(event.before())
+                        ? DataChangeEvent.deleteEvent(
+                                tableId, project(event.before()), event.meta())
+                        : null;
+            case UPDATE:
+                boolean beforeKept = test(event.before());
+                boolean afterKept = test(event.after());
+                if (beforeKept && afterKept) {
+                    return DataChangeEvent.updateEvent(
+                            tableId, project(event.before()), project(event.after()), event.meta());
+                } else if (beforeKept) {
+                    return DataChangeEvent.deleteEvent(
+                            tableId, project(event.before()), event.meta());
+                } else if (afterKept) {
+                    return DataChangeEvent.insertEvent(
+                            tableId, project(event.after()), event.meta());
+                }
+                return null;
+            default:
+                throw new UnsupportedOperationException(
+                        String.format(
+                                "Unsupported operation type \"%s\" in data change event",
+                                event.op()));
+        }
+    }
+
+    /** Applies the schema change to the source table and binds the rule to the new schema. */
+    TableTransform applySchemaChange(SchemaChangeEvent event) {
+        Set<String> changedColumns = new HashSet<>();
+        if (event instanceof DropColumnEvent) {
+            ((DropColumnEvent) event)
+                    .getDroppedColumns()
+                    .forEach(column -> changedColumns.add(column.getName()));
+        } else if (event instanceof RenameColumnEvent) {
+            changedColumns.addAll(((RenameColumnEvent) event).getNameMapping().keySet());
+        }
+        changedColumns.retainAll(rule.getReferencedColumns());
+        if (!changedColumns.isEmpty()) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Columns %s of table %s are referenced by the transform of "
+                                    + "source table \"%s\", which can not be applied to %s.",
+                            changedColumns, tableId, rule.getSourceTable(), event));
+        }
+        return create(tableId, rule, SchemaUtils.applySchemaChangeEvent(sourceSchema, event));
+    }
+
+    /**
+     * Derives the schema change of the projected table from the schema change of the source
+     * table, returns null if the projected table is not changed.
+     *
+     * @param event the schema change of the source table
+     * @param evolved the transform bound to the schema after the change
+     */
+    @Nullable
+    SchemaChangeEvent deriveSchemaChange(SchemaChangeEvent event, TableTransform evolved) {
+        TransformProjection projection = rule.getProjection();
+        if (projection.isAllColumns()) {
+            return event;
+        }
+        if (event instanceof AddColumnEvent) {
+            return projection.hasWildcard()
+                    ? deriveAddColumnEvent((AddColumnEvent) event, evolved.derivedSchema)
+                    : null;
+        }
+        if (event instanceof DropColumnEvent || event instanceof RenameColumnEvent) {
+            // the referenced columns are checked not to be changed
+            return projection.hasWildcard() ? event : null;
+        }
+        if (event instanceof AlterColumnTypeEvent) {
+            Map<String, DataType> typeMapping = new HashMap<>();
+            ((AlterColumnTypeEvent) event)
+                    .getTypeMapping()
+                    .forEach(
+                            (column, type) -> {
+                                for (String name : projection.getOutputNames(column)) {
+                                    typeMapping.put(name, type);
+                                }
+                            });
+            return typeMapping.isEmpty() ? null : new AlterColumnTypeEvent(tableId, typeMapping);
+        }
+        throw new UnsupportedOperationException(
+                String.format(
+                        "Unsupported schema change event type \"%s\"",
+                        event.getClass().getCanonicalName()));
+    }
+
+    private AddColumnEvent deriveAddColumnEvent(AddColumnEvent event, Schema evolvedSchema) {
+        Set<String> addedColumns = new HashSet<>();
+        event.getAddedColumns()
+                .forEach(column -> addedColumns.add(column.getAddColumn().getName()));
+        // the added columns are positioned in the order of the evolved projected table
+        List<AddColumnEvent.ColumnWithPosition> columnsWithPosition = new ArrayList<>();
+        List<Column> columns = evolvedSchema.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (!addedColumns.contains(columns.get(i).getName())) {
+                continue;
+            }
+            columnsWithPosition.add(
+                    i == 0
+                            ? new AddColumnEvent.ColumnWithPosition(
+                                    columns.get(i), AddColumnEvent.ColumnPosition.FIRST, null)
+                            : new AddColumnEvent.ColumnWithPosition(
+                                    columns.get(i),
+                                    AddColumnEvent.ColumnPosition.AFTER,
+                                    columns.get(i - 1)));
+        }
+        return new AddColumnEvent(tableId, columnsWithPosition);
+    }
+
+    private boolean test(RecordData row) {
+        return filter == null || filter.test(row);
+    }
+
+    private RecordData project(RecordData row) {
+        if (fieldGetters == null) {
+            return row;
+        }
+        Object[] fields = new Object[fieldGetters.length];
+        for (int i = 0; i < fieldGetters.length; i++) {
+            fields[i] = fieldGetters[i].getFieldOrNull(row);
+        }
+        return recordDataGenerator.generate(fields);
+    }
+
+    private static List<String> derivePrimaryKeys(
+            Schema sourceSchema, TransformProjection projection) {
+        List<String> primaryKeys = new ArrayList<>();
+        for (String primaryKey : sourceSchema.primaryKeys()) {
+            List<String> names = projection.getOutputNames(primaryKey);
+            if (names.isEmpty()) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The primary key column \"%s\" must be projected, but the "
+                                        + "projected schema of %s does not contain it.",
+                                primaryKey, sourceSchema));
+            }
+            primaryKeys.add(names.get(0));
+        }
+        return primaryKeys;
+    }
+}
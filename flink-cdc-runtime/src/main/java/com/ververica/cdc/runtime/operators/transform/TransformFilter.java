@@ -0,0 +1,705 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.transform;
+
+import com.ververica.cdc.common.data.RecordData;
+import com.ververica.cdc.common.data.TimestampData;
+import com.ververica.cdc.common.data.binary.BinaryStringData;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataType;
+import com.ververica.cdc.common.types.DataTypeRoot;
+
+import javax.annotation.Nullable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.ververica.cdc.common.types.DataTypeChecks.getPrecision;
+import static com.ververica.cdc.common.types.DataTypeChecks.getScale;
+
+/**
+ * The filter of a transform, which is a boolean expression over the columns of the source table.
+ * Only the rows for which the expression is true are kept.
+ *
+ * <p>The expression supports comparisons between a column and a literal ({@code =}, {@code <>},
+ * {@code !=}, {@code <}, {@code <=}, {@code >}, {@code >=}), {@code IS [NOT] NULL}, boolean
+ * columns, and the {@code AND}, {@code OR} and {@code NOT} operators with parentheses, for example
+ * {@code id > 10 AND (status = 'PAID' OR refunded IS NULL)}. Comparisons with a null value are
+ * unknown, as in SQL.
+ *
+ * <p>The expression is parsed once, and bound to the schema of each source table to evaluate the
+ * columns directly on the {@link RecordData} without converting the rows.
+ */
+class TransformFilter {
+
+    private final String expression;
+    private final Node root;
+
+    private TransformFilter(String expression, Node root) {
+        this.expression = expression;
+        this.root = root;
+    }
+
+    static TransformFilter parse(String expression) {
+        Parser parser = new Parser(expression);
+        return new TransformFilter(expression, parser.parse());
+    }
+
+    /** Returns the column names referenced by the filter, which may be aliases of projections. */
+    Set<String> getReferencedColumns() {
+        Set<String> columns = new LinkedHashSet<>();
+        root.collectColumns(columns);
+        return columns;
+    }
+
+    /**
+     * Binds the filter to the schema of a source table.
+     *
+     * @param schema the schema of the rows to filter
+     * @param columnResolver resolves the referenced names which are not columns of the schema
+     */
+    Predicate<RecordData> bind(Schema schema, Function<String, String> columnResolver) {
+        Condition condition;
+        try {
+            condition = root.bind(new Binder(schema, columnResolver));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Failed to bind the filter \"%s\" to the schema %s.",
+                            expression, schema),
+                    e);
+        }
+        return row -> Boolean.TRUE.equals(condition.evaluate(row));
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    // ------------------------------------------------------------------------------------------
+    //  Evaluation
+    // ------------------------------------------------------------------------------------------
+
+    /** A condition bound to a schema, which returns null if the result is unknown. */
+    private interface Condition {
+        @Nullable
+        Boolean evaluate(RecordData row);
+    }
+
+    /** Resolves the columns of the filter in the schema of a source table. */
+    private static class Binder {
+        private final Schema schema;
+        private final Function<String, String> columnResolver;
+
+        private Binder(Schema schema, Function<String, String> columnResolver) {
+            this.schema = schema;
+            this.columnResolver = columnResolver;
+        }
+
+        private int indexOf(String name) {
+            List<String> columnNames = schema.getColumnNames();
+            int index = columnNames.indexOf(name);
+            if (index < 0) {
+                index = columnNames.indexOf(columnResolver.apply(name));
+            }
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                        String.format("The filtered column \"%s\" does not exist.", name));
+            }
+            return index;
+        }
+
+        private DataType typeOf(int index) {
+            return schema.getColumns().get(index).getType();
+        }
+    }
+
+    private abstract static class Node {
+        abstract Condition bind(Binder binder);
+
+        abstract void collectColumns(Set<String> columns);
+    }
+
+    private static class AndNode extends Node {
+        private final List<Node> children;
+
+        private AndNode(List<Node> children) {
+            this.children = children;
+        }
+
+        @Override
+        Condition bind(Binder binder) {
+            Condition[] conditions = bindAll(children, binder);
+            return row -> {
+                Boolean result = Boolean.TRUE;
+                for (Condition condition : conditions) {
+                    Boolean value = condition.evaluate(row);
+                    if (Boolean.FALSE.equals(value)) {
+                        return Boolean.FALSE;
+                    }
+                    if (value == null) {
+                        result = null;
+                    }
+                }
+                return result;
+            };
+        }
+
+        @Override
+        void collectColumns(Set<String> columns) {
+            children.forEach(child -> child.collectColumns(columns));
+        }
+    }
+
+    private static class OrNode extends Node {
+        private final List<Node> children;
+
+        private OrNode(List<Node> children) {
+            this.children = children;
+        }
+
+        @Override
+        Condition bind(Binder binder) {
+            Condition[] conditions = bindAll(children, binder);
+            return row -> {
+                Boolean result = Boolean.FALSE;
+                for (Condition condition : conditions) {
+                    Boolean value = condition.evaluate(row);
+                    if (Boolean.TRUE.equals(value)) {
+                        return Boolean.TRUE;
+                    }
+                    if (value == null) {
+                        result = null;
+                    }
+                }
+                return result;
+            };
+        }
+
+        @Override
+        void collectColumns(Set<String> columns) {
+            children.forEach(child -> child.collectColumns(columns));
+        }
+    }
+
+    private static class NotNode extends Node {
+        private final Node child;
+
+        private NotNode(Node child) {
+            this.child = child;
+        }
+
+        @Override
+        Condition bind(Binder binder) {
+            Condition condition = child.bind(binder);
+            return row -> {
+                Boolean value = condition.evaluate(row);
+                return value == null ? null : !value;
+            };
+        }
+
+        @Override
+        void collectColumns(Set<String> columns) {
+            child.collectColumns(columns);
+        }
+    }
+
+    private static class IsNullNode extends Node {
+        private final String column;
+        private final boolean negated;
+
+        private IsNullNode(String column, boolean negated) {
+            this.column = column;
+            this.negated = negated;
+        }
+
+        @Override
+        Condition bind(Binder binder) {
+            int index = binder.indexOf(column);
+            return row -> row.isNullAt(index) != negated;
+        }
+
+        @Override
+        void collectColumns(Set<String> columns) {
+            columns.add(column);
+        }
+    }
+
+    private static class BooleanColumnNode extends Node {
+        private final String column;
+
+        private BooleanColumnNode(String column) {
+            this.column = column;
+        }
+
+        @Override
+        Condition bind(Binder binder) {
+            int index = binder.indexOf(column);
+            if (binder.typeOf(index).getTypeRoot() != DataTypeRoot.BOOLEAN) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The column \"%s\" of type %s can not be used as a condition.",
+                                column, binder.typeOf(index)));
+            }
+            return row -> row.isNullAt(index) ? null : row.getBoolean(index);
+        }
+
+        @Override
+        void collectColumns(Set<String> columns) {
+            columns.add(column);
+        }
+    }
+
+    private static class ComparisonNode extends Node {
+        private final String column;
+        private final Operator operator;
+        private final Literal literal;
+
+        private ComparisonNode(String column, Operator operator, Literal literal) {
+            this.column = column;
+            this.operator = operator;
+            this.literal = literal;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Condition bind(Binder binder) {
+            int index = binder.indexOf(column);
+            DataType type = binder.typeOf(index);
+            Function<RecordData, Comparable> getter = createGetter(type, index);
+            Comparable value = literal.toValue(type, column);
+            return row -> {
+                if (row.isNullAt(index)) {
+                    return null;
+                }
+                return operator.test(getter.apply(row).compareTo(value));
+            };
+        }
+
+        @Override
+        void collectColumns(Set<String> columns) {
+            columns.add(column);
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Function<RecordData, Comparable> createGetter(DataType type, int index) {
+            switch (type.getTypeRoot()) {
+                case CHAR:
+                case VARCHAR:
+                    return row -> row.getString(index);
+                case BOOLEAN:
+                    return row -> row.getBoolean(index);
+                case TINYINT:
+                    return row -> (long) row.getByte(index);
+                case SMALLINT:
+                    return row -> (long) row.getShort(index);
+                case INTEGER:
+                    return row -> (long) row.getInt(index);
+                case BIGINT:
+                    return row -> row.getLong(index);
+                case FLOAT:
+                    return row -> (double) row.getFloat(index);
+                case DOUBLE:
+                    return row -> row.getDouble(index);
+                case DECIMAL:
+                    int precision = getPrecision(type);
+                    int scale = getScale(type);
+                    return row -> row.getDecimal(index, precision, scale).toBigDecimal();
+                case DATE:
+                    return row -> row.getInt(index);
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                    int timestampPrecision = getPrecision(type);
+                    return row -> row.getTimestamp(index, timestampPrecision);
+                default:
+                    throw new IllegalArgumentException(
+                            String.format(
+                                    "The column \"%s\" of type %s can not be compared.",
+                                    column, type));
+            }
+        }
+    }
+
+    private static Condition[] bindAll(List<Node> nodes, Binder binder) {
+        Condition[] conditions = new Condition[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            conditions[i] = nodes.get(i).bind(binder);
+        }
+        return conditions;
+    }
+
+    private enum Operator {
+        EQUALS,
+        NOT_EQUALS,
+        LESS_THAN,
+        LESS_THAN_OR_EQUALS,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUALS;
+
+        private boolean test(int comparison) {
+            switch (this) {
+                case EQUALS:
+                    return comparison == 0;
+                case NOT_EQUALS:
+                    return comparison != 0;
+                case LESS_THAN:
+                    return comparison < 0;
+                case LESS_THAN_OR_EQUALS:
+                    return comparison <= 0;
+                case GREATER_THAN:
+                    return comparison > 0;
+                default:
+                    return comparison >= 0;
+            }
+        }
+
+        @Nullable
+        private static Operator of(String symbol) {
+            switch (symbol) {
+                case "=":
+                case "==":
+                    return EQUALS;
+                case "<>":
+                case "!=":
+                    return NOT_EQUALS;
+                case "<":
+                    return LESS_THAN;
+                case "<=":
+                    return LESS_THAN_OR_EQUALS;
+                case ">":
+                    return GREATER_THAN;
+                case ">=":
+                    return GREATER_THAN_OR_EQUALS;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /** A literal in the filter, converted to the internal data structure of the compared type. */
+    private static class Literal {
+        private final TokenType type;
+        private final String text;
+
+        private Literal(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Comparable toValue(DataType dataType, String column) {
+            try {
+                switch (dataType.getTypeRoot()) {
+                    case CHAR:
+                    case VARCHAR:
+                        checkType(TokenType.STRING, dataType, column);
+                        return BinaryStringData.fromString(text);
+                    case BOOLEAN:
+                        checkType(TokenType.BOOLEAN, dataType, column);
+                        return Boolean.parseBoolean(text);
+                    case TINYINT:
+                    case SMALLINT:
+                    case INTEGER:
+                    case BIGINT:
+                        checkType(TokenType.NUMBER, dataType, column);
+                        return new BigDecimal(text).longValueExact();
+                    case FLOAT:
+                    case DOUBLE:
+                        checkType(TokenType.NUMBER, dataType, column);
+                        return Double.parseDouble(text);
+                    case DECIMAL:
+                        checkType(TokenType.NUMBER, dataType, column);
+                        return new BigDecimal(text);
+                    case DATE:
+                        checkType(TokenType.STRING, dataType, column);
+                        return (int) LocalDate.parse(text).toEpochDay();
+                    case TIMESTAMP_WITHOUT_TIME_ZONE:
+                        checkType(TokenType.STRING, dataType, column);
+                        return TimestampData.fromLocalDateTime(
+                                LocalDateTime.parse(text.trim().replace(' ', 'T')));
+                    default:
+                        return null;
+                }
+            } catch (ArithmeticException | NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The literal %s can not be compared with the column \"%s\" of "
+                                        + "type %s.",
+                                text, column, dataType),
+                        e);
+            }
+        }
+
+        private void checkType(TokenType expectedType, DataType dataType, String column) {
+            if (type != expectedType) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The literal %s can not be compared with the column \"%s\" of "
+                                        + "type %s.",
+                                text, column, dataType));
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    //  Parsing
+    // ------------------------------------------------------------------------------------------
+
+    private enum TokenType {
+        IDENTIFIER,
+        KEYWORD,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        OPERATOR,
+        LEFT_PARENTHESIS,
+        RIGHT_PARENTHESIS,
+        END
+    }
+
+    private static class Token {
+        private final TokenType type;
+        private final String text;
+
+        private Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        private boolean isKeyword(String keyword) {
+            return type == TokenType.KEYWORD && text.equals(keyword);
+        }
+    }
+
+    /** A recursive descent parser of the filter expression. */
+    private static class Parser {
+        private final String expression;
+        private final List<Token> tokens;
+        private int position;
+
+        private Parser(String expression) {
+            this.expression = expression;
+            this.tokens = tokenize(expression);
+        }
+
+        private Node parse() {
+            Node node = parseOr();
+            expect(TokenType.END);
+            return node;
+        }
+
+        private Node parseOr() {
+            List<Node> children = new ArrayList<>();
+            children.add(parseAnd());
+            while (peek().isKeyword("OR")) {
+                position++;
+                children.add(parseAnd());
+            }
+            return children.size() == 1 ? children.get(0) : new OrNode(children);
+        }
+
+        private Node parseAnd() {
+            List<Node> children = new ArrayList<>();
+            children.add(parseNot());
+            while (peek().isKeyword("AND")) {
+                position++;
+                children.add(parseNot());
+            }
+            return children.size() == 1 ? children.get(0) : new AndNode(children);
+        }
+
+        private Node parseNot() {
+            if (peek().isKeyword("NOT")) {
+                position++;
+                return new NotNode(parseNot());
+            }
+            if (peek().type == TokenType.LEFT_PARENTHESIS) {
+                position++;
+                Node node = parseOr();
+                expect(TokenType.RIGHT_PARENTHESIS);
+                return node;
+            }
+            return parsePredicate();
+        }
+
+        private Node parsePredicate() {
+            String column = expect(TokenType.IDENTIFIER).text;
+            Token token = peek();
+            if (token.isKeyword("IS")) {
+                position++;
+                boolean negated = peek().isKeyword("NOT");
+                if (negated) {
+                    position++;
+                }
+                Token nullToken = next();
+                if (!nullToken.isKeyword("NULL")) {
+                    throw unexpected(nullToken);
+                }
+                return new IsNullNode(column, negated);
+            }
+            if (token.type != TokenType.OPERATOR) {
+                return new BooleanColumnNode(column);
+            }
+            position++;
+            Operator operator = Operator.of(token.text);
+            if (operator == null) {
+                throw unexpected(token);
+            }
+            Token literal = next();
+            if (literal.type != TokenType.STRING
+                    && literal.type != TokenType.NUMBER
+                    && literal.type != TokenType.BOOLEAN) {
+                throw unexpected(literal);
+            }
+            return new ComparisonNode(column, operator, new Literal(literal.type, literal.text));
+        }
+
+        private Token peek() {
+            return tokens.get(position);
+        }
+
+        private Token next() {
+            Token token = tokens.get(position);
+            if (token.type != TokenType.END) {
+                position++;
+            }
+            return token;
+        }
+
+        private Token expect(TokenType type) {
+            Token token = next();
+            if (token.type != type) {
+                throw unexpected(token);
+            }
+            return token;
+        }
+
+        private IllegalArgumentException unexpected(Token token) {
+            return new IllegalArgumentException(
+                    String.format(
+                            "Invalid filter expression \"%s\", unexpected %s.",
+                            expression,
+                            token.type == TokenType.END
+                                    ? "end of the expression"
+                                    : "token \"" + token.text + "\""));
+        }
+
+        private List<Token> tokenize(String expression) {
+            List<Token> tokens = new ArrayList<>();
+            int i = 0;
+            while (i < expression.length()) {
+                char c = expression.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (c == '(') {
+                    tokens.add(new Token(TokenType.LEFT_PARENTHESIS, "("));
+                    i++;
+                } else if (c == ')') {
+                    tokens.add(new Token(TokenType.RIGHT_PARENTHESIS, ")"));
+                    i++;
+                } else if (c == '\'') {
+                    StringBuilder builder = new StringBuilder();
+                    i++;
+                    while (true) {
+                        if (i >= expression.length()) {
+                            throw invalid("unclosed string literal");
+                        }
+                        char ch = expression.charAt(i++);
+                        if (ch == '\'') {
+                            if (i < expression.length() && expression.charAt(i) == '\'') {
+                                builder.append('\'');
+                                i++;
+                            } else {
+                                break;
+                            }
+                        } else {
+                            builder.append(ch);
+                        }
+                    }
+                    tokens.add(new Token(TokenType.STRING, builder.toString()));
+                } else if (c == '`') {
+                    int end = expression.indexOf('`', i + 1);
+                    if (end < 0) {
+                        throw invalid("unclosed quoted identifier");
+                    }
+                    tokens.add(new Token(TokenType.IDENTIFIER, expression.substring(i + 1, end)));
+                    i = end + 1;
+                } else if (Character.isDigit(c)
+                        || (c == '-'
+                                && i + 1 < expression.length()
+                                && Character.isDigit(expression.charAt(i + 1)))) {
+                    int start = i++;
+                    while (i < expression.length()
+                            && (Character.isDigit(expression.charAt(i))
+                                    || expression.charAt(i) == '.')) {
+                        i++;
+                    }
+                    tokens.add(new Token(TokenType.NUMBER, expression.substring(start, i)));
+                } else if (Character.isLetter(c) || c == '_') {
+                    int start = i++;
+                    while (i < expression.length()
+                            && (Character.isLetterOrDigit(expression.charAt(i))
+                                    || expression.charAt(i) == '_'
+                                    || expression.charAt(i) == '$')) {
+                        i++;
+                    }
+                    tokens.add(toWordToken(expression.substring(start, i)));
+                } else if ("=<>!".indexOf(c) >= 0) {
+                    int start = i++;
+                    if (i < expression.length() && "=<>".indexOf(expression.charAt(i)) >= 0) {
+                        i++;
+                    }
+                    tokens.add(new Token(TokenType.OPERATOR, expression.substring(start, i)));
+                } else {
+                    throw invalid("unexpected character '" + c + "'");
+                }
+            }
+            tokens.add(new Token(TokenType.END, ""));
+            return tokens;
+        }
+
+        private static Token toWordToken(String word) {
+            String upperCase = word.toUpperCase();
+            switch (upperCase) {
+                case "AND":
+                case "OR":
+                case "NOT":
+                case "IS":
+                case "NULL":
+                    return new Token(TokenType.KEYWORD, upperCase);
+                case "TRUE":
+                case "FALSE":
+                    return new Token(TokenType.BOOLEAN, upperCase);
+                default:
+                    return new Token(TokenType.IDENTIFIER, word);
+            }
+        }
+
+        private IllegalArgumentException invalid(String reason) {
+            return new IllegalArgumentException(
+                    String.format("Invalid filter expression \"%s\", %s.", expression, reason));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.transform;
+
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.base.IntSerializer;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.runtime.TupleSerializer;
+import org.apache.flink.runtime.state.StateInitializationContext;
+import org.apache.flink.runtime.state.StateSnapshotContext;
+import org.apache.flink.streaming.api.graph.StreamConfig;
+import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
+import org.apache.flink.streaming.api.operators.ChainingStrategy;
+import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
+import org.apache.flink.streaming.api.operators.Output;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.runtime.tasks.StreamTask;
+
+import com.ververica.cdc.common.annotation.Internal;
+import com.ververica.cdc.common.event.ChangeEvent;
+import com.ververica.cdc.common.event.CreateTableEvent;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.event.SchemaChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.runtime.serializer.event.CreateTableEventSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The operator projects and filters the {@link DataChangeEvent}s of the source tables by the
+ * transform rules, and derives the schemas of the projected tables.
+ *
+ * <p>The operator sits right after the source, so the {@link CreateTableEvent}s and other {@link
+ * SchemaChangeEvent}s sent to the schema operator already carry the projected schemas, and the
+ * dropped columns and rows never reach the partitioning and the sink. The schemas of the source
+ * tables are kept in the operator state, as they are needed to bind the rules to the rows.
+ *
+ * <p>The source is expected to send the {@link CreateTableEvent} of a table to every subtask
+ * reading its changes. As a table may be read by another subtask after restoring, every subtask
+ * restores the schemas kept by all the subtasks, and keeps the one of each table with the most
+ * schema changes received.
+ */
+@Internal
+public class TransformOperator extends AbstractStreamOperator<Event>
+        implements OneInputStreamOperator<Event, Event> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransformOperator.class);
+
+    /** The definitions of the transforms, which are (source table, projection, filter). */
+    private final List<Tuple3<String, String, String>> transformRules;
+
+    private transient List<TransformRule> rules;
+
+    /** The matched rule of the tables, empty if no rule matches the table. */
+    private transient Map<TableId, Optional<TransformRule>> matchedRules;
+
+    private transient Map<TableId, TableTransform> tableTransforms;
+
+    /** The version of the source schema of the tables. */
+    private transient Map<TableId, Integer> sourceSchemaVersions;
+
+    private transient ListState<Tuple2<Integer, CreateTableEvent>> sourceSchemaState;
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /** Builder of {@link TransformOperator}. */
+    public static class Builder {
+        private final List<Tuple3<String, String, String>> transformRules = new ArrayList<>();
+
+        public Builder addTransform(
+                String sourceTable, @Nullable String projection, @Nullable String filter) {
+            // Validates the definition before the job is submitted
+            TransformRule.of(sourceTable, projection, filter);
+            transformRules.add(Tuple3.of(sourceTable, projection, filter));
+            return this;
+        }
+
+        public TransformOperator build() {
+            return new TransformOperator(transformRules);
+        }
+    }
+
+    private TransformOperator(List<Tuple3<String, String, String>> transformRules) {
+        this.transformRules = transformRules;
+        this.chainingStrategy = ChainingStrategy.ALWAYS;
+    }
+
+    @Override
+    public void setup(
+            StreamTask<?, ?> containingTask,
+            StreamConfig config,
+            Output<StreamRecord<Event>> output) {
+        super.setup(containingTask, config, output);
+        this.rules = new ArrayList<>();
+        for (Tuple3<String, String, String> transformRule : transformRules) {
+            rules.add(TransformRule.of(transformRule.f0, transformRule.f1, transformRule.f2));
+        }
+        this.matchedRules = new HashMap<>();
+        this.tableTransforms = new HashMap<>();
+        this.sourceSchemaVersions = new HashMap<>();
+    }
+
+    @Override
+    public void initializeState(StateInitializationContext context) throws Exception {
+        super.initializeState(context);
+        sourceSchemaState =
+                context.getOperatorStateStore()
+                        .getUnionListState(
+                                new ListStateDescriptor<>(
+                                        "source-table-schemas", createSourceSchemaSerializer()));
+        if (context.isRestored()) {
+            Map<TableId, Tuple2<Integer, CreateTableEvent>> latestSchemas = new HashMap<>();
+            for (Tuple2<Integer, CreateTableEvent> versionedSchema : sourceSchemaState.get()) {
+                latestSchemas.merge(
+                        versionedSchema.f1.tableId(),
+                        versionedSchema,
+                        (s1, s2) -> s1.f0 >= s2.f0 ? s1 : s2);
+            }
+            for (Tuple2<Integer, CreateTableEvent> versionedSchema : latestSchemas.values()) {
+                TableId tableId = versionedSchema.f1.tableId();
+                Optional<TransformRule> rule = getMatchedRule(tableId);
+                if (rule.isPresent()) {
+                    tableTransforms.put(
+                            tableId,
+                            TableTransform.create(
+                                    tableId, rule.get(), versionedSchema.f1.getSchema()));
+                    sourceSchemaVersions.put(tableId, versionedSchema.f0);
+                }
+            }
+            LOG.info("Restored the source schemas of tables {}.", tableTransforms.keySet());
+        }
+    }
+
+    @Override
+    public void snapshotState(StateSnapshotContext context) throws Exception {
+        super.snapshotState(context);
+        List<Tuple2<Integer, CreateTableEvent>> sourceSchemas = new ArrayList<>();
+        tableTransforms.forEach(
+                (tableId, tableTransform) ->
+                        sourceSchemas.add(
+                                Tuple2.of(
+                                        sourceSchemaVersions.get(tableId),
+                                        new CreateTableEvent(
+                                                tableId, tableTransform.getSourceSchema()))));
+        sourceSchemaState.update(sourceSchemas);
+    }
+
+    @Override
+    public void processElement(StreamRecord<Event> element) {
+        Event event = element.getValue();
+        if (!(event instanceof ChangeEvent)) {
+            output.collect(element);
+            return;
+        }
+        TableId tableId = ((ChangeEvent) event).tableId();
+        Optional<TransformRule> rule = getMatchedRule(tableId);
+        if (!rule.isPresent()) {
+            output.collect(element);
+            return;
+        }
+
+        if (event instanceof CreateTableEvent) {
+            TableTransform tableTransform =
+                    TableTransform.create(
+                            tableId, rule.get(), ((CreateTableEvent) event).getSchema());
+            tableTransforms.put(tableId, tableTransform);
+            sourceSchemaVersions.merge(tableId, 1, Integer::sum);
+            output.collect(
+                    new StreamRecord<>(
+                            new CreateTableEvent(tableId, tableTransform.getDerivedSchema())));
+            return;
+        }
+
+        TableTransform tableTransform = tableTransforms.get(tableId);
+        if (tableTransform == null) {
+            throw new IllegalStateException(
+                    String.format(
+                            "The schema of table %s is unknown to the transform, "
+                                    + "a CreateTableEvent is expected before %s.",
+                            tableId, event));
+        }
+        if (event instanceof SchemaChangeEvent) {
+            TableTransform evolved = tableTransform.applySchemaChange((SchemaChangeEvent) event);
+            tableTransforms.put(tableId, evolved);
+            sourceSchemaVersions.merge(tableId, 1, Integer::sum);
+            SchemaChangeEvent derived =
+                    tableTransform.deriveSchemaChange((SchemaChangeEvent) event, evolved);
+            if (derived != null) {
+                output.collect(new StreamRecord<>(derived));
+            }
+        } else if (tableTransform.isIdentity()) {
+            output.collect(element);
+        } else {
+            DataChangeEvent transformed = tableTransform.transform((DataChangeEvent) event);
+            if (transformed != null) {
+                output.collect(new StreamRecord<>(transformed));
+            }
+        }
+    }
+
+    private Optional<TransformRule> getMatchedRule(TableId tableId) {
+        return matchedRules.computeIfAbsent(
+                tableId, id -> rules.stream().filter(rule -> rule.isMatch(id)).findFirst());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TupleSerializer<Tuple2<Integer, CreateTableEvent>>
+            createSourceSchemaSerializer() {
+        return new TupleSerializer<>(
+                (Class<Tuple2<Integer, CreateTableEvent>>) (Class<?>) Tuple2.class,
+                new TypeSerializer<?>[] {
+                    IntSerializer.INSTANCE, CreateTableEventSerializer.INSTANCE
+                });
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.transform;
+
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.schema.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The projection of a transform, which selects the columns of the source table to be kept in the
+ * given order.
+ *
+ * <p>A projection is a comma-separated list of items, where each item is either a column reference
+ * with an optional alias like {@code name AS user_name}, or {@code *} which expands to all the
+ * columns of the source table. A blank projection keeps all the columns.
+ */
+class TransformProjection {
+
+    private static final String WILDCARD = "*";
+
+    private static final String IDENTIFIER = "(`[^`]+`|[A-Za-z_][A-Za-z0-9_$]*)";
+
+    private static final Pattern COLUMN_PATTERN =
+            Pattern.compile("^" + IDENTIFIER + "(?:\\s+(?i:AS)\\s+" + IDENTIFIER + ")?$");
+
+    private static final TransformProjection ALL_COLUMNS =
+            new TransformProjection(Collections.singletonList(ProjectionItem.wildcard()));
+
+    private final List<ProjectionItem> items;
+    private final boolean hasWildcard;
+
+    private TransformProjection(List<ProjectionItem> items) {
+        this.items = items;
+        this.hasWildcard = items.stream().anyMatch(ProjectionItem::isWildcard);
+    }
+
+    static TransformProjection parse(String projection) {
+        if (projection == null || projection.trim().isEmpty()) {
+            return ALL_COLUMNS;
+        }
+        List<ProjectionItem> items = new ArrayList<>();
+        for (String item : projection.split(",")) {
+            item = item.trim();
+            if (WILDCARD.equals(item)) {
+                items.add(ProjectionItem.wildcard());
+                continue;
+            }
+            Matcher matcher = COLUMN_PATTERN.matcher(item);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Unsupported projection item \"%s\" in \"%s\", only column "
+                                        + "references with optional aliases and * are supported.",
+                                item, projection));
+            }
+            String column = unquote(matcher.group(1));
+            String alias = matcher.group(2) == null ? column : unquote(matcher.group(2));
+            items.add(new ProjectionItem(column, alias));
+        }
+        return new TransformProjection(items);
+    }
+
+    /** Whether the projection keeps all the columns of the source table in their order. */
+    boolean isAllColumns() {
+        return items.size() == 1 && hasWildcard;
+    }
+
+    boolean hasWildcard() {
+        return hasWildcard;
+    }
+
+    /** Returns the source columns explicitly referenced by the projection. */
+    Set<String> getReferencedColumns() {
+        Set<String> columns = new LinkedHashSet<>();
+        for (ProjectionItem item : items) {
+            if (!item.isWildcard()) {
+                columns.add(item.column);
+            }
+        }
+        return columns;
+    }
+
+    /** Returns the source column of the given alias, or the name itself if it is not an alias. */
+    String resolveColumn(String name) {
+        for (ProjectionItem item : items) {
+            if (!item.isWildcard() && item.alias.equals(name)) {
+                return item.column;
+            }
+        }
+        return name;
+    }
+
+    /** Returns the output names of the given source column. */
+    List<String> getOutputNames(String column) {
+        List<String> names = new ArrayList<>();
+        for (ProjectionItem item : items) {
+            if (item.isWildcard()) {
+                names.add(column);
+            } else if (item.column.equals(column)) {
+                names.add(item.alias);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the indexes of the source columns in the projected columns, which are added to the
+     * given list in the projected order.
+     */
+    int[] project(Schema sourceSchema, List<Column> projectedColumns) {
+        List<Column> sourceColumns = sourceSchema.getColumns();
+        List<Integer> indexes = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (ProjectionItem item : items) {
+            if (item.isWildcard()) {
+                for (int i = 0; i < sourceColumns.size(); i++) {
+                    addColumn(sourceColumns.get(i), i, names, indexes, projectedColumns);
+                }
+                continue;
+            }
+            int index = sourceSchema.getColumnNames().indexOf(item.column);
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The projected column \"%s\" does not exist in the schema %s.",
+                                item.column, sourceSchema));
+            }
+            Column column = sourceColumns.get(index);
+            addColumn(
+                    item.alias.equals(item.column) ? column : column.copy(item.alias),
+                    index,
+                    names,
+                    indexes,
+                    projectedColumns);
+        }
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void addColumn(
+            Column column,
+            int index,
+            Set<String> names,
+            List<Integer> indexes,
+            List<Column> projectedColumns) {
+        if (!names.add(column.getName())) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The column \"%s\" is projected more than once.", column.getName()));
+        }
+        indexes.add(index);
+        projectedColumns.add(column);
+    }
+
+    private static String unquote(String name) {
+        return name.startsWith("`") ? name.substring(1, name.length() - 1) : name;
+    }
+
+    /** A projected column reference, or the wildcard if the column is null. */
+    private static class ProjectionItem {
+        private final String column;
+        private final String alias;
+
+        private ProjectionItem(String column, String alias) {
+            this.column = column;
+            this.alias = alias;
+        }
+
+        private static ProjectionItem wildcard() {
+            return new ProjectionItem(null, null);
+        }
+
+        private boolean isWildcard() {
+            return column == null;
+        }
+    }
+}
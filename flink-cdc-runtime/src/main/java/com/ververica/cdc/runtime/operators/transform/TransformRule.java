@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.transform;
+
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Selectors;
+
+import javax.annotation.Nullable;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/** A transform rule parsed from the definition, which applies to the matched source tables. */
+class TransformRule {
+
+    private final String sourceTable;
+    private final Selectors selectors;
+    private final TransformProjection projection;
+    @Nullable private final TransformFilter filter;
+
+    private TransformRule(
+            String sourceTable,
+            Selectors selectors,
+            TransformProjection projection,
+            @Nullable TransformFilter filter) {
+        this.sourceTable = sourceTable;
+        this.selectors = selectors;
+        this.projection = projection;
+        this.filter = filter;
+    }
+
+    static TransformRule of(
+            String sourceTable, @Nullable String projection, @Nullable String filter) {
+        return new TransformRule(
+                sourceTable,
+                new Selectors.SelectorsBuilder().includeTables(sourceTable).build(),
+                TransformProjection.parse(projection),
+                filter == null || filter.trim().isEmpty() ? null : TransformFilter.parse(filter));
+    }
+
+    boolean isMatch(TableId tableId) {
+        return selectors.isMatch(tableId);
+    }
+
+    String getSourceTable() {
+        return sourceTable;
+    }
+
+    TransformProjection getProjection() {
+        return projection;
+    }
+
+    @Nullable
+    TransformFilter getFilter() {
+        return filter;
+    }
+
+    /** Returns the names explicitly referenced by the projection or the filter. */
+    Set<String> getReferencedColumns() {
+        Set<String> columns = new LinkedHashSet<>(projection.getReferencedColumns());
+        if (filter != null) {
+            // the filter may reference an alias, or a source column named as some alias
+            for (String column : filter.getReferencedColumns()) {
+                columns.add(column);
+                columns.add(projection.resolveColumn(column));
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.partitioning;
+
+import com.ververica.cdc.common.annotation.Internal;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
+
+import java.util.List;
+
+/**
+ * {@link DefaultDataChangeEventHashFunctionProvider} which spreads the {@link DataChangeEvent}s of
+ * tables without primary keys by all of their columns, instead of sending all the events of such a
+ * table to the same subtask.
+ *
+ * <p>The events of a table without primary keys have no identity, only the events of the same row
+ * image are kept in order. The events of tables with primary keys are hashed by primary keys as
+ * usual.
+ */
+@Internal
+public class BalancedDataChangeEventHashFunctionProvider
+        extends DefaultDataChangeEventHashFunctionProvider {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected List<String> getHashColumns(Schema schema) {
+        return schema.primaryKeys().isEmpty() ? schema.getColumnNames() : schema.primaryKeys();
+    }
+}
@@ -28,23 +28,19 @@ import org.apache.flink.shaded.guava31.com.google.common.cache.CacheLoader;
 import org.apache.flink.shaded.guava31.com.google.common.cache.LoadingCache;
 
 import com.ververica.cdc.common.annotation.Internal;
-import com.ververica.cdc.common.annotation.VisibleForTesting;
-import com.ververica.cdc.common.data.RecordData;
 import com.ververica.cdc.common.event.DataChangeEvent;
 import com.ververica.cdc.common.event.Event;
 import com.ververica.cdc.common.event.FlushEvent;
-import com.ververica.cdc.common.event.OperationType;
 import com.ververica.cdc.common.event.SchemaChangeEvent;
 import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.function.HashFunction;
+import com.ververica.cdc.common.function.HashFunctionProvider;
 import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
 import com.ververica.cdc.runtime.operators.sink.SchemaEvolutionClient;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 
 /**
  * Operator for processing events from {@link
@@ -58,14 +54,26 @@ public class PrePartitionOperator extends AbstractStreamOperator<PartitioningEve
 
     private final OperatorID schemaOperatorId;
     private final int downstreamParallelism;
+    private final HashFunctionProvider<DataChangeEvent> hashFunctionProvider;
 
     private transient SchemaEvolutionClient schemaEvolutionClient;
-    private transient LoadingCache<TableId, HashFunction> cachedHashFunctions;
+    private transient LoadingCache<TableId, HashFunction<DataChangeEvent>> cachedHashFunctions;
 
     public PrePartitionOperator(OperatorID schemaOperatorId, int downstreamParallelism) {
+        this(
+                schemaOperatorId,
+                downstreamParallelism,
+                new DefaultDataChangeEventHashFunctionProvider());
+    }
+
+    public PrePartitionOperator(
+            OperatorID schemaOperatorId,
+            int downstreamParallelism,
+            HashFunctionProvider<DataChangeEvent> hashFunctionProvider) {
         this.chainingStrategy = ChainingStrategy.ALWAYS;
         this.schemaOperatorId = schemaOperatorId;
         this.downstreamParallelism = downstreamParallelism;
+        this.hashFunctionProvider = hashFunctionProvider;
     }
 
     @Override
@@ -102,7 +110,7 @@ public class PrePartitionOperator extends AbstractStreamOperator<PartitioningEve
                                 dataChangeEvent,
                                 cachedHashFunctions
                                                 .get(dataChangeEvent.tableId())
-                                                .apply(dataChangeEvent)
+                                                .hashcode(dataChangeEvent)
                                         % downstreamParallelism)));
     }
 
@@ -128,77 +136,19 @@ public class PrePartitionOperator extends AbstractStreamOperator<PartitioningEve
         return schema.get();
     }
 
-    private HashFunction recreateHashFunction(TableId tableId) {
-        return new HashFunction(loadLatestSchemaFromRegistry(tableId));
+    private HashFunction<DataChangeEvent> recreateHashFunction(TableId tableId) {
+        return hashFunctionProvider.getHashFunction(tableId, loadLatestSchemaFromRegistry(tableId));
     }
 
-    private LoadingCache<TableId, HashFunction> createCache() {
+    private LoadingCache<TableId, HashFunction<DataChangeEvent>> createCache() {
         return CacheBuilder.newBuilder()
                 .expireAfterAccess(CACHE_EXPIRE_DURATION)
                 .build(
-                        new CacheLoader<TableId, HashFunction>() {
+                        new CacheLoader<TableId, HashFunction<DataChangeEvent>>() {
                             @Override
-                            public HashFunction load(TableId key) {
+                            public HashFunction<DataChangeEvent> load(TableId key) {
                                 return recreateHashFunction(key);
                             }
                         });
     }
-
-    @VisibleForTesting
-    static class HashFunction implements Function<DataChangeEvent, Integer> {
-        private final List<RecordData.FieldGetter> primaryKeyGetters;
-
-        public HashFunction(Schema schema) {
-            primaryKeyGetters = createFieldGetters(schema);
-        }
-
-        @Override
-        public Integer apply(DataChangeEvent event) {
-            List<Object> objectsToHash = new ArrayList<>();
-            // Table ID
-            TableId tableId = event.tableId();
-            Optional.ofNullable(tableId.getNamespace()).ifPresent(objectsToHash::add);
-            Optional.ofNullable(tableId.getSchemaName()).ifPresent(objectsToHash::add);
-            objectsToHash.add(tableId.getTableName());
-
-            // Primary key
-            RecordData data =
-                    event.op().equals(OperationType.DELETE) ? event.before() : event.after();
-            for (RecordData.FieldGetter primaryKeyGetter : primaryKeyGetters) {
-                objectsToHash.add(primaryKeyGetter.getFieldOrNull(data));
-            }
-
-            // Calculate hash
-            return (Objects.hash(objectsToHash.toArray()) * 31) & 0x7FFFFFFF;
-        }
-
-        private List<RecordData.FieldGetter> createFieldGetters(Schema schema) {
-            List<RecordData.FieldGetter> fieldGetters =
-                    new ArrayList<>(schema.primaryKeys().size());
-            int[] primaryKeyPositions =
-                    schema.primaryKeys().stream()
-                            .mapToInt(
-                                    pk -> {
-                                        int i = 0;
-                                        while (!schema.getColumns().get(i).getName().equals(pk)) {
-                                            ++i;
-                                        }
-                                        if (i >= schema.getColumnCount()) {
-                                            throw new IllegalStateException(
-                                                    String.format(
-                                                            "Unable to find column \"%s\" which is defined as primary key",
-                                                            pk));
-                                        }
-                                        return i;
-                                    })
-                            .toArray();
-            for (int primaryKeyPosition : primaryKeyPositions) {
-                fieldGetters.add(
-                        RecordData.createFieldGetter(
-                                schema.getColumns().get(primaryKeyPosition).getType(),
-                                primaryKeyPosition));
-            }
-            return fieldGetters;
-        }
-    }
 }
@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.runtime.serializer.data.writer;
 
+import org.apache.flink.core.memory.MemorySegment;
 import org.apache.flink.core.memory.MemorySegmentFactory;
 
 import com.ververica.cdc.common.annotation.Internal;
@@ -27,7 +28,7 @@ import com.ververica.cdc.common.data.binary.BinarySegmentUtils;
 public final class BinaryRecordDataWriter extends AbstractBinaryWriter {
 
     private final int nullBitsSizeInBytes;
-    private final BinaryRecordData row;
+    private BinaryRecordData row;
     private final int fixedSize;
 
     public BinaryRecordDataWriter(BinaryRecordData row) {
@@ -44,6 +45,17 @@ public final class BinaryRecordDataWriter extends AbstractBinaryWriter {
         this.row.pointTo(segment, 0, segment.size());
     }
 
+    /**
+     * Points the writer to a new record backed by the given segment. The segment must be zeroed,
+     * and if it is large enough for the whole record, no grow happens during writing.
+     */
+    public void pointTo(BinaryRecordData row, MemorySegment segment) {
+        this.cursor = fixedSize;
+        this.segment = segment;
+        this.row = row;
+        this.row.pointTo(segment, 0, segment.size());
+    }
+
     /** First, reset. */
     @Override
     public void reset() {
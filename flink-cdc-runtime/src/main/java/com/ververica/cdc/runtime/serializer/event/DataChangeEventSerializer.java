@@ -16,12 +16,13 @@
 
 package com.ververica.cdc.runtime.serializer.event;
 
-import org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot;
 import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
 import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 
+import com.ververica.cdc.common.data.RecordData;
 import com.ververica.cdc.common.event.DataChangeEvent;
 import com.ververica.cdc.common.event.OperationType;
 import com.ververica.cdc.common.event.TableId;
@@ -33,25 +34,60 @@ import com.ververica.cdc.runtime.serializer.TableIdSerializer;
 import com.ververica.cdc.runtime.serializer.TypeSerializerSingleton;
 import com.ververica.cdc.runtime.serializer.data.RecordDataSerializer;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 
-/** A {@link TypeSerializer} for {@link DataChangeEvent}. */
+/**
+ * A {@link TypeSerializer} for {@link DataChangeEvent}.
+ *
+ * <p>An event is written as a header byte holding the operation type and the kind of the meta
+ * map, followed by the table id, the records and the meta map if it is not empty. The table id is
+ * written with a one byte count of its parts. Events written in the format before the compact
+ * format are still readable by the serializer restored from an old {@link
+ * DataChangeEventSerializerSnapshot}.
+ *
+ * <p>As {@link DataChangeEvent} is immutable, copying an event returns the event itself.
+ */
 public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChangeEvent> {
 
     private static final long serialVersionUID = 1L;
 
     /** Sharable instance of the TableIdSerializer. */
-    public static final DataChangeEventSerializer INSTANCE = new DataChangeEventSerializer();
+    public static final DataChangeEventSerializer INSTANCE = new DataChangeEventSerializer(false);
+
+    /** Instance for the format before the compact format, only used for restoring. */
+    static final DataChangeEventSerializer LEGACY_INSTANCE = new DataChangeEventSerializer(true);
+
+    /** Operation types by their code in the header byte, the codes must never change. */
+    private static final OperationType[] OPERATION_TYPES = {
+        OperationType.INSERT, OperationType.UPDATE, OperationType.REPLACE, OperationType.DELETE
+    };
+
+    private static final int OPERATION_TYPE_MASK = 0x03;
+    private static final int META_EMPTY = 0x00;
+    private static final int META_PRESENT = 0x04;
+    private static final int META_NULL = 0x08;
+    private static final int META_MASK = 0x0C;
+
+    private final boolean legacyFormat;
 
     private final TableIdSerializer tableIdSerializer = TableIdSerializer.INSTANCE;
+    private final MapSerializer<String, String> mapSerializer =
+            new MapSerializer<>(StringSerializer.INSTANCE, StringSerializer.INSTANCE);
     private final TypeSerializer<Map<String, String>> metaSerializer =
-            new NullableSerializerWrapper<>(
-                    new MapSerializer<>(StringSerializer.INSTANCE, StringSerializer.INSTANCE));
+            new NullableSerializerWrapper<>(mapSerializer);
     private final EnumSerializer<OperationType> opSerializer =
             new EnumSerializer<>(OperationType.class);
     private final RecordDataSerializer recordDataSerializer = RecordDataSerializer.INSTANCE;
 
+    private DataChangeEventSerializer(boolean legacyFormat) {
+        this.legacyFormat = legacyFormat;
+    }
+
     @Override
     public DataChangeEvent createInstance() {
         return DataChangeEvent.deleteEvent(TableId.tableId("unknown"), null);
@@ -59,8 +95,14 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
 
     @Override
     public void serialize(DataChangeEvent event, DataOutputView target) throws IOException {
-        opSerializer.serialize(event.op(), target);
-        tableIdSerializer.serialize(event.tableId(), target);
+        if (legacyFormat) {
+            serializeLegacy(event, target);
+            return;
+        }
+        Map<String, String> meta = event.meta();
+        int metaKind = meta == null ? META_NULL : meta.isEmpty() ? META_EMPTY : META_PRESENT;
+        target.writeByte(getOperationTypeCode(event.op()) | metaKind);
+        serializeTableId(event.tableId(), target);
 
         if (event.before() != null) {
             recordDataSerializer.serialize(event.before(), target);
@@ -68,80 +110,75 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
         if (event.after() != null) {
             recordDataSerializer.serialize(event.after(), target);
         }
-        metaSerializer.serialize(event.meta(), target);
+        if (metaKind == META_PRESENT) {
+            mapSerializer.serialize(meta, target);
+        }
     }
 
     @Override
     public DataChangeEvent deserialize(DataInputView source) throws IOException {
-        OperationType op = opSerializer.deserialize(source);
-        TableId tableId = tableIdSerializer.deserialize(source);
-
-        switch (op) {
-            case DELETE:
-                return DataChangeEvent.deleteEvent(
-                        tableId,
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
-            case INSERT:
-                return DataChangeEvent.insertEvent(
-                        tableId,
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
-            case UPDATE:
-                return DataChangeEvent.updateEvent(
-                        tableId,
-                        recordDataSerializer.deserialize(source),
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
-            case REPLACE:
-                return DataChangeEvent.replaceEvent(
-                        tableId,
-                        recordDataSerializer.deserialize(source),
-                        metaSerializer.deserialize(source));
-            default:
-                throw new IllegalArgumentException("Unsupported data change event: " + op);
-        }
+        return deserialize(null, source);
     }
 
     @Override
     public DataChangeEvent deserialize(DataChangeEvent reuse, DataInputView source)
             throws IOException {
-        return deserialize(source);
+        // the reused event can't be modified, but its table id is shared if it is the same
+        return deserialize(reuse == null ? null : reuse.tableId(), source);
     }
 
-    @Override
-    public DataChangeEvent copy(DataChangeEvent from) {
-        OperationType op = from.op();
+    private DataChangeEvent deserialize(@Nullable TableId reuseTableId, DataInputView source)
+            throws IOException {
+        if (legacyFormat) {
+            return deserializeLegacy(source);
+        }
+        int header = source.readUnsignedByte();
+        OperationType op = OPERATION_TYPES[header & OPERATION_TYPE_MASK];
+        TableId tableId = deserializeTableId(reuseTableId, source);
+
+        RecordData before = null;
+        RecordData after = null;
         switch (op) {
             case DELETE:
-                return DataChangeEvent.deleteEvent(
-                        tableIdSerializer.copy(from.tableId()),
-                        recordDataSerializer.copy(from.before()),
-                        metaSerializer.copy(from.meta()));
+                before = recordDataSerializer.deserialize(source);
+                break;
             case INSERT:
-                return DataChangeEvent.insertEvent(
-                        tableIdSerializer.copy(from.tableId()),
-                        recordDataSerializer.copy(from.after()),
-                        metaSerializer.copy(from.meta()));
-            case UPDATE:
-                return DataChangeEvent.updateEvent(
-                        tableIdSerializer.copy(from.tableId()),
-                        recordDataSerializer.copy(from.before()),
-                        recordDataSerializer.copy(from.after()),
-                        metaSerializer.copy(from.meta()));
             case REPLACE:
-                return DataChangeEvent.replaceEvent(
-                        tableIdSerializer.copy(from.tableId()),
-                        recordDataSerializer.copy(from.after()),
-                        metaSerializer.copy(from.meta()));
+                after = recordDataSerializer.deserialize(source);
+                break;
+            case UPDATE:
+                before = recordDataSerializer.deserialize(source);
+                after = recordDataSerializer.deserialize(source);
+                break;
             default:
                 throw new IllegalArgumentException("Unsupported data change event: " + op);
         }
+
+        Map<String, String> meta;
+        switch (header & META_MASK) {
+            case META_EMPTY:
+                meta = Collections.emptyMap();
+                break;
+            case META_PRESENT:
+                meta = mapSerializer.deserialize(source);
+                break;
+            case META_NULL:
+                meta = null;
+                break;
+            default:
+                throw new IOException("Corrupt data change event header: " + header);
+        }
+        return createEvent(op, tableId, before, after, meta);
+    }
+
+    @Override
+    public DataChangeEvent copy(DataChangeEvent from) {
+        return from;
     }
 
     @Override
     public DataChangeEvent copy(DataChangeEvent from, DataChangeEvent reuse) {
-        return copy(from);
+        return from;
     }
 
     @Override
@@ -151,7 +188,7 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
 
     @Override
     public boolean isImmutableType() {
-        return false;
+        return true;
     }
 
     @Override
@@ -159,17 +196,195 @@ public class DataChangeEventSerializer extends TypeSerializerSingleton<DataChang
         return -1;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj)
+                && legacyFormat == ((DataChangeEventSerializer) obj).legacyFormat;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Boolean.hashCode(legacyFormat);
+    }
+
     @Override
     public TypeSerializerSnapshot<DataChangeEvent> snapshotConfiguration() {
         return new DataChangeEventSerializerSnapshot();
     }
 
-    /** {@link TypeSerializerSnapshot} for {@link DataChangeEventSerializer}. */
+    private Object readResolve() {
+        return legacyFormat ? LEGACY_INSTANCE : INSTANCE;
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private static int getOperationTypeCode(OperationType op) {
+        for (int code = 0; code < OPERATION_TYPES.length; code++) {
+            if (OPERATION_TYPES[code] == op) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported data change event: " + op);
+    }
+
+    private static void serializeTableId(TableId tableId, DataOutputView target)
+            throws IOException {
+        int parts = 1;
+        parts += tableId.getNamespace() == null ? 0 : 1;
+        parts += tableId.getSchemaName() == null ? 0 : 1;
+        target.writeByte(parts);
+        if (tableId.getNamespace() != null) {
+            target.writeUTF(tableId.getNamespace());
+        }
+        if (tableId.getSchemaName() != null) {
+            target.writeUTF(tableId.getSchemaName());
+        }
+        target.writeUTF(tableId.getTableName());
+    }
+
+    private static TableId deserializeTableId(
+            @Nullable TableId reuseTableId, DataInputView source) throws IOException {
+        int parts = source.readUnsignedByte();
+        String namespace = parts == 3 ? source.readUTF() : null;
+        String schemaName = parts >= 2 ? source.readUTF() : null;
+        String tableName = source.readUTF();
+        if (reuseTableId != null
+                && tableName.equals(reuseTableId.getTableName())
+                && Objects.equals(schemaName, reuseTableId.getSchemaName())
+                && Objects.equals(namespace, reuseTableId.getNamespace())) {
+            return reuseTableId;
+        }
+        if (parts == 3) {
+            return TableId.tableId(namespace, schemaName, tableName);
+        }
+        if (parts == 2) {
+            return TableId.tableId(schemaName, tableName);
+        }
+        return TableId.tableId(tableName);
+    }
+
+    private static DataChangeEvent createEvent(
+            OperationType op,
+            TableId tableId,
+            RecordData before,
+            RecordData after,
+            Map<String, String> meta) {
+        switch (op) {
+            case DELETE:
+                return DataChangeEvent.deleteEvent(tableId, before, meta);
+            case INSERT:
+                return DataChangeEvent.insertEvent(tableId, after, meta);
+            case UPDATE:
+                return DataChangeEvent.updateEvent(tableId, before, after, meta);
+            case REPLACE:
+                return DataChangeEvent.replaceEvent(tableId, after, meta);
+            default:
+                throw new IllegalArgumentException("Unsupported data change event: " + op);
+        }
+    }
+
+    /**
+     * Reads the content of a snapshot written by {@link
+     * org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot} (version 2 and 3), or
+     * validates the version of a snapshot with no content.
+     */
+    static void readLegacySnapshot(int readVersion, int currentVersion, DataInputView in)
+            throws IOException {
+        if (readVersion == 2) {
+            // the class name of the serializer, which is not needed any more
+            in.readUTF();
+        } else if (readVersion < 2 || readVersion > currentVersion) {
+            throw new IOException("Unrecognized version: " + readVersion);
+        }
+    }
+
+    private void serializeLegacy(DataChangeEvent event, DataOutputView target)
+            throws IOException {
+        opSerializer.serialize(event.op(), target);
+        tableIdSerializer.serialize(event.tableId(), target);
+
+        if (event.before() != null) {
+            recordDataSerializer.serialize(event.before(), target);
+        }
+        if (event.after() != null) {
+            recordDataSerializer.serialize(event.after(), target);
+        }
+        metaSerializer.serialize(event.meta(), target);
+    }
+
+    private DataChangeEvent deserializeLegacy(DataInputView source) throws IOException {
+        OperationType op = opSerializer.deserialize(source);
+        TableId tableId = tableIdSerializer.deserialize(source);
+
+        switch (op) {
+            case DELETE:
+                return DataChangeEvent.deleteEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        metaSerializer.deserialize(source));
+            case INSERT:
+                return DataChangeEvent.insertEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        metaSerializer.deserialize(source));
+            case UPDATE:
+                return DataChangeEvent.updateEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        recordDataSerializer.deserialize(source),
+                        metaSerializer.deserialize(source));
+            case REPLACE:
+                return DataChangeEvent.replaceEvent(
+                        tableId,
+                        recordDataSerializer.deserialize(source),
+                        metaSerializer.deserialize(source));
+            default:
+                throw new IllegalArgumentException("Unsupported data change event: " + op);
+        }
+    }
+
+    /**
+     * {@link TypeSerializerSnapshot} for {@link DataChangeEventSerializer}.
+     *
+     * <p>Snapshots before version 4 were written by {@link
+     * org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot} for the legacy format.
+     */
     public static final class DataChangeEventSerializerSnapshot
-            extends SimpleTypeSerializerSnapshot<DataChangeEvent> {
+            implements TypeSerializerSnapshot<DataChangeEvent> {
+
+        private static final int CURRENT_VERSION = 4;
+
+        private int readVersion = CURRENT_VERSION;
+
+        @Override
+        public int getCurrentVersion() {
+            return CURRENT_VERSION;
+        }
+
+        @Override
+        public void writeSnapshot(DataOutputView out) {}
+
+        @Override
+        public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader)
+                throws IOException {
+            readLegacySnapshot(readVersion, CURRENT_VERSION, in);
+            this.readVersion = readVersion;
+        }
+
+        @Override
+        public TypeSerializer<DataChangeEvent> restoreSerializer() {
+            return readVersion < CURRENT_VERSION ? LEGACY_INSTANCE : INSTANCE;
+        }
 
-        public DataChangeEventSerializerSnapshot() {
-            super(() -> INSTANCE);
+        @Override
+        public TypeSerializerSchemaCompatibility<DataChangeEvent> resolveSchemaCompatibility(
+                TypeSerializer<DataChangeEvent> newSerializer) {
+            if (!(newSerializer instanceof DataChangeEventSerializer)) {
+                return TypeSerializerSchemaCompatibility.incompatible();
+            }
+            return readVersion < CURRENT_VERSION
+                    ? TypeSerializerSchemaCompatibility.compatibleAfterMigration()
+                    : TypeSerializerSchemaCompatibility.compatibleAsIs();
         }
     }
 }
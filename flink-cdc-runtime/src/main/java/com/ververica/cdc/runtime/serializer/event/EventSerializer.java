@@ -16,8 +16,8 @@
 
 package com.ververica.cdc.runtime.serializer.event;
 
-import org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot;
 import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
 import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
@@ -32,21 +32,46 @@ import com.ververica.cdc.runtime.serializer.TypeSerializerSingleton;
 
 import java.io.IOException;
 
-/** A {@link TypeSerializer} for {@link Event}. */
+/**
+ * A {@link TypeSerializer} for {@link Event}.
+ *
+ * <p>The class of an event is written as a single byte. Events written in the format before that
+ * are still readable by the serializer restored from an old {@link EventSerializerSnapshot}.
+ *
+ * <p>Copying a {@link DataChangeEvent} or a {@link FlushEvent} returns the event itself as they are
+ * immutable, only schema change events are deep copied.
+ */
 public final class EventSerializer extends TypeSerializerSingleton<Event> {
 
     private static final long serialVersionUID = 1L;
 
     /** Sharable instance of the TableIdSerializer. */
-    public static final EventSerializer INSTANCE = new EventSerializer();
+    public static final EventSerializer INSTANCE = new EventSerializer(false);
+
+    /** Instance for the format before the compact format, only used for restoring. */
+    static final EventSerializer LEGACY_INSTANCE = new EventSerializer(true);
+
+    /** Event classes by their code, the codes must never change. */
+    private static final EventClass[] EVENT_CLASSES = {
+        EventClass.DATA_CHANGE_EVENT, EventClass.SCHEME_CHANGE_EVENT, EventClass.FLUSH_EVENT
+    };
+
+    private final boolean legacyFormat;
 
     private final SchemaChangeEventSerializer schemaChangeEventSerializer =
             SchemaChangeEventSerializer.INSTANCE;
     private final TableIdSerializer tableIdSerializer = TableIdSerializer.INSTANCE;
     private final EnumSerializer<EventClass> enumSerializer =
             new EnumSerializer<>(EventClass.class);
-    private final TypeSerializer<DataChangeEvent> dataChangeEventSerializer =
-            DataChangeEventSerializer.INSTANCE;
+    private final TypeSerializer<DataChangeEvent> dataChangeEventSerializer;
+
+    private EventSerializer(boolean legacyFormat) {
+        this.legacyFormat = legacyFormat;
+        this.dataChangeEventSerializer =
+                legacyFormat
+                        ? DataChangeEventSerializer.LEGACY_INSTANCE
+                        : DataChangeEventSerializer.INSTANCE;
+    }
 
     @Override
     public boolean isImmutableType() {
@@ -61,7 +86,8 @@ public final class EventSerializer extends TypeSerializerSingleton<Event> {
     @Override
     public Event copy(Event from) {
         if (from instanceof FlushEvent) {
-            return new FlushEvent(tableIdSerializer.copy(((FlushEvent) from).getTableId()));
+            // FlushEvent is immutable
+            return from;
         } else if (from instanceof SchemaChangeEvent) {
             return schemaChangeEventSerializer.copy((SchemaChangeEvent) from);
         } else if (from instanceof DataChangeEvent) {
@@ -83,13 +109,13 @@ public final class EventSerializer extends TypeSerializerSingleton<Event> {
     @Override
     public void serialize(Event record, DataOutputView target) throws IOException {
         if (record instanceof FlushEvent) {
-            enumSerializer.serialize(EventClass.FLUSH_EVENT, target);
+            serializeEventClass(EventClass.FLUSH_EVENT, target);
             tableIdSerializer.serialize(((FlushEvent) record).getTableId(), target);
         } else if (record instanceof SchemaChangeEvent) {
-            enumSerializer.serialize(EventClass.SCHEME_CHANGE_EVENT, target);
+            serializeEventClass(EventClass.SCHEME_CHANGE_EVENT, target);
             schemaChangeEventSerializer.serialize((SchemaChangeEvent) record, target);
         } else if (record instanceof DataChangeEvent) {
-            enumSerializer.serialize(EventClass.DATA_CHANGE_EVENT, target);
+            serializeEventClass(EventClass.DATA_CHANGE_EVENT, target);
             dataChangeEventSerializer.serialize((DataChangeEvent) record, target);
         } else {
             throw new UnsupportedOperationException("Unknown event type: " + record.toString());
@@ -98,7 +124,10 @@ public final class EventSerializer extends TypeSerializerSingleton<Event> {
 
     @Override
     public Event deserialize(DataInputView source) throws IOException {
-        EventClass eventClass = enumSerializer.deserialize(source);
+        return deserialize(deserializeEventClass(source), source);
+    }
+
+    private Event deserialize(EventClass eventClass, DataInputView source) throws IOException {
         switch (eventClass) {
             case FLUSH_EVENT:
                 return new FlushEvent(tableIdSerializer.deserialize(source));
@@ -113,7 +142,11 @@ public final class EventSerializer extends TypeSerializerSingleton<Event> {
 
     @Override
     public Event deserialize(Event reuse, DataInputView source) throws IOException {
-        return deserialize(source);
+        EventClass eventClass = deserializeEventClass(source);
+        if (eventClass == EventClass.DATA_CHANGE_EVENT && reuse instanceof DataChangeEvent) {
+            return dataChangeEventSerializer.deserialize((DataChangeEvent) reuse, source);
+        }
+        return deserialize(eventClass, source);
     }
 
     @Override
@@ -121,17 +154,93 @@ public final class EventSerializer extends TypeSerializerSingleton<Event> {
         serialize(deserialize(source), target);
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj) && legacyFormat == ((EventSerializer) obj).legacyFormat;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Boolean.hashCode(legacyFormat);
+    }
+
     @Override
     public TypeSerializerSnapshot<Event> snapshotConfiguration() {
         return new EventSerializerSnapshot();
     }
 
-    /** Serializer configuration snapshot for compatibility and format evolution. */
+    private Object readResolve() {
+        return legacyFormat ? LEGACY_INSTANCE : INSTANCE;
+    }
+
+    private void serializeEventClass(EventClass eventClass, DataOutputView target)
+            throws IOException {
+        if (legacyFormat) {
+            enumSerializer.serialize(eventClass, target);
+            return;
+        }
+        for (int code = 0; code < EVENT_CLASSES.length; code++) {
+            if (EVENT_CLASSES[code] == eventClass) {
+                target.writeByte(code);
+                return;
+            }
+        }
+        throw new UnsupportedOperationException("Unknown event type: " + eventClass);
+    }
+
+    private EventClass deserializeEventClass(DataInputView source) throws IOException {
+        if (legacyFormat) {
+            return enumSerializer.deserialize(source);
+        }
+        int code = source.readUnsignedByte();
+        if (code >= EVENT_CLASSES.length) {
+            throw new IOException("Unknown event type code: " + code);
+        }
+        return EVENT_CLASSES[code];
+    }
+
+    /**
+     * Serializer configuration snapshot for compatibility and format evolution.
+     *
+     * <p>Snapshots before version 4 were written by {@link
+     * org.apache.flink.api.common.typeutils.SimpleTypeSerializerSnapshot} for the legacy format.
+     */
     @SuppressWarnings("WeakerAccess")
-    public static final class EventSerializerSnapshot extends SimpleTypeSerializerSnapshot<Event> {
+    public static final class EventSerializerSnapshot implements TypeSerializerSnapshot<Event> {
+
+        private static final int CURRENT_VERSION = 4;
+
+        private int readVersion = CURRENT_VERSION;
+
+        @Override
+        public int getCurrentVersion() {
+            return CURRENT_VERSION;
+        }
+
+        @Override
+        public void writeSnapshot(DataOutputView out) {}
+
+        @Override
+        public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader)
+                throws IOException {
+            DataChangeEventSerializer.readLegacySnapshot(readVersion, CURRENT_VERSION, in);
+            this.readVersion = readVersion;
+        }
+
+        @Override
+        public TypeSerializer<Event> restoreSerializer() {
+            return readVersion < CURRENT_VERSION ? LEGACY_INSTANCE : INSTANCE;
+        }
 
-        public EventSerializerSnapshot() {
-            super(() -> INSTANCE);
+        @Override
+        public TypeSerializerSchemaCompatibility<Event> resolveSchemaCompatibility(
+                TypeSerializer<Event> newSerializer) {
+            if (!(newSerializer instanceof EventSerializer)) {
+                return TypeSerializerSchemaCompatibility.incompatible();
+            }
+            return readVersion < CURRENT_VERSION
+                    ? TypeSerializerSchemaCompatibility.compatibleAfterMigration()
+                    : TypeSerializerSchemaCompatibility.compatibleAsIs();
         }
     }
 
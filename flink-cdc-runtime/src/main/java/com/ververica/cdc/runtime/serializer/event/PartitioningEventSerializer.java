@@ -48,8 +48,11 @@ public class PartitioningEventSerializer extends TypeSerializerSingleton<Partiti
 
     @Override
     public PartitioningEvent copy(PartitioningEvent from) {
-        return new PartitioningEvent(
-                eventSerializer.copy(from.getPayload()), from.getTargetPartition());
+        Event payload = eventSerializer.copy(from.getPayload());
+        // PartitioningEvent is immutable, it only needs to be copied if its payload is copied
+        return payload == from.getPayload()
+                ? from
+                : new PartitioningEvent(payload, from.getTargetPartition());
     }
 
     @Override
@@ -78,7 +81,10 @@ public class PartitioningEventSerializer extends TypeSerializerSingleton<Partiti
     @Override
     public PartitioningEvent deserialize(PartitioningEvent reuse, DataInputView source)
             throws IOException {
-        return deserialize(source);
+        Event payload =
+                eventSerializer.deserialize(reuse == null ? null : reuse.getPayload(), source);
+        int targetPartition = source.readInt();
+        return new PartitioningEvent(payload, targetPartition);
     }
 
     @Override
@@ -17,10 +17,16 @@
 package com.ververica.cdc.runtime.typeutils;
 
 import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 
 import com.ververica.cdc.common.annotation.PublicEvolving;
+import com.ververica.cdc.common.data.DecimalData;
+import com.ververica.cdc.common.data.LocalZonedTimestampData;
 import com.ververica.cdc.common.data.RecordData;
+import com.ververica.cdc.common.data.TimestampData;
+import com.ververica.cdc.common.data.binary.BinaryFormat;
 import com.ververica.cdc.common.data.binary.BinaryRecordData;
+import com.ververica.cdc.common.data.binary.BinaryStringData;
 import com.ververica.cdc.common.types.DataType;
 import com.ververica.cdc.common.types.RowType;
 import com.ververica.cdc.runtime.serializer.InternalSerializers;
@@ -30,17 +36,32 @@ import com.ververica.cdc.runtime.serializer.data.writer.BinaryWriter;
 
 import java.util.Arrays;
 
+import static com.ververica.cdc.common.types.DataTypeChecks.getPrecision;
 import static com.ververica.cdc.common.utils.Preconditions.checkArgument;
 
 /** This class is used to create {@link BinaryRecordData}. */
 @PublicEvolving
 public class BinaryRecordDataGenerator {
 
+    private static final int STRING_SIZE = -1;
+    private static final int BINARY_SIZE = -2;
+    private static final int RECORD_SIZE = -3;
+    private static final int UNKNOWN_SIZE = -4;
+
     private final DataType[] dataTypes;
     private final TypeSerializer[] serializers;
 
+    private final int fixedSize;
+
+    /**
+     * The sizes of the fields in the variable-length part, or one of the negative markers if
+     * the size depends on the field value.
+     */
+    private final int[] variableSizes;
+
     private transient BinaryRecordData reuseRecordData;
     private transient BinaryRecordDataWriter reuseWriter;
+    private transient BinaryRecordDataWriter directWriter;
 
     public BinaryRecordDataGenerator(RowType recordType) {
         this(recordType.getChildren().toArray(new DataType[0]));
@@ -64,9 +85,15 @@ public class BinaryRecordDataGenerator {
 
         this.dataTypes = dataTypes;
         this.serializers = serializers;
+        this.fixedSize = BinaryRecordData.calculateFixPartSizeInBytes(dataTypes.length);
+        this.variableSizes =
+                Arrays.stream(dataTypes)
+                        .mapToInt(BinaryRecordDataGenerator::getVariableSize)
+                        .toArray();
 
         this.reuseRecordData = new BinaryRecordData(dataTypes.length);
         this.reuseWriter = new BinaryRecordDataWriter(reuseRecordData);
+        this.directWriter = new BinaryRecordDataWriter(new BinaryRecordData(dataTypes.length));
     }
 
     /**
@@ -81,15 +108,94 @@ public class BinaryRecordDataGenerator {
                         "The types and values must have the same length. But types is %d and values is %d",
                         dataTypes.length, rowFields.length));
 
-        reuseWriter.reset();
+        int variableSize = getVariableLengthPartSize(rowFields);
+        if (variableSize < 0) {
+            reuseWriter.reset();
+            writeFields(reuseWriter, rowFields);
+            return reuseRecordData.copy();
+        }
+
+        // the size of the record is known in advance, write the fields directly into a segment of
+        // the exact size, which saves the copy from the reused record
+        BinaryRecordData recordData = new BinaryRecordData(dataTypes.length);
+        directWriter.pointTo(
+                recordData, MemorySegmentFactory.wrap(new byte[fixedSize + variableSize]));
+        writeFields(directWriter, rowFields);
+        return recordData;
+    }
+
+    private void writeFields(BinaryRecordDataWriter writer, Object[] rowFields) {
         for (int i = 0; i < dataTypes.length; i++) {
             if (rowFields[i] == null) {
-                reuseWriter.setNullAt(i);
+                writer.setNullAt(i);
             } else {
-                BinaryWriter.write(reuseWriter, i, rowFields[i], dataTypes[i], serializers[i]);
+                BinaryWriter.write(writer, i, rowFields[i], dataTypes[i], serializers[i]);
+            }
+        }
+        writer.complete();
+    }
+
+    /**
+     * Returns the size of the variable-length part of the record to generate, or -1 if it can not
+     * be computed without writing the fields.
+     */
+    private int getVariableLengthPartSize(Object[] rowFields) {
+        int size = 0;
+        for (int i = 0; i < dataTypes.length; i++) {
+            Object field = rowFields[i];
+            if (field == null) {
+                continue;
+            }
+            switch (variableSizes[i]) {
+                case STRING_SIZE:
+                    size += getBytesSize(((BinaryStringData) field).getSizeInBytes());
+                    break;
+                case BINARY_SIZE:
+                    size += getBytesSize(((byte[]) field).length);
+                    break;
+                case RECORD_SIZE:
+                    size += getBytesSize(((BinaryRecordData) field).getSizeInBytes());
+                    break;
+                case UNKNOWN_SIZE:
+                    return -1;
+                default:
+                    size += variableSizes[i];
             }
         }
-        reuseWriter.complete();
-        return reuseRecordData.copy();
+        return size;
+    }
+
+    private static int getVariableSize(DataType dataType) {
+        switch (dataType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return STRING_SIZE;
+            case BINARY:
+            case VARBINARY:
+                return BINARY_SIZE;
+            case ROW:
+                return RECORD_SIZE;
+            case DECIMAL:
+                return DecimalData.isCompact(getPrecision(dataType)) ? 0 : 16;
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return TimestampData.isCompact(getPrecision(dataType)) ? 0 : 8;
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return LocalZonedTimestampData.isCompact(getPrecision(dataType)) ? 0 : 8;
+            case TIMESTAMP_WITH_TIME_ZONE:
+            case ARRAY:
+            case MAP:
+                return UNKNOWN_SIZE;
+            default:
+                // other types are stored in the fixed-length part only
+                return 0;
+        }
+    }
+
+    private static int getBytesSize(int length) {
+        if (length <= BinaryFormat.MAX_FIX_PART_DATA_SIZE) {
+            return 0;
+        }
+        // rounded to the nearest word, see AbstractBinaryWriter
+        return (length + 7) & ~7;
     }
 }
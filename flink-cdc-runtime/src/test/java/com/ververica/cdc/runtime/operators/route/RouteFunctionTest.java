@@ -132,6 +132,32 @@ class RouteFunctionTest {
                 .hasFields(1, new BinaryStringData("Bob"), 87654321L);
     }
 
+    @Test
+    void testLiteralAndRegexRouting() throws Exception {
+        TableId orders = TableId.tableId("my_company", "my_branch", "orders");
+        TableId newOrders = TableId.tableId("my_new_company", "my_new_branch", "orders");
+        TableId unrouted = TableId.tableId("my_company", "my_branch", "products");
+        RouteFunction router =
+                RouteFunction.newBuilder()
+                        .addRoute("MY_COMPANY.my_branch.customers", NEW_CUSTOMERS)
+                        .addRoute("my_company.\\.+.orders", newOrders)
+                        .build();
+        router.open(new Configuration());
+
+        // Route the same tables repeatedly, which are resolved from the cache after the first time
+        for (int i = 0; i < 2; i++) {
+            assertThat(router.map(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA)))
+                    .asSchemaChangeEvent()
+                    .hasTableId(NEW_CUSTOMERS);
+            assertThat(router.map(new CreateTableEvent(orders, CUSTOMERS_SCHEMA)))
+                    .asSchemaChangeEvent()
+                    .hasTableId(newOrders);
+            assertThat(router.map(new CreateTableEvent(unrouted, CUSTOMERS_SCHEMA)))
+                    .asSchemaChangeEvent()
+                    .hasTableId(unrouted);
+        }
+    }
+
     @Test
     void testSchemaChangeEventRouting() throws Exception {
         RouteFunction router =
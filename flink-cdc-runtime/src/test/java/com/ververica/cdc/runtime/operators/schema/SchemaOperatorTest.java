@@ -16,17 +16,24 @@
 
 package com.ververica.cdc.runtime.operators.schema;
 
+import org.apache.flink.api.common.operators.MailboxExecutor;
 import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
 
 import com.ververica.cdc.common.data.binary.BinaryStringData;
+import com.ververica.cdc.common.event.CreateTableEvent;
 import com.ververica.cdc.common.event.DataChangeEvent;
 import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.event.FlushEvent;
 import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Schema;
 import com.ververica.cdc.common.types.DataTypes;
 import com.ververica.cdc.common.types.RowType;
+import com.ververica.cdc.runtime.operators.schema.event.FlushSuccessEvent;
+import com.ververica.cdc.runtime.operators.schema.event.SinkWriterRegisterEvent;
 import com.ververica.cdc.runtime.serializer.event.EventSerializer;
+import com.ververica.cdc.runtime.testutils.operators.EventOperatorTestHarness;
 import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +49,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /** Unit tests for the {@link SchemaOperator}. */
 public class SchemaOperatorTest {
+    private static final TableId CUSTOMERS = TableId.tableId("my_company", "customers");
+    private static final TableId PRODUCTS = TableId.tableId("my_company", "products");
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    private final BinaryRecordDataGenerator generator =
+            new BinaryRecordDataGenerator((RowType) SCHEMA.toRowDataType());
+
     @Test
     void testProcessElement() throws Exception {
         final int maxParallelism = 4;
@@ -92,6 +111,135 @@ public class SchemaOperatorTest {
         }
     }
 
+    @Test
+    void testBlockingOnlyTableUnderSchemaChange() throws Exception {
+        try (EventOperatorTestHarness<SchemaOperator, Event> testHarness =
+                new EventOperatorTestHarness<>(new SchemaOperator(), 1)) {
+            testHarness.open();
+            testHarness.sendEventToSchemaRegistry(0, new SinkWriterRegisterEvent(0));
+            SchemaOperator operator = testHarness.getOperator();
+
+            CreateTableEvent createCustomers = new CreateTableEvent(CUSTOMERS, SCHEMA);
+            DataChangeEvent insertCustomer1 = insert(CUSTOMERS, 1, "Alice");
+            DataChangeEvent insertCustomer2 = insert(CUSTOMERS, 2, "Bob");
+            DataChangeEvent insertProduct = insert(PRODUCTS, 1, "Apple");
+            operator.processElement(new StreamRecord<>(createCustomers));
+            operator.processElement(new StreamRecord<>(insertCustomer1));
+            operator.processElement(new StreamRecord<>(insertProduct));
+            operator.processElement(new StreamRecord<>(insertCustomer2));
+
+            // The events of customers are buffered until the sink writers finish flushing, while
+            // the events of products pass through
+            assertThat(getEvents(testHarness))
+                    .containsExactly(new FlushEvent(CUSTOMERS), createCustomers, insertProduct);
+
+            testHarness.sendEventToSchemaRegistry(0, new FlushSuccessEvent(0, CUSTOMERS));
+            processMails(operator);
+            assertThat(getEvents(testHarness)).containsExactly(insertCustomer1, insertCustomer2);
+        }
+    }
+
+    @Test
+    void testReleasingBufferedEventsInOrder() throws Exception {
+        try (EventOperatorTestHarness<SchemaOperator, Event> testHarness =
+                new EventOperatorTestHarness<>(new SchemaOperator(), 1)) {
+            testHarness.open();
+            testHarness.sendEventToSchemaRegistry(0, new SinkWriterRegisterEvent(0));
+            SchemaOperator operator = testHarness.getOperator();
+
+            CreateTableEvent createCustomers = new CreateTableEvent(CUSTOMERS, SCHEMA);
+            CreateTableEvent createProducts = new CreateTableEvent(PRODUCTS, SCHEMA);
+            DataChangeEvent insertCustomer1 = insert(CUSTOMERS, 1, "Alice");
+            DataChangeEvent insertCustomer2 = insert(CUSTOMERS, 2, "Bob");
+            DataChangeEvent insertProduct = insert(PRODUCTS, 1, "Apple");
+            operator.processElement(new StreamRecord<>(createCustomers));
+            operator.processElement(new StreamRecord<>(insertCustomer1));
+            operator.processElement(new StreamRecord<>(createProducts));
+            operator.processElement(new StreamRecord<>(insertProduct));
+            operator.processElement(new StreamRecord<>(insertCustomer2));
+            assertThat(getEvents(testHarness))
+                    .containsExactly(
+                            new FlushEvent(CUSTOMERS),
+                            createCustomers,
+                            new FlushEvent(PRODUCTS),
+                            createProducts);
+
+            // The tables are released independently, each with its events in arriving order
+            testHarness.sendEventToSchemaRegistry(0, new FlushSuccessEvent(0, PRODUCTS));
+            processMails(operator);
+            assertThat(getEvents(testHarness)).containsExactly(insertProduct);
+
+            testHarness.sendEventToSchemaRegistry(0, new FlushSuccessEvent(0, CUSTOMERS));
+            processMails(operator);
+            assertThat(getEvents(testHarness)).containsExactly(insertCustomer1, insertCustomer2);
+
+            // The released table is not blocked any more
+            DataChangeEvent insertCustomer3 = insert(CUSTOMERS, 3, "Carol");
+            operator.processElement(new StreamRecord<>(insertCustomer3));
+            assertThat(getEvents(testHarness)).containsExactly(insertCustomer3);
+        }
+    }
+
+    @Test
+    void testEmittingBufferedEventsBeforeCheckpointBarrier() throws Exception {
+        try (EventOperatorTestHarness<SchemaOperator, Event> testHarness =
+                new EventOperatorTestHarness<>(new SchemaOperator(), 1)) {
+            testHarness.open();
+            testHarness.sendEventToSchemaRegistry(0, new SinkWriterRegisterEvent(0));
+            SchemaOperator operator = testHarness.getOperator();
+
+            CreateTableEvent createCustomers = new CreateTableEvent(CUSTOMERS, SCHEMA);
+            DataChangeEvent insertCustomer = insert(CUSTOMERS, 1, "Alice");
+            operator.processElement(new StreamRecord<>(createCustomers));
+            operator.processElement(new StreamRecord<>(insertCustomer));
+            assertThat(getEvents(testHarness))
+                    .containsExactly(new FlushEvent(CUSTOMERS), createCustomers);
+
+            // The sink writer finishes flushing while the operator is waiting for the checkpoint
+            Thread sinkWriter =
+                    new Thread(
+                            () -> {
+                                try {
+                                    Thread.sleep(100L);
+                                    testHarness.sendEventToSchemaRegistry(
+                                            0, new FlushSuccessEvent(0, CUSTOMERS));
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                            });
+            sinkWriter.start();
+            operator.prepareSnapshotPreBarrier(1L);
+            sinkWriter.join();
+
+            // The buffered events are not part of the state, so they are emitted before the barrier
+            assertThat(getEvents(testHarness)).containsExactly(insertCustomer);
+        }
+    }
+
+    private DataChangeEvent insert(TableId tableId, int id, String name) {
+        return DataChangeEvent.insertEvent(
+                tableId, generator.generate(new Object[] {id, BinaryStringData.fromString(name)}));
+    }
+
+    /** Polls all the emitted events of the harness. */
+    private static List<Event> getEvents(EventOperatorTestHarness<SchemaOperator, Event> harness) {
+        List<Event> events = new ArrayList<>();
+        StreamRecord<Event> record;
+        while ((record = harness.getOutputRecords().poll()) != null) {
+            events.add(record.getValue());
+        }
+        return events;
+    }
+
+    /** Runs the responses from the schema registry which are handled in the mailbox. */
+    private static void processMails(SchemaOperator operator) throws Exception {
+        MailboxExecutor mailboxExecutor =
+                operator.getContainingTask().getMailboxExecutorFactory().createExecutor(0);
+        while (mailboxExecutor.tryYield()) {
+            // process the next mail
+        }
+    }
+
     private OneInputStreamOperatorTestHarness<Event, Event> createTestHarness(
             int maxParallelism, int parallelism, int subtaskIndex, OperatorID opID)
             throws Exception {
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.schema.coordinator;
+
+import org.apache.flink.runtime.operators.coordination.CoordinationResponse;
+
+import com.ververica.cdc.common.event.AddColumnEvent;
+import com.ververica.cdc.common.event.CreateTableEvent;
+import com.ververica.cdc.common.event.SchemaChangeEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataTypes;
+import com.ververica.cdc.runtime.operators.schema.event.ReleaseUpstreamRequest;
+import com.ververica.cdc.runtime.operators.schema.event.SchemaChangeRequest;
+import com.ververica.cdc.runtime.operators.schema.event.SchemaChangeResponse;
+import com.ververica.cdc.runtime.testutils.schema.CollectingMetadataApplier;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static com.ververica.cdc.runtime.operators.schema.event.CoordinationResponseUtils.unwrap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit test for {@link SchemaRegistryRequestHandler}. */
+class SchemaRegistryRequestHandlerTest {
+    private static final TableId CUSTOMERS = TableId.tableId("my_company", "customers");
+    private static final TableId PRODUCTS = TableId.tableId("my_company", "products");
+    private static final Schema SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .primaryKey("id")
+                    .build();
+
+    @Test
+    void testHandlingSchemaChangesOfDifferentTablesConcurrently() throws Exception {
+        CollectingMetadataApplier metadataApplier = new CollectingMetadataApplier();
+        SchemaRegistryRequestHandler handler =
+                new SchemaRegistryRequestHandler(metadataApplier, new SchemaManager());
+        handler.registerSinkWriter(0);
+
+        CreateTableEvent createCustomers = new CreateTableEvent(CUSTOMERS, SCHEMA);
+        CreateTableEvent createProducts = new CreateTableEvent(PRODUCTS, SCHEMA);
+        assertShouldSendFlushEvent(
+                handler.handleSchemaChangeRequest(
+                        new SchemaChangeRequest(CUSTOMERS, createCustomers)),
+                true);
+        CompletableFuture<CoordinationResponse> releaseCustomers =
+                handler.handleReleaseUpstreamRequest(new ReleaseUpstreamRequest(CUSTOMERS));
+
+        // The schema change of another table is not blocked by the processing one
+        assertShouldSendFlushEvent(
+                handler.handleSchemaChangeRequest(
+                        new SchemaChangeRequest(PRODUCTS, createProducts)),
+                true);
+        CompletableFuture<CoordinationResponse> releaseProducts =
+                handler.handleReleaseUpstreamRequest(new ReleaseUpstreamRequest(PRODUCTS));
+
+        handler.flushSuccess(PRODUCTS, 0);
+        assertThat(releaseProducts).isDone();
+        assertThat(releaseCustomers).isNotDone();
+        assertThat(metadataApplier.getSchemaChangeEvents()).containsExactly(createProducts);
+
+        // The schema change of the same table waits for the processing one
+        CompletableFuture<CoordinationResponse> duplicateCreateCustomers =
+                handler.handleSchemaChangeRequest(
+                        new SchemaChangeRequest(CUSTOMERS, createCustomers));
+        assertThat(duplicateCreateCustomers).isNotDone();
+
+        handler.flushSuccess(CUSTOMERS, 0);
+        assertThat(releaseCustomers).isDone();
+        assertShouldSendFlushEvent(duplicateCreateCustomers, false);
+        assertThat(metadataApplier.getSchemaChangeEvents())
+                .containsExactly(createProducts, createCustomers);
+    }
+
+    @Test
+    void testCoalescingConsecutiveSchemaChanges() throws Exception {
+        CollectingMetadataApplier metadataApplier = new CollectingMetadataApplier();
+        SchemaManager schemaManager = new SchemaManager();
+        SchemaRegistryRequestHandler handler =
+                new SchemaRegistryRequestHandler(metadataApplier, schemaManager);
+        handler.registerSinkWriter(0);
+
+        CreateTableEvent createCustomers = new CreateTableEvent(CUSTOMERS, SCHEMA);
+        AddColumnEvent addPhone = addColumn(Column.physicalColumn("phone", DataTypes.BIGINT()));
+        AddColumnEvent addEmail = addColumn(Column.physicalColumn("email", DataTypes.STRING()));
+        CompletableFuture<CoordinationResponse> responseFuture =
+                handler.handleSchemaChangeRequest(
+                        new SchemaChangeRequest(
+                                CUSTOMERS,
+                                Arrays.<SchemaChangeEvent>asList(
+                                        createCustomers, addPhone, addEmail)));
+        SchemaChangeResponse response = unwrap(responseFuture.get());
+        AddColumnEvent coalescedAddColumns =
+                new AddColumnEvent(
+                        CUSTOMERS,
+                        Arrays.asList(
+                                addPhone.getAddedColumns().get(0),
+                                addEmail.getAddedColumns().get(0)));
+        assertThat(response.getSchemaChangeEvents())
+                .containsExactly(createCustomers, coalescedAddColumns);
+
+        handler.handleReleaseUpstreamRequest(new ReleaseUpstreamRequest(CUSTOMERS));
+        handler.flushSuccess(CUSTOMERS, 0);
+        assertThat(metadataApplier.getSchemaChangeEvents())
+                .containsExactly(createCustomers, coalescedAddColumns);
+
+        // Every schema change is kept in the schema history
+        assertThat(schemaManager.getSchema(CUSTOMERS, 1).getColumnNames())
+                .containsExactly("id", "name", "phone");
+        assertThat(schemaManager.getLatestSchema(CUSTOMERS).get().getColumnNames())
+                .containsExactly("id", "name", "phone", "email");
+    }
+
+    private static AddColumnEvent addColumn(Column column) {
+        return new AddColumnEvent(
+                CUSTOMERS,
+                Collections.singletonList(new AddColumnEvent.ColumnWithPosition(column)));
+    }
+
+    private static void assertShouldSendFlushEvent(
+            CompletableFuture<CoordinationResponse> responseFuture, boolean shouldSendFlushEvent)
+            throws Exception {
+        assertThat(responseFuture).isDone();
+        SchemaChangeResponse response = unwrap(responseFuture.get());
+        assertThat(response.isShouldSendFlushEvent()).isEqualTo(shouldSendFlushEvent);
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2023 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.runtime.operators.transform;
+
+import org.apache.flink.runtime.checkpoint.OperatorSubtaskState;
+import org.apache.flink.runtime.jobgraph.OperatorID;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.util.AbstractStreamOperatorTestHarness;
+import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
+
+import org.apache.flink.shaded.guava31.com.google.common.collect.ImmutableMap;
+
+import com.ververica.cdc.common.data.binary.BinaryStringData;
+import com.ververica.cdc.common.event.AddColumnEvent;
+import com.ververica.cdc.common.event.AlterColumnTypeEvent;
+import com.ververica.cdc.common.event.CreateTableEvent;
+import com.ververica.cdc.common.event.DataChangeEvent;
+import com.ververica.cdc.common.event.DropColumnEvent;
+import com.ververica.cdc.common.event.Event;
+import com.ververica.cdc.common.event.RenameColumnEvent;
+import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.schema.Column;
+import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.types.DataTypes;
+import com.ververica.cdc.common.types.RowType;
+import com.ververica.cdc.runtime.serializer.event.EventSerializer;
+import com.ververica.cdc.runtime.testutils.operators.EventOperatorTestHarness;
+import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Unit test for {@link TransformOperator}. */
+class TransformOperatorTest {
+    private static final TableId CUSTOMERS =
+            TableId.tableId("my_company", "my_branch", "customers");
+    private static final TableId ORDERS = TableId.tableId("my_company", "my_branch", "orders");
+    private static final Schema CUSTOMERS_SCHEMA =
+            Schema.newBuilder()
+                    .physicalColumn("id", DataTypes.INT())
+                    .physicalColumn("name", DataTypes.STRING())
+                    .physicalColumn("phone", DataTypes.BIGINT())
+                    .primaryKey("id")
+                    .build();
+
+    private final BinaryRecordDataGenerator customersGenerator =
+            new BinaryRecordDataGenerator((RowType) CUSTOMERS_SCHEMA.toRowDataType());
+
+    @Test
+    void testProjectionAndFilter() throws Exception {
+        TransformOperator operator =
+                TransformOperator.newBuilder()
+                        .addTransform(
+                                "my_company.my_branch.customers",
+                                "id, name AS user_name",
+                                "id > 1 AND (phone IS NULL OR user_name <> 'Bob')")
+                        .build();
+        try (EventOperatorTestHarness<TransformOperator, Event> testHarness =
+                new EventOperatorTestHarness<>(operator, 1)) {
+            testHarness.open();
+
+            // CreateTableEvent
+            Schema projectedSchema =
+                    Schema.newBuilder()
+                            .physicalColumn("id", DataTypes.INT())
+                            .physicalColumn("user_name", DataTypes.STRING())
+                            .primaryKey("id")
+                            .build();
+            operator.processElement(
+                    new StreamRecord<>(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA)));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(new CreateTableEvent(CUSTOMERS, projectedSchema)));
+
+            BinaryRecordDataGenerator projectedGenerator =
+                    new BinaryRecordDataGenerator((RowType) projectedSchema.toRowDataType());
+
+            // Filtered out by "id > 1"
+            operator.processElement(new StreamRecord<>(insert(1, "Alice", 12345678L)));
+            assertThat(testHarness.getOutputRecords()).isEmpty();
+
+            // Kept and projected
+            operator.processElement(new StreamRecord<>(insert(2, "Bob", null)));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(
+                                    DataChangeEvent.insertEvent(
+                                            CUSTOMERS,
+                                            projectedGenerator.generate(
+                                                    new Object[] {
+                                                        2, BinaryStringData.fromString("Bob")
+                                                    }))));
+
+            // Only the row before the update is kept, which is converted to a deletion
+            operator.processElement(
+                    new StreamRecord<>(
+                            DataChangeEvent.updateEvent(
+                                    CUSTOMERS,
+                                    customersGenerator.generate(
+                                            new Object[] {
+                                                2, BinaryStringData.fromString("Bob"), null
+                                            }),
+                                    customersGenerator.generate(
+                                            new Object[] {
+                                                2, BinaryStringData.fromString("Bob"), 12345679L
+                                            }))));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(
+                                    DataChangeEvent.deleteEvent(
+                                            CUSTOMERS,
+                                            projectedGenerator.generate(
+                                                    new Object[] {
+                                                        2, BinaryStringData.fromString("Bob")
+                                                    }))));
+            assertThat(testHarness.getOutputRecords()).isEmpty();
+        }
+    }
+
+    @Test
+    void testForwardingUnmatchedTables() throws Exception {
+        TransformOperator operator =
+                TransformOperator.newBuilder()
+                        .addTransform("my_company.my_branch.customers", "id", null)
+                        .build();
+        try (EventOperatorTestHarness<TransformOperator, Event> testHarness =
+                new EventOperatorTestHarness<>(operator, 1)) {
+            testHarness.open();
+
+            CreateTableEvent createTableEvent = new CreateTableEvent(ORDERS, CUSTOMERS_SCHEMA);
+            DataChangeEvent insertEvent =
+                    DataChangeEvent.insertEvent(
+                            ORDERS,
+                            customersGenerator.generate(
+                                    new Object[] {1, BinaryStringData.fromString("Alice"), 1L}));
+            operator.processElement(new StreamRecord<>(createTableEvent));
+            operator.processElement(new StreamRecord<>(insertEvent));
+            assertThat(testHarness.getOutputRecords())
+                    .containsExactly(
+                            new StreamRecord<>(createTableEvent), new StreamRecord<>(insertEvent));
+        }
+    }
+
+    @Test
+    void testDerivingSchemaChanges() throws Exception {
+        TransformOperator operator =
+                TransformOperator.newBuilder()
+                        .addTransform(
+                                "my_company.my_branch.customers", "name AS user_name, *", null)
+                        .build();
+        try (EventOperatorTestHarness<TransformOperator, Event> testHarness =
+                new EventOperatorTestHarness<>(operator, 1)) {
+            testHarness.open();
+            operator.processElement(
+                    new StreamRecord<>(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA)));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(
+                                    new CreateTableEvent(
+                                            CUSTOMERS,
+                                            Schema.newBuilder()
+                                                    .physicalColumn("user_name", DataTypes.STRING())
+                                                    .physicalColumn("id", DataTypes.INT())
+                                                    .physicalColumn("name", DataTypes.STRING())
+                                                    .physicalColumn("phone", DataTypes.BIGINT())
+                                                    .primaryKey("id")
+                                                    .build())));
+
+            // AddColumnEvent is positioned in the projected table
+            Column email = Column.physicalColumn("email", DataTypes.STRING());
+            operator.processElement(
+                    new StreamRecord<>(
+                            new AddColumnEvent(
+                                    CUSTOMERS,
+                                    Collections.singletonList(
+                                            new AddColumnEvent.ColumnWithPosition(email)))));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(
+                                    new AddColumnEvent(
+                                            CUSTOMERS,
+                                            Collections.singletonList(
+                                                    new AddColumnEvent.ColumnWithPosition(
+                                                            email,
+                                                            AddColumnEvent.ColumnPosition.AFTER,
+                                                            Column.physicalColumn(
+                                                                    "phone",
+                                                                    DataTypes.BIGINT()))))));
+
+            // AlterColumnTypeEvent is applied to all the projections of the column
+            operator.processElement(
+                    new StreamRecord<>(
+                            new AlterColumnTypeEvent(
+                                    CUSTOMERS, ImmutableMap.of("name", DataTypes.VARCHAR(10)))));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(
+                            new StreamRecord<>(
+                                    new AlterColumnTypeEvent(
+                                            CUSTOMERS,
+                                            ImmutableMap.of(
+                                                    "user_name",
+                                                    DataTypes.VARCHAR(10),
+                                                    "name",
+                                                    DataTypes.VARCHAR(10)))));
+
+            // DropColumnEvent of the columns not referenced is forwarded
+            DropColumnEvent dropColumnEvent =
+                    new DropColumnEvent(CUSTOMERS, Collections.singletonList(email));
+            operator.processElement(new StreamRecord<>(dropColumnEvent));
+            assertThat(testHarness.getOutputRecords().poll())
+                    .isEqualTo(new StreamRecord<>(dropColumnEvent));
+
+            // The referenced columns can not be renamed
+            assertThatThrownBy(
+                            () ->
+                                    operator.processElement(
+                                            new StreamRecord<>(
+                                                    new RenameColumnEvent(
+                                                            CUSTOMERS,
+                                                            ImmutableMap.of("name", "nickname")))))
+                    .isExactlyInstanceOf(UnsupportedOperationException.class)
+                    .hasMessageContaining("[name]");
+        }
+    }
+
+    @Test
+    void testSourceSchemasOfTablesReadBySeveralSubtasks() throws Exception {
+        OperatorID operatorId = new OperatorID();
+        Schema projectedSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("user_name", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        BinaryRecordDataGenerator projectedGenerator =
+                new BinaryRecordDataGenerator((RowType) projectedSchema.toRowDataType());
+        Column email = Column.physicalColumn("email", DataTypes.STRING());
+        Schema evolvedSchema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .physicalColumn("phone", DataTypes.BIGINT())
+                        .physicalColumn("email", DataTypes.STRING())
+                        .primaryKey("id")
+                        .build();
+        BinaryRecordDataGenerator evolvedGenerator =
+                new BinaryRecordDataGenerator((RowType) evolvedSchema.toRowDataType());
+        DataChangeEvent evolvedInsert =
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS,
+                        evolvedGenerator.generate(
+                                new Object[] {
+                                    3,
+                                    BinaryStringData.fromString("Carol"),
+                                    null,
+                                    BinaryStringData.fromString("carol@example.com")
+                                }));
+        StreamRecord<Event> projectedInsert =
+                new StreamRecord<>(
+                        DataChangeEvent.insertEvent(
+                                CUSTOMERS,
+                                projectedGenerator.generate(
+                                        new Object[] {3, BinaryStringData.fromString("Carol")})));
+
+        OperatorSubtaskState snapshotState;
+        try (OneInputStreamOperatorTestHarness<Event, Event> snapshotSubtask =
+                        createTestHarness(2, 0, operatorId);
+                OneInputStreamOperatorTestHarness<Event, Event> binlogSubtask =
+                        createTestHarness(2, 1, operatorId)) {
+            snapshotSubtask.open();
+            binlogSubtask.open();
+
+            // The subtask reading the snapshot split of the table
+            snapshotSubtask.processElement(
+                    new StreamRecord<>(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA)));
+            snapshotSubtask.processElement(new StreamRecord<>(insert(2, "Bob", null)));
+
+            // The subtask reading the binlog split gets the schema from the binlog split, and
+            // evolves it by the schema change after the snapshot
+            binlogSubtask.processElement(
+                    new StreamRecord<>(new CreateTableEvent(CUSTOMERS, CUSTOMERS_SCHEMA)));
+            binlogSubtask.processElement(
+                    new StreamRecord<>(
+                            new AddColumnEvent(
+                                    CUSTOMERS,
+                                    Collections.singletonList(
+                                            new AddColumnEvent.ColumnWithPosition(email)))));
+            binlogSubtask.processElement(new StreamRecord<>(evolvedInsert));
+            assertThat(binlogSubtask.getRecordOutput()).endsWith(projectedInsert);
+
+            snapshotState =
+                    AbstractStreamOperatorTestHarness.repackageState(
+                            snapshotSubtask.snapshot(1L, 1L), binlogSubtask.snapshot(1L, 1L));
+        }
+
+        // Every subtask restores the evolved schema after rescaling, no matter which subtask
+        // reads the binlog split
+        for (int subtaskIndex = 0; subtaskIndex < 3; subtaskIndex++) {
+            try (OneInputStreamOperatorTestHarness<Event, Event> restoredSubtask =
+                    createTestHarness(3, subtaskIndex, operatorId)) {
+                restoredSubtask.initializeState(
+                        AbstractStreamOperatorTestHarness.repartitionOperatorState(
+                                snapshotState, 4, 2, 3, subtaskIndex));
+                restoredSubtask.open();
+                restoredSubtask.processElement(new StreamRecord<>(evolvedInsert));
+                assertThat(restoredSubtask.getRecordOutput()).containsExactly(projectedInsert);
+            }
+        }
+    }
+
+    @Test
+    void testInvalidDefinitions() {
+        assertThatThrownBy(
+                        () ->
+                                TransformOperator.newBuilder()
+                                        .addTransform(
+                                                "my_company.my_branch.customers",
+                                                "UPPER(name)",
+                                                null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported projection item");
+        assertThatThrownBy(
+                        () ->
+                                TransformOperator.newBuilder()
+                                        .addTransform(
+                                                "my_company.my_branch.customers", null, "id >"))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unexpected end of the expression");
+    }
+
+    private static OneInputStreamOperatorTestHarness<Event, Event> createTestHarness(
+            int parallelism, int subtaskIndex, OperatorID operatorId) throws Exception {
+        OneInputStreamOperatorTestHarness<Event, Event> testHarness =
+                new OneInputStreamOperatorTestHarness<>(
+                        TransformOperator.newBuilder()
+                                .addTransform(
+                                        "my_company.my_branch.customers",
+                                        "id, name AS user_name",
+                                        null)
+                                .build(),
+                        4,
+                        parallelism,
+                        subtaskIndex,
+                        EventSerializer.INSTANCE,
+                        operatorId);
+        testHarness.setup(EventSerializer.INSTANCE);
+        return testHarness;
+    }
+
+    private DataChangeEvent insert(int id, String name, Long phone) {
+        return DataChangeEvent.insertEvent(
+                CUSTOMERS,
+                customersGenerator.generate(
+                        new Object[] {id, BinaryStringData.fromString(name), phone}));
+    }
+}
@@ -23,7 +23,9 @@ import com.ververica.cdc.common.event.CreateTableEvent;
 import com.ververica.cdc.common.event.DataChangeEvent;
 import com.ververica.cdc.common.event.FlushEvent;
 import com.ververica.cdc.common.event.TableId;
+import com.ververica.cdc.common.function.HashFunction;
 import com.ververica.cdc.common.schema.Schema;
+import com.ververica.cdc.common.sink.DefaultDataChangeEventHashFunctionProvider;
 import com.ververica.cdc.common.types.DataTypes;
 import com.ververica.cdc.common.types.RowType;
 import com.ververica.cdc.runtime.testutils.operators.EventOperatorTestHarness;
@@ -31,6 +33,9 @@ import com.ververica.cdc.runtime.testutils.schema.TestingSchemaRegistryGateway;
 import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Unit test for {@link PrePartitionOperator}. */
@@ -125,8 +130,140 @@ class PrePartitionOperatorTest {
         }
     }
 
+    @Test
+    void testHashingPrimaryKeysOnly() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("description", DataTypes.STRING())
+                        .physicalColumn("id", DataTypes.STRING())
+                        .physicalColumn("version", DataTypes.BIGINT())
+                        .primaryKey("id", "version")
+                        .build();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) schema.toRowDataType()));
+        HashFunction<DataChangeEvent> hashFunction =
+                new DefaultDataChangeEventHashFunctionProvider().getHashFunction(CUSTOMERS, schema);
+
+        // the primary key is stored at different offsets in the two records
+        DataChangeEvent insertEvent =
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS,
+                        recordDataGenerator.generate(
+                                new Object[] {
+                                    new BinaryStringData("short"),
+                                    new BinaryStringData("primary key longer than a word"),
+                                    1L
+                                }));
+        DataChangeEvent deleteEvent =
+                DataChangeEvent.deleteEvent(
+                        CUSTOMERS,
+                        recordDataGenerator.generate(
+                                new Object[] {
+                                    new BinaryStringData("a description longer than a word"),
+                                    new BinaryStringData("primary key longer than a word"),
+                                    1L
+                                }));
+        DataChangeEvent anotherEvent =
+                DataChangeEvent.insertEvent(
+                        CUSTOMERS,
+                        recordDataGenerator.generate(
+                                new Object[] {
+                                    new BinaryStringData("short"),
+                                    new BinaryStringData("primary key longer than a word"),
+                                    2L
+                                }));
+        DataChangeEvent anotherTableEvent =
+                DataChangeEvent.insertEvent(TableId.tableId("customers"), insertEvent.after());
+
+        assertThat(hashFunction.hashcode(insertEvent))
+                .isEqualTo(hashFunction.hashcode(deleteEvent))
+                .isNotEqualTo(hashFunction.hashcode(anotherEvent))
+                .isNotNegative();
+        assertThat(
+                        new DefaultDataChangeEventHashFunctionProvider()
+                                .getHashFunction(TableId.tableId("customers"), schema)
+                                .hashcode(anotherTableEvent))
+                .isNotEqualTo(hashFunction.hashcode(insertEvent));
+    }
+
+    @Test
+    void testBalancedHashingTablesWithoutPrimaryKeys() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .build();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) schema.toRowDataType()));
+        HashFunction<DataChangeEvent> defaultHashFunction =
+                new DefaultDataChangeEventHashFunctionProvider().getHashFunction(CUSTOMERS, schema);
+        HashFunction<DataChangeEvent> balancedHashFunction =
+                new BalancedDataChangeEventHashFunctionProvider()
+                        .getHashFunction(CUSTOMERS, schema);
+
+        Set<Integer> defaultTargets = new HashSet<>();
+        Set<Integer> balancedTargets = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            DataChangeEvent insertEvent =
+                    DataChangeEvent.insertEvent(
+                            CUSTOMERS,
+                            recordDataGenerator.generate(
+                                    new Object[] {i, new BinaryStringData("name" + i)}));
+            DataChangeEvent deleteEvent =
+                    DataChangeEvent.deleteEvent(CUSTOMERS, insertEvent.after());
+            assertThat(balancedHashFunction.hashcode(insertEvent))
+                    .isEqualTo(balancedHashFunction.hashcode(deleteEvent));
+            defaultTargets.add(defaultHashFunction.hashcode(insertEvent) % DOWNSTREAM_PARALLELISM);
+            balancedTargets.add(
+                    balancedHashFunction.hashcode(insertEvent) % DOWNSTREAM_PARALLELISM);
+        }
+        assertThat(defaultTargets).hasSize(1);
+        assertThat(balancedTargets).hasSize(DOWNSTREAM_PARALLELISM);
+    }
+
+    @Test
+    void testHashingChangesOfTablesWithoutPrimaryKeys() {
+        Schema schema =
+                Schema.newBuilder()
+                        .physicalColumn("id", DataTypes.INT())
+                        .physicalColumn("name", DataTypes.STRING())
+                        .build();
+        BinaryRecordDataGenerator recordDataGenerator =
+                new BinaryRecordDataGenerator(((RowType) schema.toRowDataType()));
+        HashFunction<DataChangeEvent> hashFunction =
+                new BalancedDataChangeEventHashFunctionProvider()
+                        .getHashFunction(CUSTOMERS, schema);
+
+        for (int i = 0; i < 100; i++) {
+            DataChangeEvent insertEvent =
+                    DataChangeEvent.insertEvent(
+                            CUSTOMERS,
+                            recordDataGenerator.generate(
+                                    new Object[] {i, new BinaryStringData("name" + i)}));
+            DataChangeEvent updateEvent =
+                    DataChangeEvent.updateEvent(
+                            CUSTOMERS,
+                            insertEvent.after(),
+                            recordDataGenerator.generate(
+                                    new Object[] {i, new BinaryStringData("updated" + i)}));
+            DataChangeEvent deleteEvent =
+                    DataChangeEvent.deleteEvent(CUSTOMERS, updateEvent.after());
+            DataChangeEvent insertUpdatedEvent =
+                    DataChangeEvent.insertEvent(CUSTOMERS, updateEvent.after());
+
+            // the update is sent to where the row before the change is inserted
+            assertThat(hashFunction.hashcode(updateEvent))
+                    .isEqualTo(hashFunction.hashcode(insertEvent));
+            // the deletion is sent to where the row it deletes is inserted
+            assertThat(hashFunction.hashcode(deleteEvent))
+                    .isEqualTo(hashFunction.hashcode(insertUpdatedEvent));
+        }
+    }
+
     private int getPartitioningTarget(Schema schema, DataChangeEvent dataChangeEvent) {
-        return new PrePartitionOperator.HashFunction(schema).apply(dataChangeEvent)
+        return new DefaultDataChangeEventHashFunctionProvider()
+                        .getHashFunction(dataChangeEvent.tableId(), schema)
+                        .hashcode(dataChangeEvent)
                 % DOWNSTREAM_PARALLELISM;
     }
 
@@ -17,6 +17,8 @@
 package com.ververica.cdc.runtime.serializer.event;
 
 import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 
 import com.ververica.cdc.common.data.RecordData;
 import com.ververica.cdc.common.data.binary.BinaryStringData;
@@ -26,10 +28,13 @@ import com.ververica.cdc.common.types.DataTypes;
 import com.ververica.cdc.common.types.RowType;
 import com.ververica.cdc.runtime.serializer.SerializerTestBase;
 import com.ververica.cdc.runtime.typeutils.BinaryRecordDataGenerator;
+import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /** A test for the {@link DataChangeEventSerializer}. */
 public class DataChangeEventSerializerTest extends SerializerTestBase<DataChangeEvent> {
     @Override
@@ -78,4 +83,54 @@ public class DataChangeEventSerializerTest extends SerializerTestBase<DataChange
                     TableId.tableId("namespace", "schema", "table"), before, after, meta)
         };
     }
+
+    @Test
+    void testRestoreLegacyFormat() throws Exception {
+        DataChangeEventSerializer.DataChangeEventSerializerSnapshot snapshot =
+                new DataChangeEventSerializer.DataChangeEventSerializerSnapshot();
+        // Version 3 is the version of the legacy SimpleTypeSerializerSnapshot
+        snapshot.readSnapshot(
+                3, new DataInputDeserializer(new byte[0]), getClass().getClassLoader());
+        assertThat(
+                        snapshot.resolveSchemaCompatibility(DataChangeEventSerializer.INSTANCE)
+                                .isCompatibleAfterMigration())
+                .isTrue();
+
+        TypeSerializer<DataChangeEvent> legacySerializer = snapshot.restoreSerializer();
+        for (DataChangeEvent event : getTestData()) {
+            DataOutputSerializer legacyOutput = new DataOutputSerializer(64);
+            legacySerializer.serialize(event, legacyOutput);
+            assertThat(
+                            legacySerializer.deserialize(
+                                    new DataInputDeserializer(legacyOutput.getCopyOfBuffer())))
+                    .isEqualTo(event);
+
+            DataOutputSerializer output = new DataOutputSerializer(64);
+            DataChangeEventSerializer.INSTANCE.serialize(event, output);
+            assertThat(output.length()).isLessThan(legacyOutput.length());
+        }
+    }
+
+    @Test
+    void testCopyAndReuseWithoutDuplicatingData() throws Exception {
+        DataChangeEventSerializer serializer = DataChangeEventSerializer.INSTANCE;
+        assertThat(serializer.isImmutableType()).isTrue();
+
+        DataChangeEvent reuse = serializer.createInstance();
+        for (DataChangeEvent event : getTestData()) {
+            assertThat(serializer.copy(event)).isSameAs(event);
+            assertThat(serializer.copy(event, reuse)).isSameAs(event);
+
+            DataOutputSerializer output = new DataOutputSerializer(64);
+            serializer.serialize(event, output);
+            DataChangeEvent deserialized =
+                    serializer.deserialize(
+                            reuse, new DataInputDeserializer(output.getCopyOfBuffer()));
+            assertThat(deserialized).isEqualTo(event);
+            if (event.tableId().equals(reuse.tableId())) {
+                assertThat(deserialized.tableId()).isSameAs(reuse.tableId());
+            }
+            reuse = deserialized;
+        }
+    }
 }
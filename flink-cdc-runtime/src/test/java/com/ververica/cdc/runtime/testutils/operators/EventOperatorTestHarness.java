@@ -20,6 +20,7 @@ import org.apache.flink.configuration.Configuration;
 import org.apache.flink.runtime.jobgraph.OperatorID;
 import org.apache.flink.runtime.jobgraph.tasks.TaskOperatorEventGateway;
 import org.apache.flink.runtime.operators.coordination.MockOperatorCoordinatorContext;
+import org.apache.flink.runtime.operators.coordination.OperatorEvent;
 import org.apache.flink.runtime.operators.testutils.DummyEnvironment;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.Output;
@@ -94,6 +95,11 @@ public class EventOperatorTestHarness<OP extends AbstractStreamOperator<E>, E ex
                 new SchemaChangeRequest(tableId, new CreateTableEvent(tableId, schema)));
     }
 
+    /** Delivers the event to {@link SchemaRegistry} as if it is sent by the given subtask. */
+    public void sendEventToSchemaRegistry(int subtask, OperatorEvent event) throws Exception {
+        schemaRegistry.handleEventFromOperator(subtask, 0, event);
+    }
+
     @Override
     public void close() throws Exception {
         operator.close();
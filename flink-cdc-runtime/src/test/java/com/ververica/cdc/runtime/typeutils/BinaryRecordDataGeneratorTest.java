@@ -27,6 +27,9 @@ import com.ververica.cdc.common.types.LocalZonedTimestampType;
 import com.ververica.cdc.common.types.RowType;
 import com.ververica.cdc.common.types.TimestampType;
 import com.ververica.cdc.common.types.ZonedTimestampType;
+import com.ververica.cdc.runtime.serializer.InternalSerializers;
+import com.ververica.cdc.runtime.serializer.data.writer.BinaryRecordDataWriter;
+import com.ververica.cdc.runtime.serializer.data.writer.BinaryWriter;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
@@ -137,4 +140,64 @@ public class BinaryRecordDataGeneratorTest {
         assertThat(actual.getRow(23, 2).getLong(1)).isEqualTo(23L);
         assertThat(actual.isNullAt(24)).isTrue();
     }
+
+    @Test
+    void testGenerateIntoExactSizeSegment() {
+        RowType rowType =
+                RowType.of(
+                        DataTypes.STRING(),
+                        DataTypes.STRING(),
+                        DataTypes.BYTES(),
+                        DataTypes.DECIMAL(20, 2),
+                        DataTypes.TIMESTAMP(6),
+                        DataTypes.TIMESTAMP_LTZ(6),
+                        DataTypes.ROW(DataTypes.FIELD("t1", DataTypes.STRING())),
+                        DataTypes.BIGINT(),
+                        DataTypes.STRING());
+        Object[] testData =
+                new Object[] {
+                    BinaryStringData.fromString("short"),
+                    BinaryStringData.fromString("a string longer than a word"),
+                    new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9},
+                    DecimalData.fromBigDecimal(new BigDecimal("123456789012345678.91"), 20, 2),
+                    TimestampData.fromMillis(100, 1),
+                    LocalZonedTimestampData.fromEpochMillis(200, 2),
+                    new BinaryRecordDataGenerator(RowType.of(DataTypes.STRING()))
+                            .generate(new Object[] {BinaryStringData.fromString("nested row")}),
+                    3L,
+                    null
+                };
+        BinaryRecordDataGenerator generator = new BinaryRecordDataGenerator(rowType);
+        BinaryRecordData actual = generator.generate(testData);
+
+        // the generated record should occupy its whole segment
+        assertThat(actual.getSegments()).hasSize(1);
+        assertThat(actual.getSizeInBytes()).isEqualTo(actual.getSegments()[0].size());
+        assertThat(actual).isEqualTo(generateByReusedWriter(rowType, testData));
+
+        // records generated by the same generator should not share segments
+        BinaryRecordData another = generator.generate(testData);
+        assertThat(another.getSegments()[0]).isNotSameAs(actual.getSegments()[0]);
+        assertThat(another).isEqualTo(actual);
+    }
+
+    private static BinaryRecordData generateByReusedWriter(RowType rowType, Object[] testData) {
+        BinaryRecordData recordData = new BinaryRecordData(testData.length);
+        BinaryRecordDataWriter writer = new BinaryRecordDataWriter(recordData);
+        writer.reset();
+        for (int i = 0; i < testData.length; i++) {
+            if (testData[i] == null) {
+                writer.setNullAt(i);
+            } else {
+                BinaryWriter.write(
+                        writer,
+                        i,
+                        testData[i],
+                        rowType.getTypeAt(i),
+                        InternalSerializers.create(rowType.getTypeAt(i)));
+            }
+        }
+        writer.complete();
+        return recordData.copy();
+    }
 }